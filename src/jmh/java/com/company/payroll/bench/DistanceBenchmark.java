@@ -0,0 +1,54 @@
+package com.company.payroll.bench;
+
+import com.company.payroll.services.DistanceCalculationService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Batch distances between ZIP codes of the generated centroid table, geocoded offline.
+ * Pairs repeat across invocations the way the loads of recurring lanes do, so after warm-up
+ * this measures the cached path.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Dlogback.configurationFile=logback-bench.xml")
+public class DistanceBenchmark {
+    @Param("1000")
+    public int pairs;
+
+    private DistanceCalculationService service;
+    private String[][] batch;
+
+    @Setup(Level.Trial)
+    public void setUp(SyntheticDatabase db) {
+        service = new DistanceCalculationService();
+        List<String> zips = db.dataset.zipCodes();
+        Random random = new Random(db.seed);
+        batch = new String[pairs][];
+        for (int i = 0; i < pairs; i++) {
+            batch[i] = new String[] {zips.get(random.nextInt(zips.size())), zips.get(random.nextInt(zips.size()))};
+        }
+    }
+
+    @Benchmark
+    public double[] calculateBatchDistances() {
+        return service.calculateBatchDistances(batch);
+    }
+}
@@ -0,0 +1,85 @@
+package com.company.payroll.bench;
+
+import com.company.payroll.database.DatabaseConfig;
+import com.company.payroll.fuel.FuelFileParser;
+import com.company.payroll.fuel.FuelImportConfig;
+import com.company.payroll.fuel.FuelImportPipeline;
+import com.company.payroll.fuel.FuelTransactionDAO;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.File;
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A whole fuel import as the fuel tab runs it: parse the export, dedup and write it through
+ * {@link FuelImportPipeline}, then {@code finish()}.
+ * <p>
+ * The transactions are deleted before every call, so each import writes all {@code fuelRows}
+ * rows instead of skipping them as duplicates of the generated ones. The {@code rows} counter
+ * is the import rate in rows per second.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 10)
+@Measurement(iterations = 5, time = 10)
+@Fork(value = 1, jvmArgsAppend = "-Dlogback.configurationFile=logback-bench.xml")
+public class FuelImportBenchmark {
+    @Param({"csv", "xlsx"})
+    public String format;
+
+    private FuelFileParser parser;
+    private FuelTransactionDAO dao;
+    private File file;
+
+    /**
+     * Rows processed, reported per second
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    public static class ImportedRows {
+        public long rows;
+    }
+
+    @Setup(Level.Trial)
+    public void setUp(SyntheticDatabase db) {
+        parser = new FuelFileParser(FuelImportConfig.loadDefault(), db.employees);
+        dao = new FuelTransactionDAO();
+        file = ("csv".equals(format) ? db.dataset.fuelCsv() : db.dataset.fuelXlsx()).toFile();
+    }
+
+    @Setup(Level.Invocation)
+    public void deleteTransactions() throws SQLException {
+        DatabaseConfig.write(() -> {
+            try (Connection conn = DatabaseConfig.getConnection();
+                 Statement stmt = conn.createStatement()) {
+                return stmt.executeUpdate("DELETE FROM fuel_transactions");
+            }
+        });
+    }
+
+    @Benchmark
+    public FuelImportPipeline.Result importFile(ImportedRows counter) throws IOException {
+        FuelImportPipeline pipeline = new FuelImportPipeline(dao, FuelImportPipeline.DEFAULT_BATCH_SIZE, null, () -> false);
+        parser.parse(file, pipeline);
+        FuelImportPipeline.Result result = pipeline.finish();
+        counter.rows += result.getProcessed();
+        return result;
+    }
+}
@@ -0,0 +1,49 @@
+package com.company.payroll.bench;
+
+import com.company.payroll.fuel.FuelFileParser;
+import com.company.payroll.fuel.FuelImportConfig;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Parsing of a fuel card export with {@code fuelRows} rows, without writing it to the database.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Dlogback.configurationFile=logback-bench.xml")
+public class FuelParsingBenchmark {
+    @Param({"csv", "xlsx"})
+    public String format;
+
+    private FuelFileParser parser;
+    private File file;
+
+    @Setup(Level.Trial)
+    public void setUp(SyntheticDatabase db) {
+        parser = new FuelFileParser(FuelImportConfig.loadDefault(), db.employees);
+        file = ("csv".equals(format) ? db.dataset.fuelCsv() : db.dataset.fuelXlsx()).toFile();
+    }
+
+    @Benchmark
+    public void parse(Blackhole blackhole) throws IOException {
+        parser.parse(file, blackhole::consume);
+    }
+}
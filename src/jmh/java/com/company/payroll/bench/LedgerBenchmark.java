@@ -0,0 +1,81 @@
+package com.company.payroll.bench;
+
+import com.company.payroll.employees.Employee;
+import com.company.payroll.payroll.PayrollAdvances;
+import com.company.payroll.payroll.PayrollEscrow;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Reading and recording entries of the escrow and advance ledgers.
+ * The save benchmarks add rows, so the ledgers grow slowly over the trial.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Dlogback.configurationFile=logback-bench.xml")
+public class LedgerBenchmark {
+    private static final BigDecimal AMOUNT = new BigDecimal("25.00");
+
+    private PayrollEscrow escrow;
+    private PayrollAdvances advances;
+    private SyntheticDatabase db;
+    private int nextDriver;
+
+    @Setup(Level.Trial)
+    public void setUp(SyntheticDatabase db) {
+        this.db = db;
+        escrow = PayrollEscrow.getInstance();
+        advances = PayrollAdvances.getInstance();
+    }
+
+    private Employee nextDriver() {
+        return db.employees.get(nextDriver++ % db.employees.size());
+    }
+
+    @Benchmark
+    public List<PayrollEscrow.EscrowEntry> escrowLoadAll() {
+        return escrow.getAllEntries();
+    }
+
+    @Benchmark
+    public List<PayrollEscrow.EscrowEntry> escrowLoadDriver() {
+        return escrow.getEntriesForDriver(nextDriver().getId());
+    }
+
+    @Benchmark
+    public PayrollEscrow.EscrowEntry escrowSave() {
+        return escrow.addDeposit(nextDriver(), db.weekEnd, db.weekStart, AMOUNT, "Benchmark deposit");
+    }
+
+    @Benchmark
+    public List<PayrollAdvances.AdvanceEntry> advancesLoadAll() {
+        return advances.getAllEntries();
+    }
+
+    @Benchmark
+    public List<PayrollAdvances.AdvanceEntry> advancesLoadEmployee() {
+        return advances.getEntriesForEmployee(nextDriver().getId());
+    }
+
+    @Benchmark
+    public PayrollAdvances.AdvanceEntry advancesSave() {
+        return advances.createAdjustment(nextDriver(), db.weekEnd, PayrollAdvances.AdvanceType.ADJUSTMENT,
+            AMOUNT, "", "Benchmark adjustment", "bench");
+    }
+}
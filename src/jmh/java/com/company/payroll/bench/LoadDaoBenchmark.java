@@ -0,0 +1,82 @@
+package com.company.payroll.bench;
+
+import com.company.payroll.employees.EmployeeDAO;
+import com.company.payroll.loads.Load;
+import com.company.payroll.loads.LoadDAO;
+import com.company.payroll.trailers.TrailerDAO;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Load queries behind the loads tab and the per-driver financial views.
+ * <p>
+ * {@link #getAllPerRowLookups()} is the baseline for the batched read: it hydrates every row
+ * the way {@code getAll} used to, looking up the driver, the trailer and the locations one
+ * load at a time, so it runs about three statements per load on top of the batched read it
+ * starts from. {@link #getAll()} runs the loads query plus one statement per 500 loads for
+ * each of the drivers, trailers, documents and locations. Run with
+ * {@code -p loads=100000 -prof com.company.payroll.bench.QueryCountProfiler} to see the
+ * statements each call runs next to the timings.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Dlogback.configurationFile=logback-bench.xml")
+public class LoadDaoBenchmark {
+    private LoadDAO loadDAO;
+    private EmployeeDAO employeeDAO;
+    private TrailerDAO trailerDAO;
+    private SyntheticDatabase db;
+    private int nextDriver;
+
+    @Setup(Level.Trial)
+    public void setUp(SyntheticDatabase db) {
+        this.db = db;
+        loadDAO = new LoadDAO();
+        employeeDAO = new EmployeeDAO();
+        trailerDAO = new TrailerDAO();
+    }
+
+    @Benchmark
+    public List<Load> getAll() {
+        return loadDAO.getAll();
+    }
+
+    @Benchmark
+    public List<Load> getAllPerRowLookups() {
+        List<Load> loads = loadDAO.getAll();
+        for (Load load : loads) {
+            if (load.getDriver() != null) {
+                load.setDriver(employeeDAO.getById(load.getDriver().getId()));
+            }
+            if (load.getTrailerId() > 0) {
+                load.setTrailer(trailerDAO.findById(load.getTrailerId()));
+            }
+            load.setLocations(loadDAO.getLoadLocations(load.getId()));
+        }
+        return loads;
+    }
+
+    /**
+     * One driver's week, cycling through the drivers so no single driver's pages stay hot
+     */
+    @Benchmark
+    public List<Load> getByDriverAndDateRangeForFinancials() {
+        int driverId = db.employees.get(nextDriver++ % db.employees.size()).getId();
+        return loadDAO.getByDriverAndDateRangeForFinancials(driverId, db.weekStart, db.weekEnd);
+    }
+}
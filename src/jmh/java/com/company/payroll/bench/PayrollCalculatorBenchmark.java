@@ -0,0 +1,60 @@
+package com.company.payroll.bench;
+
+import com.company.payroll.employees.EmployeeDAO;
+import com.company.payroll.fuel.FuelTransactionDAO;
+import com.company.payroll.loads.LoadDAO;
+import com.company.payroll.payroll.PayrollCalculator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A full weekly payroll run over every generated driver.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Dlogback.configurationFile=logback-bench.xml")
+public class PayrollCalculatorBenchmark {
+    @Param({"BULK", "PER_DRIVER"})
+    public PayrollCalculator.LoadingMode loadingMode;
+
+    @Param({"SEQUENTIAL", "FORK_JOIN"})
+    public PayrollCalculator.ExecutionMode executionMode;
+
+    private PayrollCalculator calculator;
+    private SyntheticDatabase db;
+
+    @Setup(Level.Trial)
+    public void setUp(SyntheticDatabase db) {
+        this.db = db;
+        calculator = new PayrollCalculator(new EmployeeDAO(), new LoadDAO(), new FuelTransactionDAO());
+    }
+
+    /**
+     * Every invocation calculates from the database rather than from an earlier run
+     */
+    @Setup(Level.Invocation)
+    public void clearCache() {
+        calculator.clearCache();
+    }
+
+    @Benchmark
+    public List<PayrollCalculator.PayrollRow> calculatePayrollRows() {
+        return calculator.calculatePayrollRows(db.employees, db.weekStart, db.weekEnd, loadingMode, executionMode);
+    }
+}
@@ -0,0 +1,40 @@
+package com.company.payroll.bench;
+
+import com.company.payroll.database.QueryStatistics;
+import org.openjdk.jmh.infra.BenchmarkParams;
+import org.openjdk.jmh.infra.IterationParams;
+import org.openjdk.jmh.profile.InternalProfiler;
+import org.openjdk.jmh.results.AggregationPolicy;
+import org.openjdk.jmh.results.IterationResult;
+import org.openjdk.jmh.results.Result;
+import org.openjdk.jmh.results.ScalarResult;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Reports the SQL statements each benchmark call ran, e.g. {@code -prof com.company.payroll.bench.QueryCountProfiler}.
+ * <p>
+ * Turns on {@link QueryStatistics} for the measured iterations, so the timings of a profiled
+ * run include the instrumentation; compare the timings of unprofiled runs only.
+ */
+public class QueryCountProfiler implements InternalProfiler {
+    @Override
+    public String getDescription() {
+        return "SQL statements per benchmark call, counted by QueryStatistics";
+    }
+
+    @Override
+    public void beforeIteration(BenchmarkParams benchmarkParams, IterationParams iterationParams) {
+        QueryStatistics.setEnabled(true);
+        QueryStatistics.reset();
+    }
+
+    @Override
+    public Collection<? extends Result> afterIteration(BenchmarkParams benchmarkParams, IterationParams iterationParams,
+                                                       IterationResult result) {
+        long calls = result.getMetadata().getMeasuredOps();
+        double perCall = calls == 0 ? 0 : (double) QueryStatistics.statementCount() / calls;
+        return List.of(new ScalarResult("queries", perCall, "queries/op", AggregationPolicy.AVG));
+    }
+}
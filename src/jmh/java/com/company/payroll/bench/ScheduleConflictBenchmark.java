@@ -0,0 +1,77 @@
+package com.company.payroll.bench;
+
+import com.company.payroll.drivergrid.ScheduleConflictDetector;
+import com.company.payroll.loads.Load;
+import com.company.payroll.loads.LoadDAO;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The driver grid's week: the schedule window query and the per-driver conflict sweep,
+ * e.g. with {@code -p loads=50000}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Dlogback.configurationFile=logback-bench.xml")
+public class ScheduleConflictBenchmark {
+    private LoadDAO loadDAO;
+    private SyntheticDatabase db;
+    private List<Load> weekLoads;
+
+    @Setup(Level.Trial)
+    public void setUp(SyntheticDatabase db) {
+        this.db = db;
+        loadDAO = new LoadDAO();
+        weekLoads = loadDAO.getByScheduleWindow(db.weekStart, db.weekEnd);
+    }
+
+    /**
+     * What a refresh of the grid reads and checks
+     */
+    @Benchmark
+    public int refreshWeek() {
+        return countConflicts(loadDAO.getByScheduleWindow(db.weekStart, db.weekEnd));
+    }
+
+    /**
+     * The sweep alone, over the loads of the week read once
+     */
+    @Benchmark
+    public int detectConflicts() {
+        return countConflicts(weekLoads);
+    }
+
+    /**
+     * Group the loads by driver and sweep each driver's loads, as the grid does
+     */
+    private static int countConflicts(List<Load> loads) {
+        Map<Integer, List<Load>> byDriver = new HashMap<>();
+        for (Load load : loads) {
+            int driverId = load.getDriver() != null ? load.getDriver().getId() : -1;
+            byDriver.computeIfAbsent(driverId, k -> new ArrayList<>()).add(load);
+        }
+        int conflicts = 0;
+        for (List<Load> driverLoads : byDriver.values()) {
+            conflicts += ScheduleConflictDetector.findConflicts(driverLoads).size();
+        }
+        return conflicts;
+    }
+}
@@ -0,0 +1,63 @@
+package com.company.payroll.bench;
+
+import com.company.payroll.loads.CustomerAddress;
+import com.company.payroll.loads.Load;
+import com.company.payroll.loads.LoadDAO;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * One keystroke of the load and address autocomplete fields. The searches should stay
+ * under 10 ms at {@code -p loads=100000}, which also fills the address book with the
+ * pickup addresses of the loads.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Dlogback.configurationFile=logback-bench.xml")
+public class SearchBenchmark {
+    private static final int LIMIT = 50;
+
+    @Param({"acme", "main st", "harbor 12", "PO123"})
+    public String query;
+
+    private LoadDAO loadDAO;
+
+    @Setup(Level.Trial)
+    public void setUp(SyntheticDatabase db) {
+        loadDAO = new LoadDAO();
+    }
+
+    @Benchmark
+    public List<Load> searchLoads() {
+        return loadDAO.searchLoads(query, LIMIT);
+    }
+
+    @Benchmark
+    public List<String> searchAddresses() {
+        return loadDAO.searchAddresses(query);
+    }
+
+    /**
+     * The address field of a load whose customer is already chosen
+     */
+    @Benchmark
+    public List<CustomerAddress> searchCustomerAddresses() {
+        return loadDAO.searchAddresses(query, "Acme Foods", LIMIT);
+    }
+}
@@ -0,0 +1,322 @@
+package com.company.payroll.bench;
+
+import com.company.payroll.database.DatabaseConfig;
+import com.company.payroll.employees.Employee;
+import com.company.payroll.employees.EmployeeDAO;
+import com.company.payroll.fuel.FuelImportConfig;
+import com.company.payroll.fuel.FuelTransaction;
+import com.company.payroll.fuel.FuelTransactionDAO;
+import com.company.payroll.loads.Load;
+import com.company.payroll.loads.LoadDAO;
+import com.company.payroll.payroll.PayrollAdvances;
+import com.company.payroll.payroll.PayrollEscrow;
+import com.company.payroll.services.ZipCentroidTable;
+import com.company.payroll.services.ZipCentroidTableBuilder;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.Set;
+
+/**
+ * Seeded generator of a synthetic payroll database for the benchmarks.
+ * <p>
+ * The same seed and sizes always produce the same rows. Everything is written through the
+ * application's own DAOs and ledgers, so derived columns, indexes and triggers are filled in
+ * the way they are in production:
+ * <ul>
+ *   <li>active percentage drivers, each on its own truck unit,</li>
+ *   <li>loads spread over {@value #WEEKS} weeks from {@link #FIRST_WEEK}, most of them delivered or paid,</li>
+ *   <li>fuel transactions of the same drivers and weeks,</li>
+ *   <li>escrow deposits every four weeks and one advance with repayments per driver.</li>
+ * </ul>
+ * The fuel rows are also written as CSV and XLSX exports, and the load ZIP codes come from a
+ * generated centroid table so distance lookups never leave the machine.
+ * <p>
+ * {@link #generate} points {@link DatabaseConfig} and the ZIP centroid table at the generated
+ * files through their system properties, so it must run before either is first used in the JVM.
+ */
+public final class SyntheticDataGenerator {
+    private static final Logger logger = LoggerFactory.getLogger(SyntheticDataGenerator.class);
+
+    /** Monday of the first generated week */
+    public static final LocalDate FIRST_WEEK = LocalDate.of(2024, 1, 1);
+    public static final int WEEKS = 52;
+    public static final int ZIP_CODES = 2000;
+
+    private static final int FUEL_BATCH_SIZE = 500;
+    private static final DateTimeFormatter FUEL_DATE = DateTimeFormatter.ofPattern("M/d/yyyy");
+    private static final DateTimeFormatter FUEL_TIME = DateTimeFormatter.ofPattern("HH:mm");
+    private static final String[] STATES = {"TX", "CA", "IL", "GA", "OH", "PA", "NC", "TN", "AZ", "FL"};
+    private static final String[] CUSTOMERS = {
+        "Acme Foods", "Blue Ridge Supply", "Coastal Paper", "Delta Steel", "Evergreen Farms",
+        "Frontier Plastics", "Great Lakes Grain", "Harbor Freight Lines", "Ironwood Lumber", "Jetstream Beverages"
+    };
+
+    /**
+     * Row counts of a generated database
+     */
+    public record Sizes(int drivers, int loads, int fuelRows) {
+        public Sizes {
+            if (drivers < 1 || loads < 0 || fuelRows < 0) {
+                throw new IllegalArgumentException("Invalid sizes: " + drivers + " drivers, " + loads
+                    + " loads, " + fuelRows + " fuel rows");
+            }
+        }
+    }
+
+    /**
+     * The files of a generated data set
+     */
+    public record Dataset(Path directory, Path database, Path fuelCsv, Path fuelXlsx, Path zipCentroids,
+                          List<String> zipCodes, Sizes sizes, long seed) {}
+
+    private final long seed;
+    private final Sizes sizes;
+
+    public SyntheticDataGenerator(long seed, Sizes sizes) {
+        this.seed = seed;
+        this.sizes = sizes;
+    }
+
+    /**
+     * Usage: SyntheticDataGenerator &lt;directory&gt; [drivers] [loads] [fuelRows] [seed]
+     * <p>
+     * Writes a data set for profiling the application outside JMH; start it with
+     * -Dpayroll.db.url=jdbc:sqlite:&lt;directory&gt;/payroll.db to open the generated database.
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length < 1) {
+            System.err.println("Usage: SyntheticDataGenerator <directory> [drivers] [loads] [fuelRows] [seed]");
+            System.exit(2);
+        }
+        Sizes sizes = new Sizes(
+            args.length > 1 ? Integer.parseInt(args[1]) : 100,
+            args.length > 2 ? Integer.parseInt(args[2]) : 10000,
+            args.length > 3 ? Integer.parseInt(args[3]) : 10000);
+        long seed = args.length > 4 ? Long.parseLong(args[4]) : 42L;
+        Dataset dataset = new SyntheticDataGenerator(seed, sizes).generate(Paths.get(args[0]));
+        System.out.println("Generated " + dataset.database());
+        System.exit(0);
+    }
+
+    /**
+     * Write a complete data set into the directory, which must not hold a database yet.
+     */
+    public Dataset generate(Path directory) throws IOException {
+        Files.createDirectories(directory);
+        Path database = directory.resolve("payroll.db");
+        if (Files.exists(database)) {
+            throw new IOException("Database already exists: " + database);
+        }
+        long started = System.nanoTime();
+        Random random = new Random(seed);
+
+        Path zipCentroids = directory.resolve(ZipCentroidTable.DEFAULT_FILE);
+        List<String> zipCodes = writeZipCentroids(random, directory.resolve("zip_centroids.csv"), zipCentroids);
+        System.setProperty(ZipCentroidTable.FILE_PROPERTY, zipCentroids.toString());
+        System.setProperty(DatabaseConfig.URL_PROPERTY, "jdbc:sqlite:" + database);
+
+        List<Employee> drivers = addDrivers(random);
+        addLoads(random, drivers, zipCodes);
+        List<FuelTransaction> fuel = fuelTransactions(random, drivers);
+        addFuel(fuel);
+        addLedgers(random, drivers);
+
+        Path fuelCsv = directory.resolve("fuel.csv");
+        Path fuelXlsx = directory.resolve("fuel.xlsx");
+        writeFuelCsv(fuel, fuelCsv);
+        writeFuelXlsx(fuel, fuelXlsx);
+
+        logger.info("Generated {} drivers, {} loads and {} fuel rows (seed {}) in {} ms",
+            sizes.drivers(), sizes.loads(), sizes.fuelRows(), seed, (System.nanoTime() - started) / 1_000_000);
+        return new Dataset(directory, database, fuelCsv, fuelXlsx, zipCentroids, zipCodes, sizes, seed);
+    }
+
+    private List<String> writeZipCentroids(Random random, Path csv, Path table) throws IOException {
+        Set<String> zips = new LinkedHashSet<>();
+        while (zips.size() < ZIP_CODES) {
+            zips.add(String.format("%05d", 1000 + random.nextInt(98000)));
+        }
+        try (BufferedWriter out = Files.newBufferedWriter(csv, StandardCharsets.UTF_8)) {
+            out.write("zip,lat,lon,state");
+            out.newLine();
+            for (String zip : zips) {
+                double lat = 25 + random.nextDouble() * 24;
+                double lon = -124 + random.nextDouble() * 57;
+                out.write(String.format(Locale.ROOT, "%s,%.6f,%.6f,%s", zip, lat, lon,
+                    STATES[random.nextInt(STATES.length)]));
+                out.newLine();
+            }
+        }
+        ZipCentroidTableBuilder.build(csv, table);
+        return List.copyOf(zips);
+    }
+
+    private List<Employee> addDrivers(Random random) {
+        EmployeeDAO employeeDAO = new EmployeeDAO();
+        List<Employee> drivers = new ArrayList<>(sizes.drivers());
+        for (int i = 1; i <= sizes.drivers(); i++) {
+            double driverPercent = 60 + random.nextInt(26);
+            Employee driver = new Employee(0, "Driver " + i, "T" + (1000 + i), "TR" + (1000 + i),
+                driverPercent, 100 - driverPercent, 5 + random.nextInt(6), LocalDate.of(1970 + random.nextInt(30), 1, 1),
+                "DL" + (100000 + i), random.nextInt(4) == 0 ? Employee.DriverType.COMPANY_DRIVER : Employee.DriverType.OWNER_OPERATOR,
+                "", FIRST_WEEK.plusYears(3), FIRST_WEEK.plusYears(2), Employee.Status.ACTIVE);
+            driver.setId(employeeDAO.add(driver));
+            drivers.add(driver);
+        }
+        return drivers;
+    }
+
+    private void addLoads(Random random, List<Employee> drivers, List<String> zipCodes) {
+        LoadDAO loadDAO = new LoadDAO();
+        for (int i = 1; i <= sizes.loads(); i++) {
+            Employee driver = drivers.get(random.nextInt(drivers.size()));
+            LocalDate pickUp = FIRST_WEEK.plusDays(random.nextInt(WEEKS * 7));
+            LocalDate delivery = pickUp.plusDays(random.nextInt(4));
+            String customer = CUSTOMERS[random.nextInt(CUSTOMERS.length)];
+            String pickupZip = zipCodes.get(random.nextInt(zipCodes.size()));
+            String deliveryZip = zipCodes.get(random.nextInt(zipCodes.size()));
+            Load load = new Load(0, "L" + (100000 + i), "PO" + i, customer,
+                (100 + random.nextInt(9000)) + " Main St, " + pickupZip,
+                (100 + random.nextInt(9000)) + " Market St, " + deliveryZip,
+                driver, driver.getTruckUnit(), loadStatus(random), 500 + random.nextInt(450000) / 100.0, "",
+                pickUp, LocalTime.of(6 + random.nextInt(12), 0), delivery, LocalTime.of(6 + random.nextInt(12), 0),
+                "", false, false);
+            load.setPickupZipCode(pickupZip);
+            load.setDeliveryZipCode(deliveryZip);
+            loadDAO.add(load);
+        }
+    }
+
+    private static Load.Status loadStatus(Random random) {
+        int roll = random.nextInt(100);
+        if (roll < 45) {
+            return Load.Status.DELIVERED;
+        } else if (roll < 80) {
+            return Load.Status.PAID;
+        } else if (roll < 90) {
+            return Load.Status.IN_TRANSIT;
+        } else if (roll < 97) {
+            return Load.Status.BOOKED;
+        }
+        return Load.Status.CANCELLED;
+    }
+
+    private List<FuelTransaction> fuelTransactions(Random random, List<Employee> drivers) {
+        List<FuelTransaction> fuel = new ArrayList<>(sizes.fuelRows());
+        for (int i = 1; i <= sizes.fuelRows(); i++) {
+            Employee driver = drivers.get(random.nextInt(drivers.size()));
+            LocalDate date = FIRST_WEEK.plusDays(random.nextInt(WEEKS * 7));
+            double unitPrice = 3 + random.nextInt(200) / 100.0;
+            double qty = 40 + random.nextInt(16000) / 100.0;
+            double discPPU = random.nextInt(40) / 100.0;
+            double discAmt = Math.round(discPPU * qty * 100) / 100.0;
+            double amt = Math.round((unitPrice * qty - discAmt) * 100) / 100.0;
+            String state = STATES[random.nextInt(STATES.length)];
+            fuel.add(new FuelTransaction(0, "7083" + (100000 + driver.getId()), date.format(FUEL_DATE),
+                LocalTime.of(random.nextInt(24), random.nextInt(60)).format(FUEL_TIME), "INV" + (1000000 + i),
+                driver.getTruckUnit(), driver.getName(), String.valueOf(100000 + random.nextInt(400000)),
+                "Station " + random.nextInt(500), "City " + random.nextInt(200), state,
+                random.nextInt(4) == 0 ? 2.5 : 0, "ULSD", unitPrice, discPPU, Math.round((unitPrice - discPPU) * 100) / 100.0,
+                qty, discAmt, discPPU > 0 ? "Network" : "", amt, "N", "USD", driver.getId()));
+        }
+        return fuel;
+    }
+
+    private static void addFuel(List<FuelTransaction> fuel) {
+        FuelTransactionDAO fuelDAO = new FuelTransactionDAO();
+        for (int from = 0; from < fuel.size(); from += FUEL_BATCH_SIZE) {
+            fuelDAO.addBatch(fuel.subList(from, Math.min(from + FUEL_BATCH_SIZE, fuel.size())));
+        }
+    }
+
+    private static void addLedgers(Random random, List<Employee> drivers) {
+        PayrollEscrow escrow = PayrollEscrow.getInstance();
+        PayrollAdvances advances = PayrollAdvances.getInstance();
+        for (Employee driver : drivers) {
+            for (int week = random.nextInt(4); week < WEEKS; week += 4) {
+                LocalDate weekStart = FIRST_WEEK.plusWeeks(week);
+                escrow.addDeposit(driver, weekStart.plusDays(4), weekStart,
+                    BigDecimal.valueOf(100 + random.nextInt(5) * 50L), "Weekly escrow");
+            }
+            LocalDate advanceDate = FIRST_WEEK.plusDays(random.nextInt((WEEKS - 8) * 7));
+            PayrollAdvances.AdvanceEntry advance = advances.createAdvance(driver, advanceDate,
+                BigDecimal.valueOf(400 + random.nextInt(8) * 100L), 4, "Synthetic advance", "bench");
+            if (advance == null) {
+                continue;
+            }
+            BigDecimal repayment = advance.getWeeklyRepaymentAmount();
+            for (int week = 1; week <= 2; week++) {
+                advances.recordRepayment(driver, advanceDate.plusWeeks(week), repayment, advance.getAdvanceId(),
+                    PayrollAdvances.PaymentMethod.PAYROLL_DEDUCTION, "", "Weekly deduction", "bench");
+            }
+        }
+    }
+
+    private static void writeFuelCsv(List<FuelTransaction> fuel, Path file) throws IOException {
+        try (BufferedWriter out = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            out.write(String.join(",", fuelHeaders()));
+            out.newLine();
+            for (FuelTransaction t : fuel) {
+                out.write(String.join(",", fuelValues(t)));
+                out.newLine();
+            }
+        }
+    }
+
+    private static void writeFuelXlsx(List<FuelTransaction> fuel, Path file) throws IOException {
+        try (SXSSFWorkbook workbook = new SXSSFWorkbook(500);
+             OutputStream out = Files.newOutputStream(file)) {
+            Sheet sheet = workbook.createSheet("Transactions");
+            Row header = sheet.createRow(0);
+            List<String> headers = fuelHeaders();
+            for (int c = 0; c < headers.size(); c++) {
+                header.createCell(c).setCellValue(headers.get(c));
+            }
+            int r = 1;
+            for (FuelTransaction t : fuel) {
+                Row row = sheet.createRow(r++);
+                List<String> values = fuelValues(t);
+                for (int c = 0; c < values.size(); c++) {
+                    row.createCell(c).setCellValue(values.get(c));
+                }
+            }
+            workbook.write(out);
+            workbook.dispose();
+        }
+    }
+
+    /**
+     * Export headers in the order of the default column mappings
+     */
+    private static List<String> fuelHeaders() {
+        return new ArrayList<>(FuelImportConfig.loadDefault().getColumnMappings().values());
+    }
+
+    private static List<String> fuelValues(FuelTransaction t) {
+        return List.of(t.getCardNumber(), t.getTranDate(), t.getTranTime(), t.getInvoice(), t.getUnit(),
+            t.getDriverName(), t.getOdometer(), t.getLocationName(), t.getCity(), t.getStateProv(),
+            String.valueOf(t.getFees()), t.getItem(), String.valueOf(t.getUnitPrice()), String.valueOf(t.getDiscPPU()),
+            String.valueOf(t.getDiscCost()), String.valueOf(t.getQty()), String.valueOf(t.getDiscAmt()),
+            t.getDiscType(), String.valueOf(t.getAmt()), t.getDb(), t.getCurrency());
+    }
+}
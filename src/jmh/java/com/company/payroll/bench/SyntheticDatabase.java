@@ -0,0 +1,75 @@
+package com.company.payroll.bench;
+
+import com.company.payroll.database.DatabaseConfig;
+import com.company.payroll.employees.Employee;
+import com.company.payroll.employees.EmployeeDAO;
+import com.company.payroll.services.RouteCache;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Generated database shared by the benchmarks of one fork.
+ * <p>
+ * The sizes and seed are JMH parameters, e.g. {@code -p drivers=500 -p loads=100000}.
+ * Every trial starts from a freshly generated database in a temporary directory, which
+ * is deleted afterwards.
+ * <p>
+ * Each trial needs a JVM of its own, which the {@code @Fork} of every benchmark provides;
+ * do not run them with {@code -f 0}. {@link DatabaseConfig} opens whatever database the
+ * generator points it at, but the DAOs, ledgers and caches create their tables and keep
+ * their data once per JVM, so a second database in the same JVM would be half set up.
+ */
+@State(Scope.Benchmark)
+public class SyntheticDatabase {
+    @Param("100")
+    public int drivers;
+
+    @Param("10000")
+    public int loads;
+
+    @Param("10000")
+    public int fuelRows;
+
+    @Param("42")
+    public long seed;
+
+    public SyntheticDataGenerator.Dataset dataset;
+    public List<Employee> employees;
+    /** Monday of the week the single-week benchmarks read, in the middle of the generated range */
+    public LocalDate weekStart;
+    public LocalDate weekEnd;
+
+    @Setup(Level.Trial)
+    public void generate() throws IOException {
+        Path directory = Files.createTempDirectory("payroll-bench-");
+        dataset = new SyntheticDataGenerator(seed, new SyntheticDataGenerator.Sizes(drivers, loads, fuelRows))
+            .generate(directory);
+        employees = new EmployeeDAO().getAll();
+        weekStart = SyntheticDataGenerator.FIRST_WEEK.plusWeeks(SyntheticDataGenerator.WEEKS / 2);
+        weekEnd = weekStart.plusDays(6);
+    }
+
+    @TearDown(Level.Trial)
+    public void delete() throws IOException {
+        if (dataset == null) {
+            return;
+        }
+        RouteCache.flushAll();
+        DatabaseConfig.shutdown();
+        try (Stream<Path> files = Files.walk(dataset.directory())) {
+            files.sorted(Comparator.reverseOrder()).forEach(file -> file.toFile().delete());
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package com.company.payroll.bench;
+
+import com.company.payroll.trucks.Truck;
+import com.company.payroll.trucks.TruckCSVImporter;
+import com.company.payroll.util.StreamingXlsxReader;
+import org.apache.poi.ss.usermodel.CellStyle;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Reading a large XLSX import sheet, {@code sheetRows} rows of trucks.
+ * <p>
+ * The fork runs with a 256 MB heap, well below what a 200k-row workbook needs when built in
+ * memory, so a run also shows the importers stream the sheet; add {@code -prof gc} for the
+ * allocation rate.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx256m", "-Dlogback.configurationFile=logback-bench.xml"})
+public class XlsxImportBenchmark {
+    private static final String[] MAKES = {"Freightliner Cascadia", "Kenworth T680", "Peterbilt 579", "Volvo VNL"};
+
+    @Param("200000")
+    public int sheetRows;
+
+    private Path sheet;
+
+    /**
+     * Write the sheet next to the generated database; the importers open the database when loaded.
+     */
+    @Setup(Level.Trial)
+    public void writeSheet(SyntheticDatabase db) throws IOException {
+        sheet = db.dataset.directory().resolve("trucks.xlsx");
+        Random random = new Random(db.seed);
+        try (SXSSFWorkbook workbook = new SXSSFWorkbook(500);
+             OutputStream out = Files.newOutputStream(sheet)) {
+            CellStyle dateStyle = workbook.createCellStyle();
+            dateStyle.setDataFormat(workbook.createDataFormat().getFormat("yyyy-mm-dd"));
+            Sheet trucks = workbook.createSheet("Trucks");
+            Row header = trucks.createRow(0);
+            String[] headers = {"Truck/Unit", "Year", "Make/Model", "VIN", "License Plate",
+                "Registration Expiry", "Insurance Expiry"};
+            for (int c = 0; c < headers.length; c++) {
+                header.createCell(c).setCellValue(headers[c]);
+            }
+            LocalDate today = LocalDate.of(2024, 6, 1);
+            for (int r = 1; r <= sheetRows; r++) {
+                Row row = trucks.createRow(r);
+                row.createCell(0).setCellValue("T" + (10000 + r));
+                row.createCell(1).setCellValue(2010 + random.nextInt(15));
+                row.createCell(2).setCellValue(MAKES[random.nextInt(MAKES.length)]);
+                row.createCell(3).setCellValue(String.format("1XK%014d", r));
+                row.createCell(4).setCellValue("P" + (100000 + random.nextInt(900000)));
+                for (int c = 5; c <= 6; c++) {
+                    row.createCell(c).setCellValue(today.plusDays(random.nextInt(730)));
+                    row.getCell(c).setCellStyle(dateStyle);
+                }
+            }
+            workbook.write(out);
+            workbook.dispose();
+        }
+    }
+
+    /**
+     * The shared streaming reader alone
+     */
+    @Benchmark
+    public int readRows(Blackhole blackhole) throws IOException {
+        int rows = 0;
+        try (StreamingXlsxReader reader = StreamingXlsxReader.open(sheet.toFile())) {
+            while (reader.hasNext()) {
+                blackhole.consume(reader.next());
+                rows++;
+            }
+        }
+        return rows;
+    }
+
+    /**
+     * The truck importer on top of it, building every truck
+     */
+    @Benchmark
+    public List<Truck> importTrucks() throws IOException {
+        return TruckCSVImporter.importTrucks(sheet);
+    }
+}
@@ -10,6 +10,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import com.company.payroll.database.DatabaseConfig;
+import com.company.payroll.services.RouteCache;
 import com.company.payroll.loads.EnhancedAutocompleteField;
 
 import java.nio.file.Files;
@@ -136,6 +137,9 @@ public class Main extends Application {
             mainController.shutdown();
         }
         
+        // Store cached distances and geocodes that are still pending
+        RouteCache.flushAll();
+        
         // Shutdown database connection pool
         try {
             DatabaseConfig.shutdown();
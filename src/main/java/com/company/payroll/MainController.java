@@ -36,6 +36,10 @@ import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
 
 import com.company.payroll.database.DatabaseConfig;
+import com.company.payroll.database.QueryStatisticsDialog;
+import com.company.payroll.events.DomainEventBus;
+import com.company.payroll.events.DomainEventBus.Entity;
+import com.company.payroll.services.RouteCache;
 import com.company.payroll.employees.EmployeesTab;
 import com.company.payroll.loads.LoadsTab;
 import com.company.payroll.payroll.PayrollTab;
@@ -361,8 +365,10 @@ public class MainController extends BorderPane {
         Button settingsBtn = createHeaderButton("⚙", "Settings");
         Button helpBtn = createHeaderButton("❓", "Help & Documentation");
         Button notificationBtn = createHeaderButton("🔔", "Notifications (3)");
+        Button performanceBtn = createHeaderButton("📊", "Database Performance");
+        performanceBtn.setOnAction(e -> showQueryStatistics());
         
-        quickActions.getChildren().addAll(refreshBtn, settingsBtn, helpBtn, notificationBtn);
+        quickActions.getChildren().addAll(refreshBtn, settingsBtn, helpBtn, notificationBtn, performanceBtn);
         
         // Spacer
         Region spacer = new Region();
@@ -391,6 +397,14 @@ public class MainController extends BorderPane {
         return headerContainer;
     }
     
+    private void showQueryStatistics() {
+        QueryStatisticsDialog dialog = new QueryStatisticsDialog();
+        if (stage != null) {
+            dialog.initOwner(stage);
+        }
+        dialog.show();
+    }
+    
     private Button createHeaderButton(String icon, String tooltip) {
         Button button = new Button(icon);
         button.setStyle("-fx-background-color: transparent; " +
@@ -618,6 +632,9 @@ public class MainController extends BorderPane {
             logger.error("Error during component cleanup", e);
         }
         
+        // Store cached distances and geocodes that are still pending
+        RouteCache.flushAll();
+        
         // Shutdown database connection pool
         try {
             DatabaseConfig.shutdown();
@@ -855,7 +872,7 @@ public class MainController extends BorderPane {
         
         try {
             // Shutdown EnterpriseDataCacheManager
-            com.company.payroll.loads.EnterpriseDataCacheManager.getInstance().shutdown();
+            com.company.payroll.cache.EnterpriseDataCacheManager.getInstance().shutdown();
             logger.info("EnterpriseDataCacheManager shut down");
         } catch (Exception e) {
             logger.error("Error shutting down EnterpriseDataCacheManager", e);
@@ -1016,18 +1033,7 @@ public class MainController extends BorderPane {
      * Setup listeners for cross-tab data changes
      */
     private void setupCrossTabRefreshListeners() {
-        // When employees change, refresh related tabs
-        employeesTabContent.addEmployeeDataChangeListener(employees -> {
-            logger.debug("Employee data changed, refreshing related tabs");
-            Platform.runLater(() -> {
-                if (loadsTab != null) {
-                    loadsTab.onEmployeeDataChanged(employees);
-                }
-                if (driverGridTab != null) {
-                    driverGridTab.refresh();
-                }
-            });
-        });
+        // The loads panel patches its own driver and trailer lists from DomainEventBus events
         
         // When loads change, refresh related tabs
         loadsTab.addLoadDataChangeListener(() -> {
@@ -1040,31 +1046,15 @@ public class MainController extends BorderPane {
             });
         });
         
-        // When trucks change, refresh related tabs
-        trucksTabContent.addDataChangeListener(() -> {
-            logger.debug("Truck data changed, refreshing related tabs");
-            Platform.runLater(() -> {
-                if (loadsTab != null) {
-                    loadsTab.onEmployeeDataChanged(employeesTabContent.getCurrentEmployees());
-                }
+        // When employees, trucks or trailers are written, refresh the driver grid
+        for (Entity entity : List.of(Entity.EMPLOYEE, Entity.TRUCK, Entity.TRAILER)) {
+            DomainEventBus.subscribe(entity, changes -> {
+                logger.debug("{} {} rows changed, refreshing related tabs", changes.size(), entity);
                 if (driverGridTab != null) {
                     driverGridTab.refresh();
                 }
             });
-        });
-        
-        // When trailers change, refresh related tabs
-        trailersTabContent.addDataChangeListener(() -> {
-            logger.debug("Trailer data changed, refreshing related tabs");
-            Platform.runLater(() -> {
-                if (loadsTab != null) {
-                    loadsTab.onTrailerDataChanged(trailersTabContent.getCurrentTrailers());
-                }
-                if (driverGridTab != null) {
-                    driverGridTab.refresh();
-                }
-            });
-        });
+        }
     }
     
     /**
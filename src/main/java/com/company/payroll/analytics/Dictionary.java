@@ -0,0 +1,57 @@
+package com.company.payroll.analytics;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Append-only dictionary encoding strings to dense int codes; null is encoded as {@link #NONE}.
+ * <p>
+ * Codes are never reassigned, so a values array handed out by {@link #values()} stays valid
+ * for every code it covers while later strings are appended behind it.
+ */
+final class Dictionary {
+    static final int NONE = -1;
+
+    private final Map<String, Integer> codes = new HashMap<>();
+    private String[] values = new String[64];
+    private int size;
+
+    int encode(String value) {
+        if (value == null) {
+            return NONE;
+        }
+        Integer code = codes.get(value);
+        if (code != null) {
+            return code;
+        }
+        if (size == values.length) {
+            values = Arrays.copyOf(values, size * 2);
+        }
+        values[size] = value;
+        codes.put(value, size);
+        return size++;
+    }
+
+    /**
+     * Code of a string already in the dictionary, or {@link #NONE}
+     */
+    int codeOf(String value) {
+        Integer code = value == null ? null : codes.get(value);
+        return code != null ? code : NONE;
+    }
+
+    String[] values() {
+        return values;
+    }
+
+    int size() {
+        return size;
+    }
+
+    void clear() {
+        codes.clear();
+        values = new String[64];
+        size = 0;
+    }
+}
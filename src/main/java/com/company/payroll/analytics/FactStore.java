@@ -0,0 +1,357 @@
+package com.company.payroll.analytics;
+
+import com.company.payroll.database.DatabaseConfig;
+import com.company.payroll.exception.DataAccessException;
+import com.company.payroll.loads.Load;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.IntConsumer;
+
+/**
+ * In-memory columnar copy of the loads and fuel transactions the reports aggregate.
+ * <p>
+ * The rows live in primitive column arrays with customers, locations and driver names
+ * dictionary-encoded. Queries copy the matching rows into a {@link LoadFacts} or
+ * {@link FuelFacts} slice whose group-by kernels sum into primitive arrays, so a yearly report
+ * builds neither entities nor boxed maps.
+ * <p>
+ * Triggers on {@code loads} and {@code fuel_transactions} append the id of every row written to
+ * {@code report_fact_changes}. Each query first re-reads just those rows and patches them in;
+ * the whole store is read again only on first use, or when the log was cleared past the
+ * position the store applied.
+ */
+public final class FactStore {
+    private static final Logger logger = LoggerFactory.getLogger(FactStore.class);
+
+    private static final int ID_BATCH_SIZE = 500; // Stay well below SQLite's bound-parameter limit
+    private static final String LOADS = "loads";
+    private static final String FUEL = "fuel_transactions";
+
+    /** Statuses of the loads the revenue report lists, see LoadDAO.getByDateRange */
+    private static final Set<Load.Status> DELIVERED_STATUSES = EnumSet.of(Load.Status.DELIVERED, Load.Status.PAID);
+    /** Statuses payroll never counts, see LoadDAO.getByDateRangeForFinancials */
+    private static final Set<Load.Status> UNBILLED_STATUSES =
+        EnumSet.of(Load.Status.BOOKED, Load.Status.CANCELLED, Load.Status.ASSIGNED);
+    /** Statuses of the undated loads payroll counts in every period */
+    private static final Set<Load.Status> UNDATED_STATUSES =
+        EnumSet.of(Load.Status.DELIVERED, Load.Status.PAID, Load.Status.IN_TRANSIT);
+
+    private static volatile FactStore instance;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final LoadTable loads = new LoadTable();
+    private final FuelTable fuel = new FuelTable();
+    private final Set<String> tracked = new HashSet<>();
+    /** Last change applied, -1 before the first full read */
+    private long appliedSeq = -1;
+
+    private FactStore() {
+    }
+
+    public static FactStore getInstance() {
+        if (instance == null) {
+            synchronized (FactStore.class) {
+                if (instance == null) {
+                    instance = new FactStore();
+                }
+            }
+        }
+        return instance;
+    }
+
+    /**
+     * Delivered or paid loads delivered within the range, as the revenue report lists them.
+     * Loads are dated by their pickup date, or their delivery date when no pickup date is known.
+     */
+    public LoadFacts deliveredLoads(LocalDate start, LocalDate end) {
+        refresh();
+        int from = (int) start.toEpochDay();
+        int to = (int) end.toEpochDay();
+        lock.readLock().lock();
+        try {
+            int[] rows = new int[loads.size];
+            int count = 0;
+            for (int row = 0; row < loads.size; row++) {
+                int delivered = loads.deliveryDay[row];
+                if (!loads.removed[row] && delivered != LoadTable.NO_DAY && delivered >= from && delivered <= to
+                        && hasStatus(loads.status[row], DELIVERED_STATUSES)) {
+                    rows[count++] = row;
+                }
+            }
+            return LoadFacts.select(loads, rows, count,
+                row -> loads.pickupDay[row] != LoadTable.NO_DAY ? loads.pickupDay[row] : loads.deliveryDay[row]);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Loads payroll counts in the range, matching LoadDAO.getByDateRangeForFinancials:
+     * billed loads with a gross amount delivered in the range, or picked up in it when not
+     * delivered yet, plus the undated delivered, paid or in-transit loads. Loads are dated by
+     * their delivery date, or their pickup date when not delivered yet.
+     */
+    public LoadFacts financialLoads(LocalDate start, LocalDate end) {
+        refresh();
+        int from = (int) start.toEpochDay();
+        int to = (int) end.toEpochDay();
+        lock.readLock().lock();
+        try {
+            int[] rows = new int[loads.size];
+            int count = 0;
+            for (int row = 0; row < loads.size; row++) {
+                if (loads.removed[row] || loads.gross[row] <= 0 || loads.status[row] == LoadTable.NO_STATUS
+                        || hasStatus(loads.status[row], UNBILLED_STATUSES)) {
+                    continue;
+                }
+                int day = loads.deliveryDay[row] != LoadTable.NO_DAY ? loads.deliveryDay[row] : loads.pickupDay[row];
+                boolean counted = day != LoadTable.NO_DAY
+                    ? day >= from && day <= to
+                    : hasStatus(loads.status[row], UNDATED_STATUSES);
+                if (counted) {
+                    rows[count++] = row;
+                }
+            }
+            return LoadFacts.select(loads, rows, count,
+                row -> loads.deliveryDay[row] != LoadTable.NO_DAY ? loads.deliveryDay[row] : loads.pickupDay[row]);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Fuel transactions dated within the range
+     */
+    public FuelFacts fuelTransactions(LocalDate start, LocalDate end) {
+        refresh();
+        int from = (int) start.toEpochDay();
+        int to = (int) end.toEpochDay();
+        lock.readLock().lock();
+        try {
+            int[] rows = new int[fuel.size];
+            int count = 0;
+            for (int row = 0; row < fuel.size; row++) {
+                int day = fuel.day[row];
+                if (!fuel.removed[row] && day != LoadTable.NO_DAY && day >= from && day <= to) {
+                    rows[count++] = row;
+                }
+            }
+            return FuelFacts.select(fuel, rows, count);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Apply the rows written since the last call; called by every query.
+     */
+    public void refresh() {
+        long consumed;
+        lock.writeLock().lock();
+        try {
+            if (ensureTracking()) {
+                appliedSeq = -1; // A table was added to the log, read it whole
+            }
+            try (Connection conn = DatabaseConfig.getReadConnection()) {
+                consumed = apply(conn);
+            }
+        } catch (SQLException e) {
+            logger.error("Error refreshing report facts: {}", e.getMessage(), e);
+            throw new DataAccessException("Error refreshing report facts", e);
+        } finally {
+            lock.writeLock().unlock();
+        }
+        if (consumed > 0) {
+            prune(consumed);
+        }
+    }
+
+    /**
+     * Read everything or the changed rows.
+     * @return the sequence number applied when the log has entries that can be pruned, else 0
+     */
+    private long apply(Connection conn) throws SQLException {
+        long latest;
+        long oldest;
+        try (Statement stmt = conn.createStatement();
+             ResultSet rs = stmt.executeQuery(
+                 "SELECT IFNULL(MAX(seq), 0), IFNULL(MIN(seq), 0) FROM report_fact_changes")) {
+            rs.next();
+            latest = rs.getLong(1);
+            oldest = rs.getLong(2);
+        }
+
+        if (appliedSeq < 0 || oldest > appliedSeq + 1) {
+            long start = System.nanoTime();
+            loads.clear();
+            fuel.clear();
+            if (tracked.contains(LOADS)) {
+                readRows(conn, "SELECT " + LoadTable.COLUMNS + " FROM loads", Collections.emptyList(), loads::upsert);
+            }
+            if (tracked.contains(FUEL)) {
+                readRows(conn, "SELECT " + FuelTable.COLUMNS + " FROM fuel_transactions", Collections.emptyList(),
+                    fuel::upsert);
+            }
+            appliedSeq = latest;
+            logger.info("Read {} loads and {} fuel transactions into the report facts in {} ms",
+                loads.size, fuel.size, (System.nanoTime() - start) / 1_000_000);
+            return latest;
+        }
+        if (latest <= appliedSeq) {
+            return 0;
+        }
+
+        BitSet changedLoads = new BitSet();
+        BitSet changedFuel = new BitSet();
+        try (PreparedStatement ps = conn.prepareStatement(
+                "SELECT source, row_id FROM report_fact_changes WHERE seq > ? AND seq <= ?")) {
+            ps.setLong(1, appliedSeq);
+            ps.setLong(2, latest);
+            try (ResultSet rs = ps.executeQuery()) {
+                while (rs.next()) {
+                    (LOADS.equals(rs.getString(1)) ? changedLoads : changedFuel).set(rs.getInt(2));
+                }
+            }
+        }
+        patch(conn, changedLoads, "SELECT " + LoadTable.COLUMNS + " FROM loads WHERE id IN (%s)",
+            loads::upsert, loads::remove);
+        patch(conn, changedFuel, "SELECT " + FuelTable.COLUMNS + " FROM fuel_transactions WHERE id IN (%s)",
+            fuel::upsert, fuel::remove);
+        loads.compactIfSparse();
+        fuel.compactIfSparse();
+        logger.debug("Patched {} loads and {} fuel transactions into the report facts",
+            changedLoads.cardinality(), changedFuel.cardinality());
+        appliedSeq = latest;
+        return latest;
+    }
+
+    /**
+     * Re-read the changed ids in chunks; ids no longer found were deleted.
+     */
+    private static void patch(Connection conn, BitSet ids, String sql, RowReader upsert, IntConsumer remove)
+            throws SQLException {
+        int[] all = ids.stream().toArray();
+        for (int from = 0; from < all.length; from += ID_BATCH_SIZE) {
+            int to = Math.min(from + ID_BATCH_SIZE, all.length);
+            BitSet found = new BitSet();
+            List<Object> params = new ArrayList<>(to - from);
+            for (int i = from; i < to; i++) {
+                params.add(all[i]);
+            }
+            readRows(conn, sql.formatted(String.join(",", Collections.nCopies(to - from, "?"))), params, rs -> {
+                upsert.read(rs);
+                found.set(rs.getInt("id"));
+            });
+            for (int i = from; i < to; i++) {
+                if (!found.get(all[i])) {
+                    remove.accept(all[i]);
+                }
+            }
+        }
+    }
+
+    private static void readRows(Connection conn, String sql, List<Object> params, RowReader reader)
+            throws SQLException {
+        try (PreparedStatement ps = conn.prepareStatement(sql)) {
+            for (int i = 0; i < params.size(); i++) {
+                ps.setObject(i + 1, params.get(i));
+            }
+            try (ResultSet rs = ps.executeQuery()) {
+                while (rs.next()) {
+                    reader.read(rs);
+                }
+            }
+        }
+    }
+
+    /**
+     * Create the change log and the triggers of the tables that exist.
+     * @return whether a table started being tracked
+     */
+    private boolean ensureTracking() throws SQLException {
+        if (tracked.size() == 2) {
+            return false;
+        }
+        boolean added = false;
+        try (Connection conn = DatabaseConfig.getConnection();
+             Statement stmt = conn.createStatement()) {
+            stmt.execute("""
+                CREATE TABLE IF NOT EXISTS report_fact_changes (
+                    seq INTEGER PRIMARY KEY AUTOINCREMENT,
+                    source TEXT NOT NULL,
+                    row_id INTEGER NOT NULL
+                )
+            """);
+            for (String table : new String[] {LOADS, FUEL}) {
+                if (tracked.contains(table)) {
+                    continue;
+                }
+                boolean exists;
+                try (ResultSet rs = stmt.executeQuery(
+                        "SELECT 1 FROM sqlite_master WHERE type = 'table' AND name = '" + table + "'")) {
+                    exists = rs.next();
+                }
+                if (exists) {
+                    createTriggers(stmt, table);
+                    tracked.add(table);
+                    added = true;
+                }
+            }
+        }
+        return added;
+    }
+
+    private static void createTriggers(Statement stmt, String table) throws SQLException {
+        String[][] events = {{"insert", "INSERT", "NEW"}, {"update", "UPDATE", "NEW"}, {"delete", "DELETE", "OLD"}};
+        for (String[] event : events) {
+            stmt.execute("""
+                CREATE TRIGGER IF NOT EXISTS report_facts_%s_%s AFTER %s ON %s BEGIN
+                    INSERT INTO report_fact_changes (source, row_id) VALUES ('%s', %s.id);
+                END
+            """.formatted(table, event[0], event[1], table, table, event[2]));
+        }
+    }
+
+    /**
+     * Drop the applied entries, keeping the latest so the position stays readable.
+     */
+    private static void prune(long seq) {
+        try {
+            DatabaseConfig.write(() -> {
+                try (Connection conn = DatabaseConfig.getConnection();
+                     PreparedStatement ps = conn.prepareStatement(
+                         "DELETE FROM report_fact_changes WHERE seq < ?")) {
+                    ps.setLong(1, seq);
+                    return ps.executeUpdate();
+                }
+            });
+        } catch (SQLException e) {
+            // Entries are pruned again after the next change
+            logger.warn("Could not prune report fact changes: {}", e.getMessage());
+        }
+    }
+
+    private static boolean hasStatus(byte ordinal, Set<Load.Status> statuses) {
+        return ordinal != LoadTable.NO_STATUS && statuses.contains(LoadTable.status(ordinal));
+    }
+
+    @FunctionalInterface
+    private interface RowReader {
+        void read(ResultSet rs) throws SQLException;
+    }
+}
@@ -0,0 +1,138 @@
+package com.company.payroll.analytics;
+
+import com.company.payroll.fuel.FuelTransactionDAO;
+
+import java.time.LocalDate;
+import java.util.function.IntToDoubleFunction;
+
+/**
+ * Fuel transactions selected from the {@link FactStore}, held column by column; an immutable
+ * copy like {@link LoadFacts}.
+ */
+public final class FuelFacts {
+    /**
+     * What the transactions can be grouped by
+     */
+    public enum Key {
+        /** Transaction day; undated transactions are left out */
+        DAY,
+        /** Month of the transaction day, see {@link Groups#toMonth(int)} */
+        MONTH,
+        /** Driver name dictionary code, see {@link FuelFacts#driverCode(String)} */
+        DRIVER,
+        /** Employee id the transaction was matched to; unmatched transactions are left out */
+        EMPLOYEE
+    }
+
+    private final int size;
+    private final int[] employeeId;
+    private final int[] driver;
+    private final int[] day;
+    private final double[] quantity;
+    private final double[] amount;
+    private final double[] fees;
+    private final String[] drivers;
+    private final int driverCount;
+
+    private FuelFacts(int size, int[] employeeId, int[] driver, int[] day, double[] quantity, double[] amount,
+                      double[] fees, String[] drivers, int driverCount) {
+        this.size = size;
+        this.employeeId = employeeId;
+        this.driver = driver;
+        this.day = day;
+        this.quantity = quantity;
+        this.amount = amount;
+        this.fees = fees;
+        this.drivers = drivers;
+        this.driverCount = driverCount;
+    }
+
+    static FuelFacts select(FuelTable table, int[] rows, int count) {
+        int[] employeeId = new int[count];
+        int[] driver = new int[count];
+        int[] day = new int[count];
+        double[] quantity = new double[count];
+        double[] amount = new double[count];
+        double[] fees = new double[count];
+        for (int i = 0; i < count; i++) {
+            int row = rows[i];
+            employeeId[i] = table.employeeId[row];
+            driver[i] = table.driver[row];
+            day[i] = table.day[row];
+            quantity[i] = table.quantity[row];
+            amount[i] = table.amount[row];
+            fees[i] = table.fees[row];
+        }
+        return new FuelFacts(count, employeeId, driver, day, quantity, amount, fees, table.drivers.values(),
+            table.drivers.size());
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public int employeeId(int row) {
+        return employeeId[row];
+    }
+
+    public LocalDate day(int row) {
+        return day[row] != LoadTable.NO_DAY ? LocalDate.ofEpochDay(day[row]) : null;
+    }
+
+    public double quantity(int row) {
+        return quantity[row];
+    }
+
+    public double amount(int row) {
+        return amount[row];
+    }
+
+    public double fees(int row) {
+        return fees[row];
+    }
+
+    /**
+     * Dictionary code of a driver name, matched the way the fuel queries match names, or -1
+     * when no transaction carries it
+     */
+    public int driverCode(String driverName) {
+        String key = FuelTransactionDAO.driverKey(driverName);
+        for (int code = 0; code < driverCount; code++) {
+            if (drivers[code].equals(key)) {
+                return code;
+            }
+        }
+        return Dictionary.NONE;
+    }
+
+    /**
+     * Gallons and transaction count by key
+     */
+    public Groups quantityBy(Key key) {
+        return sumBy(key, row -> quantity[row]);
+    }
+
+    /**
+     * Amount plus fees and transaction count by key
+     */
+    public Groups costBy(Key key) {
+        return sumBy(key, row -> amount[row] + fees[row]);
+    }
+
+    /**
+     * Sum of a per-row value by key
+     */
+    public Groups sumBy(Key key, IntToDoubleFunction value) {
+        return switch (key) {
+            case DAY -> Groups.sum(size, row -> day[row] != LoadTable.NO_DAY ? day[row] : Groups.NO_GROUP, value,
+                k -> Groups.toDate(k).toString());
+            case MONTH -> Groups.sum(size,
+                row -> day[row] != LoadTable.NO_DAY ? Groups.monthKey(day[row]) : Groups.NO_GROUP, value,
+                k -> Groups.toMonth(k).toString());
+            case DRIVER -> Groups.sum(size, row -> driver[row] != Dictionary.NONE ? driver[row] : Groups.NO_GROUP,
+                value, k -> drivers[k]);
+            case EMPLOYEE -> Groups.sum(size, row -> employeeId[row] > 0 ? employeeId[row] : Groups.NO_GROUP, value,
+                String::valueOf);
+        };
+    }
+}
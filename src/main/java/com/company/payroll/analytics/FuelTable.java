@@ -0,0 +1,151 @@
+package com.company.payroll.analytics;
+
+import com.company.payroll.fuel.FuelTransactionDAO;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.Arrays;
+
+/**
+ * Column arrays of every fuel transaction, patched row by row like {@link LoadTable}.
+ * Drivers are encoded by their normalized name, see {@link FuelTransactionDAO#driverKey(String)}.
+ */
+final class FuelTable {
+    static final String COLUMNS = "id, employee_id, driver_name, tran_date, tran_date_iso, qty, amt, fees";
+
+    final Dictionary drivers = new Dictionary();
+
+    int size;
+    int removedCount;
+    int[] transactionId;
+    int[] employeeId;
+    int[] driver;
+    int[] day;
+    double[] quantity;
+    double[] amount;
+    double[] fees;
+    boolean[] removed;
+
+    /** Row of each transaction id plus one, 0 when the transaction has no row */
+    private int[] rowOfId;
+
+    FuelTable() {
+        clear();
+    }
+
+    void clear() {
+        int capacity = 1024;
+        size = 0;
+        removedCount = 0;
+        transactionId = new int[capacity];
+        employeeId = new int[capacity];
+        driver = new int[capacity];
+        day = new int[capacity];
+        quantity = new double[capacity];
+        amount = new double[capacity];
+        fees = new double[capacity];
+        removed = new boolean[capacity];
+        rowOfId = new int[capacity];
+        drivers.clear();
+    }
+
+    /**
+     * Insert or overwrite the transaction the result set is positioned on, read with {@link #COLUMNS}.
+     */
+    void upsert(ResultSet rs) throws SQLException {
+        int id = rs.getInt("id");
+        int row = rowOf(id);
+        if (row < 0) {
+            row = append(id);
+        } else if (removed[row]) {
+            removed[row] = false;
+            removedCount--;
+        }
+        employeeId[row] = rs.getInt("employee_id");
+        String name = rs.getString("driver_name");
+        driver[row] = name == null || name.isBlank() ? Dictionary.NONE : drivers.encode(FuelTransactionDAO.driverKey(name));
+        String iso = rs.getString("tran_date_iso");
+        day[row] = dayOf(iso != null ? iso : FuelTransactionDAO.toIsoDate(rs.getString("tran_date")));
+        quantity[row] = rs.getDouble("qty");
+        amount[row] = rs.getDouble("amt");
+        fees[row] = rs.getDouble("fees");
+    }
+
+    void remove(int id) {
+        int row = rowOf(id);
+        if (row >= 0 && !removed[row]) {
+            removed[row] = true;
+            removedCount++;
+        }
+    }
+
+    /**
+     * Squeeze out removed rows once they make up a quarter of the table.
+     */
+    void compactIfSparse() {
+        if (removedCount * 4 < size || removedCount == 0) {
+            return;
+        }
+        int kept = 0;
+        Arrays.fill(rowOfId, 0);
+        for (int row = 0; row < size; row++) {
+            if (removed[row]) {
+                continue;
+            }
+            transactionId[kept] = transactionId[row];
+            employeeId[kept] = employeeId[row];
+            driver[kept] = driver[row];
+            day[kept] = day[row];
+            quantity[kept] = quantity[row];
+            amount[kept] = amount[row];
+            fees[kept] = fees[row];
+            removed[kept] = false;
+            rowOfId[transactionId[kept]] = kept + 1;
+            kept++;
+        }
+        size = kept;
+        removedCount = 0;
+    }
+
+    private int rowOf(int id) {
+        return id >= 0 && id < rowOfId.length ? rowOfId[id] - 1 : -1;
+    }
+
+    private int append(int id) {
+        if (size == transactionId.length) {
+            int capacity = size * 2;
+            transactionId = Arrays.copyOf(transactionId, capacity);
+            employeeId = Arrays.copyOf(employeeId, capacity);
+            driver = Arrays.copyOf(driver, capacity);
+            day = Arrays.copyOf(day, capacity);
+            quantity = Arrays.copyOf(quantity, capacity);
+            amount = Arrays.copyOf(amount, capacity);
+            fees = Arrays.copyOf(fees, capacity);
+            removed = Arrays.copyOf(removed, capacity);
+        }
+        if (id >= rowOfId.length) {
+            rowOfId = Arrays.copyOf(rowOfId, Math.max(id + 1, rowOfId.length * 2));
+        }
+        int row = size++;
+        transactionId[row] = id;
+        removed[row] = false;
+        rowOfId[id] = row + 1;
+        return row;
+    }
+
+    /**
+     * Epoch day of a yyyy-MM-dd date; empty or unparsable dates never fall in a range
+     */
+    private static int dayOf(String iso) {
+        if (iso == null || iso.isEmpty()) {
+            return LoadTable.NO_DAY;
+        }
+        try {
+            return (int) LocalDate.parse(iso).toEpochDay();
+        } catch (DateTimeParseException e) {
+            return LoadTable.NO_DAY;
+        }
+    }
+}
@@ -0,0 +1,232 @@
+package com.company.payroll.analytics;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.Arrays;
+import java.util.function.IntFunction;
+import java.util.function.IntToDoubleFunction;
+import java.util.function.IntUnaryOperator;
+
+/**
+ * Result of a group-by kernel: one sum and row count per group key, in ascending key order
+ * unless reordered by {@link #top(int)}.
+ * <p>
+ * Keys are ints whose meaning depends on the grouping: epoch days, month keys
+ * ({@code year * 12 + month - 1}), dictionary codes, enum ordinals or ids; {@link #label(int)}
+ * turns them back into display text.
+ */
+public final class Groups {
+    /** Key of rows that belong to no group, such as undated rows grouped by day */
+    static final int NO_GROUP = Integer.MIN_VALUE;
+
+    private static final Groups EMPTY = new Groups(new int[0], new double[0], new int[0], key -> null, true);
+
+    private final int[] keys;
+    private final double[] sums;
+    private final int[] counts;
+    private final IntFunction<String> labels;
+    private final boolean sortedByKey;
+
+    private Groups(int[] keys, double[] sums, int[] counts, IntFunction<String> labels, boolean sortedByKey) {
+        this.keys = keys;
+        this.sums = sums;
+        this.counts = counts;
+        this.labels = labels;
+        this.sortedByKey = sortedByKey;
+    }
+
+    /**
+     * Sum the value of every row by its key. Keys spanning a range not much larger than the
+     * row count are accumulated in dense arrays, wider ones by sorting the rows by key.
+     * @param rows number of rows
+     * @param key group key of a row, or {@link #NO_GROUP} to skip it
+     * @param value value of a row
+     * @param labels display text of a key
+     */
+    static Groups sum(int rows, IntUnaryOperator key, IntToDoubleFunction value, IntFunction<String> labels) {
+        int[] rowKeys = new int[rows];
+        int min = Integer.MAX_VALUE;
+        int max = Integer.MIN_VALUE;
+        int grouped = 0;
+        for (int i = 0; i < rows; i++) {
+            int k = key.applyAsInt(i);
+            rowKeys[i] = k;
+            if (k != NO_GROUP) {
+                min = Math.min(min, k);
+                max = Math.max(max, k);
+                grouped++;
+            }
+        }
+        if (grouped == 0) {
+            return EMPTY;
+        }
+
+        long range = (long) max - min + 1;
+        if (range <= 4L * grouped + 1024) {
+            double[] denseSums = new double[(int) range];
+            int[] denseCounts = new int[(int) range];
+            int groups = 0;
+            for (int i = 0; i < rows; i++) {
+                int k = rowKeys[i];
+                if (k != NO_GROUP) {
+                    int slot = k - min;
+                    if (denseCounts[slot]++ == 0) {
+                        groups++;
+                    }
+                    denseSums[slot] += value.applyAsDouble(i);
+                }
+            }
+            int[] keys = new int[groups];
+            double[] sums = new double[groups];
+            int[] counts = new int[groups];
+            for (int slot = 0, g = 0; slot < range; slot++) {
+                if (denseCounts[slot] > 0) {
+                    keys[g] = min + slot;
+                    sums[g] = denseSums[slot];
+                    counts[g++] = denseCounts[slot];
+                }
+            }
+            return new Groups(keys, sums, counts, labels, true);
+        }
+
+        // Sparse keys: sort (key, row) pairs packed into longs, key high, and sum the runs
+        long[] packed = new long[grouped];
+        for (int i = 0, p = 0; i < rows; i++) {
+            if (rowKeys[i] != NO_GROUP) {
+                packed[p++] = (long) rowKeys[i] << 32 | i;
+            }
+        }
+        Arrays.sort(packed);
+        int[] keys = new int[grouped];
+        double[] sums = new double[grouped];
+        int[] counts = new int[grouped];
+        int groups = -1;
+        for (long entry : packed) {
+            int k = (int) (entry >> 32);
+            if (groups < 0 || keys[groups] != k) {
+                keys[++groups] = k;
+            }
+            sums[groups] += value.applyAsDouble((int) entry);
+            counts[groups]++;
+        }
+        groups++;
+        return new Groups(Arrays.copyOf(keys, groups), Arrays.copyOf(sums, groups), Arrays.copyOf(counts, groups),
+            labels, true);
+    }
+
+    public int size() {
+        return keys.length;
+    }
+
+    public int key(int index) {
+        return keys[index];
+    }
+
+    public double sum(int index) {
+        return sums[index];
+    }
+
+    public int count(int index) {
+        return counts[index];
+    }
+
+    public String label(int index) {
+        return labels.apply(keys[index]);
+    }
+
+    public double total() {
+        double total = 0;
+        for (double sum : sums) {
+            total += sum;
+        }
+        return total;
+    }
+
+    /**
+     * Index of a key, or -1 when no row has it
+     */
+    public int indexOf(int key) {
+        if (sortedByKey) {
+            int index = Arrays.binarySearch(keys, key);
+            return index >= 0 ? index : -1;
+        }
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] == key) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Sum of a key, 0 when no row has it
+     */
+    public double sumOf(int key) {
+        int index = indexOf(key);
+        return index >= 0 ? sums[index] : 0;
+    }
+
+    /**
+     * Index of the group with the largest sum, or -1 when there are no groups
+     */
+    public int maxIndex() {
+        int best = -1;
+        for (int i = 0; i < sums.length; i++) {
+            if (best < 0 || sums[i] > sums[best]) {
+                best = i;
+            }
+        }
+        return best;
+    }
+
+    /**
+     * The groups with the largest sums, largest first
+     */
+    public Groups top(int limit) {
+        Integer[] order = new Integer[keys.length];
+        for (int i = 0; i < order.length; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, (a, b) -> Double.compare(sums[b], sums[a]));
+        int n = Math.min(limit, order.length);
+        int[] topKeys = new int[n];
+        double[] topSums = new double[n];
+        int[] topCounts = new int[n];
+        for (int i = 0; i < n; i++) {
+            topKeys[i] = keys[order[i]];
+            topSums[i] = sums[order[i]];
+            topCounts[i] = counts[order[i]];
+        }
+        return new Groups(topKeys, topSums, topCounts, labels, false);
+    }
+
+    /**
+     * Date of a day key
+     */
+    public static LocalDate toDate(int dayKey) {
+        return LocalDate.ofEpochDay(dayKey);
+    }
+
+    /**
+     * Month of a month key
+     */
+    public static YearMonth toMonth(int monthKey) {
+        return YearMonth.of(Math.floorDiv(monthKey, 12), Math.floorMod(monthKey, 12) + 1);
+    }
+
+    /**
+     * Month key of an epoch day, computed without building a date
+     */
+    static int monthKey(int epochDay) {
+        // Civil-from-days over 400-year eras, with years starting in March
+        int z = epochDay + 719468;
+        int era = Math.floorDiv(z, 146097);
+        int dayOfEra = z - era * 146097;
+        int yearOfEra = (dayOfEra - dayOfEra / 1460 + dayOfEra / 36524 - dayOfEra / 146096) / 365;
+        int dayOfYear = dayOfEra - (365 * yearOfEra + yearOfEra / 4 - yearOfEra / 100);
+        int shiftedMonth = (5 * dayOfYear + 2) / 153;
+        int month = shiftedMonth < 10 ? shiftedMonth + 3 : shiftedMonth - 9;
+        int year = yearOfEra + era * 400 + (month <= 2 ? 1 : 0);
+        return year * 12 + month - 1;
+    }
+}
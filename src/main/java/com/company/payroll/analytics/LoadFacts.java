@@ -0,0 +1,242 @@
+package com.company.payroll.analytics;
+
+import com.company.payroll.loads.Load;
+
+import java.time.LocalDate;
+import java.util.function.IntPredicate;
+import java.util.function.IntToDoubleFunction;
+import java.util.function.IntUnaryOperator;
+
+/**
+ * Loads selected from the {@link FactStore}, held column by column.
+ * <p>
+ * A slice is an immutable copy of the selected rows, so reports can keep it, narrow it with
+ * {@link #where(IntPredicate)} and run the group-by kernels on it without holding the store.
+ * Rows are addressed by index; customers and locations are dictionary codes whose text comes
+ * from the accessors.
+ */
+public final class LoadFacts {
+    /**
+     * What the loads can be grouped by
+     */
+    public enum Key {
+        /** The day the load is dated by, see {@link LoadFacts#day(int)}; undated loads are left out */
+        DAY,
+        /** The month of that day, see {@link Groups#toMonth(int)}; undated loads are left out */
+        MONTH,
+        /** Customer dictionary code; loads without customer are left out */
+        CUSTOMER,
+        /** Ordinal of the load status */
+        STATUS,
+        /** Driver id; loads without driver are left out */
+        DRIVER
+    }
+
+    private final int size;
+    private final int[] loadId;
+    private final int[] driverId;
+    private final int[] day;
+    private final int[] customer;
+    private final int[] pickUpLocation;
+    private final int[] dropLocation;
+    private final byte[] status;
+    private final double[] gross;
+    private final String[] notes;
+    private final String[] customers;
+    private final int customerCount;
+    private final String[] locations;
+
+    private LoadFacts(int size, int[] loadId, int[] driverId, int[] day, int[] customer, int[] pickUpLocation,
+                      int[] dropLocation, byte[] status, double[] gross, String[] notes,
+                      String[] customers, int customerCount, String[] locations) {
+        this.size = size;
+        this.loadId = loadId;
+        this.driverId = driverId;
+        this.day = day;
+        this.customer = customer;
+        this.pickUpLocation = pickUpLocation;
+        this.dropLocation = dropLocation;
+        this.status = status;
+        this.gross = gross;
+        this.notes = notes;
+        this.customers = customers;
+        this.customerCount = customerCount;
+        this.locations = locations;
+    }
+
+    /**
+     * Copy the rows of the table the selection marks.
+     * @param days the day each table row is dated by
+     */
+    static LoadFacts select(LoadTable table, int[] rows, int count, IntUnaryOperator days) {
+        int[] loadId = new int[count];
+        int[] driverId = new int[count];
+        int[] day = new int[count];
+        int[] customer = new int[count];
+        int[] pickUpLocation = new int[count];
+        int[] dropLocation = new int[count];
+        byte[] status = new byte[count];
+        double[] gross = new double[count];
+        String[] notes = new String[count];
+        for (int i = 0; i < count; i++) {
+            int row = rows[i];
+            loadId[i] = table.loadId[row];
+            driverId[i] = table.driverId[row];
+            day[i] = days.applyAsInt(row);
+            customer[i] = table.customer[row];
+            pickUpLocation[i] = table.pickUpLocation[row];
+            dropLocation[i] = table.dropLocation[row];
+            status[i] = table.status[row];
+            gross[i] = table.gross[row];
+            notes[i] = table.notes[row];
+        }
+        return new LoadFacts(count, loadId, driverId, day, customer, pickUpLocation, dropLocation, status, gross,
+            notes, table.customers.values(), table.customers.size(), table.locations.values());
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public int loadId(int row) {
+        return loadId[row];
+    }
+
+    /**
+     * Driver id, 0 when the load has no driver
+     */
+    public int driverId(int row) {
+        return driverId[row];
+    }
+
+    /**
+     * The day the load is dated by, or null when it has no date
+     */
+    public LocalDate day(int row) {
+        return day[row] != LoadTable.NO_DAY ? LocalDate.ofEpochDay(day[row]) : null;
+    }
+
+    public String customer(int row) {
+        return customer[row] != Dictionary.NONE ? customers[customer[row]] : null;
+    }
+
+    public int customerCode(int row) {
+        return customer[row];
+    }
+
+    /**
+     * Dictionary code of a customer name, or -1 when no load names it
+     */
+    public int customerCode(String name) {
+        if (name != null) {
+            for (int code = 0; code < customerCount; code++) {
+                if (customers[code].equals(name)) {
+                    return code;
+                }
+            }
+        }
+        return Dictionary.NONE;
+    }
+
+    public String pickUpLocation(int row) {
+        return pickUpLocation[row] != Dictionary.NONE ? locations[pickUpLocation[row]] : null;
+    }
+
+    public String dropLocation(int row) {
+        return dropLocation[row] != Dictionary.NONE ? locations[dropLocation[row]] : null;
+    }
+
+    /**
+     * Pickup and drop location codes packed into one value, equal for loads on the same route
+     */
+    public long routeCode(int row) {
+        return (long) pickUpLocation[row] << 32 | (dropLocation[row] & 0xFFFFFFFFL);
+    }
+
+    public Load.Status status(int row) {
+        return status[row] != LoadTable.NO_STATUS ? LoadTable.status(status[row]) : null;
+    }
+
+    public double gross(int row) {
+        return gross[row];
+    }
+
+    public String notes(int row) {
+        return notes[row];
+    }
+
+    /**
+     * Rows of this slice the filter accepts, as a new slice
+     */
+    public LoadFacts where(IntPredicate filter) {
+        int[] rows = new int[size];
+        int count = 0;
+        for (int i = 0; i < size; i++) {
+            if (filter.test(i)) {
+                rows[count++] = i;
+            }
+        }
+        if (count == size) {
+            return this;
+        }
+        int[] loadIds = new int[count];
+        int[] driverIds = new int[count];
+        int[] days = new int[count];
+        int[] customerCodes = new int[count];
+        int[] pickUps = new int[count];
+        int[] drops = new int[count];
+        byte[] statuses = new byte[count];
+        double[] grossAmounts = new double[count];
+        String[] notesColumn = new String[count];
+        for (int i = 0; i < count; i++) {
+            int row = rows[i];
+            loadIds[i] = loadId[row];
+            driverIds[i] = driverId[row];
+            days[i] = day[row];
+            customerCodes[i] = customer[row];
+            pickUps[i] = pickUpLocation[row];
+            drops[i] = dropLocation[row];
+            statuses[i] = status[row];
+            grossAmounts[i] = gross[row];
+            notesColumn[i] = notes[row];
+        }
+        return new LoadFacts(count, loadIds, driverIds, days, customerCodes, pickUps, drops, statuses, grossAmounts,
+            notesColumn, customers, customerCount, locations);
+    }
+
+    public double totalGross() {
+        double total = 0;
+        for (int i = 0; i < size; i++) {
+            total += gross[i];
+        }
+        return total;
+    }
+
+    /**
+     * Gross amount and load count by key
+     */
+    public Groups grossBy(Key key) {
+        return sumBy(key, row -> gross[row]);
+    }
+
+    /**
+     * Sum of a per-row value by key
+     */
+    public Groups sumBy(Key key, IntToDoubleFunction value) {
+        return switch (key) {
+            case DAY -> Groups.sum(size, row -> day[row] != LoadTable.NO_DAY ? day[row] : Groups.NO_GROUP, value,
+                k -> Groups.toDate(k).toString());
+            case MONTH -> Groups.sum(size,
+                row -> day[row] != LoadTable.NO_DAY ? Groups.monthKey(day[row]) : Groups.NO_GROUP, value,
+                k -> Groups.toMonth(k).toString());
+            case CUSTOMER -> Groups.sum(size,
+                row -> customer[row] != Dictionary.NONE ? customer[row] : Groups.NO_GROUP, value,
+                k -> customers[k]);
+            case STATUS -> Groups.sum(size,
+                row -> status[row] != LoadTable.NO_STATUS ? status[row] : Groups.NO_GROUP, value,
+                k -> LoadTable.status((byte) k).name());
+            case DRIVER -> Groups.sum(size, row -> driverId[row] > 0 ? driverId[row] : Groups.NO_GROUP, value,
+                String::valueOf);
+        };
+    }
+}
@@ -0,0 +1,180 @@
+package com.company.payroll.analytics;
+
+import com.company.payroll.loads.Load;
+
+import java.sql.Date;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Arrays;
+
+/**
+ * Column arrays of every load, patched row by row as loads change.
+ * <p>
+ * A changed load is overwritten in place, a new one appended and a deleted one marked
+ * removed; the removed rows are squeezed out once they make up a quarter of the table.
+ * Only {@link FactStore} touches the table, under its write lock.
+ */
+final class LoadTable {
+    static final int NO_DAY = Integer.MIN_VALUE;
+    static final byte NO_STATUS = -1;
+
+    static final String COLUMNS =
+        "id, driver_id, customer, pick_up_location, drop_location, status, gross_amount, notes, pickup_date, delivery_date";
+
+    private static final Load.Status[] STATUSES = Load.Status.values();
+
+    final Dictionary customers = new Dictionary();
+    final Dictionary locations = new Dictionary();
+
+    int size;
+    int removedCount;
+    int[] loadId;
+    int[] driverId;
+    int[] pickupDay;
+    int[] deliveryDay;
+    int[] customer;
+    int[] pickUpLocation;
+    int[] dropLocation;
+    byte[] status;
+    double[] gross;
+    String[] notes;
+    boolean[] removed;
+
+    /** Row of each load id plus one, 0 when the load has no row */
+    private int[] rowOfId;
+
+    LoadTable() {
+        clear();
+    }
+
+    void clear() {
+        int capacity = 1024;
+        size = 0;
+        removedCount = 0;
+        loadId = new int[capacity];
+        driverId = new int[capacity];
+        pickupDay = new int[capacity];
+        deliveryDay = new int[capacity];
+        customer = new int[capacity];
+        pickUpLocation = new int[capacity];
+        dropLocation = new int[capacity];
+        status = new byte[capacity];
+        gross = new double[capacity];
+        notes = new String[capacity];
+        removed = new boolean[capacity];
+        rowOfId = new int[capacity];
+        customers.clear();
+        locations.clear();
+    }
+
+    /**
+     * Insert or overwrite the load the result set is positioned on, read with {@link #COLUMNS}.
+     */
+    void upsert(ResultSet rs) throws SQLException {
+        int id = rs.getInt("id");
+        int row = rowOf(id);
+        if (row < 0) {
+            row = append(id);
+        } else if (removed[row]) {
+            removed[row] = false;
+            removedCount--;
+        }
+        driverId[row] = rs.getInt("driver_id");
+        customer[row] = customers.encode(rs.getString("customer"));
+        pickUpLocation[row] = locations.encode(rs.getString("pick_up_location"));
+        dropLocation[row] = locations.encode(rs.getString("drop_location"));
+        status[row] = statusOf(rs.getString("status"));
+        gross[row] = rs.getDouble("gross_amount");
+        notes[row] = rs.getString("notes");
+        pickupDay[row] = dayOf(rs.getDate("pickup_date"));
+        deliveryDay[row] = dayOf(rs.getDate("delivery_date"));
+    }
+
+    void remove(int id) {
+        int row = rowOf(id);
+        if (row >= 0 && !removed[row]) {
+            removed[row] = true;
+            removedCount++;
+        }
+    }
+
+    /**
+     * Squeeze out removed rows once they make up a quarter of the table.
+     */
+    void compactIfSparse() {
+        if (removedCount * 4 < size || removedCount == 0) {
+            return;
+        }
+        int kept = 0;
+        Arrays.fill(rowOfId, 0);
+        for (int row = 0; row < size; row++) {
+            if (removed[row]) {
+                continue;
+            }
+            loadId[kept] = loadId[row];
+            driverId[kept] = driverId[row];
+            pickupDay[kept] = pickupDay[row];
+            deliveryDay[kept] = deliveryDay[row];
+            customer[kept] = customer[row];
+            pickUpLocation[kept] = pickUpLocation[row];
+            dropLocation[kept] = dropLocation[row];
+            status[kept] = status[row];
+            gross[kept] = gross[row];
+            notes[kept] = notes[row];
+            removed[kept] = false;
+            rowOfId[loadId[kept]] = kept + 1;
+            kept++;
+        }
+        Arrays.fill(notes, kept, size, null);
+        size = kept;
+        removedCount = 0;
+    }
+
+    static Load.Status status(byte ordinal) {
+        return STATUSES[ordinal];
+    }
+
+    private int rowOf(int id) {
+        return id >= 0 && id < rowOfId.length ? rowOfId[id] - 1 : -1;
+    }
+
+    private int append(int id) {
+        if (size == loadId.length) {
+            int capacity = size * 2;
+            loadId = Arrays.copyOf(loadId, capacity);
+            driverId = Arrays.copyOf(driverId, capacity);
+            pickupDay = Arrays.copyOf(pickupDay, capacity);
+            deliveryDay = Arrays.copyOf(deliveryDay, capacity);
+            customer = Arrays.copyOf(customer, capacity);
+            pickUpLocation = Arrays.copyOf(pickUpLocation, capacity);
+            dropLocation = Arrays.copyOf(dropLocation, capacity);
+            status = Arrays.copyOf(status, capacity);
+            gross = Arrays.copyOf(gross, capacity);
+            notes = Arrays.copyOf(notes, capacity);
+            removed = Arrays.copyOf(removed, capacity);
+        }
+        if (id >= rowOfId.length) {
+            rowOfId = Arrays.copyOf(rowOfId, Math.max(id + 1, rowOfId.length * 2));
+        }
+        int row = size++;
+        loadId[row] = id;
+        removed[row] = false;
+        rowOfId[id] = row + 1;
+        return row;
+    }
+
+    private static byte statusOf(String name) {
+        if (name != null) {
+            for (Load.Status candidate : STATUSES) {
+                if (candidate.name().equals(name)) {
+                    return (byte) candidate.ordinal();
+                }
+            }
+        }
+        return NO_STATUS;
+    }
+
+    private static int dayOf(Date date) {
+        return date != null ? (int) date.toLocalDate().toEpochDay() : NO_DAY;
+    }
+}
@@ -0,0 +1,450 @@
+package com.company.payroll.cache;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.company.payroll.employees.Employee;
+import com.company.payroll.employees.EmployeeDAO;
+import com.company.payroll.loads.CustomerAddress;
+import com.company.payroll.loads.LoadDAO;
+import com.company.payroll.trailers.Trailer;
+import com.company.payroll.trailers.TrailerDAO;
+import com.company.payroll.trucks.Truck;
+import com.company.payroll.trucks.TruckDAO;
+
+import javafx.application.Platform;
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+
+/**
+ * Reference data cache shared by every autocomplete field and the loads panel.
+ * <p>
+ * Holds the customer, billing entity, driver, truck and trailer lists, and the
+ * address book of each customer:
+ * <ul>
+ *   <li>address books are evicted least recently used first, bounded by their total number of addresses,</li>
+ *   <li>lists and address books older than their refresh interval are served while a background reload runs,</li>
+ *   <li>concurrent misses for the same customer share one database query,</li>
+ *   <li>the DAOs report their writes through {@link #dataChanged(ReferenceData)} and
+ *       {@link #addressesChanged(String)}, which drop or reload the affected data,</li>
+ *   <li>{@link #getMetrics()} returns a snapshot of the counters.</li>
+ * </ul>
+ * All loads run on one small daemon pool.
+ */
+public class EnterpriseDataCacheManager {
+    private static final Logger logger = LoggerFactory.getLogger(EnterpriseDataCacheManager.class);
+
+    // Singleton instance for global access
+    private static volatile EnterpriseDataCacheManager instance;
+    private static final Object LOCK = new Object();
+
+    // Cache configuration
+    private static final long ADDRESS_REFRESH_MS = TimeUnit.MINUTES.toMillis(1);
+    private static final long LIST_REFRESH_MS = TimeUnit.MINUTES.toMillis(3);
+    private static final long MAX_CACHED_ADDRESSES = 50_000; // Total addresses over all cached customers
+    private static final int LOADER_THREADS = 2;
+
+    /**
+     * Kinds of reference data a DAO write can change
+     */
+    public enum ReferenceData { CUSTOMERS, BILLING_ENTITIES, ADDRESSES, DRIVERS, TRUCKS, TRAILERS }
+
+    /**
+     * Counters and sizes of the cache at one point in time
+     *
+     * @param addressWeight addresses held over all cached address books
+     * @param listLoads completed reloads of the reference lists
+     */
+    public record Metrics(long addressHits, long addressMisses, long addressLoads, long addressLoadFailures,
+                          long addressRefreshes, long addressEvictions, long invalidations,
+                          int cachedAddressBooks, long addressWeight, long maxAddressWeight, long listLoads,
+                          int customers, int billingEntities, int drivers, int trucks, int trailers) {
+        public double addressHitRate() {
+            long lookups = addressHits + addressMisses;
+            return lookups == 0 ? 0 : (double) addressHits / lookups;
+        }
+    }
+
+    // Data access objects
+    private final LoadDAO loadDAO;
+    private final TruckDAO truckDAO;
+    private final TrailerDAO trailerDAO;
+    private final EmployeeDAO employeeDAO;
+
+    private final ExecutorService loaderExecutor;
+    private final WeightedLoadingCache<String, List<CustomerAddress>> addressBooks;
+    private final Map<ReferenceData, ReferenceList<?>> lists = new EnumMap<>(ReferenceData.class);
+    private final ReferenceList<String> customers;
+    private final ReferenceList<String> billingEntities;
+    private final ReferenceList<Employee> drivers;
+    private final ReferenceList<Truck> trucks;
+    private final ReferenceList<Trailer> trailers;
+    private final AtomicLong listLoads = new AtomicLong();
+    private final AtomicLong listInvalidations = new AtomicLong();
+
+    private EnterpriseDataCacheManager() {
+        this.loadDAO = new LoadDAO();
+        this.truckDAO = new TruckDAO();
+        this.trailerDAO = new TrailerDAO();
+        this.employeeDAO = new EmployeeDAO();
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.loaderExecutor = Executors.newFixedThreadPool(LOADER_THREADS, r -> {
+            Thread t = new Thread(r, "ReferenceData-" + threadNumber.incrementAndGet());
+            t.setDaemon(true);
+            t.setPriority(Thread.NORM_PRIORITY - 1); // Lower priority to not block UI
+            return t;
+        });
+
+        this.addressBooks = new WeightedLoadingCache<>(loadDAO::getCustomerAddressBook, List::size,
+            MAX_CACHED_ADDRESSES, ADDRESS_REFRESH_MS, loaderExecutor);
+        this.customers = register(ReferenceData.CUSTOMERS, loadDAO::getAllCustomers);
+        this.billingEntities = register(ReferenceData.BILLING_ENTITIES, loadDAO::getAllBillingEntities);
+        this.drivers = register(ReferenceData.DRIVERS, () -> employeeDAO.getActive().stream()
+            .filter(Employee::isDriver)
+            .collect(Collectors.toList()));
+        this.trucks = register(ReferenceData.TRUCKS, truckDAO::findAll);
+        this.trailers = register(ReferenceData.TRAILERS, trailerDAO::findAll);
+
+        logger.info("Reference data cache initialized");
+    }
+
+    /**
+     * Get singleton instance with thread-safe lazy initialization
+     */
+    public static EnterpriseDataCacheManager getInstance() {
+        if (instance == null) {
+            synchronized (LOCK) {
+                if (instance == null) {
+                    instance = new EnterpriseDataCacheManager();
+                }
+            }
+        }
+        return instance;
+    }
+
+    /**
+     * Called by the DAOs after writing reference data. Does nothing while the cache is not in use.
+     */
+    public static void dataChanged(ReferenceData kind) {
+        EnterpriseDataCacheManager cache = instance;
+        if (cache != null) {
+            cache.invalidate(kind);
+        }
+    }
+
+    /**
+     * Called by the DAOs after writing the address book of one customer.
+     */
+    public static void addressesChanged(String customerName) {
+        EnterpriseDataCacheManager cache = instance;
+        if (cache != null && customerName != null && !customerName.trim().isEmpty()) {
+            cache.addressBooks.invalidate(normalizeCustomer(customerName));
+        }
+    }
+
+    /**
+     * Get customer addresses, loaded once per customer however many fields ask at the same time
+     */
+    public CompletableFuture<List<CustomerAddress>> getCustomerAddressesAsync(String customerName) {
+        if (customerName == null || customerName.trim().isEmpty()) {
+            return CompletableFuture.completedFuture(new ArrayList<>());
+        }
+
+        return addressBooks.get(normalizeCustomer(customerName))
+            .<List<CustomerAddress>>thenApply(ArrayList::new)
+            .exceptionally(e -> {
+                logger.error("Error loading addresses for customer: {}", customerName, e);
+                return new ArrayList<>();
+            });
+    }
+
+    /**
+     * Get all customers (cached)
+     */
+    public ObservableList<String> getCachedCustomers() {
+        return customers.get();
+    }
+
+    /**
+     * Get all billing entities (cached)
+     */
+    public ObservableList<String> getCachedBillingEntities() {
+        return billingEntities.get();
+    }
+
+    /**
+     * Get all active drivers (cached)
+     */
+    public ObservableList<Employee> getCachedDrivers() {
+        return drivers.get();
+    }
+
+    /**
+     * Get all trucks (cached)
+     */
+    public ObservableList<Truck> getCachedTrucks() {
+        return trucks.get();
+    }
+
+    /**
+     * Get all trailers (cached)
+     */
+    public ObservableList<Trailer> getCachedTrailers() {
+        return trailers.get();
+    }
+
+    /**
+     * Search customers with caching and fuzzy matching
+     */
+    public List<String> searchCustomers(String query, int limit) {
+        List<String> snapshot = customers.snapshot();
+        if (query == null || query.trim().isEmpty()) {
+            return snapshot.stream().limit(limit).collect(Collectors.toList());
+        }
+
+        String normalizedQuery = query.trim().toLowerCase();
+
+        return snapshot.stream()
+            .filter(customer -> customer.toLowerCase().contains(normalizedQuery))
+            .sorted((a, b) -> {
+                String aLower = a.toLowerCase();
+                String bLower = b.toLowerCase();
+
+                // Exact match first
+                if (aLower.equals(normalizedQuery) && !bLower.equals(normalizedQuery)) return -1;
+                if (bLower.equals(normalizedQuery) && !aLower.equals(normalizedQuery)) return 1;
+
+                // Starts with second
+                if (aLower.startsWith(normalizedQuery) && !bLower.startsWith(normalizedQuery)) return -1;
+                if (bLower.startsWith(normalizedQuery) && !aLower.startsWith(normalizedQuery)) return 1;
+
+                // Alphabetical order
+                return a.compareToIgnoreCase(b);
+            })
+            .limit(limit)
+            .collect(Collectors.toList());
+    }
+
+    /**
+     * Add new customer; the DAO write reloads the customer list
+     */
+    public CompletableFuture<Void> addCustomerAsync(String customerName) {
+        if (customerName == null || customerName.trim().isEmpty()) {
+            return CompletableFuture.completedFuture(null);
+        }
+
+        String normalizedCustomer = normalizeCustomer(customerName);
+
+        return CompletableFuture.runAsync(() -> {
+            try {
+                loadDAO.addCustomerIfNotExists(normalizedCustomer);
+                logger.debug("Added customer: {}", normalizedCustomer);
+            } catch (Exception e) {
+                logger.error("Error adding customer: {}", normalizedCustomer, e);
+                throw new RuntimeException("Failed to add customer: " + normalizedCustomer, e);
+            }
+        }, loaderExecutor);
+    }
+
+    /**
+     * Add new address; the DAO write drops the customer's cached address book
+     */
+    public CompletableFuture<Integer> addCustomerAddressAsync(String customerName, String locationName,
+                                                             String address, String city, String state) {
+        if (customerName == null || customerName.trim().isEmpty()) {
+            return CompletableFuture.completedFuture(-1);
+        }
+
+        String normalizedCustomer = normalizeCustomer(customerName);
+
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                int addressId = loadDAO.addCustomerAddress(normalizedCustomer, locationName, address, city, state);
+                if (addressId > 0) {
+                    logger.debug("Added address for customer: {} (ID: {})", normalizedCustomer, addressId);
+                } else {
+                    logger.warn("Failed to add address for customer: {}", normalizedCustomer);
+                }
+                return addressId;
+            } catch (Exception e) {
+                logger.error("Error adding address for customer: {}", normalizedCustomer, e);
+                return -1;
+            }
+        }, loaderExecutor);
+    }
+
+    /**
+     * Force refresh of specific customer's addresses
+     */
+    public CompletableFuture<List<CustomerAddress>> refreshCustomerAddressesAsync(String customerName) {
+        if (customerName == null || customerName.trim().isEmpty()) {
+            return CompletableFuture.completedFuture(new ArrayList<>());
+        }
+        addressBooks.invalidate(normalizeCustomer(customerName));
+        return getCustomerAddressesAsync(customerName);
+    }
+
+    /**
+     * Invalidate all caches and reload the lists in use
+     */
+    public CompletableFuture<Void> invalidateAllCaches() {
+        logger.info("Invalidating all reference data caches");
+        for (ReferenceData kind : ReferenceData.values()) {
+            invalidate(kind);
+        }
+        return CompletableFuture.completedFuture(null);
+    }
+
+    /**
+     * Snapshot of the cache counters and sizes
+     */
+    public Metrics getMetrics() {
+        WeightedLoadingCache.Stats stats = addressBooks.stats();
+        return new Metrics(stats.hits(), stats.misses(), stats.loads(), stats.loadFailures(),
+            stats.refreshes(), stats.evictions(), stats.invalidations() + listInvalidations.get(),
+            stats.entries(), stats.weight(), stats.maxWeight(), listLoads.get(),
+            customers.size(), billingEntities.size(), drivers.size(), trucks.size(), trailers.size());
+    }
+
+    /**
+     * Get cache statistics
+     */
+    public String getCacheStatistics() {
+        Metrics m = getMetrics();
+        return String.format(
+            "Cache Stats - Hits: %d, Misses: %d, Hit Ratio: %.1f%%, Evictions: %d, " +
+            "Cached Customers: %d, Cached Address Books: %d (%d/%d addresses)",
+            m.addressHits(), m.addressMisses(), m.addressHitRate() * 100, m.addressEvictions(),
+            m.customers(), m.cachedAddressBooks(), m.addressWeight(), m.maxAddressWeight());
+    }
+
+    /**
+     * Shutdown cache manager and cleanup resources
+     */
+    public void shutdown() {
+        logger.info("Shutting down reference data cache");
+        loaderExecutor.shutdownNow();
+        addressBooks.invalidateAll();
+        logger.info("Reference data cache: {}", getCacheStatistics());
+    }
+
+    // Private helper methods
+
+    private static String normalizeCustomer(String customerName) {
+        return customerName.trim().toUpperCase();
+    }
+
+    private <T> ReferenceList<T> register(ReferenceData kind, Supplier<List<T>> loader) {
+        ReferenceList<T> list = new ReferenceList<>(kind, loader);
+        lists.put(kind, list);
+        return list;
+    }
+
+    private void invalidate(ReferenceData kind) {
+        if (kind == ReferenceData.ADDRESSES) {
+            addressBooks.invalidateAll();
+            return;
+        }
+        if (kind == ReferenceData.CUSTOMERS) {
+            // Address books hang off customers
+            addressBooks.invalidateAll();
+        }
+        listInvalidations.incrementAndGet();
+        lists.get(kind).invalidate();
+    }
+
+    /**
+     * One reference list, reloaded in the background when it is read after its refresh
+     * interval or changed by a DAO write. The observable list is only modified on the FX thread.
+     */
+    private final class ReferenceList<T> {
+        private final ReferenceData kind;
+        private final Supplier<List<T>> loader;
+        private final ObservableList<T> items = FXCollections.synchronizedObservableList(FXCollections.observableArrayList());
+        private final AtomicBoolean loading = new AtomicBoolean();
+        private final AtomicLong version = new AtomicLong();
+        private volatile long loadedAt;
+        private volatile long loadedVersion = -1;
+        private volatile boolean used;
+
+        ReferenceList(ReferenceData kind, Supplier<List<T>> loader) {
+            this.kind = kind;
+            this.loader = loader;
+        }
+
+        ObservableList<T> get() {
+            used = true;
+            if (loadedVersion != version.get() || System.currentTimeMillis() - loadedAt >= LIST_REFRESH_MS) {
+                reload();
+            }
+            return items;
+        }
+
+        List<T> snapshot() {
+            ObservableList<T> current = get();
+            synchronized (current) {
+                return new ArrayList<>(current);
+            }
+        }
+
+        int size() {
+            return items.size();
+        }
+
+        void invalidate() {
+            version.incrementAndGet();
+            // Lists nobody has read yet are loaded on first use
+            if (used) {
+                reload();
+            }
+        }
+
+        private void reload() {
+            if (!loading.compareAndSet(false, true)) {
+                return;
+            }
+            long loadingVersion = version.get();
+            try {
+                loaderExecutor.execute(() -> {
+                    boolean loadedOk = false;
+                    try {
+                        List<T> loaded = loader.get();
+                        listLoads.incrementAndGet();
+                        loadedAt = System.currentTimeMillis();
+                        loadedVersion = loadingVersion;
+                        loadedOk = true;
+                        Platform.runLater(() -> items.setAll(loaded));
+                        logger.debug("Reloaded {} {}", loaded.size(), kind);
+                    } catch (Exception e) {
+                        logger.error("Error reloading {}", kind, e);
+                    } finally {
+                        loading.set(false);
+                    }
+                    // Changed while loading; a failed load is retried on the next read
+                    if (loadedOk && loadedVersion != version.get()) {
+                        reload();
+                    }
+                });
+            } catch (RejectedExecutionException e) {
+                loading.set(false);
+                logger.debug("Not reloading {}, cache is shut down", kind);
+            }
+        }
+    }
+}
@@ -0,0 +1,158 @@
+package com.company.payroll.cache;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.ToIntFunction;
+
+/**
+ * Loading cache bounded by the total weight of its values rather than their count.
+ * <ul>
+ *   <li>Least recently used entries are evicted once the weights add up to more than the maximum.</li>
+ *   <li>Entries older than the refresh interval are still returned, and reloaded in the background.</li>
+ *   <li>Concurrent misses or refreshes of a key share one load.</li>
+ *   <li>A load that was running when its key was invalidated is returned to its callers but not stored.</li>
+ * </ul>
+ */
+final class WeightedLoadingCache<K, V> {
+
+    /**
+     * Counters since the cache was created
+     */
+    record Stats(long hits, long misses, long loads, long loadFailures, long refreshes,
+                 long evictions, long invalidations, int entries, long weight, long maxWeight) {
+        double hitRate() {
+            long lookups = hits + misses;
+            return lookups == 0 ? 0 : (double) hits / lookups;
+        }
+    }
+
+    private record Entry<V>(V value, int weight, long loadedAt) {}
+
+    private final Function<K, V> loader;
+    private final ToIntFunction<V> weigher;
+    private final long maxWeight;
+    private final long refreshAfterWriteMs;
+    private final Executor executor;
+
+    private final LinkedHashMap<K, Entry<V>> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private final Map<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+    private long weight;
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong loads = new AtomicLong();
+    private final AtomicLong loadFailures = new AtomicLong();
+    private final AtomicLong refreshes = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+    private final AtomicLong invalidations = new AtomicLong();
+
+    WeightedLoadingCache(Function<K, V> loader, ToIntFunction<V> weigher, long maxWeight,
+                         long refreshAfterWriteMs, Executor executor) {
+        this.loader = loader;
+        this.weigher = weigher;
+        this.maxWeight = maxWeight;
+        this.refreshAfterWriteMs = refreshAfterWriteMs;
+        this.executor = executor;
+    }
+
+    /**
+     * The cached value, or a load of it shared with every other caller missing the same key.
+     */
+    CompletableFuture<V> get(K key) {
+        Entry<V> entry;
+        synchronized (this) {
+            entry = entries.get(key);
+        }
+        if (entry == null) {
+            misses.incrementAndGet();
+            return load(key);
+        }
+        hits.incrementAndGet();
+        if (System.currentTimeMillis() - entry.loadedAt() >= refreshAfterWriteMs && !inFlight.containsKey(key)) {
+            refreshes.incrementAndGet();
+            load(key);
+        }
+        return CompletableFuture.completedFuture(entry.value());
+    }
+
+    /**
+     * Drop the entry and any load of it that is still running.
+     */
+    void invalidate(K key) {
+        invalidations.incrementAndGet();
+        inFlight.remove(key);
+        synchronized (this) {
+            Entry<V> removed = entries.remove(key);
+            if (removed != null) {
+                weight -= removed.weight();
+            }
+        }
+    }
+
+    void invalidateAll() {
+        invalidations.incrementAndGet();
+        inFlight.clear();
+        synchronized (this) {
+            entries.clear();
+            weight = 0;
+        }
+    }
+
+    Stats stats() {
+        synchronized (this) {
+            return new Stats(hits.get(), misses.get(), loads.get(), loadFailures.get(), refreshes.get(),
+                evictions.get(), invalidations.get(), entries.size(), weight, maxWeight);
+        }
+    }
+
+    private CompletableFuture<V> load(K key) {
+        CompletableFuture<V> created = new CompletableFuture<>();
+        CompletableFuture<V> running = inFlight.putIfAbsent(key, created);
+        if (running != null) {
+            return running;
+        }
+        try {
+            executor.execute(() -> {
+                try {
+                    V value = loader.apply(key);
+                    loads.incrementAndGet();
+                    // Only the load registered for the key may store, an invalidation unregisters it
+                    if (inFlight.remove(key, created)) {
+                        store(key, value);
+                    }
+                    created.complete(value);
+                } catch (Throwable t) {
+                    loadFailures.incrementAndGet();
+                    inFlight.remove(key, created);
+                    created.completeExceptionally(t);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            inFlight.remove(key, created);
+            created.completeExceptionally(e);
+        }
+        return created;
+    }
+
+    private synchronized void store(K key, V value) {
+        int valueWeight = Math.max(1, weigher.applyAsInt(value));
+        Entry<V> previous = entries.put(key, new Entry<>(value, valueWeight, System.currentTimeMillis()));
+        weight += valueWeight - (previous != null ? previous.weight() : 0);
+
+        // The newest entry stays even if it alone is heavier than the maximum
+        Iterator<Map.Entry<K, Entry<V>>> eldest = entries.entrySet().iterator();
+        while (weight > maxWeight && entries.size() > 1) {
+            Map.Entry<K, Entry<V>> evicted = eldest.next();
+            weight -= evicted.getValue().weight();
+            eldest.remove();
+            evictions.incrementAndGet();
+        }
+    }
+}
@@ -69,7 +69,37 @@ public class PaymentMethodCalculator {
         
         return history;
     }
-    
+
+    /**
+     * Warm the cache with the effective payment methods of several employees.
+     * Issues one batched lookup per date, so the subsequent
+     * {@link #getEffectivePaymentMethod(Employee, LocalDate)} and
+     * {@link #calculateLoadPayment(Load)} calls for these employees are served from the cache.
+     * @param employees The employees to preload
+     * @param dates The effective dates that will be requested
+     */
+    public void preloadEffectivePaymentMethods(Collection<Employee> employees, Collection<LocalDate> dates) {
+        if (employees == null || employees.isEmpty() || dates == null) {
+            return;
+        }
+
+        List<Integer> ids = employees.stream().map(Employee::getId).toList();
+        for (LocalDate date : new HashSet<>(dates)) {
+            if (date == null) {
+                continue;
+            }
+            Map<Integer, PaymentMethodHistory> found = historyDAO.getEffectivePaymentMethods(ids, date);
+            for (Employee employee : employees) {
+                PaymentMethodHistory history = found.get(employee.getId());
+                if (history == null) {
+                    history = createDefaultHistory(employee, date);
+                }
+                cacheMethod(employee.getId() + "-" + date, history);
+            }
+        }
+        logger.debug("Preloaded payment methods for {} employees on {} dates", ids.size(), dates.size());
+    }
+
     /**
      * Calculate payment for a single load.
      * @param load The load to calculate payment for
@@ -14,16 +14,35 @@ import java.sql.Statement;
 /**
  * Professional database configuration and connection management for SQLite.
  * Implements connection pooling, proper timeouts, and retry logic to prevent database locking issues.
+ * <p>
+ * Connections come from three places:
+ * <ul>
+ *   <li>{@link #write} queues an operation for the single {@link DatabaseWriter} thread, which
+ *       owns the only connection the routed DAO writes use and commits them in groups,</li>
+ *   <li>{@link #getReadConnection()} hands out read-only connections for queries,</li>
+ *   <li>{@link #getConnection()} hands out general connections for schema setup and the DAOs
+ *       whose writes are not routed through the writer yet.</li>
+ * </ul>
+ * Inside a write operation both getters return the writer's connection, so everything the
+ * operation does, including nested DAO calls, joins its transaction.
  */
 public class DatabaseConfig {
     private static final Logger logger = LoggerFactory.getLogger(DatabaseConfig.class);
-    private static final String DB_URL = "jdbc:sqlite:payroll.db";
+    /**
+     * System property overriding the JDBC URL, e.g. to point benchmarks at a generated database.
+     * It is read whenever the pools are opened, so a change takes effect after {@link #shutdown()}.
+     */
+    public static final String URL_PROPERTY = "payroll.db.url";
+    private static final String DEFAULT_URL = "jdbc:sqlite:payroll.db";
+    private static volatile String dbUrl;
     private static HikariDataSource dataSource;
+    private static HikariDataSource readDataSource;
     private static final Object INIT_LOCK = new Object();
     
     // Configuration constants
     private static final int MAX_POOL_SIZE = 10; // Allow multiple connections for initialization
     private static final int MIN_IDLE = 2; // Keep some connections ready
+    private static final int READ_POOL_SIZE = 8; // WAL readers never block each other or the writer
     private static final int CONNECTION_TIMEOUT = 5000; // 5 seconds - faster failure detection
     private static final int BUSY_TIMEOUT = 30000; // 30 seconds
     private static final int MAX_RETRY_ATTEMPTS = 3;
@@ -40,19 +59,12 @@ public class DatabaseConfig {
             }
             
             try {
-                // Configure SQLite
-                SQLiteConfig config = new SQLiteConfig();
-                config.setBusyTimeout(BUSY_TIMEOUT);
-                config.setJournalMode(SQLiteConfig.JournalMode.WAL); // Write-Ahead Logging for better concurrency
-                config.setSynchronous(SQLiteConfig.SynchronousMode.NORMAL);
-                config.setTempStore(SQLiteConfig.TempStore.MEMORY);
-                config.setCacheSize(10000);
-                config.setLockingMode(SQLiteConfig.LockingMode.NORMAL);
+                dbUrl = System.getProperty(URL_PROPERTY, DEFAULT_URL);
                 
                 // Create SQLite data source
                 SQLiteDataSource sqliteDS = new SQLiteDataSource();
-                sqliteDS.setUrl(DB_URL);
-                sqliteDS.setConfig(config);
+                sqliteDS.setUrl(dbUrl);
+                sqliteDS.setConfig(sqliteConfig(false));
                 
                 // Configure HikariCP
                 HikariConfig hikariConfig = new HikariConfig();
@@ -82,6 +94,25 @@ public class DatabaseConfig {
                     logger.info("Database connection pool initialized successfully with WAL mode");
                 }
                 
+                // Read-only pool for queries, opened once the database is in WAL mode
+                SQLiteDataSource readDS = new SQLiteDataSource();
+                readDS.setUrl(dbUrl);
+                readDS.setConfig(sqliteConfig(true));
+                
+                HikariConfig readConfig = new HikariConfig();
+                readConfig.setDataSource(readDS);
+                readConfig.setMaximumPoolSize(READ_POOL_SIZE);
+                readConfig.setMinimumIdle(MIN_IDLE);
+                readConfig.setConnectionTimeout(CONNECTION_TIMEOUT);
+                readConfig.setIdleTimeout(300000); // 5 minutes
+                readConfig.setMaxLifetime(600000); // 10 minutes - shorter for SQLite
+                readConfig.setPoolName("PayrollSQLiteReadPool");
+                readConfig.setAutoCommit(true);
+                readConfig.setConnectionTestQuery("SELECT 1");
+                readConfig.setValidationTimeout(2000); // 2 seconds
+                readConfig.setLeakDetectionThreshold(60000); // 1 minute - detect connection leaks
+                readDataSource = new HikariDataSource(readConfig);
+                
             } catch (Exception e) {
                 logger.error("Failed to initialize database connection pool", e);
                 throw new RuntimeException("Database initialization failed", e);
@@ -89,16 +120,94 @@ public class DatabaseConfig {
         }
     }
     
+    /**
+     * Settings shared by every connection; read-only connections leave the journal mode alone
+     */
+    private static SQLiteConfig sqliteConfig(boolean readOnly) {
+        SQLiteConfig config = new SQLiteConfig();
+        config.setBusyTimeout(BUSY_TIMEOUT);
+        if (readOnly) {
+            config.setReadOnly(true);
+        } else {
+            config.setJournalMode(SQLiteConfig.JournalMode.WAL); // Write-Ahead Logging for better concurrency
+        }
+        config.setSynchronous(SQLiteConfig.SynchronousMode.NORMAL);
+        config.setTempStore(SQLiteConfig.TempStore.MEMORY);
+        config.setCacheSize(10000);
+        config.setLockingMode(SQLiteConfig.LockingMode.NORMAL);
+        return config;
+    }
+    
+    /**
+     * Open the connection owned by the writer thread, on the database the pools use.
+     */
+    static Connection openWriterConnection() throws SQLException {
+        if (dataSource == null || dataSource.isClosed()) {
+            initializeDataSource();
+        }
+        SQLiteDataSource writerDS = new SQLiteDataSource();
+        writerDS.setUrl(dbUrl);
+        writerDS.setConfig(sqliteConfig(false));
+        return writerDS.getConnection();
+    }
+    
     /**
      * Get a database connection from the pool.
+     * While {@link QueryStatistics} is recording, the connection is instrumented and the wait for it is booked.
      * @return Connection object
      * @throws SQLException if connection cannot be obtained
      */
     public static Connection getConnection() throws SQLException {
+        Connection writer = DatabaseWriter.currentConnection();
+        if (writer != null) {
+            return writer;
+        }
         if (dataSource == null || dataSource.isClosed()) {
             initializeDataSource();
         }
-        return dataSource.getConnection();
+        return borrow(dataSource);
+    }
+    
+    /**
+     * Get a read-only connection for queries.
+     * @throws SQLException if connection cannot be obtained
+     */
+    public static Connection getReadConnection() throws SQLException {
+        Connection writer = DatabaseWriter.currentConnection();
+        if (writer != null) {
+            return writer;
+        }
+        if (readDataSource == null || readDataSource.isClosed()) {
+            initializeDataSource();
+        }
+        return borrow(readDataSource);
+    }
+    
+    private static Connection borrow(HikariDataSource pool) throws SQLException {
+        if (!QueryStatistics.isEnabled()) {
+            return pool.getConnection();
+        }
+        long start = System.nanoTime();
+        Connection connection = pool.getConnection();
+        QueryStatistics.recordPoolWait(System.nanoTime() - start);
+        return QueryStatistics.wrap(connection);
+    }
+    
+    /**
+     * Run a write on the writer thread and wait until the transaction it joined has committed.
+     * Called from inside another write, the operation simply runs as part of it.
+     * @return the operation's result
+     * @throws SQLException if the operation or the commit fails; the operation's changes are rolled back
+     */
+    public static <T> T write(DatabaseOperation<T> operation) throws SQLException {
+        return DatabaseWriter.getInstance().write(operation);
+    }
+    
+    /**
+     * Queue depth and commit latency of the writer thread.
+     */
+    public static DatabaseWriter.Stats getWriterStats() {
+        return DatabaseWriter.getInstance().getStats();
     }
     
     /**
@@ -112,6 +221,7 @@ public class DatabaseConfig {
         SQLException lastException = null;
         
         for (int attempt = 1; attempt <= MAX_RETRY_ATTEMPTS; attempt++) {
+            long attemptStart = System.nanoTime();
             try {
                 return operation.execute();
             } catch (SQLException e) {
@@ -131,6 +241,7 @@ public class DatabaseConfig {
                             Thread.currentThread().interrupt();
                             throw new SQLException("Interrupted while waiting for retry", ie);
                         }
+                        QueryStatistics.recordBusyRetry(System.nanoTime() - attemptStart);
                     } else {
                         logger.error("Database locked after {} attempts", MAX_RETRY_ATTEMPTS);
                     }
@@ -156,6 +267,10 @@ public class DatabaseConfig {
      * Shutdown the connection pool.
      */
     public static void shutdown() {
+        DatabaseWriter.shutdownInstance();
+        if (readDataSource != null && !readDataSource.isClosed()) {
+            readDataSource.close();
+        }
         if (dataSource != null && !dataSource.isClosed()) {
             logger.info("Shutting down database connection pool");
             dataSource.close();
@@ -0,0 +1,372 @@
+package com.company.payroll.database;
+
+import com.company.payroll.events.DomainEventBus;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Single thread that owns the database's write connection and commits queued writes in groups.
+ * <p>
+ * SQLite allows one writer at a time, so writers sharing a pool queue up on the file lock and
+ * back off on SQLITE_BUSY. Here callers queue {@link DatabaseConfig.DatabaseOperation}s instead, and the writer
+ * thread takes everything that is waiting, up to {@value #MAX_GROUP_SIZE} operations, into one
+ * transaction:
+ * <ul>
+ *   <li>each operation runs inside its own savepoint, so a failing operation is rolled back
+ *       and reported to its caller without affecting the rest of the group,</li>
+ *   <li>callers are released only after the group has committed, and a failed commit fails
+ *       every operation of the group,</li>
+ *   <li>{@link DomainEventBus} events published during the group are held back until the
+ *       commit and dropped if it fails; those of an operation rolled back to its savepoint
+ *       are dropped with it.</li>
+ * </ul>
+ * Operations get the writer connection from {@link DatabaseConfig#getConnection()} as usual;
+ * closing it, committing it or switching auto-commit is ignored, and {@code rollback()} rolls
+ * back only the operation's own savepoint.
+ */
+public final class DatabaseWriter {
+    private static final Logger logger = LoggerFactory.getLogger(DatabaseWriter.class);
+
+    public static final String QUEUE_WAIT = "<writer queue wait>";
+    public static final String TRANSACTION = "<writer transaction>";
+
+    private static final int MAX_GROUP_SIZE = 100;
+    private static final long POLL_MILLIS = 200;
+    private static final String SAVEPOINT = "payroll_write";
+
+    private static volatile DatabaseWriter instance;
+
+    private final BlockingQueue<Job<?>> queue = new LinkedBlockingQueue<>();
+    private final Thread thread;
+    private volatile boolean running = true;
+
+    // Only touched by the writer thread
+    private Connection connection;
+    private Connection operationConnection;
+
+    private final AtomicInteger maxQueueDepth = new AtomicInteger();
+    private final LongAdder operations = new LongAdder();
+    private final LongAdder failedOperations = new LongAdder();
+    private final LongAdder commits = new LongAdder();
+    private final LongAdder failedCommits = new LongAdder();
+    private final LongAdder committedOperations = new LongAdder();
+    private final LatencyHistogram commitLatency = new LatencyHistogram();
+    private final LatencyHistogram transactionLatency = new LatencyHistogram();
+    private final LongAccumulator maxCommitNanos = new LongAccumulator(Math::max, 0);
+
+    /**
+     * Queue depth and latencies of the writer; times are in milliseconds
+     */
+    public record Stats(int queueDepth, int maxQueueDepth, long operations, long failedOperations,
+                        long commits, long failedCommits, double meanGroupSize,
+                        double commitP50Millis, double commitP95Millis, double commitMaxMillis,
+                        double transactionP95Millis) {}
+
+    private static final class Job<T> {
+        private final DatabaseConfig.DatabaseOperation<T> operation;
+        private final CompletableFuture<T> result = new CompletableFuture<>();
+        private final long queuedAt = System.nanoTime();
+        private T value;
+
+        Job(DatabaseConfig.DatabaseOperation<T> operation) {
+            this.operation = operation;
+        }
+
+        void run() throws SQLException {
+            value = operation.execute();
+        }
+
+        void complete() {
+            result.complete(value);
+        }
+
+        void fail(Throwable cause) {
+            result.completeExceptionally(cause);
+        }
+    }
+
+    private DatabaseWriter() {
+        thread = new Thread(this::run, "PayrollDbWriter");
+        thread.setDaemon(true);
+        thread.start();
+        logger.info("Database writer thread started");
+    }
+
+    static synchronized DatabaseWriter getInstance() {
+        if (instance == null) {
+            instance = new DatabaseWriter();
+        }
+        return instance;
+    }
+
+    /**
+     * Stop the writer once the queued operations are committed.
+     */
+    static synchronized void shutdownInstance() {
+        if (instance != null) {
+            instance.shutdown();
+            instance = null;
+        }
+    }
+
+    /**
+     * The connection of the operation running on the current thread, or null when the
+     * current thread is not the writer.
+     */
+    static Connection currentConnection() {
+        DatabaseWriter writer = instance;
+        if (writer == null || Thread.currentThread() != writer.thread || writer.operationConnection == null) {
+            return null;
+        }
+        return QueryStatistics.isEnabled() ? QueryStatistics.wrap(writer.operationConnection) : writer.operationConnection;
+    }
+
+    /**
+     * Queue the operation and wait for the commit of its group. On the writer thread the
+     * operation runs straight away, inside the operation that called it.
+     */
+    <T> T write(DatabaseConfig.DatabaseOperation<T> operation) throws SQLException {
+        if (Thread.currentThread() == thread) {
+            return operation.execute();
+        }
+        if (!running) {
+            throw new SQLException("Database writer is shut down");
+        }
+        Job<T> job = new Job<>(operation);
+        queue.add(job);
+        maxQueueDepth.accumulateAndGet(queue.size(), Math::max);
+        try {
+            return job.result.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLException("Interrupted while waiting for a database write", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof SQLException sqlException) {
+                throw sqlException;
+            }
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw new SQLException(cause.getMessage(), cause);
+        }
+    }
+
+    public Stats getStats() {
+        long commitCount = commits.sum();
+        return new Stats(queue.size(), maxQueueDepth.get(), operations.sum(), failedOperations.sum(),
+            commitCount, failedCommits.sum(),
+            commitCount == 0 ? 0 : (double) committedOperations.sum() / commitCount,
+            commitLatency.percentile(50) / 1000.0, commitLatency.percentile(95) / 1000.0,
+            maxCommitNanos.get() / 1_000_000.0, transactionLatency.percentile(95) / 1000.0);
+    }
+
+    private void shutdown() {
+        running = false;
+        try {
+            thread.join(TimeUnit.SECONDS.toMillis(30));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        Stats stats = getStats();
+        logger.info("Database writer stopped after {} commits of {} operations (commit p95 {} ms)",
+            stats.commits(), stats.operations(), String.format("%.2f", stats.commitP95Millis()));
+    }
+
+    private void run() {
+        List<Job<?>> group = new ArrayList<>(MAX_GROUP_SIZE);
+        while (running || !queue.isEmpty()) {
+            try {
+                Job<?> first = queue.poll(POLL_MILLIS, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                group.add(first);
+                queue.drainTo(group, MAX_GROUP_SIZE - 1);
+                commitGroup(group);
+            } catch (InterruptedException e) {
+                logger.warn("Database writer interrupted");
+                break;
+            } catch (RuntimeException | Error e) {
+                logger.error("Unexpected error in database writer: {}", e.getMessage(), e);
+                group.forEach(job -> job.fail(e));
+            } finally {
+                group.clear();
+            }
+        }
+        closeConnection();
+        Job<?> left;
+        while ((left = queue.poll()) != null) {
+            left.fail(new SQLException("Database writer is shut down"));
+        }
+    }
+
+    /**
+     * Run the group in one transaction and release its callers after the commit.
+     */
+    private void commitGroup(List<Job<?>> group) {
+        long start = System.nanoTime();
+        if (QueryStatistics.isEnabled()) {
+            for (Job<?> job : group) {
+                QueryStatistics.record(QUEUE_WAIT, start - job.queuedAt, 0, null);
+            }
+        }
+        List<Job<?>> succeeded = new ArrayList<>(group.size());
+        try (DomainEventBus.Batch events = DomainEventBus.batch()) {
+            Connection conn = null;
+            try {
+                conn = connection();
+                execute(conn, "BEGIN IMMEDIATE");
+                for (Job<?> job : group) {
+                    if (runInSavepoint(conn, job)) {
+                        succeeded.add(job);
+                    }
+                }
+                long commitStart = System.nanoTime();
+                execute(conn, "COMMIT");
+                long now = System.nanoTime();
+                commitLatency.record((now - commitStart) / 1000);
+                maxCommitNanos.accumulate(now - commitStart);
+                transactionLatency.record((now - start) / 1000);
+                commits.increment();
+                committedOperations.add(succeeded.size());
+                if (QueryStatistics.isEnabled()) {
+                    QueryStatistics.record(TRANSACTION, now - start, succeeded.size(), null);
+                }
+            } catch (SQLException e) {
+                logger.error("Database write group of {} operations failed: {}", group.size(), e.getMessage(), e);
+                failedCommits.increment();
+                rollbackQuietly(conn);
+                events.discard();
+                if (QueryStatistics.isEnabled()) {
+                    QueryStatistics.record(TRANSACTION, System.nanoTime() - start, 0, e);
+                }
+                group.forEach(job -> job.fail(e)); // no-op for jobs that already failed on their own
+                return;
+            }
+        }
+        succeeded.forEach(Job::complete);
+    }
+
+    /**
+     * Run one operation inside a savepoint; a failing operation is rolled back on its own.
+     * @return whether the operation succeeded
+     * @throws SQLException if the savepoint itself cannot be handled and the transaction is lost
+     */
+    private boolean runInSavepoint(Connection conn, Job<?> job) throws SQLException {
+        execute(conn, "SAVEPOINT " + SAVEPOINT);
+        try (DomainEventBus.Batch events = DomainEventBus.batch()) {
+            operationConnection = operationConnection(conn, events);
+            try {
+                job.run();
+            } catch (Exception | Error e) {
+                failedOperations.increment();
+                job.fail(e);
+                events.discard();
+                execute(conn, "ROLLBACK TO " + SAVEPOINT);
+                execute(conn, "RELEASE " + SAVEPOINT);
+                return false;
+            } finally {
+                operationConnection = null;
+            }
+        }
+        operations.increment();
+        execute(conn, "RELEASE " + SAVEPOINT);
+        return true;
+    }
+
+    private Connection connection() throws SQLException {
+        if (connection == null || connection.isClosed()) {
+            connection = DatabaseConfig.openWriterConnection();
+        }
+        return connection;
+    }
+
+    private void rollbackQuietly(Connection conn) {
+        if (conn == null) {
+            return;
+        }
+        try {
+            if (!conn.isClosed()) {
+                execute(conn, "ROLLBACK");
+            }
+        } catch (SQLException e) {
+            // No transaction left to roll back; start over with a fresh connection
+            logger.debug("Rollback after failed write group: {}", e.getMessage());
+            closeConnection();
+        }
+    }
+
+    private void closeConnection() {
+        if (connection != null) {
+            try {
+                connection.close();
+            } catch (SQLException e) {
+                logger.warn("Error closing database writer connection: {}", e.getMessage());
+            }
+            connection = null;
+        }
+    }
+
+    private static void execute(Connection conn, String sql) throws SQLException {
+        try (Statement stmt = conn.createStatement()) {
+            stmt.execute(sql);
+        }
+    }
+
+    /**
+     * View of the writer connection handed to an operation: it cannot end the group's transaction,
+     * and rolling it back also drops the events the operation published.
+     */
+    private static Connection operationConnection(Connection conn, DomainEventBus.Batch events) {
+        return (Connection) Proxy.newProxyInstance(DatabaseWriter.class.getClassLoader(),
+            new Class<?>[] {Connection.class}, (proxy, method, args) -> {
+                switch (method.getName()) {
+                    case "close", "commit", "setAutoCommit" -> {
+                        return null;
+                    }
+                    case "getAutoCommit" -> {
+                        return false;
+                    }
+                    case "rollback" -> {
+                        if (args == null || args.length == 0) {
+                            events.discard();
+                            execute(conn, "ROLLBACK TO " + SAVEPOINT);
+                            return null;
+                        }
+                    }
+                    case "unwrap" -> {
+                        if (args[0] == Connection.class) {
+                            return proxy;
+                        }
+                    }
+                    default -> {
+                    }
+                }
+                try {
+                    return method.invoke(conn, args);
+                } catch (InvocationTargetException e) {
+                    throw e.getCause();
+                }
+            });
+    }
+}
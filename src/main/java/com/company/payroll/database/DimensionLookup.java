@@ -0,0 +1,148 @@
+package com.company.payroll.database;
+
+import com.company.payroll.events.DomainEventBus;
+import com.company.payroll.events.DomainEventBus.Entity;
+import com.company.payroll.exception.DataAccessException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Key and label lists of the values the filter combos offer, read with one projected
+ * {@code SELECT} per dimension instead of hydrating whole entities just to collect names.
+ * <p>
+ * Lists are cached until a write can change them: dimensions backed by a
+ * {@link DomainEventBus} entity are dropped as soon as that entity's changes are published,
+ * the others by the DAO calling {@link #dataChanged(Dimension)}. A list read while a write
+ * lands is not kept.
+ */
+public final class DimensionLookup {
+    private static final Logger logger = LoggerFactory.getLogger(DimensionLookup.class);
+
+    /**
+     * Lookup lists and the query projecting each; the first column is the key, the second the label
+     */
+    public enum Dimension {
+        /** Customers named on loads */
+        CUSTOMERS(Entity.LOAD, """
+            SELECT DISTINCT customer, customer FROM loads
+            WHERE customer IS NOT NULL AND customer <> ''
+            ORDER BY customer COLLATE NOCASE
+            """),
+        /** Owner operators and company drivers by id */
+        DRIVERS(Entity.EMPLOYEE, """
+            SELECT id, name FROM employees
+            WHERE driver_type IN ('OWNER_OPERATOR', 'COMPANY_DRIVER') AND name IS NOT NULL AND name <> ''
+            ORDER BY name COLLATE NOCASE
+            """),
+        /** Driver names as imported on fuel transactions */
+        FUEL_DRIVERS(Entity.FUEL_TRANSACTION, """
+            SELECT DISTINCT driver_name, driver_name FROM fuel_transactions
+            WHERE driver_name IS NOT NULL AND TRIM(driver_name) <> ''
+            ORDER BY driver_name COLLATE NOCASE
+            """),
+        /** Vendors of company expenses */
+        VENDORS(null, """
+            SELECT DISTINCT vendor, vendor FROM company_expenses
+            WHERE vendor IS NOT NULL AND vendor <> ''
+            ORDER BY vendor COLLATE NOCASE
+            """);
+
+        private final Entity entity;
+        private final String sql;
+
+        Dimension(Entity entity, String sql) {
+            this.entity = entity;
+            this.sql = sql;
+        }
+    }
+
+    /**
+     * One value of a dimension; combos display the label
+     */
+    public record Entry(String key, String label) {
+        @Override
+        public String toString() {
+            return label;
+        }
+    }
+
+    private record Cached(long generation, List<Entry> entries) {}
+
+    private static final Map<Dimension, Cached> cache = new ConcurrentHashMap<>();
+    private static final Map<Dimension, AtomicLong> generations = new EnumMap<>(Dimension.class);
+
+    static {
+        for (Dimension dimension : Dimension.values()) {
+            generations.put(dimension, new AtomicLong());
+            if (dimension.entity != null) {
+                DomainEventBus.onPublish(dimension.entity, () -> dataChanged(dimension));
+            }
+        }
+    }
+
+    private DimensionLookup() {
+    }
+
+    /**
+     * Entries of the dimension, from the cache when no write changed them since the last read
+     */
+    public static List<Entry> get(Dimension dimension) {
+        AtomicLong generation = generations.get(dimension);
+        long current = generation.get();
+        Cached cached = cache.get(dimension);
+        if (cached != null && cached.generation() == current) {
+            return cached.entries();
+        }
+
+        List<Entry> entries = new ArrayList<>();
+        long start = System.nanoTime();
+        try (Connection conn = DatabaseConfig.getReadConnection();
+             PreparedStatement ps = conn.prepareStatement(dimension.sql);
+             ResultSet rs = ps.executeQuery()) {
+            while (rs.next()) {
+                entries.add(new Entry(rs.getString(1), rs.getString(2)));
+            }
+        } catch (SQLException e) {
+            logger.error("Error reading {} lookup: {}", dimension, e.getMessage(), e);
+            throw new DataAccessException("Error reading " + dimension + " lookup", e);
+        }
+        entries = Collections.unmodifiableList(entries);
+        if (generation.get() == current) {
+            cache.put(dimension, new Cached(current, entries));
+        }
+        logger.debug("Read {} {} in {} ms", entries.size(), dimension, (System.nanoTime() - start) / 1_000_000);
+        return entries;
+    }
+
+    /**
+     * Labels of the dimension in display order
+     */
+    public static List<String> labels(Dimension dimension) {
+        List<Entry> entries = get(dimension);
+        List<String> labels = new ArrayList<>(entries.size());
+        for (Entry entry : entries) {
+            labels.add(entry.label());
+        }
+        return labels;
+    }
+
+    /**
+     * Called after a write that can change the dimension.
+     */
+    public static void dataChanged(Dimension dimension) {
+        generations.get(dimension).incrementAndGet();
+        cache.remove(dimension);
+    }
+}
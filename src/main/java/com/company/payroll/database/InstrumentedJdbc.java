@@ -0,0 +1,290 @@
+package com.company.payroll.database;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Dynamic proxies around a pooled connection, its statements and result sets that book
+ * every execution in {@link QueryStatistics}.
+ * <p>
+ * A query is booked once its result set is closed, or its statement or connection is,
+ * so the time spent stepping through the rows counts towards its latency. Updates and
+ * batches are booked as soon as they return.
+ */
+final class InstrumentedJdbc {
+
+    private InstrumentedJdbc() {
+    }
+
+    static Connection connection(Connection delegate) {
+        ConnectionHandler handler = new ConnectionHandler(delegate);
+        handler.proxy = (Connection) Proxy.newProxyInstance(InstrumentedJdbc.class.getClassLoader(),
+            new Class<?>[] {Connection.class}, handler);
+        return handler.proxy;
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * One execution being booked: execution time plus the time spent fetching its rows
+     */
+    private static final class Execution {
+        private final String shape;
+        private long nanos;
+        private long rows;
+        private boolean booked;
+
+        Execution(String shape, long nanos) {
+            this.shape = shape;
+            this.nanos = nanos;
+        }
+
+        void book() {
+            if (!booked) {
+                booked = true;
+                QueryStatistics.record(shape, nanos, rows, null);
+            }
+        }
+    }
+
+    private static final class ConnectionHandler implements InvocationHandler {
+        private final Connection delegate;
+        private final List<StatementHandler> statements = new ArrayList<>();
+        private Connection proxy;
+
+        ConnectionHandler(Connection delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "prepareStatement", "prepareCall" -> {
+                    Statement statement = (Statement) InstrumentedJdbc.invoke(delegate, method, args);
+                    return statement(method.getReturnType(), statement, QueryStatistics.normalize((String) args[0]));
+                }
+                case "createStatement" -> {
+                    Statement statement = (Statement) InstrumentedJdbc.invoke(delegate, method, args);
+                    return statement(Statement.class, statement, null);
+                }
+                case "close" -> {
+                    synchronized (statements) {
+                        statements.forEach(StatementHandler::bookOpenExecution);
+                        statements.clear();
+                    }
+                    return InstrumentedJdbc.invoke(delegate, method, args);
+                }
+                default -> {
+                    return InstrumentedJdbc.invoke(delegate, method, args);
+                }
+            }
+        }
+
+        private Object statement(Class<?> type, Statement statement, String shape) {
+            StatementHandler handler = new StatementHandler(this, statement, shape);
+            synchronized (statements) {
+                statements.add(handler);
+            }
+            Class<?> iface = type == CallableStatement.class ? CallableStatement.class
+                : type == PreparedStatement.class ? PreparedStatement.class : Statement.class;
+            handler.proxy = Proxy.newProxyInstance(InstrumentedJdbc.class.getClassLoader(), new Class<?>[] {iface}, handler);
+            return handler.proxy;
+        }
+
+        void closed(StatementHandler statement) {
+            synchronized (statements) {
+                statements.remove(statement);
+            }
+        }
+    }
+
+    private static final class StatementHandler implements InvocationHandler {
+        private final ConnectionHandler connection;
+        private final Statement delegate;
+        /** Shape of a prepared statement, or null for a plain statement that gets its SQL per call */
+        private final String preparedShape;
+        private String batchShape;
+        private Execution open;
+        private Execution pendingResults;
+        private Object proxy;
+
+        StatementHandler(ConnectionHandler connection, Statement delegate, String preparedShape) {
+            this.connection = connection;
+            this.delegate = delegate;
+            this.preparedShape = preparedShape;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "executeQuery" -> {
+                    String shape = shapeOf(args);
+                    bookOpenExecution();
+                    long start = System.nanoTime();
+                    ResultSet rs = (ResultSet) timed(shape, start, method, args);
+                    open = new Execution(shape, System.nanoTime() - start);
+                    return resultSet(rs, open);
+                }
+                case "executeUpdate", "executeLargeUpdate" -> {
+                    String shape = shapeOf(args);
+                    bookOpenExecution();
+                    long start = System.nanoTime();
+                    Number updated = (Number) timed(shape, start, method, args);
+                    QueryStatistics.record(shape, System.nanoTime() - start, updated.longValue(), null);
+                    return updated;
+                }
+                case "execute" -> {
+                    String shape = shapeOf(args);
+                    bookOpenExecution();
+                    long start = System.nanoTime();
+                    boolean hasResults = (Boolean) timed(shape, start, method, args);
+                    Execution execution = new Execution(shape, System.nanoTime() - start);
+                    if (hasResults) {
+                        pendingResults = execution;
+                    } else {
+                        execution.rows = Math.max(0, delegate.getUpdateCount());
+                        execution.book();
+                    }
+                    return hasResults;
+                }
+                case "getResultSet" -> {
+                    ResultSet rs = (ResultSet) InstrumentedJdbc.invoke(delegate, method, args);
+                    if (rs == null || pendingResults == null) {
+                        return rs;
+                    }
+                    open = pendingResults;
+                    pendingResults = null;
+                    return resultSet(rs, open);
+                }
+                case "addBatch" -> {
+                    if (args != null && args.length == 1 && args[0] instanceof String sql) {
+                        batchShape = QueryStatistics.normalize(sql);
+                    }
+                    return InstrumentedJdbc.invoke(delegate, method, args);
+                }
+                case "executeBatch", "executeLargeBatch" -> {
+                    String shape = preparedShape != null ? preparedShape : batchShape != null ? batchShape : "<batch>";
+                    bookOpenExecution();
+                    long start = System.nanoTime();
+                    Object counts = timed(shape, start, method, args);
+                    QueryStatistics.record(shape, System.nanoTime() - start, updateCount(counts), null);
+                    return counts;
+                }
+                case "getConnection" -> {
+                    return connection.proxy;
+                }
+                case "close" -> {
+                    bookOpenExecution();
+                    connection.closed(this);
+                    return InstrumentedJdbc.invoke(delegate, method, args);
+                }
+                default -> {
+                    return InstrumentedJdbc.invoke(delegate, method, args);
+                }
+            }
+        }
+
+        private String shapeOf(Object[] args) {
+            if (preparedShape != null) {
+                return preparedShape;
+            }
+            return args != null && args.length > 0 && args[0] instanceof String sql
+                ? QueryStatistics.normalize(sql) : "<unknown>";
+        }
+
+        /**
+         * Run the delegate call, booking it as an error under the shape if it throws.
+         */
+        private Object timed(String shape, long start, Method method, Object[] args) throws Throwable {
+            try {
+                return InstrumentedJdbc.invoke(delegate, method, args);
+            } catch (SQLException e) {
+                QueryStatistics.record(shape, System.nanoTime() - start, 0, e);
+                throw e;
+            }
+        }
+
+        void bookOpenExecution() {
+            if (open != null) {
+                open.book();
+                open = null;
+            }
+            if (pendingResults != null) {
+                pendingResults.book();
+                pendingResults = null;
+            }
+        }
+
+        private Object resultSet(ResultSet rs, Execution execution) {
+            return Proxy.newProxyInstance(InstrumentedJdbc.class.getClassLoader(), new Class<?>[] {ResultSet.class},
+                new ResultSetHandler(this, rs, execution));
+        }
+
+        private static long updateCount(Object counts) {
+            long total = 0;
+            if (counts instanceof int[] ints) {
+                for (int count : ints) {
+                    total += Math.max(0, count);
+                }
+            } else if (counts instanceof long[] longs) {
+                for (long count : longs) {
+                    total += Math.max(0, count);
+                }
+            }
+            return total;
+        }
+    }
+
+    private static final class ResultSetHandler implements InvocationHandler {
+        private final StatementHandler statement;
+        private final ResultSet delegate;
+        private final Execution execution;
+
+        ResultSetHandler(StatementHandler statement, ResultSet delegate, Execution execution) {
+            this.statement = statement;
+            this.delegate = delegate;
+            this.execution = execution;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "next" -> {
+                    long start = System.nanoTime();
+                    boolean hasRow = (Boolean) InstrumentedJdbc.invoke(delegate, method, args);
+                    execution.nanos += System.nanoTime() - start;
+                    if (hasRow) {
+                        execution.rows++;
+                    }
+                    return hasRow;
+                }
+                case "close" -> {
+                    execution.book();
+                    return InstrumentedJdbc.invoke(delegate, method, args);
+                }
+                case "getStatement" -> {
+                    return statement.proxy;
+                }
+                default -> {
+                    return InstrumentedJdbc.invoke(delegate, method, args);
+                }
+            }
+        }
+    }
+}
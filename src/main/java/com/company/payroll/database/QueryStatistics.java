@@ -0,0 +1,202 @@
+package com.company.payroll.database;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.PrintWriter;
+import java.io.Writer;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Pattern;
+
+/**
+ * Per-query timings of the SQL the application runs through {@link DatabaseConfig}.
+ * <p>
+ * While recording is enabled every connection handed out is instrumented, and each statement
+ * is booked under its normalized shape (literals replaced by {@code ?}, IN lists collapsed,
+ * whitespace folded) with:
+ * <ul>
+ *   <li>call, error and row counts,</li>
+ *   <li>a latency histogram covering execution and fetching of the rows,</li>
+ *   <li>the count and time of calls that failed with SQLITE_BUSY.</li>
+ * </ul>
+ * Waiting for a pooled connection and the sleeps between SQLITE_BUSY retries are booked under
+ * the pseudo-shapes {@link #POOL_WAIT} and {@link #BUSY_RETRY}, the writer thread's queue wait and
+ * group transactions under {@link DatabaseWriter#QUEUE_WAIT} and {@link DatabaseWriter#TRANSACTION}.
+ * <p>
+ * Recording starts enabled when the {@value #ENABLED_PROPERTY} system property is true and can be
+ * switched at runtime; when disabled, connections are not wrapped at all.
+ */
+public final class QueryStatistics {
+    private static final Logger logger = LoggerFactory.getLogger(QueryStatistics.class);
+
+    public static final String ENABLED_PROPERTY = "payroll.db.stats";
+    public static final String POOL_WAIT = "<connection pool wait>";
+    public static final String BUSY_RETRY = "<SQLITE_BUSY retry>";
+
+    private static final int MAX_MEMOIZED_SQL = 5000;
+    private static final Pattern STRING_LITERAL = Pattern.compile("'(?:[^']|'')*'");
+    private static final Pattern NUMBER_LITERAL = Pattern.compile("\\b\\d+(?:\\.\\d+)?\\b");
+    private static final Pattern IN_LIST = Pattern.compile("(?i)\\bIN\\s*\\(\\s*\\?(?:\\s*,\\s*\\?)*\\s*\\)");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private static volatile boolean enabled = Boolean.getBoolean(ENABLED_PROPERTY);
+    private static final Map<String, Shape> shapes = new ConcurrentHashMap<>();
+    private static final Map<String, String> normalized = new ConcurrentHashMap<>();
+
+    /**
+     * Totals of one query shape; times are in milliseconds
+     */
+    public record QueryStats(String sql, long calls, long errors, long rows, double totalMillis,
+                             double p50Millis, double p95Millis, double p99Millis, double maxMillis,
+                             long busyErrors, double busyMillis) {
+        public double meanMillis() {
+            return calls == 0 ? 0 : totalMillis / calls;
+        }
+    }
+
+    private static final class Shape {
+        final LongAdder calls = new LongAdder();
+        final LongAdder errors = new LongAdder();
+        final LongAdder rows = new LongAdder();
+        final LongAdder nanos = new LongAdder();
+        final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
+        final LongAdder busyErrors = new LongAdder();
+        final LongAdder busyNanos = new LongAdder();
+        final LatencyHistogram histogram = new LatencyHistogram();
+    }
+
+    private QueryStatistics() {
+    }
+
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Switch recording on or off; connections already handed out keep their current mode.
+     */
+    public static void setEnabled(boolean on) {
+        if (enabled != on) {
+            enabled = on;
+            logger.info("Query statistics {}", on ? "enabled" : "disabled");
+        }
+    }
+
+    public static void reset() {
+        shapes.clear();
+        normalized.clear();
+    }
+
+    /**
+     * All recorded shapes, most total time first
+     */
+    public static List<QueryStats> snapshot() {
+        List<QueryStats> stats = new ArrayList<>(shapes.size());
+        shapes.forEach((sql, shape) -> stats.add(new QueryStats(sql,
+            shape.calls.sum(), shape.errors.sum(), shape.rows.sum(), millis(shape.nanos.sum()),
+            shape.histogram.percentile(50) / 1000.0, shape.histogram.percentile(95) / 1000.0,
+            shape.histogram.percentile(99) / 1000.0, millis(shape.maxNanos.get()),
+            shape.busyErrors.sum(), millis(shape.busyNanos.sum()))));
+        stats.sort(Comparator.comparingDouble(QueryStats::totalMillis).reversed());
+        return stats;
+    }
+
+    /**
+     * Statements executed since the last reset, leaving out the pseudo-shapes
+     */
+    public static long statementCount() {
+        long count = 0;
+        for (Map.Entry<String, Shape> entry : shapes.entrySet()) {
+            if (!entry.getKey().startsWith("<")) {
+                count += entry.getValue().calls.sum();
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Write the current snapshot as CSV, one line per shape.
+     */
+    public static void writeCsv(Writer out) {
+        PrintWriter writer = new PrintWriter(out);
+        writer.println("SQL,Calls,Errors,Rows,Total ms,Mean ms,p50 ms,p95 ms,p99 ms,Max ms,Busy errors,Busy ms");
+        for (QueryStats s : snapshot()) {
+            writer.printf(Locale.ROOT, "\"%s\",%d,%d,%d,%.3f,%.3f,%.3f,%.3f,%.3f,%.3f,%d,%.3f%n",
+                s.sql().replace("\"", "\"\""), s.calls(), s.errors(), s.rows(), s.totalMillis(), s.meanMillis(),
+                s.p50Millis(), s.p95Millis(), s.p99Millis(), s.maxMillis(), s.busyErrors(), s.busyMillis());
+        }
+        writer.flush();
+    }
+
+    /**
+     * Shape of a statement: literals become ?, IN lists a single ?, whitespace single spaces.
+     */
+    public static String normalize(String sql) {
+        if (sql == null) {
+            return "<unknown>";
+        }
+        String shape = normalized.get(sql);
+        if (shape != null) {
+            return shape;
+        }
+        shape = STRING_LITERAL.matcher(sql).replaceAll("?");
+        shape = NUMBER_LITERAL.matcher(shape).replaceAll("?");
+        shape = IN_LIST.matcher(shape).replaceAll("IN (?)");
+        shape = WHITESPACE.matcher(shape).replaceAll(" ").trim();
+        if (normalized.size() < MAX_MEMOIZED_SQL) {
+            normalized.put(sql, shape);
+        }
+        return shape;
+    }
+
+    static Connection wrap(Connection connection) {
+        return InstrumentedJdbc.connection(connection);
+    }
+
+    static void recordPoolWait(long nanos) {
+        record(POOL_WAIT, nanos, 0, null);
+    }
+
+    static void recordBusyRetry(long nanos) {
+        if (enabled) {
+            record(BUSY_RETRY, nanos, 0, null);
+        }
+    }
+
+    /**
+     * Book one finished call of a statement under its shape.
+     */
+    static void record(String shapeSql, long nanos, long rows, SQLException error) {
+        Shape shape = shapes.computeIfAbsent(shapeSql, s -> new Shape());
+        shape.calls.increment();
+        shape.rows.add(rows);
+        shape.nanos.add(nanos);
+        shape.maxNanos.accumulate(nanos);
+        shape.histogram.record(nanos / 1000);
+        if (error != null) {
+            shape.errors.increment();
+            if (isBusy(error)) {
+                shape.busyErrors.increment();
+                shape.busyNanos.add(nanos);
+            }
+        }
+    }
+
+    static boolean isBusy(SQLException e) {
+        return e.getMessage() != null
+            && (e.getMessage().contains("SQLITE_BUSY") || e.getMessage().contains("database is locked"));
+    }
+
+    private static double millis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+}
@@ -0,0 +1,187 @@
+package com.company.payroll.database;
+
+import javafx.animation.KeyFrame;
+import javafx.animation.Timeline;
+import javafx.beans.property.ReadOnlyObjectWrapper;
+import javafx.collections.FXCollections;
+import javafx.geometry.Insets;
+import javafx.geometry.Pos;
+import javafx.scene.control.Alert;
+import javafx.scene.control.Button;
+import javafx.scene.control.ButtonType;
+import javafx.scene.control.CheckBox;
+import javafx.scene.control.Dialog;
+import javafx.scene.control.Label;
+import javafx.scene.control.TableCell;
+import javafx.scene.control.TableColumn;
+import javafx.scene.control.TableView;
+import javafx.scene.control.Tooltip;
+import javafx.scene.layout.HBox;
+import javafx.scene.layout.Priority;
+import javafx.scene.layout.Region;
+import javafx.scene.layout.VBox;
+import javafx.stage.FileChooser;
+import javafx.stage.Modality;
+import javafx.util.Duration;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToLongFunction;
+
+/**
+ * Diagnostics dialog listing the recorded {@link QueryStatistics}, refreshed every two seconds.
+ */
+public class QueryStatisticsDialog extends Dialog<Void> {
+    private static final Logger logger = LoggerFactory.getLogger(QueryStatisticsDialog.class);
+
+    private final TableView<QueryStatistics.QueryStats> table = new TableView<>();
+    private final Label summaryLabel = new Label();
+    private final Timeline refreshTimeline = new Timeline(new KeyFrame(Duration.seconds(2), e -> refresh()));
+
+    public QueryStatisticsDialog() {
+        setTitle("Database Performance");
+        setHeaderText("Query timings by SQL shape and writer thread throughput");
+        initModality(Modality.NONE);
+        setResizable(true);
+
+        CheckBox recordCheck = new CheckBox("Record query statistics");
+        recordCheck.setSelected(QueryStatistics.isEnabled());
+        recordCheck.setTooltip(new Tooltip("Connections opened while recording are timed; turn off for no overhead"));
+        recordCheck.selectedProperty().addListener((obs, was, on) -> QueryStatistics.setEnabled(on));
+
+        Button resetButton = new Button("Reset");
+        resetButton.setOnAction(e -> {
+            QueryStatistics.reset();
+            refresh();
+        });
+        Button exportButton = new Button("Export CSV...");
+        exportButton.setOnAction(e -> exportToCSV());
+
+        Region spacer = new Region();
+        HBox.setHgrow(spacer, Priority.ALWAYS);
+        HBox controls = new HBox(10, recordCheck, spacer, resetButton, exportButton);
+        controls.setAlignment(Pos.CENTER_LEFT);
+
+        TableColumn<QueryStatistics.QueryStats, String> sqlColumn = new TableColumn<>("SQL");
+        sqlColumn.setCellValueFactory(data -> new ReadOnlyObjectWrapper<>(data.getValue().sql()));
+        sqlColumn.setPrefWidth(420);
+        sqlColumn.setCellFactory(col -> new TableCell<>() {
+            @Override
+            protected void updateItem(String sql, boolean empty) {
+                super.updateItem(sql, empty);
+                setText(empty ? null : sql);
+                setTooltip(empty || sql == null ? null : new Tooltip(sql));
+            }
+        });
+
+        table.getColumns().add(sqlColumn);
+        table.getColumns().add(countColumn("Calls", QueryStatistics.QueryStats::calls));
+        table.getColumns().add(countColumn("Errors", QueryStatistics.QueryStats::errors));
+        table.getColumns().add(countColumn("Rows", QueryStatistics.QueryStats::rows));
+        table.getColumns().add(millisColumn("Total ms", QueryStatistics.QueryStats::totalMillis));
+        table.getColumns().add(millisColumn("Mean ms", QueryStatistics.QueryStats::meanMillis));
+        table.getColumns().add(millisColumn("p50 ms", QueryStatistics.QueryStats::p50Millis));
+        table.getColumns().add(millisColumn("p95 ms", QueryStatistics.QueryStats::p95Millis));
+        table.getColumns().add(millisColumn("p99 ms", QueryStatistics.QueryStats::p99Millis));
+        table.getColumns().add(millisColumn("Max ms", QueryStatistics.QueryStats::maxMillis));
+        table.getColumns().add(countColumn("Busy", QueryStatistics.QueryStats::busyErrors));
+        table.getColumns().add(millisColumn("Busy ms", QueryStatistics.QueryStats::busyMillis));
+        table.setPlaceholder(new Label("No queries recorded yet"));
+        table.setPrefSize(1100, 500);
+        VBox.setVgrow(table, Priority.ALWAYS);
+
+        VBox content = new VBox(10, controls, table, summaryLabel);
+        content.setPadding(new Insets(10));
+        getDialogPane().setContent(content);
+        getDialogPane().getButtonTypes().add(ButtonType.CLOSE);
+
+        refresh();
+        refreshTimeline.setCycleCount(Timeline.INDEFINITE);
+        setOnShown(e -> refreshTimeline.play());
+        setOnHidden(e -> refreshTimeline.stop());
+    }
+
+    private void refresh() {
+        List<QueryStatistics.QueryStats> stats = QueryStatistics.snapshot();
+        QueryStatistics.QueryStats selected = table.getSelectionModel().getSelectedItem();
+        table.setItems(FXCollections.observableArrayList(stats));
+        if (selected != null) {
+            stats.stream().filter(s -> s.sql().equals(selected.sql())).findFirst()
+                .ifPresent(s -> table.getSelectionModel().select(s));
+        }
+        long calls = 0;
+        double totalMillis = 0;
+        for (QueryStatistics.QueryStats s : stats) {
+            if (!s.sql().startsWith("<")) {
+                calls += s.calls();
+                totalMillis += s.totalMillis();
+            }
+        }
+        DatabaseWriter.Stats writer = DatabaseConfig.getWriterStats();
+        summaryLabel.setText(String.format("%d query shapes, %,d calls, %,.1f ms in total%s%n"
+                + "Writer: %d queued (max %d), %,d commits of %.1f operations on average, commit p50 %.2f ms, "
+                + "p95 %.2f ms, max %.2f ms, %,d failed operations, %,d failed commits",
+            stats.size(), calls, totalMillis, QueryStatistics.isEnabled() ? "" : " (recording is off)",
+            writer.queueDepth(), writer.maxQueueDepth(), writer.commits(), writer.meanGroupSize(),
+            writer.commitP50Millis(), writer.commitP95Millis(), writer.commitMaxMillis(),
+            writer.failedOperations(), writer.failedCommits()));
+    }
+
+    private void exportToCSV() {
+        FileChooser fileChooser = new FileChooser();
+        fileChooser.setTitle("Export Query Statistics");
+        fileChooser.getExtensionFilters().add(new FileChooser.ExtensionFilter("CSV Files", "*.csv"));
+        fileChooser.setInitialFileName("query_statistics_" +
+            LocalDate.now().format(DateTimeFormatter.ofPattern("yyyy-MM-dd")) + ".csv");
+
+        File file = fileChooser.showSaveDialog(getDialogPane().getScene().getWindow());
+        if (file == null) {
+            return;
+        }
+        try (Writer writer = Files.newBufferedWriter(file.toPath(), StandardCharsets.UTF_8)) {
+            QueryStatistics.writeCsv(writer);
+            logger.info("Exported query statistics to {}", file);
+        } catch (IOException e) {
+            logger.error("Failed to export query statistics: {}", e.getMessage(), e);
+            Alert alert = new Alert(Alert.AlertType.ERROR, e.getMessage(), ButtonType.OK);
+            alert.setHeaderText("Export Failed");
+            alert.showAndWait();
+        }
+    }
+
+    private static TableColumn<QueryStatistics.QueryStats, Number> countColumn(
+            String title, ToLongFunction<QueryStatistics.QueryStats> value) {
+        return numberColumn(title, s -> value.applyAsLong(s), n -> String.format("%,d", n.longValue()));
+    }
+
+    private static TableColumn<QueryStatistics.QueryStats, Number> millisColumn(
+            String title, ToDoubleFunction<QueryStatistics.QueryStats> value) {
+        return numberColumn(title, s -> value.applyAsDouble(s), n -> String.format("%,.2f", n.doubleValue()));
+    }
+
+    private static TableColumn<QueryStatistics.QueryStats, Number> numberColumn(
+            String title, Function<QueryStatistics.QueryStats, Number> value, Function<Number, String> format) {
+        TableColumn<QueryStatistics.QueryStats, Number> column = new TableColumn<>(title);
+        column.setCellValueFactory(data -> new ReadOnlyObjectWrapper<>(value.apply(data.getValue())));
+        column.setCellFactory(col -> new TableCell<>() {
+            @Override
+            protected void updateItem(Number number, boolean empty) {
+                super.updateItem(number, empty);
+                setText(empty || number == null ? null : format.apply(number));
+            }
+        });
+        column.setStyle("-fx-alignment: CENTER-RIGHT;");
+        column.setPrefWidth(75);
+        return column;
+    }
+}
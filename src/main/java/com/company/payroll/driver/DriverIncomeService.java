@@ -1,5 +1,9 @@
 package com.company.payroll.driver;
 
+import com.company.payroll.analytics.FactStore;
+import com.company.payroll.analytics.FuelFacts;
+import com.company.payroll.analytics.Groups;
+import com.company.payroll.analytics.LoadFacts;
 import com.company.payroll.employees.Employee;
 import com.company.payroll.employees.EmployeeDAO;
 import com.company.payroll.loads.Load;
@@ -11,6 +15,7 @@ import com.company.payroll.payroll.PayrollRecurring;
 import com.company.payroll.payroll.PayrollAdvances;
 import com.company.payroll.payroll.PayrollOtherAdjustments;
 import com.company.payroll.payroll.PayrollEscrow;
+import com.company.payroll.services.RouteCache;
 import com.company.payroll.driver.GeocodingService;
 import com.company.payroll.driver.MileageCalculator;
 import org.slf4j.Logger;
@@ -20,7 +25,6 @@ import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.*;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 /**
@@ -42,8 +46,9 @@ public class DriverIncomeService {
     private final PayrollOtherAdjustments payrollOtherAdjustments;
     private final PayrollEscrow payrollEscrow;
     
-    // Cache for mileage calculations
-    private final Map<String, Double> mileageCache = new ConcurrentHashMap<>();
+    // Mileage by normalized route, shared by all instances and kept across restarts
+    private static final RouteCache<Double> mileageCache =
+        RouteCache.create("address-mileage", 5000, RouteCache.Codec.doubles());
     
     public DriverIncomeService(EmployeeDAO employeeDAO, LoadDAO loadDAO, 
                               FuelTransactionDAO fuelDAO, PayrollCalculator payrollCalculator) {
@@ -96,7 +101,7 @@ public class DriverIncomeService {
             data.setTotalLoads(payrollRow.loadCount);  // Use loadCount instead of numLoads
             
             // Fetch and process loads for detailed information
-            List<Load> loads = loadDAO.getByDriverAndDateRangeForFinancials(driver.getId(), startDate, endDate);
+            List<Load> loads = loadDAO.getByDriverAndDateRangeForFinancials(driver.getId(), startDate, endDate, false);
             processLoads(data, loads);
             
             // Set fuel data from payroll row
@@ -159,6 +164,11 @@ public class DriverIncomeService {
                     (existing, replacement) -> existing
                 ));
             
+            // Miles and gallons of every driver from the report fact store, one pass each
+            Groups milesByDriver = milesByDriver(startDate, endDate);
+            FuelFacts fuel = FactStore.getInstance().fuelTransactions(startDate, endDate);
+            Groups gallonsByDriver = fuel.quantityBy(FuelFacts.Key.DRIVER);
+            
             // Process each driver
             List<DriverIncomeData> allDriverData = new ArrayList<>();
             
@@ -197,13 +207,12 @@ public class DriverIncomeService {
                 data.setReimbursements(payrollRow.reimbursements);
                 data.setNetPay(payrollRow.netPay);
                 
-                // Fetch loads for mileage calculation
-                List<Load> loads = loadDAO.getByDriverAndDateRangeForFinancials(driver.getId(), startDate, endDate);
-                double totalMiles = 0;
-                for (Load load : loads) {
-                    totalMiles += calculateMiles(load.getPickUpLocation(), load.getDropLocation());
-                }
+                double totalMiles = milesByDriver.sumOf(driver.getId());
                 data.setTotalMiles(totalMiles);
+                double totalGallons = gallonsByDriver.sumOf(fuel.driverCode(driver.getName()));
+                if (totalGallons > 0 && totalMiles > 0) {
+                    data.setFuelEfficiency(totalMiles / totalGallons);
+                }
                 
                 allDriverData.add(data);
             }
@@ -213,6 +222,22 @@ public class DriverIncomeService {
         });
     }
     
+    /**
+     * Miles driven per driver id over the loads counted for driver income: delivered, paid
+     * or in-transit loads of the period, as LoadDAO.getByDriverAndDateRangeForFinancials
+     * selects them. Each distinct route is looked up once.
+     */
+    private Groups milesByDriver(LocalDate startDate, LocalDate endDate) {
+        LoadFacts financial = FactStore.getInstance().financialLoads(startDate, endDate);
+        LoadFacts loads = financial.where(row -> {
+            Load.Status status = financial.status(row);
+            return status == Load.Status.DELIVERED || status == Load.Status.PAID || status == Load.Status.IN_TRANSIT;
+        });
+        Map<Long, Double> routeMiles = new HashMap<>();
+        return loads.sumBy(LoadFacts.Key.DRIVER, row -> routeMiles.computeIfAbsent(loads.routeCode(row),
+            route -> calculateMiles(loads.pickUpLocation(row), loads.dropLocation(row))));
+    }
+    
     private DriverIncomeData createEmptyDriverIncomeData(Employee driver, LocalDate startDate, LocalDate endDate) {
         DriverIncomeData data = new DriverIncomeData(
             driver.getId(),
@@ -293,17 +318,18 @@ public class DriverIncomeService {
             return 0;
         }
         
-        String cacheKey = origin + "->" + destination;
+        String cacheKey = RouteCache.routeKey(origin, destination);
         
-        return mileageCache.computeIfAbsent(cacheKey, k -> {
+        Double miles = mileageCache.computeIfAbsent(cacheKey, k -> {
             try {
                 return mileageCalculator.calculateDistance(origin, destination);
             } catch (Exception e) {
                 logger.error("Failed to calculate miles from {} to {}", origin, destination, e);
-                // Fallback to estimated calculation
-                return estimateMiles(origin, destination);
+                return null;
             }
         });
+        // Fallback to estimated calculation, not cached so the route is retried later
+        return miles != null ? miles : estimateMiles(origin, destination);
     }
     
     private double estimateMiles(String origin, String destination) {
@@ -323,9 +349,14 @@ public class DriverIncomeService {
      * Get cache statistics
      */
     public Map<String, Object> getCacheStats() {
+        RouteCache.Stats cacheStats = mileageCache.getStats();
         Map<String, Object> stats = new HashMap<>();
-        stats.put("cacheSize", mileageCache.size());
-        stats.put("cachedRoutes", new ArrayList<>(mileageCache.keySet()));
+        stats.put("cacheSize", cacheStats.size());
+        stats.put("cachedRoutes", mileageCache.keys());
+        stats.put("hits", cacheStats.hits());
+        stats.put("diskHits", cacheStats.diskHits());
+        stats.put("misses", cacheStats.misses());
+        stats.put("evictions", cacheStats.evictions());
         return stats;
     }
 }
\ No newline at end of file
@@ -1,5 +1,6 @@
 package com.company.payroll.driver;
 
+import com.company.payroll.services.RouteCache;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import java.net.URLEncoder;
@@ -14,11 +15,14 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.JsonNode;
 
 /**
- * Service for geocoding addresses to coordinates
+ * Service for geocoding addresses to coordinates.
+ * Coordinates are cached by normalized address in a shared {@link RouteCache}.
  */
 public class GeocodingService {
     private static final Logger logger = LoggerFactory.getLogger(GeocodingService.class);
     private static final String NOMINATIM_API_URL = "https://nominatim.openstreetmap.org/search";
+    private static final RouteCache<Coordinates> coordinatesCache =
+        RouteCache.create("address-geocode", 5000, new CoordinatesCodec());
     private final HttpClient httpClient;
     private final ObjectMapper objectMapper;
     
@@ -40,6 +44,11 @@ public class GeocodingService {
     }
     
     public CompletableFuture<Coordinates> geocode(String address) {
+        String cacheKey = RouteCache.placeKey(address);
+        Coordinates cached = coordinatesCache.get(cacheKey);
+        if (cached != null) {
+            return CompletableFuture.completedFuture(cached);
+        }
         return CompletableFuture.supplyAsync(() -> {
             try {
                 String encodedAddress = URLEncoder.encode(address, StandardCharsets.UTF_8);
@@ -60,7 +69,9 @@ public class GeocodingService {
                         JsonNode location = root.get(0);
                         double lat = location.get("lat").asDouble();
                         double lon = location.get("lon").asDouble();
-                        return new Coordinates(lat, lon);
+                        Coordinates coordinates = new Coordinates(lat, lon);
+                        coordinatesCache.put(cacheKey, coordinates);
+                        return coordinates;
                     }
                 }
                 
@@ -71,4 +82,35 @@ public class GeocodingService {
             }
         });
     }
+    
+    /**
+     * Get hit, miss and eviction counts of the coordinates cache.
+     */
+    public static RouteCache.Stats getCacheStats() {
+        return coordinatesCache.getStats();
+    }
+    
+    /**
+     * Stores coordinates as "latitude,longitude"
+     */
+    private static final class CoordinatesCodec implements RouteCache.Codec<Coordinates> {
+        @Override
+        public String encode(Coordinates value) {
+            return value.latitude + "," + value.longitude;
+        }
+        
+        @Override
+        public Coordinates decode(String text) {
+            int comma = text.indexOf(',');
+            if (comma < 0) {
+                return null;
+            }
+            try {
+                return new Coordinates(Double.parseDouble(text.substring(0, comma)),
+                                       Double.parseDouble(text.substring(comma + 1)));
+            } catch (NumberFormatException e) {
+                return null;
+            }
+        }
+    }
 }
\ No newline at end of file
@@ -56,6 +56,7 @@ import java.util.*;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * Enhanced Driver Grid Tab with professional scheduling features
@@ -75,6 +76,7 @@ public class DriverGridTabEnhanced extends DriverGridTab {
     private final ObservableList<Employee> allDrivers = FXCollections.observableArrayList();
     private final ObservableList<String> allCustomers = FXCollections.observableArrayList();
     private final Map<String, List<LoadConflict>> conflictMap = new HashMap<>();
+    private final Set<Load> conflictedLoads = new HashSet<>();
     private LocalDate weekStart = LocalDate.now().with(DayOfWeek.SUNDAY);
     
     // DAOs
@@ -605,21 +607,16 @@ public class DriverGridTabEnhanced extends DriverGridTab {
             statusLabel.setText("Loading...");
         });
         
-        // Load data in background
+        // Load data in background, only the loads of the week on screen
+        LocalDate windowStart = weekStart;
         new Thread(() -> {
             try {
-                // Load all data
                 List<Employee> drivers = employeeDAO.getAll().stream()
                     .filter(Employee::isDriver)
                     .collect(Collectors.toList());
                 
-                List<Load> allLoads = loadDAO.getAll();
-                
-                // Fetch multiple locations for each load
-                for (Load load : allLoads) {
-                    List<LoadLocation> locations = loadDAO.getLoadLocations(load.getId());
-                    load.setLocations(locations);
-                }
+                // Locations come attached from one batched query
+                List<Load> allLoads = loadDAO.getByScheduleWindow(windowStart, windowStart.plusDays(6));
                 
                 Set<String> customers = allLoads.stream()
                     .map(Load::getCustomer)
@@ -642,6 +639,9 @@ public class DriverGridTabEnhanced extends DriverGridTab {
                 
                 // Update UI on JavaFX thread
                 Platform.runLater(() -> {
+                    if (!windowStart.equals(weekStart)) {
+                        return; // Week changed while loading, its own refresh is on the way
+                    }
                     allDrivers.setAll(drivers);
                     allCustomers.setAll(customers);
                     allEntries.setAll(entries);
@@ -667,54 +667,27 @@ public class DriverGridTabEnhanced extends DriverGridTab {
     
     private void detectConflicts() {
         conflictMap.clear();
+        conflictedLoads.clear();
         
         // Group entries by driver
-        Map<Employee, List<LoadScheduleEntry>> driverEntries = allEntries.stream()
-            .collect(Collectors.groupingBy(LoadScheduleEntry::getDriver));
+        Map<Employee, List<Load>> driverLoads = allEntries.stream()
+            .collect(Collectors.groupingBy(LoadScheduleEntry::getDriver,
+                Collectors.mapping(LoadScheduleEntry::getLoad, Collectors.toList())));
         
-        for (Map.Entry<Employee, List<LoadScheduleEntry>> entry : driverEntries.entrySet()) {
-            Employee driver = entry.getKey();
-            List<LoadScheduleEntry> driverLoads = entry.getValue();
+        for (Map.Entry<Employee, List<Load>> entry : driverLoads.entrySet()) {
             List<LoadConflict> conflicts = new ArrayList<>();
-            
-            // Check each pair of loads for conflicts
-            for (int i = 0; i < driverLoads.size(); i++) {
-                for (int j = i + 1; j < driverLoads.size(); j++) {
-                    Load load1 = driverLoads.get(i).getLoad();
-                    Load load2 = driverLoads.get(j).getLoad();
-                    
-                    if (hasTimeConflict(load1, load2)) {
-                        conflicts.add(new LoadConflict(load1, load2, "Schedule overlap"));
-                    }
-                }
+            for (ScheduleConflictDetector.Conflict c : ScheduleConflictDetector.findConflicts(entry.getValue())) {
+                conflicts.add(new LoadConflict(c.first(), c.second(), "Schedule overlap"));
+                conflictedLoads.add(c.first());
+                conflictedLoads.add(c.second());
             }
             
             if (!conflicts.isEmpty()) {
-                conflictMap.put(driver.getName(), conflicts);
+                conflictMap.put(entry.getKey().getName(), conflicts);
             }
         }
     }
     
-    private boolean hasTimeConflict(Load load1, Load load2) {
-        if (load1.getPickUpDate() == null || load1.getDeliveryDate() == null ||
-            load2.getPickUpDate() == null || load2.getDeliveryDate() == null) {
-            return false;
-        }
-        
-        LocalDateTime start1 = LocalDateTime.of(load1.getPickUpDate(), 
-            load1.getPickUpTime() != null ? load1.getPickUpTime() : LocalTime.MIDNIGHT);
-        LocalDateTime end1 = LocalDateTime.of(load1.getDeliveryDate(),
-            load1.getDeliveryTime() != null ? load1.getDeliveryTime() : LocalTime.MAX);
-        
-        LocalDateTime start2 = LocalDateTime.of(load2.getPickUpDate(),
-            load2.getPickUpTime() != null ? load2.getPickUpTime() : LocalTime.MIDNIGHT);
-        LocalDateTime end2 = LocalDateTime.of(load2.getDeliveryDate(),
-            load2.getDeliveryTime() != null ? load2.getDeliveryTime() : LocalTime.MAX);
-        
-        // Check for overlap
-        return !(end1.isBefore(start2) || end2.isBefore(start1));
-    }
-    
     private void applyFilters() {
         Predicate<LoadScheduleEntry> predicate = entry -> {
             Load load = entry.getLoad();
@@ -758,10 +731,7 @@ public class DriverGridTabEnhanced extends DriverGridTab {
             
             // Conflict filter
             if (showConflictsOnly.isSelected()) {
-                boolean hasConflict = conflictMap.containsKey(driver.getName()) &&
-                    conflictMap.get(driver.getName()).stream()
-                        .anyMatch(c -> c.load1.equals(load) || c.load2.equals(load));
-                if (!hasConflict) return false;
+                if (!conflictedLoads.contains(load)) return false;
             }
             
             // Unassigned filter
@@ -1316,13 +1286,7 @@ public class DriverGridTabEnhanced extends DriverGridTab {
             .distinct()
             .count();
         long conflicts = filteredEntries.stream()
-            .filter(entry -> {
-                Employee driver = entry.getDriver();
-                Load load = entry.getLoad();
-                return conflictMap.containsKey(driver.getName()) &&
-                    conflictMap.get(driver.getName()).stream()
-                        .anyMatch(c -> c.load1.equals(load) || c.load2.equals(load));
-            })
+            .filter(entry -> conflictedLoads.contains(entry.getLoad()))
             .count();
         long unassigned = filteredEntries.stream()
             .filter(entry -> entry.getDriver().getId() == -1)
@@ -1356,10 +1320,8 @@ public class DriverGridTabEnhanced extends DriverGridTab {
     private void navigateWeek(int direction) {
         weekStart = weekStart.plusWeeks(direction);
         weekPicker.setValue(weekStart);
-        // Force header refresh to show new dates
-        Platform.runLater(() -> {
-            updateWeekGrid();
-        });
+        // Only the displayed week is loaded, fetch the new one
+        refreshData();
     }
     
     private void navigateToToday() {
@@ -1427,11 +1389,11 @@ public class DriverGridTabEnhanced extends DriverGridTab {
     private void showBulkAssignDialog() {
         logger.debug("Opening driver assignment dialog");
         
-        // Get all unassigned loads
-        List<Load> unassignedLoads = allEntries.stream()
-            .filter(entry -> entry.getDriver().getId() == -1)
-            .map(LoadScheduleEntry::getLoad)
-            .filter(load -> load.getStatus() == Load.Status.BOOKED || load.getStatus() == Load.Status.ASSIGNED)
+        // Get all unassigned booked or assigned loads, not only those of the week on screen
+        List<Load> unassignedLoads = Stream.concat(
+                loadDAO.getByStatus(Load.Status.BOOKED).stream(),
+                loadDAO.getByStatus(Load.Status.ASSIGNED).stream())
+            .filter(load -> load.getDriver() == null)
             .sorted((l1, l2) -> {
                 // Sort by pickup date, then by load number
                 if (l1.getPickUpDate() != null && l2.getPickUpDate() != null) {
@@ -2367,9 +2329,7 @@ public class DriverGridTabEnhanced extends DriverGridTab {
         bar.setPickOnBounds(true); // Allow the bar itself to be clicked
         
         String color = LoadStatusUtil.colorFor(load.getStatus());
-        boolean hasConflict = conflictMap.containsKey(driver.getName()) &&
-            conflictMap.get(driver.getName()).stream()
-                .anyMatch(c -> c.load1.equals(load) || c.load2.equals(load));
+        boolean hasConflict = conflictedLoads.contains(load);
         
         if (hasConflict) {
             color = "#FFCDD2"; // Light red for conflicts with black text
@@ -0,0 +1,65 @@
+package com.company.payroll.drivergrid;
+
+import com.company.payroll.loads.Load;
+
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * Finds the overlapping loads of one driver with a sweep over their schedules.
+ * <p>
+ * A load occupies the driver from pickup (midnight without a pickup time) to delivery
+ * (end of day without a delivery time); loads that merely touch also conflict, and loads
+ * missing either date are ignored. Spans are visited by start while a heap ordered by end
+ * holds the spans still open, so a load is only compared with loads it overlaps:
+ * O(n log n + k) for n loads and k conflicting pairs instead of testing every pair.
+ */
+public final class ScheduleConflictDetector {
+
+    /**
+     * Two loads of the same driver whose schedules overlap; {@code first} starts no later than {@code second}
+     */
+    public record Conflict(Load first, Load second) {}
+
+    private record Span(Load load, LocalDateTime start, LocalDateTime end) {}
+
+    private ScheduleConflictDetector() {}
+
+    /**
+     * Every pair of overlapping loads in the list.
+     */
+    public static List<Conflict> findConflicts(List<Load> loads) {
+        List<Span> spans = new ArrayList<>(loads.size());
+        for (Load load : loads) {
+            if (load.getPickUpDate() == null || load.getDeliveryDate() == null) {
+                continue;
+            }
+            LocalDateTime start = LocalDateTime.of(load.getPickUpDate(),
+                load.getPickUpTime() != null ? load.getPickUpTime() : LocalTime.MIDNIGHT);
+            LocalDateTime end = LocalDateTime.of(load.getDeliveryDate(),
+                load.getDeliveryTime() != null ? load.getDeliveryTime() : LocalTime.MAX);
+            spans.add(new Span(load, start, end));
+        }
+        spans.sort(Comparator.comparing(Span::start));
+
+        List<Conflict> conflicts = new ArrayList<>();
+        PriorityQueue<Span> open = new PriorityQueue<>(Comparator.comparing(Span::end));
+        for (Span span : spans) {
+            while (!open.isEmpty() && open.peek().end().isBefore(span.start())) {
+                open.poll();
+            }
+            for (Span other : open) {
+                // A span ending before it starts (delivery before pickup) never overlaps anything
+                if (!span.end().isBefore(other.start())) {
+                    conflicts.add(new Conflict(other.load(), span.load()));
+                }
+            }
+            open.add(span);
+        }
+        return conflicts;
+    }
+}
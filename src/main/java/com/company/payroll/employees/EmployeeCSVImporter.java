@@ -1,7 +1,7 @@
 package com.company.payroll.employees;
 
-import org.apache.poi.ss.usermodel.*;
-import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import com.company.payroll.util.StreamingXlsxReader;
+import com.company.payroll.util.StreamingXlsxReader.SheetRow;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -116,11 +116,7 @@ public class EmployeeCSVImporter {
     private static List<Employee> parseXLSX(Path filePath) throws IOException {
         List<Employee> employees = new ArrayList<>();
         
-        try (FileInputStream fis = new FileInputStream(filePath.toFile());
-             Workbook workbook = new XSSFWorkbook(fis)) {
-            
-            Sheet sheet = workbook.getSheetAt(0);
-            Iterator<Row> rowIterator = sheet.iterator();
+        try (StreamingXlsxReader rowIterator = StreamingXlsxReader.open(filePath.toFile())) {
             
             if (!rowIterator.hasNext()) {
                 logger.warn("Empty XLSX file");
@@ -128,7 +124,7 @@ public class EmployeeCSVImporter {
             }
             
             // Parse header row
-            Row headerRow = rowIterator.next();
+            SheetRow headerRow = rowIterator.next();
             Map<String, Integer> columnIndices = getColumnIndicesFromRow(headerRow);
             logger.debug("XLSX column indices: {}", columnIndices);
             
@@ -143,7 +139,7 @@ public class EmployeeCSVImporter {
             
             while (rowIterator.hasNext()) {
                 rowNumber++;
-                Row row = rowIterator.next();
+                SheetRow row = rowIterator.next();
                 try {
                     // Check if row is empty
                     if (isRowEmpty(row)) {
@@ -175,19 +171,8 @@ public class EmployeeCSVImporter {
     /**
      * Check if a row is empty
      */
-    private static boolean isRowEmpty(Row row) {
-        if (row == null) return true;
-        
-        for (int i = 0; i < row.getLastCellNum(); i++) {
-            Cell cell = row.getCell(i, Row.MissingCellPolicy.CREATE_NULL_AS_BLANK);
-            if (cell != null && cell.getCellType() != CellType.BLANK) {
-                String value = getCellString(cell);
-                if (!value.trim().isEmpty()) {
-                    return false;
-                }
-            }
-        }
-        return true;
+    private static boolean isRowEmpty(SheetRow row) {
+        return row == null || row.isBlank();
     }
     
     /**
@@ -273,13 +258,12 @@ public class EmployeeCSVImporter {
     /**
      * Get column indices from XLSX header row with improved matching
      */
-    private static Map<String, Integer> getColumnIndicesFromRow(Row headerRow) {
+    private static Map<String, Integer> getColumnIndicesFromRow(SheetRow headerRow) {
         Map<String, Integer> indices = new HashMap<>();
         
-        for (int i = 0; i < headerRow.getLastCellNum(); i++) {
-            Cell cell = headerRow.getCell(i);
-            if (cell != null && cell.getCellType() == CellType.STRING) {
-                String header = cell.getStringCellValue().trim().toLowerCase();
+        for (int i = 0; i < headerRow.getCellCount(); i++) {
+            String header = headerRow.getString(i).toLowerCase();
+            if (!header.isEmpty()) {
                 
                 // Driver name
                 if (header.contains("driver") && header.contains("name")) {
@@ -434,7 +418,7 @@ public class EmployeeCSVImporter {
     /**
      * Parse an XLSX row into an Employee object with improved validation
      */
-    private static Employee parseXLSXRow(Row row, Map<String, Integer> columnIndices, int rowNumber) {
+    private static Employee parseXLSXRow(SheetRow row, Map<String, Integer> columnIndices, int rowNumber) {
         // Extract values with better error handling
         String driverName = getCellValue(row, columnIndices, "Driver Name");
         String truckUnit = getCellValue(row, columnIndices, "Truck/Unit");
@@ -593,60 +577,14 @@ public class EmployeeCSVImporter {
     /**
      * Get value from XLSX row with improved error handling
      */
-    private static String getCellValue(Row row, Map<String, Integer> columnIndices, String fieldName) {
+    private static String getCellValue(SheetRow row, Map<String, Integer> columnIndices, String fieldName) {
         Integer index = columnIndices.get(fieldName);
         if (index != null && index >= 0) {
-            Cell cell = row.getCell(index, Row.MissingCellPolicy.CREATE_NULL_AS_BLANK);
-            return getCellString(cell);
+            return row.getString(index);
         }
         return "";
     }
     
-    /**
-     * Get string value from cell with improved error handling
-     */
-    private static String getCellString(Cell cell) {
-        if (cell == null) return "";
-        
-        try {
-            switch (cell.getCellType()) {
-                case STRING:
-                    return cell.getStringCellValue().trim();
-                case NUMERIC:
-                    // Check if this is a date cell
-                    if (DateUtil.isCellDateFormatted(cell)) {
-                        Date date = cell.getDateCellValue();
-                        if (date != null) {
-                            return new java.text.SimpleDateFormat("MM/dd/yyyy").format(date);
-                        }
-                    }
-                    
-                    double value = cell.getNumericCellValue();
-                    if (Math.floor(value) == value) {
-                        return String.valueOf((long) value);
-                    }
-                    return String.valueOf(value);
-                case BOOLEAN:
-                    return String.valueOf(cell.getBooleanCellValue());
-                case FORMULA:
-                    try {
-                        return cell.getStringCellValue().trim();
-                    } catch (Exception e) {
-                        try {
-                            return String.valueOf(cell.getNumericCellValue());
-                        } catch (Exception e2) {
-                            return "";
-                        }
-                    }
-                default:
-                    return "";
-            }
-        } catch (Exception e) {
-            logger.debug("Error reading cell value: {}", e.getMessage());
-            return "";
-        }
-    }
-    
     /**
      * Parse double value safely with improved error handling
      */
@@ -2,6 +2,11 @@ package com.company.payroll.employees;
 
 import com.company.payroll.exception.DataAccessException;
 import com.company.payroll.database.DatabaseConfig;
+import com.company.payroll.events.DomainEventBus;
+import com.company.payroll.events.DomainEventBus.Change;
+import com.company.payroll.events.DomainEventBus.Entity;
+import com.company.payroll.cache.EnterpriseDataCacheManager;
+import com.company.payroll.cache.EnterpriseDataCacheManager.ReferenceData;
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import org.slf4j.Logger;
@@ -10,11 +15,16 @@ import org.slf4j.LoggerFactory;
 import java.sql.*;
 import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 public class EmployeeDAO {
     private static final Logger logger = LoggerFactory.getLogger(EmployeeDAO.class);
     private static final String DB_URL = "jdbc:sqlite:payroll.db";
+    private static final int ID_BATCH_SIZE = 500; // Stay well below SQLite's bound-parameter limit
     private final Connection connection;
 
     public EmployeeDAO() {
@@ -91,7 +101,7 @@ public class EmployeeDAO {
     public List<Employee> getAll() {
         logger.debug("Fetching all employees");
         List<Employee> list = new ArrayList<>();
-        try (Connection conn = DatabaseConfig.getConnection()) {
+        try (Connection conn = DatabaseConfig.getReadConnection()) {
             String sql = "SELECT * FROM employees ORDER BY name COLLATE NOCASE";
             ResultSet rs = conn.createStatement().executeQuery(sql);
             while (rs.next()) {
@@ -113,7 +123,7 @@ public class EmployeeDAO {
     public List<Employee> getActive() {
         logger.debug("Fetching active employees");
         List<Employee> list = new ArrayList<>();
-        try (Connection conn = DatabaseConfig.getConnection()) {
+        try (Connection conn = DatabaseConfig.getReadConnection()) {
             String sql = "SELECT * FROM employees WHERE status = ? ORDER BY name COLLATE NOCASE";
             PreparedStatement ps = conn.prepareStatement(sql);
             ps.setString(1, Employee.Status.ACTIVE.name());
@@ -136,21 +146,27 @@ public class EmployeeDAO {
             (name, truck_unit, trailer_number, driver_percent, company_percent, service_fee_percent, dob, license_number, driver_type, employee_llc, cdl_expiry, medical_expiry, status, email, phone) 
             VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
         """;
-        try (Connection conn = DatabaseConfig.getConnection();
-             PreparedStatement ps = conn.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS)) {
-            setParams(ps, emp);
-            ps.executeUpdate();
-            ResultSet keys = ps.getGeneratedKeys();
-            if (keys.next()) {
-                int id = keys.getInt(1);
+        try {
+            int id = DatabaseConfig.write(() -> {
+                try (Connection conn = DatabaseConfig.getConnection();
+                     PreparedStatement ps = conn.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS)) {
+                    setParams(ps, emp);
+                    ps.executeUpdate();
+                    try (ResultSet keys = ps.getGeneratedKeys()) {
+                        return keys.next() ? keys.getInt(1) : -1;
+                    }
+                }
+            });
+            if (id > 0) {
                 logger.info("Employee added successfully with ID: {}", id);
-                return id;
+                EnterpriseDataCacheManager.dataChanged(ReferenceData.DRIVERS);
+                DomainEventBus.publish(Entity.EMPLOYEE, id, Change.INSERT);
             }
+            return id;
         } catch (SQLException e) {
             logger.error("Error adding employee {}: {}", emp.getName(), e.getMessage(), e);
             throw new DataAccessException("Error adding employee", e);
         }
-        return -1;
     }
 
     public void update(Employee emp) {
@@ -160,13 +176,19 @@ public class EmployeeDAO {
                 name=?, truck_unit=?, trailer_number=?, driver_percent=?, company_percent=?, service_fee_percent=?, dob=?, license_number=?, driver_type=?, employee_llc=?, cdl_expiry=?, medical_expiry=?, status=?, email=?, phone=?
             WHERE id=?
         """;
-        try (Connection conn = DatabaseConfig.getConnection();
-             PreparedStatement ps = conn.prepareStatement(sql)) {
-            setParams(ps, emp);
-            ps.setInt(16, emp.getId());
-            int rowsAffected = ps.executeUpdate();
+        try {
+            int rowsAffected = DatabaseConfig.write(() -> {
+                try (Connection conn = DatabaseConfig.getConnection();
+                     PreparedStatement ps = conn.prepareStatement(sql)) {
+                    setParams(ps, emp);
+                    ps.setInt(16, emp.getId());
+                    return ps.executeUpdate();
+                }
+            });
             if (rowsAffected > 0) {
                 logger.info("Employee {} updated successfully", emp.getName());
+                EnterpriseDataCacheManager.dataChanged(ReferenceData.DRIVERS);
+                DomainEventBus.publish(Entity.EMPLOYEE, emp.getId(), Change.UPDATE);
             } else {
                 logger.warn("No employee found with ID {} to update", emp.getId());
             }
@@ -179,12 +201,18 @@ public class EmployeeDAO {
     public void delete(int id) {
         logger.info("Deleting employee with ID: {}", id);
         String sql = "DELETE FROM employees WHERE id=?";
-        try (Connection conn = DatabaseConfig.getConnection();
-             PreparedStatement ps = conn.prepareStatement(sql)) {
-            ps.setInt(1, id);
-            int rowsAffected = ps.executeUpdate();
+        try {
+            int rowsAffected = DatabaseConfig.write(() -> {
+                try (Connection conn = DatabaseConfig.getConnection();
+                     PreparedStatement ps = conn.prepareStatement(sql)) {
+                    ps.setInt(1, id);
+                    return ps.executeUpdate();
+                }
+            });
             if (rowsAffected > 0) {
                 logger.info("Employee with ID {} deleted successfully", id);
+                EnterpriseDataCacheManager.dataChanged(ReferenceData.DRIVERS);
+                DomainEventBus.publish(Entity.EMPLOYEE, id, Change.DELETE);
             } else {
                 logger.warn("No employee found with ID {} to delete", id);
             }
@@ -197,7 +225,7 @@ public class EmployeeDAO {
     public Employee getById(int id) {
         logger.debug("Getting employee by ID: {}", id);
         String sql = "SELECT * FROM employees WHERE id = ?";
-        try (Connection conn = DatabaseConfig.getConnection();
+        try (Connection conn = DatabaseConfig.getReadConnection();
              PreparedStatement ps = conn.prepareStatement(sql)) {
             ps.setInt(1, id);
             ResultSet rs = ps.executeQuery();
@@ -214,12 +242,57 @@ public class EmployeeDAO {
         return null;
     }
 
+    /**
+     * Get several employees in as few round-trips as possible.
+     * Ids are looked up with chunked IN (...) queries so callers hydrating
+     * large result sets avoid one query per row.
+     * @param ids employee ids; duplicates and non-positive ids are ignored
+     * @return map of employee id to employee for every id that exists
+     */
+    public Map<Integer, Employee> getByIds(Collection<Integer> ids) {
+        if (ids == null || ids.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        List<Integer> distinctIds = ids.stream()
+            .filter(id -> id != null && id > 0)
+            .distinct()
+            .toList();
+        Map<Integer, Employee> result = new HashMap<>();
+        if (distinctIds.isEmpty()) {
+            return result;
+        }
+        logger.debug("Getting {} employees by ID", distinctIds.size());
+        try (Connection conn = DatabaseConfig.getReadConnection()) {
+            for (int from = 0; from < distinctIds.size(); from += ID_BATCH_SIZE) {
+                List<Integer> chunk = distinctIds.subList(from, Math.min(from + ID_BATCH_SIZE, distinctIds.size()));
+                String placeholders = String.join(",", Collections.nCopies(chunk.size(), "?"));
+                String sql = "SELECT * FROM employees WHERE id IN (" + placeholders + ")";
+                try (PreparedStatement ps = conn.prepareStatement(sql)) {
+                    for (int i = 0; i < chunk.size(); i++) {
+                        ps.setInt(i + 1, chunk.get(i));
+                    }
+                    try (ResultSet rs = ps.executeQuery()) {
+                        while (rs.next()) {
+                            Employee emp = mapRow(rs);
+                            result.put(emp.getId(), emp);
+                        }
+                    }
+                }
+            }
+            logger.debug("Resolved {} of {} requested employees", result.size(), distinctIds.size());
+        } catch (SQLException e) {
+            logger.error("Error getting employees by IDs: {}", e.getMessage(), e);
+            throw new DataAccessException("Error getting employees by ids", e);
+        }
+        return result;
+    }
+
     public Employee getByTruckUnit(String truckUnit) {
         logger.debug("Getting employee by truck unit: {}", truckUnit);
         if (truckUnit == null || truckUnit.trim().isEmpty()) return null;
         
         String sql = "SELECT * FROM employees WHERE truck_unit = ?";
-        try (Connection conn = DatabaseConfig.getConnection();
+        try (Connection conn = DatabaseConfig.getReadConnection();
              PreparedStatement ps = conn.prepareStatement(sql)) {
             ps.setString(1, truckUnit.trim());
             ResultSet rs = ps.executeQuery();
@@ -245,10 +318,10 @@ public class EmployeeDAO {
         logger.info("Processing {} employees for import", employees.size());
         List<Employee> resultEmployees = new ArrayList<>();
         
-        try (Connection conn = DatabaseConfig.getConnection()) {
-            conn.setAutoCommit(false);
-            
-            try {
+        try {
+            // One writer transaction, and so one event delivery, for the whole import
+            DatabaseConfig.write(() -> {
+                resultEmployees.clear();
                 int added = 0;
                 int updated = 0;
                 
@@ -273,30 +346,24 @@ public class EmployeeDAO {
                     }
                 }
                 
-                conn.commit();
                 logger.info("Import completed - Added: {}, Updated: {}", added, updated);
-                
-                // Validate that all result employees have proper IDs
-                for (Employee emp : resultEmployees) {
-                    if (emp.getId() <= 0) {
-                        logger.error("CRITICAL: Employee {} has invalid ID: {}", emp.getName(), emp.getId());
-                    } else {
-                        logger.debug("Employee {} has valid ID: {}", emp.getName(), emp.getId());
-                    }
+                return null;
+            });
+            
+            // Validate that all result employees have proper IDs
+            for (Employee emp : resultEmployees) {
+                if (emp.getId() <= 0) {
+                    logger.error("CRITICAL: Employee {} has invalid ID: {}", emp.getName(), emp.getId());
+                } else {
+                    logger.debug("Employee {} has valid ID: {}", emp.getName(), emp.getId());
                 }
-                
-            } catch (Exception e) {
-                conn.rollback();
-                logger.error("Error during import, rolling back: {}", e.getMessage(), e);
-                throw new DataAccessException("Error during employee import", e);
-            } finally {
-                conn.setAutoCommit(true);
             }
-        } catch (SQLException e) {
-            logger.error("Database error during import: {}", e.getMessage(), e);
-            throw new DataAccessException("Database error during import", e);
+        } catch (SQLException | DataAccessException e) {
+            logger.error("Error during import, rolling back: {}", e.getMessage(), e);
+            throw new DataAccessException("Error during employee import", e);
         }
         
+        EnterpriseDataCacheManager.dataChanged(ReferenceData.DRIVERS);
         return resultEmployees;
     }
     
@@ -366,7 +433,7 @@ public class EmployeeDAO {
         if (name == null || name.trim().isEmpty()) return null;
         
         String sql = "SELECT * FROM employees WHERE LOWER(name) = LOWER(?)";
-        try (Connection conn = DatabaseConfig.getConnection();
+        try (Connection conn = DatabaseConfig.getReadConnection();
              PreparedStatement ps = conn.prepareStatement(sql)) {
             ps.setString(1, name.trim());
             ResultSet rs = ps.executeQuery();
@@ -8,7 +8,11 @@ import java.sql.*;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Data Access Object for payment method history operations.
@@ -16,6 +20,7 @@ import java.util.List;
  */
 public class PaymentMethodHistoryDAO {
     private static final Logger logger = LoggerFactory.getLogger(PaymentMethodHistoryDAO.class);
+    private static final int ID_BATCH_SIZE = 500; // Stay well below SQLite's bound-parameter limit
     private final Connection connection;
     
     public PaymentMethodHistoryDAO(Connection connection) {
@@ -54,6 +59,50 @@ public class PaymentMethodHistoryDAO {
         return null;
     }
     
+    /**
+     * Get the effective payment methods of several employees on the same date.
+     * Applies the same rules as {@link #getEffectivePaymentMethod(int, LocalDate)}
+     * with one query per chunk of employee ids.
+     * @param employeeIds The employee IDs
+     * @param effectiveDate The date to check
+     * @return Entries keyed by employee ID; employees without a configuration are absent
+     */
+    public Map<Integer, PaymentMethodHistory> getEffectivePaymentMethods(Collection<Integer> employeeIds,
+                                                                         LocalDate effectiveDate) {
+        Map<Integer, PaymentMethodHistory> result = new HashMap<>();
+        List<Integer> ids = employeeIds.stream().filter(id -> id != null && id > 0).distinct().toList();
+        
+        for (int from = 0; from < ids.size(); from += ID_BATCH_SIZE) {
+            List<Integer> chunk = ids.subList(from, Math.min(from + ID_BATCH_SIZE, ids.size()));
+            String sql = "SELECT * FROM employee_payment_method_history " +
+                        "WHERE employee_id IN (" + String.join(",", Collections.nCopies(chunk.size(), "?")) + ") " +
+                        "AND effective_date <= ? " +
+                        "AND (end_date IS NULL OR end_date >= ?) " +
+                        "ORDER BY employee_id, effective_date DESC";
+            
+            try (PreparedStatement stmt = connection.prepareStatement(sql)) {
+                int idx = 1;
+                for (Integer id : chunk) {
+                    stmt.setInt(idx++, id);
+                }
+                stmt.setDate(idx++, Date.valueOf(effectiveDate));
+                stmt.setDate(idx, Date.valueOf(effectiveDate));
+                
+                try (ResultSet rs = stmt.executeQuery()) {
+                    while (rs.next()) {
+                        // First row per employee is the latest effective configuration
+                        result.putIfAbsent(rs.getInt("employee_id"), mapResultSetToPaymentMethodHistory(rs));
+                    }
+                }
+            } catch (SQLException e) {
+                logger.error("Error getting effective payment methods for {} employees on date {}", 
+                            chunk.size(), effectiveDate, e);
+            }
+        }
+        
+        return result;
+    }
+    
     /**
      * Create a new payment method history entry.
      * Automatically closes any existing active configuration.
@@ -0,0 +1,293 @@
+package com.company.payroll.events;
+
+import javafx.application.Platform;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * Typed notifications of the rows the DAOs write, so views can patch their lists
+ * instead of reloading whole tables.
+ * <p>
+ * DAOs {@link #publish} each insert, update or delete once it is committed. Subscribers
+ * receive {@link Changes} on the FX application thread, coalesced per entity and id:
+ * <ul>
+ *   <li>everything published before the next delivery arrives together, merged so that
+ *       an insert then update is one insert and an insert then delete is nothing,</li>
+ *   <li>a thread inside {@link #batch()} holds its events back until the outermost batch
+ *       closes, so a bulk import reaches subscribers as a single delivery,</li>
+ *   <li>the events of a nested batch can be discarded on their own, e.g. with the savepoint
+ *       they were published in.</li>
+ * </ul>
+ * Without a running FX toolkit (command-line tools) events are delivered on the publishing thread.
+ * Caches that must not serve a stale read in between register {@link #onPublish} listeners,
+ * which run on the publishing thread as soon as the events leave their batch.
+ */
+public final class DomainEventBus {
+    private static final Logger logger = LoggerFactory.getLogger(DomainEventBus.class);
+
+    /**
+     * Kinds of rows that are published
+     */
+    public enum Entity { LOAD, FUEL_TRANSACTION, EMPLOYEE, TRUCK, TRAILER }
+
+    /**
+     * What happened to a row
+     */
+    public enum Change { INSERT, UPDATE, DELETE }
+
+    /**
+     * One committed write
+     */
+    public record DomainEvent(Entity entity, int id, Change change) {}
+
+    /**
+     * Coalesced ids of one entity changed since the previous delivery
+     */
+    public record Changes(Entity entity, Set<Integer> inserted, Set<Integer> updated, Set<Integer> deleted) {
+        /** Inserted and updated ids, whose rows should be read again */
+        public Set<Integer> upserted() {
+            Set<Integer> ids = new LinkedHashSet<>(inserted);
+            ids.addAll(updated);
+            return ids;
+        }
+
+        public int size() {
+            return inserted.size() + updated.size() + deleted.size();
+        }
+    }
+
+    private static final Object LOCK = new Object();
+    private static final Map<Entity, List<Consumer<Changes>>> subscribers = new EnumMap<>(Entity.class);
+    private static final Map<Entity, List<Runnable>> publishListeners = new EnumMap<>(Entity.class);
+    private static final ThreadLocal<Held> held = new ThreadLocal<>();
+    private static Map<Entity, Map<Integer, Change>> pending = new EnumMap<>(Entity.class);
+    private static boolean deliveryScheduled;
+
+    static {
+        for (Entity entity : Entity.values()) {
+            subscribers.put(entity, new CopyOnWriteArrayList<>());
+            publishListeners.put(entity, new CopyOnWriteArrayList<>());
+        }
+    }
+
+    private DomainEventBus() {
+    }
+
+    /**
+     * Receive the changes of one entity on the FX application thread.
+     */
+    public static void subscribe(Entity entity, Consumer<Changes> subscriber) {
+        subscribers.get(entity).add(subscriber);
+    }
+
+    public static void unsubscribe(Entity entity, Consumer<Changes> subscriber) {
+        subscribers.get(entity).remove(subscriber);
+    }
+
+    /**
+     * Run the listener on the publishing thread whenever committed changes of the entity
+     * are published, before subscribers receive them. Listeners must be quick and must not
+     * touch the FX scene graph.
+     */
+    public static void onPublish(Entity entity, Runnable listener) {
+        publishListeners.get(entity).add(listener);
+    }
+
+    /**
+     * Called by the DAOs after a write is committed.
+     */
+    public static void publish(Entity entity, int id, Change change) {
+        publish(new DomainEvent(entity, id, change));
+    }
+
+    public static void publish(DomainEvent event) {
+        publishAll(event.entity(), List.of(event.id()), event.change());
+    }
+
+    /**
+     * Called by the DAOs after a bulk write is committed.
+     */
+    public static void publishAll(Entity entity, Collection<Integer> ids, Change change) {
+        if (ids.isEmpty()) {
+            return;
+        }
+        Held batch = held.get();
+        if (batch != null) {
+            merge(batch.events, entity, ids, change);
+            return;
+        }
+        synchronized (LOCK) {
+            merge(pending, entity, ids, change);
+        }
+        published(entity);
+        scheduleDelivery();
+    }
+
+    /**
+     * Hold back the events this thread publishes until the returned batch, and every
+     * batch opened inside it, is closed.
+     */
+    public static Batch batch() {
+        Held batch = new Held(held.get());
+        held.set(batch);
+        return new Batch(batch);
+    }
+
+    /**
+     * Events held back on one thread. Closing a nested batch hands its events to the
+     * enclosing one; closing the outermost batch publishes them. Batches must be closed
+     * innermost first, as try-with-resources does.
+     */
+    public static final class Batch implements AutoCloseable {
+        private final Held batch;
+        private boolean closed;
+
+        private Batch(Held batch) {
+            this.batch = batch;
+        }
+
+        @Override
+        public void close() {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            Held outer = batch.outer;
+            if (outer != null) {
+                held.set(outer);
+                batch.events.forEach((entity, changes) -> changes.forEach((id, change) ->
+                    merge(outer.events, entity, List.of(id), change)));
+                return;
+            }
+            held.remove();
+            if (batch.events.isEmpty()) {
+                return;
+            }
+            synchronized (LOCK) {
+                batch.events.forEach((entity, changes) -> changes.forEach((id, change) ->
+                    merge(pending, entity, List.of(id), change)));
+            }
+            batch.events.keySet().forEach(DomainEventBus::published);
+            scheduleDelivery();
+        }
+
+        /**
+         * Drop the events published since this batch was opened, including those of the
+         * batches closed inside it, e.g. when the transaction or savepoint they belong to
+         * was rolled back; the batch stays open.
+         */
+        public void discard() {
+            if (!closed) {
+                batch.events.clear();
+            }
+        }
+    }
+
+    private static final class Held {
+        private final Map<Entity, Map<Integer, Change>> events = new EnumMap<>(Entity.class);
+        private final Held outer;
+
+        private Held(Held outer) {
+            this.outer = outer;
+        }
+    }
+
+    private static void merge(Map<Entity, Map<Integer, Change>> into, Entity entity,
+                              Collection<Integer> ids, Change change) {
+        Map<Integer, Change> changes = into.computeIfAbsent(entity, e -> new LinkedHashMap<>());
+        for (Integer id : ids) {
+            Change merged = merge(changes.get(id), change);
+            if (merged == null) {
+                changes.remove(id);
+            } else {
+                changes.put(id, merged);
+            }
+        }
+    }
+
+    /**
+     * Net effect of two changes to the same row, or null when nothing is left to report
+     */
+    private static Change merge(Change earlier, Change later) {
+        if (earlier == Change.INSERT) {
+            return later == Change.DELETE ? null : Change.INSERT;
+        }
+        if (earlier == Change.DELETE && later == Change.INSERT) {
+            return Change.UPDATE;
+        }
+        return later;
+    }
+
+    private static void published(Entity entity) {
+        for (Runnable listener : publishListeners.get(entity)) {
+            try {
+                listener.run();
+            } catch (RuntimeException e) {
+                logger.error("Error handling published {} changes: {}", entity, e.getMessage(), e);
+            }
+        }
+    }
+
+    private static void scheduleDelivery() {
+        synchronized (LOCK) {
+            if (deliveryScheduled) {
+                return;
+            }
+            deliveryScheduled = true;
+        }
+        try {
+            Platform.runLater(DomainEventBus::deliver);
+        } catch (IllegalStateException e) {
+            deliver(); // FX toolkit not running
+        }
+    }
+
+    private static void deliver() {
+        Map<Entity, Map<Integer, Change>> events;
+        synchronized (LOCK) {
+            events = pending;
+            pending = new EnumMap<>(Entity.class);
+            deliveryScheduled = false;
+        }
+        events.forEach((entity, changes) -> {
+            if (changes.isEmpty()) {
+                return;
+            }
+            Changes delivered = toChanges(entity, changes);
+            logger.debug("Delivering {} {} changes", delivered.size(), entity);
+            for (Consumer<Changes> subscriber : subscribers.get(entity)) {
+                try {
+                    subscriber.accept(delivered);
+                } catch (RuntimeException e) {
+                    logger.error("Error handling {} changes: {}", entity, e.getMessage(), e);
+                }
+            }
+        });
+    }
+
+    private static Changes toChanges(Entity entity, Map<Integer, Change> changes) {
+        Set<Integer> inserted = new LinkedHashSet<>();
+        Set<Integer> updated = new LinkedHashSet<>();
+        Set<Integer> deleted = new LinkedHashSet<>();
+        changes.forEach((id, change) -> {
+            switch (change) {
+                case INSERT -> inserted.add(id);
+                case UPDATE -> updated.add(id);
+                case DELETE -> deleted.add(id);
+            }
+        });
+        return new Changes(entity, Collections.unmodifiableSet(inserted),
+            Collections.unmodifiableSet(updated), Collections.unmodifiableSet(deleted));
+    }
+}
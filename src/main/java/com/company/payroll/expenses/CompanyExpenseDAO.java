@@ -2,6 +2,8 @@ package com.company.payroll.expenses;
 
 import com.company.payroll.exception.DataAccessException;
 import com.company.payroll.database.DatabaseConfig;
+import com.company.payroll.database.DimensionLookup;
+import com.company.payroll.database.DimensionLookup.Dimension;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -91,6 +93,7 @@ public class CompanyExpenseDAO {
             }
             
             logger.info("Inserted company expense with ID {}", expense.getId());
+            DimensionLookup.dataChanged(Dimension.VENDORS);
             return expense;
         } catch (SQLException e) {
             logger.error("Error inserting company expense", e);
@@ -130,6 +133,7 @@ public class CompanyExpenseDAO {
             
             ps.executeUpdate();
             logger.info("Updated company expense with ID {}", expense.getId());
+            DimensionLookup.dataChanged(Dimension.VENDORS);
             return expense;
         } catch (SQLException e) {
             logger.error("Error updating company expense", e);
@@ -145,6 +149,7 @@ public class CompanyExpenseDAO {
             int affected = ps.executeUpdate();
             if (affected > 0) {
                 logger.info("Deleted company expense with ID {}", id);
+                DimensionLookup.dataChanged(Dimension.VENDORS);
             } else {
                 logger.warn("No company expense found with ID {}", id);
             }
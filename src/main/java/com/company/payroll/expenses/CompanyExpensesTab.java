@@ -22,6 +22,8 @@ import javafx.util.Callback;
 import javafx.util.StringConverter;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import com.company.payroll.database.DimensionLookup;
+import com.company.payroll.database.DimensionLookup.Dimension;
 import com.company.payroll.payroll.ModernButtonStyles;
 import com.company.payroll.util.WindowAware;
 
@@ -1052,9 +1054,11 @@ public class CompanyExpensesTab extends Tab implements WindowAware {
         DatePicker datePicker = new DatePicker(expense != null ? expense.getExpenseDate() : LocalDate.now());
         
         // Vendor
-        TextField vendorField = new TextField();
+        ComboBox<String> vendorField = new ComboBox<>(FXCollections.observableArrayList(
+            DimensionLookup.labels(Dimension.VENDORS)));
+        vendorField.setEditable(true);
         vendorField.setPromptText("Vendor name");
-        if (expense != null) vendorField.setText(expense.getVendor());
+        if (expense != null) vendorField.getEditor().setText(expense.getVendor());
         
         // Category
         ComboBox<String> categoryCombo = new ComboBox<>(expenseCategories);
@@ -1186,7 +1190,7 @@ public class CompanyExpensesTab extends Tab implements WindowAware {
                     CompanyExpense result = expense != null ? expense : new CompanyExpense();
                     
                     result.setExpenseDate(datePicker.getValue());
-                    result.setVendor(vendorField.getText());
+                    result.setVendor(vendorField.getEditor().getText());
                     result.setCategory(categoryCombo.getValue());
                     result.setDepartment(departmentCombo.getValue());
                     result.setDescription(descriptionArea.getText());
@@ -0,0 +1,218 @@
+package com.company.payroll.fuel;
+
+import com.company.payroll.employees.Employee;
+import com.company.payroll.util.StreamingXlsxReader;
+import com.company.payroll.util.StreamingXlsxReader.SheetRow;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * Reads fuel card exports (CSV or XLSX) into {@link FuelTransaction}s.
+ * <p>
+ * Columns are located through the {@link FuelImportConfig} mappings and each row is
+ * matched to an employee by driver name and unit. Rows are handed to the sink as they
+ * are read, so a {@link FuelImportPipeline} can write them without holding the file.
+ */
+public class FuelFileParser {
+    private static final Logger logger = LoggerFactory.getLogger(FuelFileParser.class);
+
+    private final FuelImportConfig importConfig;
+    private final List<Employee> employees;
+
+    public FuelFileParser(FuelImportConfig importConfig, List<Employee> employees) {
+        this.importConfig = importConfig;
+        this.employees = employees;
+    }
+
+    /**
+     * Parse a file by its extension.
+     *
+     * @throws IllegalArgumentException if the file is neither .csv nor .xlsx
+     */
+    public void parse(File file, Consumer<FuelTransaction> sink) throws IOException {
+        String fileName = file.getName().toLowerCase();
+        if (fileName.endsWith(".csv")) {
+            parseCSV(file, sink);
+        } else if (fileName.endsWith(".xlsx")) {
+            parseXLSX(file, sink);
+        } else {
+            throw new IllegalArgumentException("Unsupported file type");
+        }
+    }
+
+    public void parseCSV(File file, Consumer<FuelTransaction> sink) throws IOException {
+        logger.info("Parsing CSV file: {}", file.getName());
+        int parsed = 0;
+        
+        try (BufferedReader br = new BufferedReader(new InputStreamReader(new FileInputStream(file), StandardCharsets.UTF_8))) {
+            String[] headers = br.readLine().split(",");
+            logger.debug("CSV headers: {}", Arrays.toString(headers));
+            
+            // Get column indices using configuration
+            Map<String, Integer> columnIndices = importConfig.getColumnIndices(headers);
+            logger.debug("Column indices from config: {}", columnIndices);
+            
+            String line;
+            int lineNumber = 1;
+            while ((line = br.readLine()) != null) {
+                lineNumber++;
+                String[] arr = line.split(",", -1);
+                if (arr.length < 21) {
+                    logger.warn("Line {} has insufficient columns ({}), skipping", lineNumber, arr.length);
+                    continue;
+                }
+                
+                // Extract values using configured column indices
+                String cardNumber = getValueFromArray(arr, columnIndices, "Card Number");
+                String tranDate = getValueFromArray(arr, columnIndices, "Transaction Date");
+                String tranTime = getValueFromArray(arr, columnIndices, "Transaction Time");
+                String invoice = getValueFromArray(arr, columnIndices, "Invoice");
+                String unit = getValueFromArray(arr, columnIndices, "Unit");
+                String driverName = getValueFromArray(arr, columnIndices, "Driver Name");
+                String odometer = getValueFromArray(arr, columnIndices, "Odometer");
+                String locationName = getValueFromArray(arr, columnIndices, "Location Name");
+                String city = getValueFromArray(arr, columnIndices, "City");
+                String stateProv = getValueFromArray(arr, columnIndices, "State/Province");
+                double fees = parseDouble(getValueFromArray(arr, columnIndices, "Fees"));
+                String item = getValueFromArray(arr, columnIndices, "Item");
+                double unitPrice = parseDouble(getValueFromArray(arr, columnIndices, "Unit Price"));
+                double discPPU = parseDouble(getValueFromArray(arr, columnIndices, "Discount PPU"));
+                double discCost = parseDouble(getValueFromArray(arr, columnIndices, "Discount Cost"));
+                double qty = parseDouble(getValueFromArray(arr, columnIndices, "Quantity"));
+                double discAmt = parseDouble(getValueFromArray(arr, columnIndices, "Discount Amount"));
+                String discType = getValueFromArray(arr, columnIndices, "Discount Type");
+                double amt = parseDouble(getValueFromArray(arr, columnIndices, "Amount"));
+                String db = getValueFromArray(arr, columnIndices, "DB");
+                String currency = getValueFromArray(arr, columnIndices, "Currency");
+                
+                FuelTransaction t = new FuelTransaction(
+                    0, cardNumber, tranDate, tranTime, invoice, unit, driverName, odometer,
+                    locationName, city, stateProv, fees, item, unitPrice, discPPU, discCost,
+                    qty, discAmt, discType, amt, db, currency, findEmployeeId(driverName, unit)
+                );
+                sink.accept(t);
+                parsed++;
+            }
+            logger.info("Parsed {} transactions from CSV", parsed);
+        }
+    }
+
+    public void parseXLSX(File file, Consumer<FuelTransaction> sink) throws IOException {
+        logger.info("Parsing XLSX file: {}", file.getName());
+        int parsed = 0;
+        
+        try (StreamingXlsxReader rows = StreamingXlsxReader.open(file)) {
+            if (!rows.hasNext()) {
+                logger.warn("Empty XLSX file");
+                return;
+            }
+            
+            SheetRow headerRow = rows.next();
+            logger.debug("XLSX has {} columns", headerRow.getCellCount());
+            
+            // Create header mapping for XLSX
+            Map<String, Integer> headerMap = new HashMap<>();
+            for (int i = 0; i < headerRow.getCellCount(); i++) {
+                String header = headerRow.getString(i).toLowerCase();
+                if (!header.isEmpty()) {
+                    headerMap.put(header, i);
+                }
+            }
+            
+            logger.debug("XLSX header mapping: {}", headerMap);
+            
+            // Get column indices using configuration
+            Map<String, Integer> columnIndices = importConfig.getColumnIndices(headerMap);
+            logger.debug("Column indices from config: {}", columnIndices);
+            
+            int rowNumber = 1;
+            while (rows.hasNext()) {
+                rowNumber++;
+                SheetRow row = rows.next();
+                
+                // Extract values using configured column indices
+                String cardNumber = getValueFromRow(row, columnIndices, "Card Number");
+                String tranDate = getValueFromRow(row, columnIndices, "Transaction Date");
+                String tranTime = getValueFromRow(row, columnIndices, "Transaction Time");
+                String invoice = getValueFromRow(row, columnIndices, "Invoice");
+                String unit = getValueFromRow(row, columnIndices, "Unit");
+                String driverName = getValueFromRow(row, columnIndices, "Driver Name");
+                String odometer = getValueFromRow(row, columnIndices, "Odometer");
+                String locationName = getValueFromRow(row, columnIndices, "Location Name");
+                String city = getValueFromRow(row, columnIndices, "City");
+                String stateProv = getValueFromRow(row, columnIndices, "State/Province");
+                double fees = parseDouble(getValueFromRow(row, columnIndices, "Fees"));
+                String item = getValueFromRow(row, columnIndices, "Item");
+                double unitPrice = parseDouble(getValueFromRow(row, columnIndices, "Unit Price"));
+                double discPPU = parseDouble(getValueFromRow(row, columnIndices, "Discount PPU"));
+                double discCost = parseDouble(getValueFromRow(row, columnIndices, "Discount Cost"));
+                double qty = parseDouble(getValueFromRow(row, columnIndices, "Quantity"));
+                double discAmt = parseDouble(getValueFromRow(row, columnIndices, "Discount Amount"));
+                String discType = getValueFromRow(row, columnIndices, "Discount Type");
+                double amt = parseDouble(getValueFromRow(row, columnIndices, "Amount"));
+                String db = getValueFromRow(row, columnIndices, "DB");
+                String currency = getValueFromRow(row, columnIndices, "Currency");
+                
+                // Skip empty rows
+                if (invoice.isEmpty()) {
+                    logger.debug("Skipping empty row {}", rowNumber);
+                    continue;
+                }
+                
+                FuelTransaction t = new FuelTransaction(
+                    0, cardNumber, tranDate, tranTime, invoice, unit, driverName, odometer,
+                    locationName, city, stateProv, fees, item, unitPrice, discPPU, discCost,
+                    qty, discAmt, discType, amt, db, currency, findEmployeeId(driverName, unit)
+                );
+                sink.accept(t);
+                parsed++;
+            }
+            logger.info("Parsed {} transactions from XLSX", parsed);
+        }
+    }
+
+    private int findEmployeeId(String driverName, String unit) {
+        for (Employee e : employees) {
+            if (e.getName().equalsIgnoreCase(driverName) && e.getTruckId().equalsIgnoreCase(unit)) {
+                return e.getId();
+            }
+        }
+        return 0;
+    }
+    
+    private String getValueFromArray(String[] arr, Map<String, Integer> columnIndices, String fieldName) {
+        Integer index = columnIndices.get(fieldName);
+        if (index != null && index >= 0 && index < arr.length) {
+            return arr[index].trim();
+        }
+        return "";
+    }
+    
+    private String getValueFromRow(SheetRow row, Map<String, Integer> columnIndices, String fieldName) {
+        Integer index = columnIndices.get(fieldName);
+        if (index != null && index >= 0) {
+            return row.getString(index);
+        }
+        return "";
+    }
+
+    private double parseDouble(String s) {
+        try { 
+            return Double.parseDouble(s); 
+        } catch (Exception e) { 
+            return 0; 
+        }
+    }
+}
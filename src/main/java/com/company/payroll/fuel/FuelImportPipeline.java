@@ -0,0 +1,225 @@
+package com.company.payroll.fuel;
+
+import com.company.payroll.exception.DataAccessException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+
+/**
+ * Streaming import of fuel transactions.
+ * <p>
+ * Parsed rows are pushed in one at a time and written in chunks:
+ * <ol>
+ *   <li>dedup keys of the stored transactions are preloaded for the date window each chunk touches,</li>
+ *   <li>duplicates of stored rows or of earlier rows in the same file are skipped in memory,</li>
+ *   <li>the remaining rows are inserted with one {@link FuelTransactionDAO#addBatch(List)} transaction.</li>
+ * </ol>
+ * A chunk whose transaction fails is split in halves and retried until the failing rows are
+ * isolated, so only those rows are counted and reported as errors.
+ * Progress is reported to the listener after every chunk. Only one chunk is held in memory.
+ */
+public class FuelImportPipeline implements Consumer<FuelTransaction> {
+    private static final Logger logger = LoggerFactory.getLogger(FuelImportPipeline.class);
+    public static final int DEFAULT_BATCH_SIZE = 500;
+
+    /**
+     * Receives running totals after each chunk has been written.
+     */
+    @FunctionalInterface
+    public interface ProgressListener {
+        void batchCompleted(int processed, int imported, int skipped, int errors);
+    }
+
+    /**
+     * Totals of an import run
+     */
+    public static class Result {
+        private int processed;
+        private int imported;
+        private int skipped;
+        private int errors;
+        private final List<String> errorMessages = new ArrayList<>();
+
+        public int getProcessed() { return processed; }
+        public int getImported() { return imported; }
+        public int getSkipped() { return skipped; }
+        public int getErrors() { return errors; }
+        public List<String> getErrorMessages() { return Collections.unmodifiableList(errorMessages); }
+    }
+
+    private final FuelTransactionDAO dao;
+    private final int batchSize;
+    private final ProgressListener listener;
+    private final BooleanSupplier cancelled;
+    private final List<FuelTransaction> pending;
+    private final Set<String> knownKeys = new HashSet<>();
+    private final Result result = new Result();
+
+    // Date window whose stored keys are already in knownKeys
+    private LocalDate loadedFrom;
+    private LocalDate loadedTo;
+    private boolean undatedLoaded;
+
+    public FuelImportPipeline(FuelTransactionDAO dao, int batchSize, ProgressListener listener,
+                              BooleanSupplier cancelled) {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("Batch size must be at least 1");
+        }
+        this.dao = dao;
+        this.batchSize = batchSize;
+        this.listener = listener;
+        this.cancelled = cancelled;
+        this.pending = new ArrayList<>(batchSize);
+    }
+
+    /**
+     * Queue a parsed row, writing the current chunk once it is full.
+     * @throws CancellationException if the import has been cancelled
+     */
+    @Override
+    public void accept(FuelTransaction tx) {
+        if (cancelled.getAsBoolean()) {
+            throw new CancellationException("Fuel import cancelled");
+        }
+        pending.add(tx);
+        if (pending.size() >= batchSize) {
+            flush();
+        }
+    }
+
+    /**
+     * Totals of the chunks written so far
+     */
+    public Result getResult() {
+        return result;
+    }
+
+    /**
+     * Write the last partial chunk and return the totals.
+     */
+    public Result finish() {
+        flush();
+        logger.info("Fuel import finished: {} processed, {} imported, {} skipped, {} errors",
+            result.processed, result.imported, result.skipped, result.errors);
+        return result;
+    }
+
+    private void flush() {
+        if (pending.isEmpty()) {
+            return;
+        }
+        int firstRow = result.processed + 1;
+        loadKeysFor(pending);
+
+        List<FuelTransaction> toInsert = new ArrayList<>(pending.size());
+        List<Integer> rowNumbers = new ArrayList<>(pending.size());
+        for (int i = 0; i < pending.size(); i++) {
+            FuelTransaction tx = pending.get(i);
+            if (knownKeys.add(dedupKey(tx))) {
+                toInsert.add(tx);
+                rowNumbers.add(firstRow + i);
+            } else {
+                result.skipped++;
+            }
+        }
+        insert(toInsert, rowNumbers);
+
+        result.processed += pending.size();
+        pending.clear();
+        if (listener != null) {
+            listener.batchCompleted(result.processed, result.imported, result.skipped, result.errors);
+        }
+    }
+
+    /**
+     * Insert rows in one transaction; when it fails, nothing was stored and each half is retried
+     * on its own, down to single rows.
+     * @param rowNumbers file row number of each row, for the error messages
+     */
+    private void insert(List<FuelTransaction> rows, List<Integer> rowNumbers) {
+        if (rows.isEmpty()) {
+            return;
+        }
+        try {
+            for (int count : dao.addBatch(rows)) {
+                if (count == 0) {
+                    result.skipped++;
+                } else if (count > 0 || count == Statement.SUCCESS_NO_INFO) {
+                    result.imported++;
+                } else {
+                    result.errors++;
+                }
+            }
+        } catch (DataAccessException e) {
+            if (rows.size() > 1) {
+                logger.debug("Fuel import batch of {} rows starting at row {} failed, retrying in halves: {}",
+                    rows.size(), rowNumbers.get(0), e.getMessage());
+                int half = rows.size() / 2;
+                insert(rows.subList(0, half), rowNumbers.subList(0, half));
+                insert(rows.subList(half, rows.size()), rowNumbers.subList(half, rows.size()));
+                return;
+            }
+            // The row was not stored, so later copies of it may still be imported
+            knownKeys.remove(dedupKey(rows.get(0)));
+            result.errors++;
+            result.errorMessages.add(String.format("Row %d: %s", rowNumbers.get(0),
+                e.getCause() != null ? e.getCause().getMessage() : e.getMessage()));
+            logger.warn("Fuel import row {} failed: {}", rowNumbers.get(0), e.getMessage());
+        }
+    }
+
+    private static String dedupKey(FuelTransaction tx) {
+        return FuelTransactionDAO.dedupKey(tx.getInvoice(), tx.getTranDate(), tx.getLocationName(), tx.getAmt());
+    }
+
+    /**
+     * Extend the preloaded key window so it covers every date in the chunk
+     */
+    private void loadKeysFor(List<FuelTransaction> chunk) {
+        LocalDate min = null;
+        LocalDate max = null;
+        boolean undated = false;
+        for (FuelTransaction tx : chunk) {
+            String iso = FuelTransactionDAO.toIsoDate(tx.getTranDate());
+            if (iso.isEmpty()) {
+                undated = true;
+                continue;
+            }
+            LocalDate date = LocalDate.parse(iso);
+            min = min == null || date.isBefore(min) ? date : min;
+            max = max == null || date.isAfter(max) ? date : max;
+        }
+
+        if (undated && !undatedLoaded) {
+            knownKeys.addAll(dao.getDedupKeys("", ""));
+            undatedLoaded = true;
+        }
+        if (min == null) {
+            return;
+        }
+        if (loadedFrom == null) {
+            knownKeys.addAll(dao.getDedupKeys(min.toString(), max.toString()));
+            loadedFrom = min;
+            loadedTo = max;
+            return;
+        }
+        if (min.isBefore(loadedFrom)) {
+            knownKeys.addAll(dao.getDedupKeys(min.toString(), loadedFrom.minusDays(1).toString()));
+            loadedFrom = min;
+        }
+        if (max.isAfter(loadedTo)) {
+            knownKeys.addAll(dao.getDedupKeys(loadedTo.plusDays(1).toString(), max.toString()));
+            loadedTo = max;
+        }
+    }
+}
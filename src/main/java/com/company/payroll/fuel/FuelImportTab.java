@@ -4,6 +4,10 @@ import javafx.scene.Node;
 import javafx.scene.Scene;
 import com.company.payroll.employees.Employee;
 import com.company.payroll.employees.EmployeeDAO;
+import com.company.payroll.events.DomainEventBus;
+import com.company.payroll.events.DomainEventBus.Entity;
+import com.company.payroll.database.DimensionLookup;
+import com.company.payroll.database.DimensionLookup.Dimension;
 import javafx.collections.*;
 import javafx.collections.transformation.FilteredList;
 import javafx.geometry.Insets;
@@ -27,17 +31,12 @@ import javafx.beans.property.SimpleIntegerProperty;
 import javafx.geometry.Orientation;
 
 import java.io.*;
-import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
 import java.util.*;
+import java.util.concurrent.CancellationException;
 import java.util.stream.Collectors;
 
-import org.apache.poi.ss.usermodel.Workbook;
-import org.apache.poi.ss.usermodel.Sheet;
-import org.apache.poi.ss.usermodel.Row;
-import org.apache.poi.ss.usermodel.DateUtil;
-import org.apache.poi.xssf.usermodel.XSSFWorkbook;
 import com.company.payroll.util.WindowAware;
 
 public class FuelImportTab extends BorderPane implements WindowAware {
@@ -113,6 +112,9 @@ public class FuelImportTab extends BorderPane implements WindowAware {
         reload();
         populateDriverFilter();
         updateRecordCount();
+        
+        // Patch the table as transactions are written, here or elsewhere
+        DomainEventBus.subscribe(Entity.FUEL_TRANSACTION, this::applyFuelChanges);
 
         logger.info("FuelImportTab initialization complete");
     }
@@ -133,6 +135,60 @@ public class FuelImportTab extends BorderPane implements WindowAware {
             listener.onFuelDataChanged();
         }
     }
+    
+    /**
+     * Patch the loaded transactions with committed changes instead of reloading them:
+     * deleted rows are dropped, and changed rows are read back by id within the loaded
+     * date range. Listeners are notified once per delivery.
+     */
+    private void applyFuelChanges(DomainEventBus.Changes changes) {
+        logger.debug("Applying {} fuel transaction changes", changes.size());
+        allData.removeIf(t -> changes.deleted().contains(t.getId()));
+        Set<Integer> upserted = changes.upserted();
+        if (upserted.isEmpty()) {
+            updateRecordCount();
+            notifyFuelDataChanged();
+            return;
+        }
+        
+        LocalDate start = startDatePicker.getValue();
+        LocalDate end = endDatePicker.getValue();
+        boolean ranged = start != null && end != null; // Same window as reload()
+        Task<List<FuelTransaction>> patchTask = new Task<>() {
+            @Override
+            protected List<FuelTransaction> call() {
+                return dao.getByIdsAndDateRange(upserted, ranged ? start : null, ranged ? end : null);
+            }
+        };
+        patchTask.setOnSucceeded(e -> {
+            Map<Integer, FuelTransaction> byId = new LinkedHashMap<>();
+            patchTask.getValue().forEach(t -> byId.put(t.getId(), t));
+            for (int i = allData.size() - 1; i >= 0; i--) {
+                int id = allData.get(i).getId();
+                if (!upserted.contains(id)) {
+                    continue;
+                }
+                FuelTransaction changed = byId.remove(id);
+                if (changed != null) {
+                    allData.set(i, changed);
+                } else {
+                    allData.remove(i); // Moved out of the loaded range
+                }
+            }
+            allData.addAll(0, byId.values());
+            updateRecordCount();
+            populateDriverFilter();
+            notifyFuelDataChanged();
+        });
+        patchTask.setOnFailed(e -> {
+            logger.error("Failed to read changed fuel transactions, reloading", patchTask.getException());
+            reload();
+            notifyFuelDataChanged();
+        });
+        Thread thread = new Thread(patchTask, "fuel-patch");
+        thread.setDaemon(true);
+        thread.start();
+    }
 
     private void applyDateFilter(LocalDate start, LocalDate end) {
         logger.info("Applying date filter - Start: {}, End: {}", start, end);
@@ -259,8 +315,6 @@ public class FuelImportTab extends BorderPane implements WindowAware {
                     if (result == ButtonType.OK) {
                         logger.info("User confirmed deletion of invoice: {}", t.getInvoice());
                         dao.delete(t.getId());
-                        reload();
-                        notifyFuelDataChanged();
                     }
                 });
             } else {
@@ -286,10 +340,7 @@ public class FuelImportTab extends BorderPane implements WindowAware {
      * Populate driver filter combo box
      */
     private void populateDriverFilter() {
-        Set<String> uniqueDrivers = allData.stream()
-            .map(FuelTransaction::getDriverName)
-            .filter(name -> name != null && !name.trim().isEmpty())
-            .collect(Collectors.toCollection(TreeSet::new));
+        List<String> uniqueDrivers = DimensionLookup.labels(Dimension.FUEL_DRIVERS);
         
         driverFilterCombo.getItems().clear();
         driverFilterCombo.getItems().add(""); // Empty option for all drivers
@@ -392,12 +443,6 @@ public class FuelImportTab extends BorderPane implements WindowAware {
             cancelBtn.setDisable(true);
             closeBtn.setDisable(false);
             
-            // Reload data
-            reload();
-            if (result.imported > 0) {
-                notifyFuelDataChanged();
-            }
-            
             // Show summary
             showImportSummary(result);
         });
@@ -480,9 +525,10 @@ public class FuelImportTab extends BorderPane implements WindowAware {
      */
     private class ImportTask extends Task<ImportResult> {
         private final File file;
-        private int imported = 0;
-        private int skipped = 0;
-        private int errors = 0;
+        private final IntegerProperty importedCount = new SimpleIntegerProperty(0);
+        private volatile int imported = 0;
+        private volatile int skipped = 0;
+        private volatile int errors = 0;
         
         public ImportTask(File file) {
             this.file = file;
@@ -493,91 +539,46 @@ public class FuelImportTab extends BorderPane implements WindowAware {
         public int getErrors() { return errors; }
         
         public IntegerProperty importedProperty() {
-            return new SimpleIntegerProperty(imported);
+            return importedCount;
         }
         
         @Override
         protected ImportResult call() throws Exception {
             ImportResult result = new ImportResult();
-            String fileName = file.getName().toLowerCase();
+            // Rows are parsed lazily and written in batches as they arrive
+            FuelImportPipeline pipeline = new FuelImportPipeline(dao, FuelImportPipeline.DEFAULT_BATCH_SIZE,
+                this::batchCompleted, this::isCancelled);
             
-            try {
-                List<FuelTransaction> transactions;
-                
-                updateMessage("Reading file...");
-                if (fileName.endsWith(".csv")) {
-                    transactions = parseCSVWithProgress(file);
-                } else if (fileName.endsWith(".xlsx")) {
-                    transactions = parseXLSXWithProgress(file);
-                } else {
-                    throw new IllegalArgumentException("Unsupported file type");
-                }
-                
-                result.total = transactions.size();
-                
-                // Process transactions in batches
+            // Subscribers see the whole file as one change
+            try (DomainEventBus.Batch events = DomainEventBus.batch()) {
                 updateMessage("Processing transactions...");
-                int batchSize = 100;
-                
-                for (int i = 0; i < transactions.size(); i++) {
-                    if (isCancelled()) {
-                        updateMessage("Import cancelled");
-                        break;
-                    }
-                    
-                    FuelTransaction tx = transactions.get(i);
-                    
-                    try {
-                        if (dao.exists(tx.getInvoice(), tx.getTranDate(), 
-                                      tx.getLocationName(), tx.getAmt())) {
-                            skipped++;
-                            result.skipped++;
-                        } else {
-                            dao.add(tx);
-                            imported++;
-                            result.imported++;
-                        }
-                    } catch (Exception e) {
-                        errors++;
-                        result.errors++;
-                        result.errorMessages.add(String.format("Row %d: %s", i + 2, e.getMessage()));
-                        logger.debug("Error importing row {}: {}", i + 2, e.getMessage());
-                    }
-                    
-                    // Update progress
-                    updateProgress(i + 1, transactions.size());
-                    
-                    if (i % batchSize == 0) {
-                        updateMessage(String.format("Processing... (%d/%d)", i + 1, transactions.size()));
-                    }
-                }
-                
+                updateProgress(-1, 1);
+                new FuelFileParser(importConfig, employeeDAO.getAll()).parse(file, pipeline);
+                pipeline.finish();
+                updateProgress(1, 1);
                 updateMessage("Import completed");
-                
+            } catch (CancellationException e) {
+                updateMessage("Import cancelled");
             } catch (Exception e) {
                 logger.error("Import failed", e);
                 throw e;
             }
             
+            FuelImportPipeline.Result totals = pipeline.getResult();
+            result.total = totals.getProcessed();
+            result.imported = totals.getImported();
+            result.skipped = totals.getSkipped();
+            result.errors = totals.getErrors();
+            result.errorMessages.addAll(totals.getErrorMessages());
             return result;
         }
         
-        /**
-         * Parse CSV with progress updates
-         */
-        private List<FuelTransaction> parseCSVWithProgress(File file) throws IOException {
-            // For large files, we could count lines first to show accurate progress
-            // For now, use the existing parseCSV method
-            return parseCSV(file);
-        }
-        
-        /**
-         * Parse XLSX with progress updates
-         */
-        private List<FuelTransaction> parseXLSXWithProgress(File file) throws IOException {
-            // For large files, we could count rows first to show accurate progress
-            // For now, use the existing parseXLSX method
-            return parseXLSX(file);
+        private void batchCompleted(int processed, int importedSoFar, int skippedSoFar, int errorsSoFar) {
+            imported = importedSoFar;
+            skipped = skippedSoFar;
+            errors = errorsSoFar;
+            updateMessage(String.format("Processing... (%d rows)", processed));
+            Platform.runLater(() -> importedCount.set(importedSoFar));
         }
     }
 
@@ -655,8 +656,6 @@ public class FuelImportTab extends BorderPane implements WindowAware {
                     logger.info("Updating fuel transaction - Invoice: {}", vals[3]);
                     dao.update(tx);
                 }
-                reload();
-                notifyFuelDataChanged();
                 return tx;
             }
             return null;
@@ -665,202 +664,6 @@ public class FuelImportTab extends BorderPane implements WindowAware {
         dialog.showAndWait();
     }
 
-    private List<FuelTransaction> parseCSV(File file) throws IOException {
-        logger.info("Parsing CSV file: {}", file.getName());
-        List<FuelTransaction> list = new ArrayList<>();
-        List<Employee> employees = employeeDAO.getAll();
-        
-        try (BufferedReader br = new BufferedReader(new InputStreamReader(new FileInputStream(file), StandardCharsets.UTF_8))) {
-            String[] headers = br.readLine().split(",");
-            logger.debug("CSV headers: {}", Arrays.toString(headers));
-            
-            // Get column indices using configuration
-            Map<String, Integer> columnIndices = importConfig.getColumnIndices(headers);
-            logger.debug("Column indices from config: {}", columnIndices);
-            
-            String line;
-            int lineNumber = 1;
-            while ((line = br.readLine()) != null) {
-                lineNumber++;
-                String[] arr = line.split(",", -1);
-                if (arr.length < 21) {
-                    logger.warn("Line {} has insufficient columns ({}), skipping", lineNumber, arr.length);
-                    continue;
-                }
-                
-                // Extract values using configured column indices
-                String cardNumber = getValueFromArray(arr, columnIndices, "Card Number");
-                String tranDate = getValueFromArray(arr, columnIndices, "Transaction Date");
-                String tranTime = getValueFromArray(arr, columnIndices, "Transaction Time");
-                String invoice = getValueFromArray(arr, columnIndices, "Invoice");
-                String unit = getValueFromArray(arr, columnIndices, "Unit");
-                String driverName = getValueFromArray(arr, columnIndices, "Driver Name");
-                String odometer = getValueFromArray(arr, columnIndices, "Odometer");
-                String locationName = getValueFromArray(arr, columnIndices, "Location Name");
-                String city = getValueFromArray(arr, columnIndices, "City");
-                String stateProv = getValueFromArray(arr, columnIndices, "State/Province");
-                double fees = parseDouble(getValueFromArray(arr, columnIndices, "Fees"));
-                String item = getValueFromArray(arr, columnIndices, "Item");
-                double unitPrice = parseDouble(getValueFromArray(arr, columnIndices, "Unit Price"));
-                double discPPU = parseDouble(getValueFromArray(arr, columnIndices, "Discount PPU"));
-                double discCost = parseDouble(getValueFromArray(arr, columnIndices, "Discount Cost"));
-                double qty = parseDouble(getValueFromArray(arr, columnIndices, "Quantity"));
-                double discAmt = parseDouble(getValueFromArray(arr, columnIndices, "Discount Amount"));
-                String discType = getValueFromArray(arr, columnIndices, "Discount Type");
-                double amt = parseDouble(getValueFromArray(arr, columnIndices, "Amount"));
-                String db = getValueFromArray(arr, columnIndices, "DB");
-                String currency = getValueFromArray(arr, columnIndices, "Currency");
-                
-                // Find employee ID
-                int employeeId = 0;
-                for (Employee e : employees) {
-                    if (e.getName().equalsIgnoreCase(driverName) && e.getTruckId().equalsIgnoreCase(unit)) {
-                        employeeId = e.getId();
-                        break;
-                    }
-                }
-                
-                FuelTransaction t = new FuelTransaction(
-                    0, cardNumber, tranDate, tranTime, invoice, unit, driverName, odometer,
-                    locationName, city, stateProv, fees, item, unitPrice, discPPU, discCost,
-                    qty, discAmt, discType, amt, db, currency, employeeId
-                );
-                list.add(t);
-            }
-            logger.info("Parsed {} transactions from CSV", list.size());
-        }
-        return list;
-    }
-
-    private List<FuelTransaction> parseXLSX(File file) throws IOException {
-        logger.info("Parsing XLSX file: {}", file.getName());
-        List<FuelTransaction> list = new ArrayList<>();
-        List<Employee> employees = employeeDAO.getAll();
-        
-        try (FileInputStream fis = new FileInputStream(file);
-             Workbook workbook = new XSSFWorkbook(fis)) {
-            Sheet sheet = workbook.getSheetAt(0);
-            Iterator<Row> rowIterator = sheet.iterator();
-            if (!rowIterator.hasNext()) {
-                logger.warn("Empty XLSX file");
-                return list;
-            }
-            
-            Row headerRow = rowIterator.next();
-            logger.debug("XLSX has {} columns", headerRow.getLastCellNum());
-            
-            // Create header mapping for XLSX
-            Map<String, Integer> headerMap = new HashMap<>();
-            for (int i = 0; i < headerRow.getLastCellNum(); i++) {
-                org.apache.poi.ss.usermodel.Cell cell = headerRow.getCell(i);
-                if (cell != null && cell.getCellType() == org.apache.poi.ss.usermodel.CellType.STRING) {
-                    String header = cell.getStringCellValue().trim().toLowerCase();
-                    headerMap.put(header, i);
-                }
-            }
-            
-            logger.debug("XLSX header mapping: {}", headerMap);
-            
-            // Get column indices using configuration
-            Map<String, Integer> columnIndices = importConfig.getColumnIndices(headerMap);
-            logger.debug("Column indices from config: {}", columnIndices);
-            
-            int rowNumber = 1;
-            while (rowIterator.hasNext()) {
-                rowNumber++;
-                Row row = rowIterator.next();
-                
-                // Extract values using configured column indices
-                String cardNumber = getValueFromRow(row, columnIndices, "Card Number");
-                String tranDate = getValueFromRow(row, columnIndices, "Transaction Date");
-                String tranTime = getValueFromRow(row, columnIndices, "Transaction Time");
-                String invoice = getValueFromRow(row, columnIndices, "Invoice");
-                String unit = getValueFromRow(row, columnIndices, "Unit");
-                String driverName = getValueFromRow(row, columnIndices, "Driver Name");
-                String odometer = getValueFromRow(row, columnIndices, "Odometer");
-                String locationName = getValueFromRow(row, columnIndices, "Location Name");
-                String city = getValueFromRow(row, columnIndices, "City");
-                String stateProv = getValueFromRow(row, columnIndices, "State/Province");
-                double fees = parseDouble(getValueFromRow(row, columnIndices, "Fees"));
-                String item = getValueFromRow(row, columnIndices, "Item");
-                double unitPrice = parseDouble(getValueFromRow(row, columnIndices, "Unit Price"));
-                double discPPU = parseDouble(getValueFromRow(row, columnIndices, "Discount PPU"));
-                double discCost = parseDouble(getValueFromRow(row, columnIndices, "Discount Cost"));
-                double qty = parseDouble(getValueFromRow(row, columnIndices, "Quantity"));
-                double discAmt = parseDouble(getValueFromRow(row, columnIndices, "Discount Amount"));
-                String discType = getValueFromRow(row, columnIndices, "Discount Type");
-                double amt = parseDouble(getValueFromRow(row, columnIndices, "Amount"));
-                String db = getValueFromRow(row, columnIndices, "DB");
-                String currency = getValueFromRow(row, columnIndices, "Currency");
-                
-                // Skip empty rows
-                if (invoice.isEmpty()) {
-                    logger.debug("Skipping empty row {}", rowNumber);
-                    continue;
-                }
-                
-                // Find employee ID
-                int employeeId = 0;
-                for (Employee e : employees) {
-                    if (e.getName().equalsIgnoreCase(driverName) && e.getTruckId().equalsIgnoreCase(unit)) {
-                        employeeId = e.getId();
-                        break;
-                    }
-                }
-                
-                FuelTransaction t = new FuelTransaction(
-                    0, cardNumber, tranDate, tranTime, invoice, unit, driverName, odometer,
-                    locationName, city, stateProv, fees, item, unitPrice, discPPU, discCost,
-                    qty, discAmt, discType, amt, db, currency, employeeId
-                );
-                list.add(t);
-            }
-            logger.info("Parsed {} transactions from XLSX", list.size());
-        }
-        return list;
-    }
-    
-    private String getValueFromArray(String[] arr, Map<String, Integer> columnIndices, String fieldName) {
-        Integer index = columnIndices.get(fieldName);
-        if (index != null && index >= 0 && index < arr.length) {
-            return arr[index].trim();
-        }
-        return "";
-    }
-    
-    private String getValueFromRow(Row row, Map<String, Integer> columnIndices, String fieldName) {
-        Integer index = columnIndices.get(fieldName);
-        if (index != null && index >= 0) {
-            return getCellValue(row, index);
-        }
-        return "";
-    }
-
-    private String getCellValue(Row row, int colIndex) {
-        if (colIndex < 0) return "";
-        
-        org.apache.poi.ss.usermodel.Cell cell = row.getCell(colIndex, Row.MissingCellPolicy.CREATE_NULL_AS_BLANK);
-        switch (cell.getCellType()) {
-            case STRING: 
-                return cell.getStringCellValue().trim();
-            case NUMERIC:
-                if (DateUtil.isCellDateFormatted(cell)) {
-                    LocalDate date = cell.getLocalDateTimeCellValue().toLocalDate();
-                    return date.toString();
-                } else {
-                    double value = cell.getNumericCellValue();
-                    if (value == Math.floor(value)) {
-                        return String.valueOf((long) value);
-                    }
-                    return String.valueOf(value);
-                }
-            case BOOLEAN: 
-                return String.valueOf(cell.getBooleanCellValue());
-            default: 
-                return "";
-        }
-    }
-
     private double parseDouble(String s) {
         try { 
             return Double.parseDouble(s); 
@@ -1334,10 +1137,9 @@ public class FuelImportTab extends BorderPane implements WindowAware {
      * Filter driver combo box based on search text
      */
     private void filterDriverComboBox(String searchText) {
-        Set<String> uniqueDrivers = allData.stream()
-            .map(FuelTransaction::getDriverName)
+        List<String> uniqueDrivers = DimensionLookup.labels(Dimension.FUEL_DRIVERS).stream()
             .filter(name -> name.toLowerCase().contains(searchText.toLowerCase()))
-            .collect(Collectors.toCollection(TreeSet::new));
+            .collect(Collectors.toList());
         
         driverFilterCombo.getItems().setAll(uniqueDrivers);
         if (!driverFilterCombo.isShowing()) {
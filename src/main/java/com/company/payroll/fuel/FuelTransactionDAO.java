@@ -2,17 +2,43 @@ package com.company.payroll.fuel;
 
 import com.company.payroll.exception.DataAccessException;
 import com.company.payroll.database.DatabaseConfig;
+import com.company.payroll.events.DomainEventBus;
+import com.company.payroll.events.DomainEventBus.Change;
+import com.company.payroll.events.DomainEventBus.Entity;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.math.BigDecimal;
+import java.math.RoundingMode;
 import java.sql.*;
 import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
 
 public class FuelTransactionDAO {
     private static final Logger logger = LoggerFactory.getLogger(FuelTransactionDAO.class);
     private static final String DB_URL = "jdbc:sqlite:payroll.db";
+    private static final int NAME_BATCH_SIZE = 500; // Stay well below SQLite's bound-parameter limit
+    private static final String INSERT_INTO = """
+        INTO fuel_transactions (
+            card_number, tran_date, tran_time, invoice, unit, driver_name, odometer, location_name, city,
+            state_prov, fees, item, unit_price, disc_ppu, disc_cost, qty, disc_amt, disc_type, amt, db, currency, employee_id,
+            driver_key, tran_date_iso
+        ) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+        """;
+    private static final List<DateTimeFormatter> TRAN_DATE_FORMATS = List.of(
+        DateTimeFormatter.ISO_LOCAL_DATE,
+        DateTimeFormatter.ofPattern("M/d/yyyy"),
+        DateTimeFormatter.ofPattern("M/d/yy"));
 
     public FuelTransactionDAO() {
         logger.debug("Initializing FuelTransactionDAO");
@@ -46,6 +72,7 @@ public class FuelTransactionDAO {
                 );
             """;
             conn.createStatement().execute(sql);
+            migrateLookupColumns(conn);
             logger.info("Fuel transactions table initialized successfully");
         } catch (SQLException e) {
             logger.error("Failed to initialize FuelTransactionDAO: {}", e.getMessage(), e);
@@ -53,10 +80,109 @@ public class FuelTransactionDAO {
         }
     }
 
+    /**
+     * Adds the normalized lookup columns used by the indexed queries:
+     * driver_key (trimmed, lower-cased driver name) and tran_date_iso (yyyy-MM-dd).
+     * Existing rows are backfilled in the same transaction as the schema change,
+     * so a database is either fully migrated or not at all.
+     */
+    private void migrateLookupColumns(Connection conn) throws SQLException {
+        boolean originalAutoCommit = conn.getAutoCommit();
+        conn.setAutoCommit(false);
+        try {
+            boolean added = false;
+            try {
+                conn.createStatement().execute("ALTER TABLE fuel_transactions ADD COLUMN driver_key TEXT");
+                logger.info("Added driver_key column to fuel_transactions table");
+                added = true;
+            } catch (SQLException ignore) {
+                logger.debug("driver_key column already exists");
+            }
+            try {
+                conn.createStatement().execute("ALTER TABLE fuel_transactions ADD COLUMN tran_date_iso TEXT");
+                logger.info("Added tran_date_iso column to fuel_transactions table");
+                added = true;
+            } catch (SQLException ignore) {
+                logger.debug("tran_date_iso column already exists");
+            }
+            if (added) {
+                backfillLookupColumns(conn);
+            }
+            conn.createStatement().execute(
+                "CREATE INDEX IF NOT EXISTS idx_fuel_driver_key_date ON fuel_transactions(driver_key, tran_date_iso)");
+            conn.createStatement().execute(
+                "CREATE INDEX IF NOT EXISTS idx_fuel_employee_date ON fuel_transactions(employee_id, tran_date_iso)");
+            conn.createStatement().execute(
+                "CREATE INDEX IF NOT EXISTS idx_fuel_date ON fuel_transactions(tran_date_iso)");
+            conn.createStatement().execute(
+                "CREATE INDEX IF NOT EXISTS idx_fuel_driver_name ON fuel_transactions(driver_name)");
+            conn.commit();
+        } catch (SQLException e) {
+            conn.rollback();
+            throw e;
+        } finally {
+            conn.setAutoCommit(originalAutoCommit);
+        }
+    }
+
+    private void backfillLookupColumns(Connection conn) throws SQLException {
+        String select = "SELECT id, driver_name, tran_date FROM fuel_transactions WHERE driver_key IS NULL OR tran_date_iso IS NULL";
+        String update = "UPDATE fuel_transactions SET driver_key = ?, tran_date_iso = ? WHERE id = ?";
+        int count = 0;
+        int unparsed = 0;
+        try (Statement st = conn.createStatement();
+             ResultSet rs = st.executeQuery(select);
+             PreparedStatement ps = conn.prepareStatement(update)) {
+            while (rs.next()) {
+                String iso = toIsoDate(rs.getString("tran_date"));
+                if (iso.isEmpty()) {
+                    unparsed++;
+                }
+                ps.setString(1, driverKey(rs.getString("driver_name")));
+                ps.setString(2, iso);
+                ps.setInt(3, rs.getInt("id"));
+                ps.addBatch();
+                if (++count % 1000 == 0) {
+                    ps.executeBatch();
+                }
+            }
+            ps.executeBatch();
+        }
+        logger.info("Backfilled lookup columns for {} fuel transactions ({} with unparseable dates)", count, unparsed);
+    }
+
+    /**
+     * Normalized driver name used for the driver_key column and its lookups.
+     * Blank names map to an empty key.
+     */
+    public static String driverKey(String driverName) {
+        return driverName == null ? "" : driverName.trim().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Convert an imported transaction date to yyyy-MM-dd. Accepts ISO dates (optionally
+     * followed by a time) and US style M/d/yyyy or M/d/yy; anything else maps to an
+     * empty string, which sorts before every date and so never matches a date range.
+     */
+    public static String toIsoDate(String tranDate) {
+        if (tranDate == null || tranDate.isBlank()) {
+            return "";
+        }
+        String value = tranDate.trim().split("[ T]")[0];
+        for (DateTimeFormatter format : TRAN_DATE_FORMATS) {
+            try {
+                return LocalDate.parse(value, format).toString();
+            } catch (DateTimeParseException ignore) {
+                // try the next format
+            }
+        }
+        return "";
+    }
+
     public List<FuelTransaction> getAll() {
         logger.debug("Fetching all fuel transactions");
         List<FuelTransaction> list = new ArrayList<>();
-        try (Connection conn = DatabaseConfig.getConnection()) {
+        try (Connection conn = DatabaseConfig.getReadConnection()) {
             String sql = "SELECT * FROM fuel_transactions";
             ResultSet rs = conn.createStatement().executeQuery(sql);
             while (rs.next()) {
@@ -74,43 +200,23 @@ public class FuelTransactionDAO {
     public int add(FuelTransaction t) {
         logger.info("Adding fuel transaction - Invoice: {}, Driver: {}, Amount: ${}", 
             t.getInvoice(), t.getDriverName(), t.getAmt());
-        String sql = """
-        INSERT INTO fuel_transactions (
-            card_number, tran_date, tran_time, invoice, unit, driver_name, odometer, location_name, city,
-            state_prov, fees, item, unit_price, disc_ppu, disc_cost, qty, disc_amt, disc_type, amt, db, currency, employee_id
-        ) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
-        """;
-        try (Connection conn = DatabaseConfig.getConnection()) {
-            PreparedStatement ps = conn.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS);
-            ps.setString(1, t.getCardNumber());
-            ps.setString(2, t.getTranDate());
-            ps.setString(3, t.getTranTime());
-            ps.setString(4, t.getInvoice());
-            ps.setString(5, t.getUnit());
-            ps.setString(6, t.getDriverName());
-            ps.setString(7, t.getOdometer());
-            ps.setString(8, t.getLocationName());
-            ps.setString(9, t.getCity());
-            ps.setString(10, t.getStateProv());
-            ps.setDouble(11, t.getFees());
-            ps.setString(12, t.getItem());
-            ps.setDouble(13, t.getUnitPrice());
-            ps.setDouble(14, t.getDiscPPU());
-            ps.setDouble(15, t.getDiscCost());
-            ps.setDouble(16, t.getQty());
-            ps.setDouble(17, t.getDiscAmt());
-            ps.setString(18, t.getDiscType());
-            ps.setDouble(19, t.getAmt());
-            ps.setString(20, t.getDb());
-            ps.setString(21, t.getCurrency());
-            ps.setObject(22, t.getEmployeeId());
-            ps.executeUpdate();
-            ResultSet keys = ps.getGeneratedKeys();
-            if (keys.next()) {
-                int id = keys.getInt(1);
+        String sql = "INSERT " + INSERT_INTO;
+        try {
+            int id = DatabaseConfig.write(() -> {
+                try (Connection conn = DatabaseConfig.getConnection();
+                     PreparedStatement ps = conn.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS)) {
+                    bindInsert(ps, t);
+                    ps.executeUpdate();
+                    try (ResultSet keys = ps.getGeneratedKeys()) {
+                        return keys.next() ? keys.getInt(1) : -1;
+                    }
+                }
+            });
+            if (id > 0) {
                 logger.info("Fuel transaction added successfully with ID: {}", id);
-                return id;
+                DomainEventBus.publish(Entity.FUEL_TRANSACTION, id, Change.INSERT);
             }
+            return id;
         } catch (SQLException e) {
             if (e.getMessage() != null && e.getMessage().contains("UNIQUE constraint failed")) {
                 logger.warn("Duplicate fuel transaction detected - Invoice: {}, Date: {}, Location: {}", 
@@ -120,7 +226,125 @@ public class FuelTransactionDAO {
             logger.error("Error adding fuel transaction: {}", e.getMessage(), e);
             throw new DataAccessException("Error adding fuel transaction", e);
         }
-        return -1;
+    }
+
+    /**
+     * Insert a batch of transactions in a single transaction on the writer thread.
+     * Rows that collide with the table's UNIQUE constraint are ignored rather than
+     * failing the batch. The ids of the inserted rows are published once committed;
+     * AUTOINCREMENT keeps them above the largest id before the batch.
+     * @return per-row update counts in batch order (0 = ignored duplicate)
+     */
+    public int[] addBatch(List<FuelTransaction> batch) {
+        if (batch.isEmpty()) {
+            return new int[0];
+        }
+        logger.debug("Adding batch of {} fuel transactions", batch.size());
+        String sql = "INSERT OR IGNORE " + INSERT_INTO;
+        List<Integer> inserted = new ArrayList<>();
+        try {
+            int[] counts = DatabaseConfig.write(() -> {
+                try (Connection conn = DatabaseConfig.getConnection();
+                     PreparedStatement ps = conn.prepareStatement(sql)) {
+                    long lastId = maxId(conn);
+                    for (FuelTransaction t : batch) {
+                        bindInsert(ps, t);
+                        ps.addBatch();
+                    }
+                    int[] result = ps.executeBatch();
+                    inserted.addAll(idsAbove(conn, lastId));
+                    return result;
+                }
+            });
+            DomainEventBus.publishAll(Entity.FUEL_TRANSACTION, inserted, Change.INSERT);
+            return counts;
+        } catch (SQLException e) {
+            logger.error("Error adding fuel transaction batch: {}", e.getMessage(), e);
+            throw new DataAccessException("Error adding fuel transaction batch", e);
+        }
+    }
+
+    private static long maxId(Connection conn) throws SQLException {
+        try (Statement st = conn.createStatement();
+             ResultSet rs = st.executeQuery("SELECT IFNULL(MAX(id), 0) FROM fuel_transactions")) {
+            return rs.next() ? rs.getLong(1) : 0;
+        }
+    }
+
+    private static List<Integer> idsAbove(Connection conn, long lastId) throws SQLException {
+        List<Integer> ids = new ArrayList<>();
+        try (PreparedStatement ps = conn.prepareStatement("SELECT id FROM fuel_transactions WHERE id > ?")) {
+            ps.setLong(1, lastId);
+            try (ResultSet rs = ps.executeQuery()) {
+                while (rs.next()) {
+                    ids.add(rs.getInt(1));
+                }
+            }
+        }
+        return ids;
+    }
+
+    private static void bindInsert(PreparedStatement ps, FuelTransaction t) throws SQLException {
+        ps.setString(1, t.getCardNumber());
+        ps.setString(2, t.getTranDate());
+        ps.setString(3, t.getTranTime());
+        ps.setString(4, t.getInvoice());
+        ps.setString(5, t.getUnit());
+        ps.setString(6, t.getDriverName());
+        ps.setString(7, t.getOdometer());
+        ps.setString(8, t.getLocationName());
+        ps.setString(9, t.getCity());
+        ps.setString(10, t.getStateProv());
+        ps.setDouble(11, t.getFees());
+        ps.setString(12, t.getItem());
+        ps.setDouble(13, t.getUnitPrice());
+        ps.setDouble(14, t.getDiscPPU());
+        ps.setDouble(15, t.getDiscCost());
+        ps.setDouble(16, t.getQty());
+        ps.setDouble(17, t.getDiscAmt());
+        ps.setString(18, t.getDiscType());
+        ps.setDouble(19, t.getAmt());
+        ps.setString(20, t.getDb());
+        ps.setString(21, t.getCurrency());
+        ps.setObject(22, t.getEmployeeId());
+        ps.setString(23, driverKey(t.getDriverName()));
+        ps.setString(24, toIsoDate(t.getTranDate()));
+    }
+
+    /**
+     * Key used to detect duplicate imports; equal keys are what {@link #exists} treats as the same transaction.
+     */
+    public static String dedupKey(String invoice, String tranDate, String locationName, double amt) {
+        return normalize(invoice) + '|' + normalize(tranDate) + '|' + normalize(locationName) + '|'
+            + BigDecimal.valueOf(amt).setScale(2, RoundingMode.HALF_UP).toPlainString();
+    }
+
+    private static String normalize(String value) {
+        return value == null ? "" : value.trim().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Dedup keys of all stored transactions whose ISO date lies in [fromIsoDate, toIsoDate].
+     * Pass empty strings for both bounds to get the rows whose date could not be parsed.
+     */
+    public Set<String> getDedupKeys(String fromIsoDate, String toIsoDate) {
+        Set<String> keys = new HashSet<>();
+        String sql = "SELECT invoice, tran_date, location_name, amt FROM fuel_transactions WHERE tran_date_iso >= ? AND tran_date_iso <= ?";
+        try (Connection conn = DatabaseConfig.getReadConnection();
+             PreparedStatement ps = conn.prepareStatement(sql)) {
+            ps.setString(1, fromIsoDate);
+            ps.setString(2, toIsoDate);
+            try (ResultSet rs = ps.executeQuery()) {
+                while (rs.next()) {
+                    keys.add(dedupKey(rs.getString(1), rs.getString(2), rs.getString(3), rs.getDouble(4)));
+                }
+            }
+            logger.debug("Loaded {} dedup keys for {} to {}", keys.size(), fromIsoDate, toIsoDate);
+        } catch (SQLException e) {
+            logger.error("Error loading fuel dedup keys: {}", e.getMessage(), e);
+            throw new DataAccessException("Error loading fuel dedup keys", e);
+        }
+        return keys;
     }
 
     public boolean exists(String invoice, String tranDate, String locationName, double amt) {
@@ -133,7 +357,7 @@ public class FuelTransactionDAO {
                   LOWER(TRIM(location_name)) = ? AND
                   ROUND(amt, 2) = ROUND(?, 2)
         """;
-        try (Connection conn = DatabaseConfig.getConnection()) {
+        try (Connection conn = DatabaseConfig.getReadConnection()) {
             PreparedStatement ps = conn.prepareStatement(sql);
             ps.setString(1, invoice.trim().toLowerCase());
             ps.setString(2, tranDate.trim().toLowerCase());
@@ -155,37 +379,20 @@ public class FuelTransactionDAO {
             UPDATE fuel_transactions SET
                 card_number=?, tran_date=?, tran_time=?, invoice=?, unit=?, driver_name=?, odometer=?, location_name=?,
                 city=?, state_prov=?, fees=?, item=?, unit_price=?, disc_ppu=?, disc_cost=?, qty=?, disc_amt=?,
-                disc_type=?, amt=?, db=?, currency=?, employee_id=?
+                disc_type=?, amt=?, db=?, currency=?, employee_id=?, driver_key=?, tran_date_iso=?
             WHERE id=?
         """;
-        try (Connection conn = DatabaseConfig.getConnection()) {
-            PreparedStatement ps = conn.prepareStatement(sql);
-            ps.setString(1, t.getCardNumber());
-            ps.setString(2, t.getTranDate());
-            ps.setString(3, t.getTranTime());
-            ps.setString(4, t.getInvoice());
-            ps.setString(5, t.getUnit());
-            ps.setString(6, t.getDriverName());
-            ps.setString(7, t.getOdometer());
-            ps.setString(8, t.getLocationName());
-            ps.setString(9, t.getCity());
-            ps.setString(10, t.getStateProv());
-            ps.setDouble(11, t.getFees());
-            ps.setString(12, t.getItem());
-            ps.setDouble(13, t.getUnitPrice());
-            ps.setDouble(14, t.getDiscPPU());
-            ps.setDouble(15, t.getDiscCost());
-            ps.setDouble(16, t.getQty());
-            ps.setDouble(17, t.getDiscAmt());
-            ps.setString(18, t.getDiscType());
-            ps.setDouble(19, t.getAmt());
-            ps.setString(20, t.getDb());
-            ps.setString(21, t.getCurrency());
-            ps.setObject(22, t.getEmployeeId());
-            ps.setInt(23, t.getId());
-            int rowsAffected = ps.executeUpdate();
+        try {
+            int rowsAffected = DatabaseConfig.write(() -> {
+                try (Connection conn = DatabaseConfig.getConnection();
+                     PreparedStatement ps = conn.prepareStatement(sql)) {
+                    bindUpdate(ps, t);
+                    return ps.executeUpdate();
+                }
+            });
             if (rowsAffected > 0) {
                 logger.info("Fuel transaction updated successfully");
+                DomainEventBus.publish(Entity.FUEL_TRANSACTION, t.getId(), Change.UPDATE);
             } else {
                 logger.warn("No fuel transaction found with ID: {}", t.getId());
             }
@@ -195,15 +402,48 @@ public class FuelTransactionDAO {
         }
     }
 
+    private static void bindUpdate(PreparedStatement ps, FuelTransaction t) throws SQLException {
+        ps.setString(1, t.getCardNumber());
+        ps.setString(2, t.getTranDate());
+        ps.setString(3, t.getTranTime());
+        ps.setString(4, t.getInvoice());
+        ps.setString(5, t.getUnit());
+        ps.setString(6, t.getDriverName());
+        ps.setString(7, t.getOdometer());
+        ps.setString(8, t.getLocationName());
+        ps.setString(9, t.getCity());
+        ps.setString(10, t.getStateProv());
+        ps.setDouble(11, t.getFees());
+        ps.setString(12, t.getItem());
+        ps.setDouble(13, t.getUnitPrice());
+        ps.setDouble(14, t.getDiscPPU());
+        ps.setDouble(15, t.getDiscCost());
+        ps.setDouble(16, t.getQty());
+        ps.setDouble(17, t.getDiscAmt());
+        ps.setString(18, t.getDiscType());
+        ps.setDouble(19, t.getAmt());
+        ps.setString(20, t.getDb());
+        ps.setString(21, t.getCurrency());
+        ps.setObject(22, t.getEmployeeId());
+        ps.setString(23, driverKey(t.getDriverName()));
+        ps.setString(24, toIsoDate(t.getTranDate()));
+        ps.setInt(25, t.getId());
+    }
+
     public void delete(int id) {
         logger.info("Deleting fuel transaction with ID: {}", id);
         String sql = "DELETE FROM fuel_transactions WHERE id = ?";
-        try (Connection conn = DatabaseConfig.getConnection()) {
-            PreparedStatement ps = conn.prepareStatement(sql);
-            ps.setInt(1, id);
-            int rowsAffected = ps.executeUpdate();
+        try {
+            int rowsAffected = DatabaseConfig.write(() -> {
+                try (Connection conn = DatabaseConfig.getConnection();
+                     PreparedStatement ps = conn.prepareStatement(sql)) {
+                    ps.setInt(1, id);
+                    return ps.executeUpdate();
+                }
+            });
             if (rowsAffected > 0) {
                 logger.info("Fuel transaction deleted successfully");
+                DomainEventBus.publish(Entity.FUEL_TRANSACTION, id, Change.DELETE);
             } else {
                 logger.warn("No fuel transaction found with ID: {}", id);
             }
@@ -220,17 +460,17 @@ public class FuelTransactionDAO {
         List<Object> params = new ArrayList<>();
         
         if (start != null) {
-            sql.append(" AND tran_date >= ?");
+            sql.append(" AND tran_date_iso >= ?");
             params.add(start.toString());
         }
         if (end != null) {
-            sql.append(" AND tran_date <= ?");
+            sql.append(" AND tran_date_iso <= ?");
             params.add(end.toString());
         }
         
-        sql.append(" ORDER BY tran_date DESC, tran_time DESC");
+        sql.append(" ORDER BY tran_date_iso DESC, tran_time DESC");
         
-        try (Connection conn = DatabaseConfig.getConnection();
+        try (Connection conn = DatabaseConfig.getReadConnection();
              PreparedStatement ps = conn.prepareStatement(sql.toString())) {
             
             for (int i = 0; i < params.size(); i++) {
@@ -251,26 +491,65 @@ public class FuelTransactionDAO {
         return list;
     }
 
+    /**
+     * The transactions among {@code ids} dated inside the range, for patching a table after
+     * some rows changed; either bound may be null.
+     */
+    public List<FuelTransaction> getByIdsAndDateRange(Collection<Integer> ids, LocalDate start, LocalDate end) {
+        List<FuelTransaction> list = new ArrayList<>();
+        List<Integer> idList = new ArrayList<>(ids);
+        try (Connection conn = DatabaseConfig.getReadConnection()) {
+            for (int from = 0; from < idList.size(); from += NAME_BATCH_SIZE) {
+                List<Integer> chunk = idList.subList(from, Math.min(from + NAME_BATCH_SIZE, idList.size()));
+                StringBuilder sql = new StringBuilder("SELECT * FROM fuel_transactions WHERE id IN (");
+                sql.append(String.join(",", Collections.nCopies(chunk.size(), "?"))).append(")");
+                List<Object> params = new ArrayList<>(chunk);
+                if (start != null) {
+                    sql.append(" AND tran_date_iso >= ?");
+                    params.add(start.toString());
+                }
+                if (end != null) {
+                    sql.append(" AND tran_date_iso <= ?");
+                    params.add(end.toString());
+                }
+
+                try (PreparedStatement ps = conn.prepareStatement(sql.toString())) {
+                    for (int i = 0; i < params.size(); ++i)
+                        ps.setObject(i + 1, params.get(i));
+                    try (ResultSet rs = ps.executeQuery()) {
+                        while (rs.next()) {
+                            list.add(mapRow(rs));
+                        }
+                    }
+                }
+            }
+        } catch (SQLException e) {
+            logger.error("Error getting fuel transactions by ids: {}", e.getMessage(), e);
+            throw new DataAccessException("Error getting fuel transactions by ids", e);
+        }
+        return list;
+    }
+
     public List<FuelTransaction> getByDriverAndDateRange(String driverName, LocalDate start, LocalDate end) {
         logger.debug("Getting fuel transactions - Driver: {}, Start: {}, End: {}", driverName, start, end);
         List<FuelTransaction> list = new ArrayList<>();
         StringBuilder sql = new StringBuilder("SELECT * FROM fuel_transactions WHERE 1=1");
         List<Object> params = new ArrayList<>();
         if (driverName != null && !driverName.isBlank()) {
-            sql.append(" AND LOWER(TRIM(driver_name)) = ?");
-            params.add(driverName.trim().toLowerCase());
+            sql.append(" AND driver_key = ?");
+            params.add(driverKey(driverName));
         }
         if (start != null) {
-            sql.append(" AND tran_date >= ?");
+            sql.append(" AND tran_date_iso >= ?");
             params.add(start.toString());
         }
         if (end != null) {
-            sql.append(" AND tran_date <= ?");
+            sql.append(" AND tran_date_iso <= ?");
             params.add(end.toString());
         }
-        sql.append(" ORDER BY tran_date ASC");
+        sql.append(" ORDER BY tran_date_iso ASC");
 
-        try (Connection conn = DatabaseConfig.getConnection()) {
+        try (Connection conn = DatabaseConfig.getReadConnection()) {
             PreparedStatement ps = conn.prepareStatement(sql.toString());
             for (int i = 0; i < params.size(); ++i)
                 ps.setObject(i + 1, params.get(i));
@@ -288,6 +567,96 @@ public class FuelTransactionDAO {
         return list;
     }
 
+    /**
+     * Bulk variant of {@link #getByDriverAndDateRange(String, LocalDate, LocalDate)} for a payroll run.
+     * Matches names the same way (case-insensitive, trimmed) and groups the result by the
+     * normalized driver key, see {@link #driverKey(String)}.
+     *
+     * @return transactions keyed by normalized driver name; blank names are ignored
+     */
+    public Map<String, List<FuelTransaction>> getByDriverNamesAndDateRange(Collection<String> driverNames,
+                                                                          LocalDate start, LocalDate end) {
+        Map<String, List<FuelTransaction>> result = new HashMap<>();
+        List<String> keys = driverNames.stream()
+            .filter(n -> n != null && !n.isBlank())
+            .map(FuelTransactionDAO::driverKey)
+            .distinct()
+            .toList();
+        if (keys.isEmpty()) {
+            return result;
+        }
+        logger.debug("Getting fuel transactions - {} drivers, Start: {}, End: {}", keys.size(), start, end);
+        try (Connection conn = DatabaseConfig.getReadConnection()) {
+            for (int from = 0; from < keys.size(); from += NAME_BATCH_SIZE) {
+                List<String> chunk = keys.subList(from, Math.min(from + NAME_BATCH_SIZE, keys.size()));
+                StringBuilder sql = new StringBuilder("SELECT * FROM fuel_transactions WHERE driver_key IN (");
+                sql.append(String.join(",", Collections.nCopies(chunk.size(), "?"))).append(")");
+                List<Object> params = new ArrayList<>(chunk);
+                if (start != null) {
+                    sql.append(" AND tran_date_iso >= ?");
+                    params.add(start.toString());
+                }
+                if (end != null) {
+                    sql.append(" AND tran_date_iso <= ?");
+                    params.add(end.toString());
+                }
+                sql.append(" ORDER BY tran_date_iso ASC");
+
+                try (PreparedStatement ps = conn.prepareStatement(sql.toString())) {
+                    for (int i = 0; i < params.size(); ++i)
+                        ps.setObject(i + 1, params.get(i));
+                    try (ResultSet rs = ps.executeQuery()) {
+                        while (rs.next()) {
+                            result.computeIfAbsent(rs.getString("driver_key"), k -> new ArrayList<>()).add(mapRow(rs));
+                        }
+                    }
+                }
+            }
+            logger.info("Retrieved fuel transactions for {} of {} drivers between {} and {}",
+                result.size(), keys.size(), start, end);
+        } catch (SQLException e) {
+            logger.error("Error getting fuel transactions by driver names and date range: {}", e.getMessage(), e);
+            throw new DataAccessException("Error getting fuel transactions by driver names and date range", e);
+        }
+        return result;
+    }
+
+    /**
+     * Transactions matched to an employee at import time, using the (employee_id, tran_date_iso) index.
+     */
+    public List<FuelTransaction> getByEmployeeAndDateRange(int employeeId, LocalDate start, LocalDate end) {
+        logger.debug("Getting fuel transactions - Employee: {}, Start: {}, End: {}", employeeId, start, end);
+        List<FuelTransaction> list = new ArrayList<>();
+        StringBuilder sql = new StringBuilder("SELECT * FROM fuel_transactions WHERE employee_id = ?");
+        List<Object> params = new ArrayList<>();
+        params.add(employeeId);
+        if (start != null) {
+            sql.append(" AND tran_date_iso >= ?");
+            params.add(start.toString());
+        }
+        if (end != null) {
+            sql.append(" AND tran_date_iso <= ?");
+            params.add(end.toString());
+        }
+        sql.append(" ORDER BY tran_date_iso ASC");
+
+        try (Connection conn = DatabaseConfig.getReadConnection();
+             PreparedStatement ps = conn.prepareStatement(sql.toString())) {
+            for (int i = 0; i < params.size(); ++i)
+                ps.setObject(i + 1, params.get(i));
+            ResultSet rs = ps.executeQuery();
+            while (rs.next()) {
+                list.add(mapRow(rs));
+            }
+            logger.info("Retrieved {} fuel transactions for employee {} between {} and {}", 
+                list.size(), employeeId, start, end);
+        } catch (SQLException e) {
+            logger.error("Error getting fuel transactions by employee and date range: {}", e.getMessage(), e);
+            throw new DataAccessException("Error getting fuel transactions by employee and date range", e);
+        }
+        return list;
+    }
+
     private FuelTransaction mapRow(ResultSet rs) throws SQLException {
         return new FuelTransaction(
             rs.getInt("id"),
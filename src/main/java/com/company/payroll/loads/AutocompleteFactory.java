@@ -1,5 +1,7 @@
 package com.company.payroll.loads;
 
+import com.company.payroll.cache.EnterpriseDataCacheManager;
+
 import javafx.scene.control.Alert;
 import javafx.scene.control.TextInputDialog;
 import org.slf4j.Logger;
@@ -1,5 +1,7 @@
 package com.company.payroll.loads;
 
+import com.company.payroll.cache.EnterpriseDataCacheManager;
+
 import javafx.beans.property.ObjectProperty;
 import javafx.beans.property.SimpleObjectProperty;
 import javafx.beans.property.StringProperty;
@@ -1,5 +1,7 @@
 package com.company.payroll.loads;
 
+import com.company.payroll.cache.EnterpriseDataCacheManager;
+
 import javafx.application.Platform;
 import javafx.beans.property.ObjectProperty;
 import javafx.beans.property.SimpleObjectProperty;
@@ -1,660 +0,0 @@
-package com.company.payroll.loads;
-
-import javafx.application.Platform;
-import javafx.collections.FXCollections;
-import javafx.collections.ObservableList;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
-
-import java.util.*;
-import java.util.concurrent.*;
-import java.util.concurrent.atomic.AtomicInteger;
-import java.util.concurrent.atomic.AtomicLong;
-import java.util.stream.Collectors;
-
-/**
- * ENTERPRISE DATA CACHE MANAGER - OPTIMIZED FOR 10,000+ ENTRIES
- * 
- * Implements your specific requirements for production-ready caching:
- * 
- * 1. INCREMENTAL UPDATES: Avoids full refresh on every load addition
- * 2. BACKGROUND SYNCHRONIZATION: All heavy operations in background threads
- * 3. INTELLIGENT CACHE MANAGEMENT: LRU eviction with bounded memory usage
- * 4. REAL-TIME SYNC: Cache updates immediately on user actions
- * 5. PERFORMANCE MONITORING: Comprehensive logging and metrics
- * 6. THREAD SAFETY: Proper resource management and cleanup
- * 
- * PERFORMANCE TARGETS:
- * - Customer search: <50ms for 10,000+ entries
- * - Address search: <100ms for 1,000+ addresses per customer  
- * - Memory usage: <200MB stable, no growth over time
- * - Cache hit rate: >90% for frequently accessed data
- * - UI responsiveness: Never blocks, always <16ms frame time
- */
-public class EnterpriseDataCacheManagerOptimized {
-    private static final Logger logger = LoggerFactory.getLogger(EnterpriseDataCacheManagerOptimized.class);
-    
-    // SINGLETON PATTERN - THREAD-SAFE LAZY INITIALIZATION
-    private static volatile EnterpriseDataCacheManagerOptimized instance;
-    private static final Object LOCK = new Object();
-    
-    // PERFORMANCE CONFIGURATION FOR 10,000+ ENTRIES
-    private static final int MAX_CUSTOMER_CACHE_SIZE = 2000;           // LRU customer cache limit
-    private static final int MAX_ADDRESS_CACHE_SIZE = 5000;            // Total address entries across all customers
-    private static final int MAX_ADDRESSES_PER_CUSTOMER = 500;         // Limit per customer to prevent bloat
-    private static final long CACHE_ENTRY_TTL_MS = 300_000;           // 5 minutes TTL
-    private static final long BACKGROUND_REFRESH_INTERVAL_MS = 180_000; // 3 minutes background refresh
-    private static final long INCREMENTAL_UPDATE_INTERVAL_MS = 30_000; // 30 seconds incremental updates
-    private static final int PERFORMANCE_WARNING_THRESHOLD_MS = 500;    // Log warnings for slow operations
-    
-    // THREAD POOL CONFIGURATION - OPTIMIZED FOR PERFORMANCE
-    private final ScheduledExecutorService backgroundExecutor;
-    private final ExecutorService cacheUpdateExecutor;
-    
-    // LRU CACHE IMPLEMENTATION - THREAD-SAFE WITH AUTOMATIC EVICTION
-    private final Map<String, CacheEntry<List<String>>> customerCache;
-    private final Map<String, CacheEntry<List<CustomerAddress>>> addressCache;
-    private final Map<String, Long> accessTimestamps;
-    
-    // PERFORMANCE METRICS AND MONITORING
-    private final AtomicLong cacheHits = new AtomicLong(0);
-    private final AtomicLong cacheMisses = new AtomicLong(0);
-    private final AtomicLong backgroundUpdates = new AtomicLong(0);
-    private final AtomicLong incrementalUpdates = new AtomicLong(0);
-    private final AtomicInteger activeSearches = new AtomicInteger(0);
-    
-    // RECENT CHANGES TRACKING - FOR INCREMENTAL UPDATES
-    private final Set<String> recentCustomerChanges = ConcurrentHashMap.newKeySet();
-    private final Set<String> recentAddressChanges = ConcurrentHashMap.newKeySet();
-    
-    // DATA ACCESS OBJECTS
-    private final LoadDAO loadDAO;
-    
-    private EnterpriseDataCacheManagerOptimized() {
-        this.loadDAO = new LoadDAO();
-        
-        // INITIALIZE THREAD POOLS WITH OPTIMAL SIZING
-        this.backgroundExecutor = Executors.newScheduledThreadPool(
-            Math.max(2, Runtime.getRuntime().availableProcessors() / 4),
-            r -> {
-                Thread t = new Thread(r, "CacheManager-Background-" + System.currentTimeMillis());
-                t.setDaemon(true);
-                t.setPriority(Thread.NORM_PRIORITY - 1);
-                t.setUncaughtExceptionHandler((thread, ex) -> 
-                    logger.error("Uncaught exception in background cache thread: " + thread.getName(), ex));
-                return t;
-            }
-        );
-        
-        this.cacheUpdateExecutor = Executors.newFixedThreadPool(
-            Math.max(1, Runtime.getRuntime().availableProcessors() / 8),
-            r -> {
-                Thread t = new Thread(r, "CacheUpdate-" + System.currentTimeMillis());
-                t.setDaemon(true);
-                t.setPriority(Thread.MIN_PRIORITY);
-                return t;
-            }
-        );
-        
-        // INITIALIZE LRU CACHES WITH AUTOMATIC EVICTION
-        this.customerCache = Collections.synchronizedMap(new LinkedHashMap<String, CacheEntry<List<String>>>(
-            MAX_CUSTOMER_CACHE_SIZE + 1, 0.75f, true) {
-            @Override
-            protected boolean removeEldestEntry(Map.Entry<String, CacheEntry<List<String>>> eldest) {
-                boolean shouldRemove = size() > MAX_CUSTOMER_CACHE_SIZE;
-                if (shouldRemove) {
-                    logger.debug("LRU eviction: removing customer cache entry for key: {}", eldest.getKey());
-                }
-                return shouldRemove;
-            }
-        });
-        
-        this.addressCache = Collections.synchronizedMap(new LinkedHashMap<String, CacheEntry<List<CustomerAddress>>>(
-            MAX_ADDRESS_CACHE_SIZE + 1, 0.75f, true) {
-            @Override
-            protected boolean removeEldestEntry(Map.Entry<String, CacheEntry<List<CustomerAddress>>> eldest) {
-                boolean shouldRemove = size() > MAX_ADDRESS_CACHE_SIZE;
-                if (shouldRemove) {
-                    logger.debug("LRU eviction: removing address cache entry for key: {}", eldest.getKey());
-                }
-                return shouldRemove;
-            }
-        });
-        
-        this.accessTimestamps = new ConcurrentHashMap<>();
-        
-        // START BACKGROUND PROCESSES
-        initializeBackgroundProcesses();
-        
-        logger.info("EnterpriseDataCacheManagerOptimized initialized with performance optimizations");
-    }
-    
-    public static EnterpriseDataCacheManagerOptimized getInstance() {
-        if (instance == null) {
-            synchronized (LOCK) {
-                if (instance == null) {
-                    instance = new EnterpriseDataCacheManagerOptimized();
-                }
-            }
-        }
-        return instance;
-    }
-    
-    /**
-     * REQUIREMENT 1: INCREMENTAL CUSTOMER SEARCH - AVOID FULL REFRESH
-     * 
-     * Provides fast customer search with intelligent caching and incremental updates.
-     * Handles 10,000+ customers with <50ms response time.
-     */
-    public CompletableFuture<List<String>> searchCustomersAsync(String query, int limit) {
-        if (query == null || query.trim().isEmpty()) {
-            return CompletableFuture.completedFuture(new ArrayList<>());
-        }
-        
-        activeSearches.incrementAndGet();
-        long startTime = System.currentTimeMillis();
-        String cacheKey = "customers_" + query.toLowerCase().trim() + "_" + limit;
-        
-        return CompletableFuture.supplyAsync(() -> {
-            try {
-                // FAST PATH: Check cache first
-                CacheEntry<List<String>> cached = customerCache.get(cacheKey);
-                if (cached != null && !cached.isExpired()) {
-                    cacheHits.incrementAndGet();
-                    accessTimestamps.put(cacheKey, System.currentTimeMillis());
-                    
-                    long duration = System.currentTimeMillis() - startTime;
-                    logger.debug("Customer search cache hit for '{}' in {}ms", query, duration);
-                    
-                    return new ArrayList<>(cached.data);
-                }
-                
-                // CACHE MISS: Perform search with performance monitoring
-                cacheMisses.incrementAndGet();
-                List<String> results = performOptimizedCustomerSearch(query, limit);
-                
-                // CACHE RESULTS: Store for future access
-                customerCache.put(cacheKey, new CacheEntry<>(results));
-                accessTimestamps.put(cacheKey, System.currentTimeMillis());
-                
-                long duration = System.currentTimeMillis() - startTime;
-                if (duration > PERFORMANCE_WARNING_THRESHOLD_MS) {
-                    logger.warn("Slow customer search for '{}': {}ms (threshold: {}ms)", 
-                              query, duration, PERFORMANCE_WARNING_THRESHOLD_MS);
-                }
-                
-                logger.debug("Customer search completed for '{}' in {}ms, {} results", 
-                           query, duration, results.size());
-                
-                return results;
-                
-            } finally {
-                activeSearches.decrementAndGet();
-            }
-        }, backgroundExecutor).exceptionally(throwable -> {
-            logger.error("Error in customer search for query: " + query, throwable);
-            return new ArrayList<>();
-        });
-    }
-    
-    /**
-     * REQUIREMENT 1: INCREMENTAL ADDRESS SEARCH - CUSTOMER-FILTERED
-     * 
-     * Provides fast address search filtered by customer to reduce dataset size.
-     * Handles 1,000+ addresses per customer with <100ms response time.
-     */
-    public CompletableFuture<List<CustomerAddress>> searchAddressesAsync(String query, String customer, int limit) {
-        activeSearches.incrementAndGet();
-        long startTime = System.currentTimeMillis();
-        
-        String cacheKey = "addresses_" + (customer != null ? customer.toLowerCase() : "all") + 
-                         "_" + (query != null ? query.toLowerCase() : "") + "_" + limit;
-        
-        return CompletableFuture.supplyAsync(() -> {
-            try {
-                // FAST PATH: Check cache first
-                CacheEntry<List<CustomerAddress>> cached = addressCache.get(cacheKey);
-                if (cached != null && !cached.isExpired()) {
-                    cacheHits.incrementAndGet();
-                    accessTimestamps.put(cacheKey, System.currentTimeMillis());
-                    
-                    long duration = System.currentTimeMillis() - startTime;
-                    logger.debug("Address search cache hit for customer '{}', query '{}' in {}ms", 
-                               customer, query, duration);
-                    
-                    return new ArrayList<>(cached.data);
-                }
-                
-                // CACHE MISS: Perform filtered search
-                cacheMisses.incrementAndGet();
-                List<CustomerAddress> results = performOptimizedAddressSearch(query, customer, limit);
-                
-                // INTELLIGENT CACHING: Only cache if result set is reasonable size
-                if (results.size() <= MAX_ADDRESSES_PER_CUSTOMER) {
-                    addressCache.put(cacheKey, new CacheEntry<>(results));
-                    accessTimestamps.put(cacheKey, System.currentTimeMillis());
-                } else {
-                    logger.debug("Skipping cache for large result set: {} addresses for customer '{}'", 
-                               results.size(), customer);
-                }
-                
-                long duration = System.currentTimeMillis() - startTime;
-                if (duration > PERFORMANCE_WARNING_THRESHOLD_MS) {
-                    logger.warn("Slow address search for customer '{}', query '{}': {}ms", 
-                              customer, query, duration);
-                }
-                
-                logger.debug("Address search completed for customer '{}', query '{}' in {}ms, {} results", 
-                           customer, query, duration, results.size());
-                
-                return results;
-                
-            } finally {
-                activeSearches.decrementAndGet();
-            }
-        }, backgroundExecutor).exceptionally(throwable -> {
-            logger.error("Error in address search for customer: " + customer + ", query: " + query, throwable);
-            return new ArrayList<>();
-        });
-    }
-    
-    /**
-     * REQUIREMENT 1: IMMEDIATE CACHE UPDATE - AVOID FULL REFRESH
-     * 
-     * Updates cache immediately when user adds new customer, avoiding full reload.
-     */
-    public CompletableFuture<Void> addCustomerAsync(String customerName) {
-        if (customerName == null || customerName.trim().isEmpty()) {
-            return CompletableFuture.completedFuture(null);
-        }
-        
-        String normalizedCustomer = customerName.trim().toUpperCase();
-        
-        return CompletableFuture.runAsync(() -> {
-            try {
-                // 1. SAVE TO DATABASE
-                loadDAO.addCustomerIfNotExists(normalizedCustomer);
-                
-                // 2. IMMEDIATE CACHE UPDATE - NO FULL REFRESH
-                invalidateCustomerCaches(); // Clear search caches to ensure new customer appears
-                recentCustomerChanges.add(normalizedCustomer);
-                
-                logger.debug("Customer '{}' added and cache updated immediately", normalizedCustomer);
-                
-            } catch (Exception e) {
-                logger.error("Error adding customer: " + normalizedCustomer, e);
-                throw new RuntimeException("Failed to add customer", e);
-            }
-        }, cacheUpdateExecutor);
-    }
-    
-    /**
-     * REQUIREMENT 1: IMMEDIATE ADDRESS CACHE UPDATE
-     * 
-     * Updates address cache immediately when user adds new address.
-     */
-    public CompletableFuture<Void> addAddressAsync(String customerName, CustomerAddress address) {
-        if (customerName == null || address == null) {
-            return CompletableFuture.completedFuture(null);
-        }
-        
-        String normalizedCustomer = customerName.trim().toUpperCase();
-        
-        return CompletableFuture.runAsync(() -> {
-            try {
-                // 1. SAVE TO DATABASE (Note: This would need proper implementation)
-                // int addressId = loadDAO.addCustomerAddress(address, normalizedCustomer);
-                // For now, just log the operation
-                logger.debug("Address save operation for customer: {}", normalizedCustomer);
-                
-                // 2. IMMEDIATE CACHE UPDATE
-                invalidateAddressCachesForCustomer(normalizedCustomer);
-                recentAddressChanges.add(normalizedCustomer);
-                
-                logger.debug("Address added for customer '{}' and cache updated immediately", normalizedCustomer);
-                
-            } catch (Exception e) {
-                logger.error("Error adding address for customer: " + normalizedCustomer, e);
-                throw new RuntimeException("Failed to add address", e);
-            }
-        }, cacheUpdateExecutor);
-    }
-    
-    /**
-     * REQUIREMENT 2: BACKGROUND SYNCHRONIZATION
-     * 
-     * Initializes background processes for cache management and synchronization.
-     */
-    private void initializeBackgroundProcesses() {
-        // INCREMENTAL UPDATES: Process recent changes every 30 seconds
-        backgroundExecutor.scheduleAtFixedRate(() -> {
-            try {
-                processIncrementalUpdates();
-            } catch (Exception e) {
-                logger.error("Error in incremental update process", e);
-            }
-        }, INCREMENTAL_UPDATE_INTERVAL_MS, INCREMENTAL_UPDATE_INTERVAL_MS, TimeUnit.MILLISECONDS);
-        
-        // BACKGROUND REFRESH: Full refresh every 3 minutes (only if needed)
-        backgroundExecutor.scheduleAtFixedRate(() -> {
-            try {
-                performBackgroundRefresh();
-            } catch (Exception e) {
-                logger.error("Error in background refresh process", e);
-            }
-        }, BACKGROUND_REFRESH_INTERVAL_MS, BACKGROUND_REFRESH_INTERVAL_MS, TimeUnit.MILLISECONDS);
-        
-        // CACHE CLEANUP: Remove expired entries every minute
-        backgroundExecutor.scheduleAtFixedRate(() -> {
-            try {
-                cleanupExpiredEntries();
-            } catch (Exception e) {
-                logger.error("Error in cache cleanup process", e);
-            }
-        }, 60_000, 60_000, TimeUnit.MILLISECONDS);
-        
-        // PERFORMANCE MONITORING: Log metrics every 5 minutes
-        backgroundExecutor.scheduleAtFixedRate(() -> {
-            logPerformanceMetrics();
-        }, 300_000, 300_000, TimeUnit.MILLISECONDS);
-    }
-    
-    /**
-     * REQUIREMENT 1: INCREMENTAL UPDATES - PROCESS RECENT CHANGES ONLY
-     */
-    private void processIncrementalUpdates() {
-        if (recentCustomerChanges.isEmpty() && recentAddressChanges.isEmpty()) {
-            return; // No changes to process
-        }
-        
-        long startTime = System.currentTimeMillis();
-        int customerUpdates = recentCustomerChanges.size();
-        int addressUpdates = recentAddressChanges.size();
-        
-        logger.debug("Processing incremental updates: {} customer changes, {} address changes", 
-                   customerUpdates, addressUpdates);
-        
-        // PROCESS CUSTOMER CHANGES
-        Set<String> customersToUpdate = new HashSet<>(recentCustomerChanges);
-        recentCustomerChanges.clear();
-        
-        for (String customer : customersToUpdate) {
-            try {
-                // Refresh caches for this specific customer only
-                invalidateCustomerCachesContaining(customer);
-                invalidateAddressCachesForCustomer(customer);
-            } catch (Exception e) {
-                logger.error("Error updating cache for customer: " + customer, e);
-            }
-        }
-        
-        // PROCESS ADDRESS CHANGES  
-        Set<String> addressCustomersToUpdate = new HashSet<>(recentAddressChanges);
-        recentAddressChanges.clear();
-        
-        for (String customer : addressCustomersToUpdate) {
-            try {
-                invalidateAddressCachesForCustomer(customer);
-            } catch (Exception e) {
-                logger.error("Error updating address cache for customer: " + customer, e);
-            }
-        }
-        
-        incrementalUpdates.incrementAndGet();
-        long duration = System.currentTimeMillis() - startTime;
-        
-        logger.debug("Incremental updates completed in {}ms: {} customers, {} addresses", 
-                   duration, customerUpdates, addressUpdates);
-    }
-    
-    /**
-     * REQUIREMENT 2: BACKGROUND REFRESH - ONLY WHEN NECESSARY
-     */
-    private void performBackgroundRefresh() {
-        // Only perform full refresh if there are active searches or cache misses are high
-        double hitRate = calculateCacheHitRate();
-        int activeSearchCount = activeSearches.get();
-        
-        if (hitRate > 0.8 && activeSearchCount == 0) {
-            logger.debug("Skipping background refresh - cache hit rate: {:.1f}%, no active searches", hitRate * 100);
-            return;
-        }
-        
-        long startTime = System.currentTimeMillis();
-        logger.debug("Starting background refresh - cache hit rate: {:.1f}%, active searches: {}", 
-                   hitRate * 100, activeSearchCount);
-        
-        try {
-            // SELECTIVE REFRESH: Only refresh frequently accessed entries
-            refreshFrequentlyAccessedEntries();
-            backgroundUpdates.incrementAndGet();
-            
-            long duration = System.currentTimeMillis() - startTime;
-            logger.debug("Background refresh completed in {}ms", duration);
-            
-        } catch (Exception e) {
-            logger.error("Error in background refresh", e);
-        }
-    }
-    
-    private void refreshFrequentlyAccessedEntries() {
-        long cutoffTime = System.currentTimeMillis() - CACHE_ENTRY_TTL_MS;
-        
-        // Refresh recently accessed customer searches
-        List<String> recentCustomerKeys = accessTimestamps.entrySet().stream()
-            .filter(entry -> entry.getValue() > cutoffTime && entry.getKey().startsWith("customers_"))
-            .map(Map.Entry::getKey)
-            .limit(50) // Limit to most recent 50 searches
-            .collect(Collectors.toList());
-        
-        for (String key : recentCustomerKeys) {
-            customerCache.remove(key); // Force refresh on next access
-        }
-        
-        // Refresh recently accessed address searches
-        List<String> recentAddressKeys = accessTimestamps.entrySet().stream()
-            .filter(entry -> entry.getValue() > cutoffTime && entry.getKey().startsWith("addresses_"))
-            .map(Map.Entry::getKey)
-            .limit(100) // Limit to most recent 100 searches
-            .collect(Collectors.toList());
-        
-        for (String key : recentAddressKeys) {
-            addressCache.remove(key); // Force refresh on next access
-        }
-    }
-    
-    /**
-     * REQUIREMENT 3: CACHE CLEANUP - MEMORY MANAGEMENT
-     */
-    private void cleanupExpiredEntries() {
-        long startTime = System.currentTimeMillis();
-        long expiredBefore = startTime - CACHE_ENTRY_TTL_MS;
-        
-        // Clean up expired customer cache entries
-        int customerEntriesRemoved = cleanupExpiredEntries(customerCache, expiredBefore);
-        
-        // Clean up expired address cache entries
-        int addressEntriesRemoved = cleanupExpiredEntries(addressCache, expiredBefore);
-        
-        // Clean up old access timestamps
-        int timestampsRemoved = accessTimestamps.entrySet().removeIf(entry -> 
-            entry.getValue() < expiredBefore) ? 1 : 0;
-        
-        if (customerEntriesRemoved > 0 || addressEntriesRemoved > 0) {
-            logger.debug("Cache cleanup: removed {} customer entries, {} address entries, {} timestamps in {}ms", 
-                       customerEntriesRemoved, addressEntriesRemoved, timestampsRemoved, 
-                       System.currentTimeMillis() - startTime);
-        }
-    }
-    
-    private <T> int cleanupExpiredEntries(Map<String, CacheEntry<T>> cache, long expiredBefore) {
-        int removed = 0;
-        synchronized (cache) {
-            Iterator<Map.Entry<String, CacheEntry<T>>> iterator = cache.entrySet().iterator();
-            while (iterator.hasNext()) {
-                Map.Entry<String, CacheEntry<T>> entry = iterator.next();
-                if (entry.getValue().timestamp < expiredBefore) {
-                    iterator.remove();
-                    removed++;
-                }
-            }
-        }
-        return removed;
-    }
-    
-    // CACHE INVALIDATION HELPERS
-    private void invalidateCustomerCaches() {
-        synchronized (customerCache) {
-            customerCache.entrySet().removeIf(entry -> entry.getKey().startsWith("customers_"));
-        }
-    }
-    
-    private void invalidateCustomerCachesContaining(String customer) {
-        String customerLower = customer.toLowerCase();
-        synchronized (customerCache) {
-            customerCache.entrySet().removeIf(entry -> 
-                entry.getKey().startsWith("customers_") && 
-                entry.getValue().data.stream().anyMatch(c -> c.toLowerCase().contains(customerLower)));
-        }
-    }
-    
-    private void invalidateAddressCachesForCustomer(String customer) {
-        String customerKey = "_" + customer.toLowerCase() + "_";
-        synchronized (addressCache) {
-            addressCache.entrySet().removeIf(entry -> 
-                entry.getKey().contains(customerKey));
-        }
-    }
-    
-    // OPTIMIZED SEARCH IMPLEMENTATIONS
-    private List<String> performOptimizedCustomerSearch(String query, int limit) {
-        try {
-            return loadDAO.searchCustomersByName(query, limit)
-                .stream()
-                .filter(Objects::nonNull)
-                .map(String::trim)
-                .filter(name -> !name.isEmpty())
-                .distinct()
-                .limit(limit)
-                .collect(Collectors.toList());
-        } catch (Exception e) {
-            logger.error("Error in optimized customer search", e);
-            return new ArrayList<>();
-        }
-    }
-    
-    private List<CustomerAddress> performOptimizedAddressSearch(String query, String customer, int limit) {
-        try {
-            return loadDAO.searchAddresses(query, customer, limit)
-                .stream()
-                .filter(Objects::nonNull)
-                .limit(limit)
-                .collect(Collectors.toList());
-        } catch (Exception e) {
-            logger.error("Error in optimized address search", e);
-            return new ArrayList<>();
-        }
-    }
-    
-    // PERFORMANCE MONITORING
-    private double calculateCacheHitRate() {
-        long hits = cacheHits.get();
-        long misses = cacheMisses.get();
-        long total = hits + misses;
-        return total > 0 ? (double) hits / total : 0.0;
-    }
-    
-    private void logPerformanceMetrics() {
-        double hitRate = calculateCacheHitRate();
-        int customerCacheSize = customerCache.size();
-        int addressCacheSize = addressCache.size();
-        int activeSearchCount = activeSearches.get();
-        
-        logger.info("=== CACHE PERFORMANCE METRICS ===");
-        logger.info("Cache Hit Rate: {:.1f}%", hitRate * 100);
-        logger.info("Customer Cache: {} entries (max: {})", customerCacheSize, MAX_CUSTOMER_CACHE_SIZE);
-        logger.info("Address Cache: {} entries (max: {})", addressCacheSize, MAX_ADDRESS_CACHE_SIZE);
-        logger.info("Active Searches: {}", activeSearchCount);
-        logger.info("Background Updates: {}", backgroundUpdates.get());
-        logger.info("Incremental Updates: {}", incrementalUpdates.get());
-        logger.info("Total Cache Hits: {}", cacheHits.get());
-        logger.info("Total Cache Misses: {}", cacheMisses.get());
-        logger.info("================================");
-        
-        // Memory usage warning
-        Runtime runtime = Runtime.getRuntime();
-        long usedMemory = runtime.totalMemory() - runtime.freeMemory();
-        long maxMemory = runtime.maxMemory();
-        double memoryUsage = (double) usedMemory / maxMemory * 100;
-        
-        if (memoryUsage > 75) {
-            logger.warn("High memory usage: {:.1f}% - consider cache cleanup", memoryUsage);
-        }
-    }
-    
-    /**
-     * REQUIREMENT 4: PROPER THREAD MANAGEMENT AND CLEANUP
-     */
-    public void shutdown() {
-        logger.info("Shutting down EnterpriseDataCacheManagerOptimized");
-        
-        try {
-            // Stop scheduled tasks
-            backgroundExecutor.shutdown();
-            cacheUpdateExecutor.shutdown();
-            
-            // Wait for tasks to complete
-            if (!backgroundExecutor.awaitTermination(5, TimeUnit.SECONDS)) {
-                List<Runnable> pending = backgroundExecutor.shutdownNow();
-                logger.warn("Forcibly shutdown background executor, {} pending tasks cancelled", pending.size());
-            }
-            
-            if (!cacheUpdateExecutor.awaitTermination(5, TimeUnit.SECONDS)) {
-                List<Runnable> pending = cacheUpdateExecutor.shutdownNow();
-                logger.warn("Forcibly shutdown cache update executor, {} pending tasks cancelled", pending.size());
-            }
-            
-            // Clear caches
-            customerCache.clear();
-            addressCache.clear();
-            accessTimestamps.clear();
-            recentCustomerChanges.clear();
-            recentAddressChanges.clear();
-            
-            logger.info("EnterpriseDataCacheManagerOptimized shutdown completed successfully");
-            
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-            logger.warn("Interrupted during shutdown", e);
-        }
-    }
-    
-    // CACHE ENTRY WITH TTL
-    private static class CacheEntry<T> {
-        final T data;
-        final long timestamp;
-        
-        CacheEntry(T data) {
-            this.data = data;
-            this.timestamp = System.currentTimeMillis();
-        }
-        
-        boolean isExpired() {
-            return System.currentTimeMillis() - timestamp > CACHE_ENTRY_TTL_MS;
-        }
-    }
-    
-    // PUBLIC API FOR BACKWARD COMPATIBILITY
-    public List<String> searchCustomers(String query, int limit) {
-        try {
-            return searchCustomersAsync(query, limit).get(1, TimeUnit.SECONDS);
-        } catch (Exception e) {
-            logger.error("Error in synchronous customer search", e);
-            return new ArrayList<>();
-        }
-    }
-    
-    public CompletableFuture<List<CustomerAddress>> getCustomerAddressesAsync(String customer) {
-        return searchAddressesAsync("", customer, MAX_ADDRESSES_PER_CUSTOMER);
-    }
-}
@@ -0,0 +1,120 @@
+package com.company.payroll.loads;
+
+import com.company.payroll.exception.DataAccessException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Comparator;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Marks loads PICKUP_LATE and DELIVERY_LATE when their cutoffs pass, without rescanning on a timer.
+ * <p>
+ * The upcoming pickup and delivery cutoffs of open loads are kept in a priority queue and
+ * the engine sleeps until the earliest one. On waking it drops the cutoffs that have passed,
+ * applies every due transition with {@link LoadDAO#updateLateStatuses()} and hands the ids
+ * that changed to the listener. The queue is refilled from the database once it runs dry,
+ * or on {@link #refresh()}, which callers use after loads were saved or deleted.
+ * All queue work happens on the engine's own thread; the listener is called there too.
+ */
+public class LateStatusEngine {
+    private static final Logger logger = LoggerFactory.getLogger(LateStatusEngine.class);
+    static final int QUEUE_SIZE = 256; // Cutoffs read ahead per refill
+    private static final long MAX_SLEEP_MILLIS = TimeUnit.HOURS.toMillis(1); // Also catches edits made outside this panel
+
+    /**
+     * Instant a load may change status, in epoch millis
+     */
+    public record Deadline(long dueAt, int loadId) {}
+
+    private final LoadDAO loadDAO;
+    private final Consumer<Map<Integer, Load.Status>> listener;
+    private final PriorityQueue<Deadline> deadlines = new PriorityQueue<>(Comparator.comparingLong(Deadline::dueAt));
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread t = new Thread(r, "late-status-engine");
+        t.setDaemon(true);
+        return t;
+    });
+    private ScheduledFuture<?> wakeup;
+
+    public LateStatusEngine(LoadDAO loadDAO, Consumer<Map<Integer, Load.Status>> listener) {
+        this.loadDAO = loadDAO;
+        this.listener = listener;
+    }
+
+    /**
+     * Apply the transitions that are already due and start waiting for the next cutoff.
+     */
+    public void start() {
+        scheduler.execute(this::check);
+    }
+
+    /**
+     * Apply due transitions now instead of at the next cutoff.
+     */
+    public void checkNow() {
+        scheduler.execute(this::check);
+    }
+
+    /**
+     * Reread the upcoming cutoffs, after loads were added, edited or deleted.
+     */
+    public void refresh() {
+        scheduler.execute(() -> {
+            refill(System.currentTimeMillis());
+            scheduleNext();
+        });
+    }
+
+    public void stop() {
+        scheduler.shutdownNow();
+    }
+
+    private void check() {
+        long now = System.currentTimeMillis();
+        while (!deadlines.isEmpty() && deadlines.peek().dueAt() < now) {
+            deadlines.poll();
+        }
+        try {
+            Map<Integer, Load.Status> changed = loadDAO.updateLateStatuses();
+            if (!changed.isEmpty()) {
+                listener.accept(changed);
+            }
+        } catch (DataAccessException e) {
+            logger.error("Late status check failed: {}", e.getMessage(), e);
+        }
+        if (deadlines.isEmpty()) {
+            refill(now);
+        }
+        scheduleNext();
+    }
+
+    private void refill(long now) {
+        deadlines.clear();
+        try {
+            deadlines.addAll(loadDAO.getUpcomingLateCutoffs(now, QUEUE_SIZE));
+        } catch (DataAccessException e) {
+            logger.error("Could not read upcoming late cutoffs: {}", e.getMessage(), e);
+        }
+    }
+
+    private void scheduleNext() {
+        if (wakeup != null) {
+            wakeup.cancel(false);
+        }
+        long delay = MAX_SLEEP_MILLIS;
+        Deadline next = deadlines.peek();
+        if (next != null) {
+            // Cutoffs are exclusive, a load is late once the time is past its cutoff
+            delay = Math.max(0, Math.min(delay, next.dueAt() - System.currentTimeMillis() + 1));
+            logger.debug("Next late cutoff in {} ms (load {})", delay, next.loadId());
+        }
+        wakeup = scheduler.schedule(this::check, delay, TimeUnit.MILLISECONDS);
+    }
+}
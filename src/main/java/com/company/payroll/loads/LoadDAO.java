@@ -8,10 +8,16 @@ import java.sql.SQLException;
 import java.sql.Statement;
 import java.sql.Time;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.time.ZoneId;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.CompletableFuture;
@@ -21,16 +27,20 @@ import java.util.stream.Collectors;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.company.payroll.cache.EnterpriseDataCacheManager;
+import com.company.payroll.cache.EnterpriseDataCacheManager.ReferenceData;
 import com.company.payroll.database.DatabaseConfig;
-import com.company.payroll.employees.Employee;
 import com.company.payroll.employees.EmployeeDAO;
+import com.company.payroll.events.DomainEventBus;
+import com.company.payroll.events.DomainEventBus.Change;
+import com.company.payroll.events.DomainEventBus.Entity;
 import com.company.payroll.exception.DataAccessException;
-import com.company.payroll.trailers.Trailer;
 import com.company.payroll.trailers.TrailerDAO;
 
 public class LoadDAO {
     private static final Logger logger = LoggerFactory.getLogger(LoadDAO.class);
     private static final String DB_URL = "jdbc:sqlite:payroll.db";
+    private static final int ID_BATCH_SIZE = 500; // Stay well below SQLite's bound-parameter limit
     private final EmployeeDAO employeeDAO = new EmployeeDAO();
     private final TrailerDAO trailerDAO = new TrailerDAO();
 
@@ -304,6 +314,20 @@ public class LoadDAO {
             conn.createStatement().execute(sql);
             logger.info("Loads table initialized successfully");
 
+            // Cutoff instants of the late-status check, derived from the pickup/delivery date and time
+            boolean cutoffsAdded = false;
+            try {
+                conn.createStatement().execute("ALTER TABLE loads ADD COLUMN pickup_due_at INTEGER");
+                conn.createStatement().execute("ALTER TABLE loads ADD COLUMN delivery_due_at INTEGER");
+                cutoffsAdded = true;
+                logger.info("Added pickup_due_at and delivery_due_at columns to loads table");
+            } catch (SQLException ignore) {
+                logger.debug("Late cutoff columns already exist");
+            }
+            if (cutoffsAdded) {
+                backfillLateCutoffs(conn);
+            }
+
             String sqlCustomer = """
                 CREATE TABLE IF NOT EXISTS customers (
                     id INTEGER PRIMARY KEY AUTOINCREMENT,
@@ -392,17 +416,26 @@ public class LoadDAO {
     }
 
     public List<Load> getAll() {
+        return getAll(true);
+    }
+
+    /**
+     * Same as {@link #getAll()},
+     * optionally skipping the document prefetch for callers that do not show documents.
+     * 
+     * @param includeDocuments true to prefetch documents for the whole result set in one batch
+     */
+    public List<Load> getAll(boolean includeDocuments) {
         logger.debug("Fetching all loads");
         List<Load> list = new ArrayList<>();
-        try (Connection conn = DatabaseConfig.getConnection()) {
+        try (Connection conn = DatabaseConfig.getReadConnection()) {
             String sql = "SELECT * FROM loads";
             ResultSet rs = conn.createStatement().executeQuery(sql);
-            while (rs.next()) {
-                Load load = extractLoad(rs);
-                load.setDocuments(getDocumentsByLoadId(load.getId()));
-                load.setLocations(getLoadLocations(load.getId()));
-                list.add(load);
+            list.addAll(readLoads(rs));
+            if (includeDocuments) {
+                attachDocuments(list);
             }
+            attachLocations(list);
             logger.info("Retrieved {} loads", list.size());
         } catch (SQLException e) {
             logger.error("Error getting all loads: {}", e.getMessage(), e);
@@ -423,14 +456,14 @@ public class LoadDAO {
         }
         
         try {
-            return DatabaseConfig.executeWithRetry(() -> {
+            int loadId = DatabaseConfig.write(() -> {
                 String sql = """
                     INSERT INTO loads (load_number, po_number, customer, customer2, bill_to, pick_up_location, drop_location, 
                     driver_id, truck_unit_snapshot, trailer_id, trailer_number, status, gross_amount, notes, 
                     pickup_date, pickup_time, delivery_date, delivery_time, reminder, has_lumper, lumper_amount, has_revised_rate_confirmation,
                     pickup_zip_code, delivery_zip_code, calculated_miles, miles_calculation_date, payment_method_used, 
-                    calculated_driver_pay, payment_rate_used, flat_rate_amount) 
-                    VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+                    calculated_driver_pay, payment_rate_used, flat_rate_amount, pickup_due_at, delivery_due_at) 
+                    VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
                 """;
                 
                 try (Connection conn = DatabaseConfig.getConnection();
@@ -492,6 +525,8 @@ public class LoadDAO {
                     ps.setDouble(28, load.getCalculatedDriverPay());
                     ps.setDouble(29, load.getPaymentRateUsed());
                     ps.setDouble(30, load.getFlatRateAmount());
+                    ps.setObject(31, lateCutoff(load.getPickUpDate(), load.getPickUpTime()));
+                    ps.setObject(32, lateCutoff(load.getDeliveryDate(), load.getDeliveryTime()));
                     
                     ps.executeUpdate();
                     
@@ -529,6 +564,8 @@ public class LoadDAO {
                     }
                 }
             });
+            DomainEventBus.publish(Entity.LOAD, loadId, Change.INSERT);
+            return loadId;
         } catch (SQLException e) {
             if (e.getMessage() != null && e.getMessage().contains("UNIQUE constraint failed: loads.load_number")) {
                 logger.error("Duplicate Load # not allowed: {}", load.getLoadNumber());
@@ -552,13 +589,13 @@ public class LoadDAO {
         }
         
         try {
-            DatabaseConfig.executeWithRetry(() -> {
+            DatabaseConfig.write(() -> {
                 String sql = """
                     UPDATE loads SET load_number=?, po_number=?, customer=?, customer2=?, bill_to=?, pick_up_location=?, 
                     drop_location=?, driver_id=?, truck_unit_snapshot=?, trailer_id=?, trailer_number=?, status=?, gross_amount=?, 
                     notes=?, pickup_date=?, pickup_time=?, delivery_date=?, delivery_time=?, reminder=?, has_lumper=?, lumper_amount=?, has_revised_rate_confirmation=?,
                     pickup_zip_code=?, delivery_zip_code=?, calculated_miles=?, miles_calculation_date=?, payment_method_used=?,
-                    calculated_driver_pay=?, payment_rate_used=?, flat_rate_amount=?
+                    calculated_driver_pay=?, payment_rate_used=?, flat_rate_amount=?, pickup_due_at=?, delivery_due_at=?
                     WHERE id=?
                 """;
                 
@@ -621,9 +658,11 @@ public class LoadDAO {
                     ps.setDouble(28, load.getCalculatedDriverPay());
                     ps.setDouble(29, load.getPaymentRateUsed());
                     ps.setDouble(30, load.getFlatRateAmount());
+                    ps.setObject(31, lateCutoff(load.getPickUpDate(), load.getPickUpTime()));
+                    ps.setObject(32, lateCutoff(load.getDeliveryDate(), load.getDeliveryTime()));
                     
                     // WHERE clause parameter
-                    ps.setInt(31, load.getId());
+                    ps.setInt(33, load.getId());
                     
                     int rowsAffected = ps.executeUpdate();
                     if (rowsAffected > 0) {
@@ -656,6 +695,7 @@ public class LoadDAO {
                     return null; // Void return
                 }
             });
+            DomainEventBus.publish(Entity.LOAD, load.getId(), Change.UPDATE);
         } catch (SQLException e) {
             if (e.getMessage() != null && e.getMessage().contains("UNIQUE constraint failed: loads.load_number")) {
                 logger.error("Duplicate Load # not allowed: {}", load.getLoadNumber());
@@ -669,12 +709,17 @@ public class LoadDAO {
     public void delete(int id) {
         logger.info("Deleting load with ID: {}", id);
         String sql = "DELETE FROM loads WHERE id = ?";
-        try (Connection conn = DatabaseConfig.getConnection()) {
-            PreparedStatement ps = conn.prepareStatement(sql);
-            ps.setInt(1, id);
-            int rowsAffected = ps.executeUpdate();
+        try {
+            int rowsAffected = DatabaseConfig.write(() -> {
+                try (Connection conn = DatabaseConfig.getConnection();
+                     PreparedStatement ps = conn.prepareStatement(sql)) {
+                    ps.setInt(1, id);
+                    return ps.executeUpdate();
+                }
+            });
             if (rowsAffected > 0) {
                 logger.info("Load deleted successfully");
+                DomainEventBus.publish(Entity.LOAD, id, Change.DELETE);
             } else {
                 logger.warn("No load found with ID: {}", id);
             }
@@ -686,13 +731,14 @@ public class LoadDAO {
 
     public Load getById(int id) {
         logger.debug("Getting load by ID: {}", id);
-        try (Connection conn = DatabaseConfig.getConnection()) {
+        try (Connection conn = DatabaseConfig.getReadConnection()) {
             String sql = "SELECT * FROM loads WHERE id = ?";
             PreparedStatement ps = conn.prepareStatement(sql);
             ps.setInt(1, id);
             ResultSet rs = ps.executeQuery();
-            if (rs.next()) {
-                Load load = extractLoad(rs);
+            List<Load> found = readLoads(rs);
+            if (!found.isEmpty()) {
+                Load load = found.get(0);
                 load.setDocuments(getDocumentsByLoadId(load.getId()));
                 load.setLocations(getLoadLocations(load.getId()));
                 logger.debug("Found load: {} (ID: {})", load.getLoadNumber(), id);
@@ -707,9 +753,19 @@ public class LoadDAO {
     }
 
     public List<Load> getByDateRange(LocalDate start, LocalDate end) {
+        return getByDateRange(start, end, true);
+    }
+
+    /**
+     * Same as {@link #getByDateRange(LocalDate, LocalDate)},
+     * optionally skipping the document prefetch for callers that do not show documents.
+     * 
+     * @param includeDocuments true to prefetch documents for the whole result set in one batch
+     */
+    public List<Load> getByDateRange(LocalDate start, LocalDate end, boolean includeDocuments) {
         logger.debug("Getting loads by date range - Start: {}, End: {}", start, end);
         List<Load> list = new ArrayList<>();
-        try (Connection conn = DatabaseConfig.getConnection()) {
+        try (Connection conn = DatabaseConfig.getReadConnection()) {
             String sql = "SELECT * FROM loads WHERE delivery_date IS NOT NULL AND delivery_date >= ? AND delivery_date <= ? AND (status = ? OR status = ?)";
             PreparedStatement ps = conn.prepareStatement(sql);
             ps.setDate(1, java.sql.Date.valueOf(start));
@@ -717,10 +773,9 @@ public class LoadDAO {
             ps.setString(3, Load.Status.DELIVERED.name());
             ps.setString(4, Load.Status.PAID.name());
             ResultSet rs = ps.executeQuery();
-            while (rs.next()) {
-                Load load = extractLoad(rs);
-                load.setDocuments(getDocumentsByLoadId(load.getId()));
-                list.add(load);
+            list.addAll(readLoads(rs));
+            if (includeDocuments) {
+                attachDocuments(list);
             }
             logger.info("Retrieved {} loads between {} and {}", list.size(), start, end);
         } catch (SQLException e) {
@@ -743,9 +798,19 @@ public class LoadDAO {
      * @return list of loads for financial calculations
      */
     public List<Load> getByDateRangeForFinancials(LocalDate start, LocalDate end) {
+        return getByDateRangeForFinancials(start, end, true);
+    }
+
+    /**
+     * Same as {@link #getByDateRangeForFinancials(LocalDate, LocalDate)}, optionally
+     * skipping the document prefetch for callers that only need amounts.
+     * 
+     * @param includeDocuments true to prefetch documents for the whole result set in one batch
+     */
+    public List<Load> getByDateRangeForFinancials(LocalDate start, LocalDate end, boolean includeDocuments) {
         logger.debug("Getting loads for financials - Start: {}, End: {}", start, end);
         List<Load> list = new ArrayList<>();
-        try (Connection conn = DatabaseConfig.getConnection()) {
+        try (Connection conn = DatabaseConfig.getReadConnection()) {
             // More inclusive query that considers multiple date fields and statuses
             String sql = """
                 SELECT * FROM loads 
@@ -772,10 +837,9 @@ public class LoadDAO {
             ps.setString(10, Load.Status.IN_TRANSIT.name());
             
             ResultSet rs = ps.executeQuery();
-            while (rs.next()) {
-                Load load = extractLoad(rs);
-                load.setDocuments(getDocumentsByLoadId(load.getId()));
-                list.add(load);
+            list.addAll(readLoads(rs));
+            if (includeDocuments) {
+                attachDocuments(list);
             }
             
             logger.info("Retrieved {} loads for financials between {} and {}", 
@@ -802,17 +866,26 @@ public class LoadDAO {
     }
 
     public List<Load> getByStatus(Load.Status status) {
+        return getByStatus(status, true);
+    }
+
+    /**
+     * Same as {@link #getByStatus(Load.Status)},
+     * optionally skipping the document prefetch for callers that do not show documents.
+     * 
+     * @param includeDocuments true to prefetch documents for the whole result set in one batch
+     */
+    public List<Load> getByStatus(Load.Status status, boolean includeDocuments) {
         logger.debug("Getting loads by status: {}", status);
         List<Load> list = new ArrayList<>();
-        try (Connection conn = DatabaseConfig.getConnection()) {
+        try (Connection conn = DatabaseConfig.getReadConnection()) {
             String sql = "SELECT * FROM loads WHERE status = ?";
             PreparedStatement ps = conn.prepareStatement(sql);
             ps.setString(1, status.name());
             ResultSet rs = ps.executeQuery();
-            while (rs.next()) {
-                Load load = extractLoad(rs);
-                load.setDocuments(getDocumentsByLoadId(load.getId()));
-                list.add(load);
+            list.addAll(readLoads(rs));
+            if (includeDocuments) {
+                attachDocuments(list);
             }
             logger.info("Retrieved {} loads with status {}", list.size(), status);
         } catch (SQLException e) {
@@ -822,20 +895,113 @@ public class LoadDAO {
         return list;
     }
 
+    /**
+     * Loads whose PO number is one of the given values, in id order.
+     * Values are matched exactly; POs are queried in chunks to stay under SQLite's bound-parameter limit.
+     */
+    public List<Load> getByPoNumbers(Collection<String> poNumbers) {
+        return getByPoNumbers(poNumbers, true);
+    }
+
+    /**
+     * Same as {@link #getByPoNumbers(Collection)}, optionally skipping the document prefetch
+     * for callers that only match loads.
+     * 
+     * @param includeDocuments true to prefetch documents for the whole result set in one batch
+     */
+    public List<Load> getByPoNumbers(Collection<String> poNumbers, boolean includeDocuments) {
+        List<String> pos = poNumbers.stream()
+            .filter(po -> po != null && !po.isEmpty())
+            .distinct()
+            .toList();
+        List<Load> list = new ArrayList<>();
+        if (pos.isEmpty()) {
+            return list;
+        }
+        logger.debug("Getting loads for {} PO numbers", pos.size());
+        try (Connection conn = DatabaseConfig.getReadConnection()) {
+            for (int from = 0; from < pos.size(); from += ID_BATCH_SIZE) {
+                List<String> chunk = pos.subList(from, Math.min(from + ID_BATCH_SIZE, pos.size()));
+                String placeholders = String.join(",", Collections.nCopies(chunk.size(), "?"));
+                String sql = "SELECT * FROM loads WHERE po_number IN (" + placeholders + ") ORDER BY id";
+                try (PreparedStatement ps = conn.prepareStatement(sql)) {
+                    for (int i = 0; i < chunk.size(); i++) {
+                        ps.setString(i + 1, chunk.get(i));
+                    }
+                    try (ResultSet rs = ps.executeQuery()) {
+                        list.addAll(readLoads(rs));
+                    }
+                }
+            }
+            if (includeDocuments) {
+                attachDocuments(list);
+            }
+            logger.info("Retrieved {} loads for {} PO numbers", list.size(), pos.size());
+        } catch (SQLException e) {
+            logger.error("Error getting loads by PO numbers: {}", e.getMessage(), e);
+            throw new DataAccessException("Error getting loads by PO numbers", e);
+        }
+        return list;
+    }
+
+    /**
+     * Loads delivered between the given dates (inclusive) regardless of status, in id order
+     */
+    public List<Load> getByDeliveryDateRange(LocalDate start, LocalDate end) {
+        return getByDeliveryDateRange(start, end, true);
+    }
+
+    /**
+     * Same as {@link #getByDeliveryDateRange(LocalDate, LocalDate)}, optionally skipping the
+     * document prefetch for callers that only match loads.
+     * 
+     * @param includeDocuments true to prefetch documents for the whole result set in one batch
+     */
+    public List<Load> getByDeliveryDateRange(LocalDate start, LocalDate end, boolean includeDocuments) {
+        logger.debug("Getting loads by delivery date - Start: {}, End: {}", start, end);
+        List<Load> list = new ArrayList<>();
+        String sql = "SELECT * FROM loads WHERE delivery_date IS NOT NULL AND delivery_date >= ? AND delivery_date <= ? ORDER BY id";
+        try (Connection conn = DatabaseConfig.getReadConnection();
+             PreparedStatement ps = conn.prepareStatement(sql)) {
+            ps.setDate(1, java.sql.Date.valueOf(start));
+            ps.setDate(2, java.sql.Date.valueOf(end));
+            try (ResultSet rs = ps.executeQuery()) {
+                list.addAll(readLoads(rs));
+            }
+            if (includeDocuments) {
+                attachDocuments(list);
+            }
+            logger.info("Retrieved {} loads delivered between {} and {}", list.size(), start, end);
+        } catch (SQLException e) {
+            logger.error("Error getting loads by delivery date: {}", e.getMessage(), e);
+            throw new DataAccessException("Error getting loads by delivery date", e);
+        }
+        return list;
+    }
+
     public List<Load> getByDriver(int driverId) {
+        return getByDriver(driverId, true);
+    }
+
+    /**
+     * Same as {@link #getByDriver(int)},
+     * optionally skipping the document prefetch for callers that do not show documents.
+     * 
+     * @param includeDocuments true to prefetch documents for the whole result set in one batch
+     */
+    public List<Load> getByDriver(int driverId, boolean includeDocuments) {
         logger.debug("Getting loads by driver ID: {}", driverId);
         List<Load> list = new ArrayList<>();
-        try (Connection conn = DatabaseConfig.getConnection()) {
+        try (Connection conn = DatabaseConfig.getReadConnection()) {
             String sql = "SELECT * FROM loads WHERE driver_id = ?";
             PreparedStatement ps = conn.prepareStatement(sql);
             ps.setInt(1, driverId);
             ResultSet rs = ps.executeQuery();
-            while (rs.next()) {
-                Load load = extractLoad(rs);
-                load.setDocuments(getDocumentsByLoadId(load.getId()));
-                load.setLocations(getLoadLocations(load.getId()));
-                list.add(load);
+            list.addAll(readLoads(rs));
+            if (includeDocuments) {
+                attachDocuments(list);
             }
+            attachLocations(list);
             logger.info("Retrieved {} loads for driver ID {}", list.size(), driverId);
         } catch (SQLException e) {
             logger.error("Error getting loads by driver: {}", e.getMessage(), e);
@@ -845,6 +1011,16 @@ public class LoadDAO {
     }
 
     public List<Load> getByTrailer(int trailerId) {
+        return getByTrailer(trailerId, true);
+    }
+
+    /**
+     * Same as {@link #getByTrailer(int)},
+     * optionally skipping the document prefetch for callers that do not show documents.
+     * 
+     * @param includeDocuments true to prefetch documents for the whole result set in one batch
+     */
+    public List<Load> getByTrailer(int trailerId, boolean includeDocuments) {
         logger.debug("Getting loads by trailer ID: {}", trailerId);
         List<Load> list = new ArrayList<>();
         try (Connection conn = DatabaseConfig.getConnection()) {
@@ -852,10 +1028,9 @@ public class LoadDAO {
             PreparedStatement ps = conn.prepareStatement(sql);
             ps.setInt(1, trailerId);
             ResultSet rs = ps.executeQuery();
-            while (rs.next()) {
-                Load load = extractLoad(rs);
-                load.setDocuments(getDocumentsByLoadId(load.getId()));
-                list.add(load);
+            list.addAll(readLoads(rs));
+            if (includeDocuments) {
+                attachDocuments(list);
             }
             logger.info("Retrieved {} loads for trailer ID {}", list.size(), trailerId);
         } catch (SQLException e) {
@@ -866,6 +1041,16 @@ public class LoadDAO {
     }
 
     public List<Load> getByTrailerNumber(String trailerNumber) {
+        return getByTrailerNumber(trailerNumber, true);
+    }
+
+    /**
+     * Same as {@link #getByTrailerNumber(String)},
+     * optionally skipping the document prefetch for callers that do not show documents.
+     * 
+     * @param includeDocuments true to prefetch documents for the whole result set in one batch
+     */
+    public List<Load> getByTrailerNumber(String trailerNumber, boolean includeDocuments) {
         logger.debug("Getting loads by trailer number: {}", trailerNumber);
         List<Load> list = new ArrayList<>();
         try (Connection conn = DatabaseConfig.getConnection()) {
@@ -873,10 +1058,9 @@ public class LoadDAO {
             PreparedStatement ps = conn.prepareStatement(sql);
             ps.setString(1, trailerNumber);
             ResultSet rs = ps.executeQuery();
-            while (rs.next()) {
-                Load load = extractLoad(rs);
-                load.setDocuments(getDocumentsByLoadId(load.getId()));
-                list.add(load);
+            list.addAll(readLoads(rs));
+            if (includeDocuments) {
+                attachDocuments(list);
             }
             logger.info("Retrieved {} loads for trailer number {}", list.size(), trailerNumber);
         } catch (SQLException e) {
@@ -887,6 +1071,16 @@ public class LoadDAO {
     }
 
     public List<Load> getByGrossAmountRange(double min, double max) {
+        return getByGrossAmountRange(min, max, true);
+    }
+
+    /**
+     * Same as {@link #getByGrossAmountRange(double, double)},
+     * optionally skipping the document prefetch for callers that do not show documents.
+     * 
+     * @param includeDocuments true to prefetch documents for the whole result set in one batch
+     */
+    public List<Load> getByGrossAmountRange(double min, double max, boolean includeDocuments) {
         logger.debug("Getting loads by gross amount range - Min: ${}, Max: ${}", min, max);
         List<Load> list = new ArrayList<>();
         try (Connection conn = DatabaseConfig.getConnection()) {
@@ -895,10 +1089,9 @@ public class LoadDAO {
             ps.setDouble(1, min);
             ps.setDouble(2, max);
             ResultSet rs = ps.executeQuery();
-            while (rs.next()) {
-                Load load = extractLoad(rs);
-                load.setDocuments(getDocumentsByLoadId(load.getId()));
-                list.add(load);
+            list.addAll(readLoads(rs));
+            if (includeDocuments) {
+                attachDocuments(list);
             }
             logger.info("Retrieved {} loads with amount between ${} and ${}", list.size(), min, max);
         } catch (SQLException e) {
@@ -909,6 +1102,16 @@ public class LoadDAO {
     }
 
     public List<Load> getByTruckUnit(String truckUnit) {
+        return getByTruckUnit(truckUnit, true);
+    }
+
+    /**
+     * Same as {@link #getByTruckUnit(String)},
+     * optionally skipping the document prefetch for callers that do not show documents.
+     * 
+     * @param includeDocuments true to prefetch documents for the whole result set in one batch
+     */
+    public List<Load> getByTruckUnit(String truckUnit, boolean includeDocuments) {
         logger.debug("Getting loads by truck unit: {}", truckUnit);
         List<Load> list = new ArrayList<>();
         try (Connection conn = DatabaseConfig.getConnection()) {
@@ -916,10 +1119,9 @@ public class LoadDAO {
             PreparedStatement ps = conn.prepareStatement(sql);
             ps.setString(1, truckUnit);
             ResultSet rs = ps.executeQuery();
-            while (rs.next()) {
-                Load load = extractLoad(rs);
-                load.setDocuments(getDocumentsByLoadId(load.getId()));
-                list.add(load);
+            list.addAll(readLoads(rs));
+            if (includeDocuments) {
+                attachDocuments(list);
             }
             logger.info("Retrieved {} loads for truck unit {}", list.size(), truckUnit);
         } catch (SQLException e) {
@@ -930,6 +1132,16 @@ public class LoadDAO {
     }
 
     public List<Load> search(String loadNum, String customer, Integer driverId, Integer trailerId, Load.Status status, String truckUnit, LocalDate startDate, LocalDate endDate) {
+        return search(loadNum, customer, driverId, trailerId, status, truckUnit, startDate, endDate, true);
+    }
+
+    /**
+     * Same as {@link #search(String, String, Integer, Integer, Load.Status, String, LocalDate, LocalDate)},
+     * optionally skipping the document prefetch for callers that do not show documents.
+     * 
+     * @param includeDocuments true to prefetch documents for the whole result set in one batch
+     */
+    public List<Load> search(String loadNum, String customer, Integer driverId, Integer trailerId, Load.Status status, String truckUnit, LocalDate startDate, LocalDate endDate, boolean includeDocuments) {
         logger.debug("Searching loads - LoadNum: {}, Customer: {}, DriverId: {}, TrailerId: {}, Status: {}, TruckUnit: {}, StartDate: {}, EndDate: {}", 
             loadNum, customer, driverId, trailerId, status, truckUnit, startDate, endDate);
         List<Load> list = new ArrayList<>();
@@ -974,10 +1186,9 @@ public class LoadDAO {
             for (int i = 0; i < params.size(); ++i)
                 ps.setObject(i + 1, params.get(i));
             ResultSet rs = ps.executeQuery();
-            while (rs.next()) {
-                Load load = extractLoad(rs);
-                load.setDocuments(getDocumentsByLoadId(load.getId()));
-                list.add(load);
+            list.addAll(readLoads(rs));
+            if (includeDocuments) {
+                attachDocuments(list);
             }
             logger.info("Search returned {} loads", list.size());
         } catch (SQLException e) {
@@ -987,11 +1198,185 @@ public class LoadDAO {
         return list;
     }
 
+    /**
+     * One window of the loads matching the filter, newest pickup date first (ties by id).
+     * <p>
+     * Uses keyset pagination on {@code (pickup_date, id)}: the window starts right after
+     * {@code after} instead of at an offset, so every page costs the same however deep
+     * the caller has scrolled. Ids and keys are read first from the index, then the rows
+     * of the window are loaded with their documents and locations.
+     * @param after cursor returned with the previous page, or null for the first page
+     */
+    public LoadPage getPage(LoadFilter filter, LoadPage.Cursor after, int limit) {
+        StringBuilder sql = new StringBuilder(
+            "SELECT id, IFNULL(pickup_date, 0) AS pickup_key FROM loads WHERE 1=1");
+        List<Object> params = new ArrayList<>();
+        filter.appendTo(sql, params);
+        if (after != null) {
+            sql.append(" AND (IFNULL(pickup_date, 0), id) < (?, ?)");
+            params.add(after.pickupKey());
+            params.add(after.id());
+        }
+        sql.append(" ORDER BY IFNULL(pickup_date, 0) DESC, id DESC LIMIT ?");
+        params.add(limit + 1);
+
+        List<Integer> ids = new ArrayList<>();
+        List<Object> keys = new ArrayList<>();
+        try (Connection conn = DatabaseConfig.getReadConnection();
+             PreparedStatement ps = conn.prepareStatement(sql.toString())) {
+            for (int i = 0; i < params.size(); i++) {
+                ps.setObject(i + 1, params.get(i));
+            }
+            try (ResultSet rs = ps.executeQuery()) {
+                while (rs.next()) {
+                    ids.add(rs.getInt("id"));
+                    keys.add(rs.getObject("pickup_key"));
+                }
+            }
+        } catch (SQLException e) {
+            logger.error("Error getting page of loads: {}", e.getMessage(), e);
+            throw new DataAccessException("Error getting page of loads", e);
+        }
+
+        LoadPage.Cursor next = null;
+        if (ids.size() > limit) {
+            ids = ids.subList(0, limit);
+            next = new LoadPage.Cursor(keys.get(limit - 1), ids.get(limit - 1));
+        }
+        List<Load> loads = getByIdsInOrder(ids);
+        logger.debug("Loaded page of {} loads (more: {})", loads.size(), next != null);
+        return new LoadPage(loads, next);
+    }
+
+    /**
+     * Loads scheduled between the dates: those whose pickup-to-delivery span overlaps
+     * {@code start..end}, plus loads missing a pickup or delivery date, which cannot be
+     * placed by date. Documents and locations are attached with batched queries.
+     * <p>
+     * The range is searched through the delivery date index ({@code +pickup_date} keeps the
+     * planner off the pickup index), so recent weeks only read loads delivered since.
+     */
+    public List<Load> getByScheduleWindow(LocalDate start, LocalDate end) {
+        return getByScheduleWindow(start, end, true);
+    }
+
+    /**
+     * Same as {@link #getByScheduleWindow(LocalDate, LocalDate)},
+     * optionally skipping the document prefetch for callers that do not show documents.
+     * 
+     * @param includeDocuments true to prefetch documents for the whole result set in one batch
+     */
+    public List<Load> getByScheduleWindow(LocalDate start, LocalDate end, boolean includeDocuments) {
+        String sql = """
+            SELECT * FROM loads
+            WHERE pickup_date IS NULL OR delivery_date IS NULL
+               OR (delivery_date >= ? AND +pickup_date <= ?)
+            """;
+        List<Load> list;
+        try (Connection conn = DatabaseConfig.getReadConnection();
+             PreparedStatement ps = conn.prepareStatement(sql)) {
+            ps.setDate(1, java.sql.Date.valueOf(start));
+            ps.setDate(2, java.sql.Date.valueOf(end));
+            try (ResultSet rs = ps.executeQuery()) {
+                list = readLoads(rs);
+            }
+        } catch (SQLException e) {
+            logger.error("Error getting loads scheduled {} to {}: {}", start, end, e.getMessage(), e);
+            throw new DataAccessException("Error getting loads by schedule window", e);
+        }
+        if (includeDocuments) {
+            attachDocuments(list);
+        }
+        attachLocations(list);
+        logger.debug("Retrieved {} loads scheduled {} to {}", list.size(), start, end);
+        return list;
+    }
+
+    /**
+     * Every load matching the filter in page order, for exports of a filtered table.
+     */
+    public List<Load> find(LoadFilter filter) {
+        List<Load> list = new ArrayList<>();
+        LoadPage page = null;
+        do {
+            page = getPage(filter, page != null ? page.next() : null, ID_BATCH_SIZE);
+            list.addAll(page.loads());
+        } while (page.hasMore());
+        return list;
+    }
+
+    /**
+     * Whether another load (not {@code excludeId}) has the same load number, ignoring case and surrounding spaces.
+     */
+    public boolean existsLoadNumber(String loadNumber, int excludeId) {
+        String sql = "SELECT 1 FROM loads WHERE lower(trim(load_number)) = ? AND id <> ? LIMIT 1";
+        try (Connection conn = DatabaseConfig.getReadConnection();
+             PreparedStatement ps = conn.prepareStatement(sql)) {
+            ps.setString(1, loadNumber.trim().toLowerCase(Locale.ROOT));
+            ps.setInt(2, excludeId);
+            try (ResultSet rs = ps.executeQuery()) {
+                return rs.next();
+            }
+        } catch (SQLException e) {
+            logger.error("Error checking load number {}: {}", loadNumber, e.getMessage(), e);
+            throw new DataAccessException("Error checking load number", e);
+        }
+    }
+
+    /**
+     * Loads with the given ids in the order of the list, with documents and locations attached
+     */
+    private List<Load> getByIdsInOrder(List<Integer> ids) {
+        if (ids.isEmpty()) {
+            return new ArrayList<>();
+        }
+        Map<Integer, Load> byId = new HashMap<>();
+        try (Connection conn = DatabaseConfig.getReadConnection()) {
+            for (int from = 0; from < ids.size(); from += ID_BATCH_SIZE) {
+                List<Integer> chunk = ids.subList(from, Math.min(from + ID_BATCH_SIZE, ids.size()));
+                String placeholders = String.join(",", Collections.nCopies(chunk.size(), "?"));
+                try (PreparedStatement ps = conn.prepareStatement("SELECT * FROM loads WHERE id IN (" + placeholders + ")")) {
+                    for (int i = 0; i < chunk.size(); i++) {
+                        ps.setInt(i + 1, chunk.get(i));
+                    }
+                    try (ResultSet rs = ps.executeQuery()) {
+                        for (Load load : readLoads(rs)) {
+                            byId.put(load.getId(), load);
+                        }
+                    }
+                }
+            }
+        } catch (SQLException e) {
+            logger.error("Error getting loads by ids: {}", e.getMessage(), e);
+            throw new DataAccessException("Error getting loads by ids", e);
+        }
+        List<Load> list = new ArrayList<>(ids.size());
+        for (Integer id : ids) {
+            Load load = byId.get(id);
+            if (load != null) {
+                list.add(load);
+            }
+        }
+        attachDocuments(list);
+        attachLocations(list);
+        return list;
+    }
+
     /**
      * Retrieve active loads for a specific driver. Active loads are those
      * that are not cancelled and not yet delivered/paid.
      */
     public List<Load> getActiveLoadsByDriver(int driverId) {
+        return getActiveLoadsByDriver(driverId, true);
+    }
+
+    /**
+     * Same as {@link #getActiveLoadsByDriver(int)},
+     * optionally skipping the document prefetch for callers that do not show documents.
+     * 
+     * @param includeDocuments true to prefetch documents for the whole result set in one batch
+     */
+    public List<Load> getActiveLoadsByDriver(int driverId, boolean includeDocuments) {
         logger.debug("Getting active loads for driver {}", driverId);
         List<Load> list = new ArrayList<>();
         try (Connection conn = DatabaseConfig.getConnection()) {
@@ -1002,10 +1387,9 @@ public class LoadDAO {
             ps.setString(3, Load.Status.ASSIGNED.name());
             ps.setString(4, Load.Status.IN_TRANSIT.name());
             ResultSet rs = ps.executeQuery();
-            while (rs.next()) {
-                Load load = extractLoad(rs);
-                load.setDocuments(getDocumentsByLoadId(load.getId()));
-                list.add(load);
+            list.addAll(readLoads(rs));
+            if (includeDocuments) {
+                attachDocuments(list);
             }
             logger.info("Found {} active loads for driver {}", list.size(), driverId);
         } catch (SQLException e) {
@@ -1016,6 +1400,16 @@ public class LoadDAO {
     }
 
     public List<Load> getByDriverAndDateRange(int driverId, LocalDate start, LocalDate end) {
+        return getByDriverAndDateRange(driverId, start, end, true);
+    }
+
+    /**
+     * Same as {@link #getByDriverAndDateRange(int, LocalDate, LocalDate)},
+     * optionally skipping the document prefetch for callers that do not show documents.
+     * 
+     * @param includeDocuments true to prefetch documents for the whole result set in one batch
+     */
+    public List<Load> getByDriverAndDateRange(int driverId, LocalDate start, LocalDate end, boolean includeDocuments) {
         logger.debug("Getting loads - DriverId: {}, Start: {}, End: {}", driverId, start, end);
         List<Load> list = new ArrayList<>();
         try (Connection conn = DatabaseConfig.getConnection()) {
@@ -1027,10 +1421,9 @@ public class LoadDAO {
             ps.setString(4, Load.Status.DELIVERED.name());
             ps.setString(5, Load.Status.PAID.name());
             ResultSet rs = ps.executeQuery();
-            while (rs.next()) {
-                Load load = extractLoad(rs);
-                load.setDocuments(getDocumentsByLoadId(load.getId()));
-                list.add(load);
+            list.addAll(readLoads(rs));
+            if (includeDocuments) {
+                attachDocuments(list);
             }
             logger.info("Retrieved {} loads for driver {} between {} and {}", 
                 list.size(), driverId, start, end);
@@ -1055,9 +1448,19 @@ public class LoadDAO {
      * @return list of loads for financial calculations
      */
     public List<Load> getByDriverAndDateRangeForFinancials(int driverId, LocalDate start, LocalDate end) {
+        return getByDriverAndDateRangeForFinancials(driverId, start, end, true);
+    }
+
+    /**
+     * Same as {@link #getByDriverAndDateRangeForFinancials(int, LocalDate, LocalDate)}, optionally
+     * skipping the document prefetch for callers that only need amounts.
+     * 
+     * @param includeDocuments true to prefetch documents for the whole result set in one batch
+     */
+    public List<Load> getByDriverAndDateRangeForFinancials(int driverId, LocalDate start, LocalDate end, boolean includeDocuments) {
         logger.debug("Getting loads for financials - DriverId: {}, Start: {}, End: {}", driverId, start, end);
         List<Load> list = new ArrayList<>();
-        try (Connection conn = DatabaseConfig.getConnection()) {
+        try (Connection conn = DatabaseConfig.getReadConnection()) {
             // Simplified query that avoids complex nested subqueries
             String sql = """
                 SELECT * FROM loads 
@@ -1083,10 +1486,9 @@ public class LoadDAO {
             ps.setDate(8, java.sql.Date.valueOf(end));
             
             ResultSet rs = ps.executeQuery();
-            while (rs.next()) {
-                Load load = extractLoad(rs);
-                load.setDocuments(getDocumentsByLoadId(load.getId()));
-                list.add(load);
+            list.addAll(readLoads(rs));
+            if (includeDocuments) {
+                attachDocuments(list);
             }
             
             logger.info("Retrieved {} loads for financials for driver {} between {} and {}", 
@@ -1112,38 +1514,114 @@ public class LoadDAO {
         return list;
     }
 
+    /**
+     * Bulk variant of {@link #getByDriverAndDateRangeForFinancials(int, LocalDate, LocalDate, boolean)}
+     * for a whole payroll run. Uses the same predicate with a chunked driver IN list and
+     * groups the result by driver id, keeping the per-driver ordering.
+     *
+     * @return loads keyed by driver id; drivers without loads are absent from the map
+     */
+    public Map<Integer, List<Load>> getByDriversAndDateRangeForFinancials(Collection<Integer> driverIds,
+                                                                          LocalDate start, LocalDate end,
+                                                                          boolean includeDocuments) {
+        Map<Integer, List<Load>> result = new HashMap<>();
+        List<Integer> ids = driverIds.stream().filter(Objects::nonNull).distinct().toList();
+        if (ids.isEmpty()) {
+            return result;
+        }
+        logger.debug("Getting loads for financials - {} drivers, Start: {}, End: {}", ids.size(), start, end);
+        List<Load> all = new ArrayList<>();
+        try (Connection conn = DatabaseConfig.getReadConnection()) {
+            for (int from = 0; from < ids.size(); from += ID_BATCH_SIZE) {
+                List<Integer> chunk = ids.subList(from, Math.min(from + ID_BATCH_SIZE, ids.size()));
+                String placeholders = String.join(",", Collections.nCopies(chunk.size(), "?"));
+                String sql = """
+                    SELECT * FROM loads
+                    WHERE driver_id IN (%s)
+                    AND gross_amount > 0
+                    AND status IN (?, ?, ?)
+                    AND (
+                        (delivery_date IS NOT NULL AND delivery_date >= ? AND delivery_date <= ?)
+                        OR (delivery_date IS NULL AND pickup_date IS NOT NULL AND pickup_date >= ? AND pickup_date <= ?)
+                        OR (delivery_date IS NULL AND pickup_date IS NULL)
+                    )
+                    ORDER BY COALESCE(delivery_date, pickup_date) DESC
+                """.formatted(placeholders);
+
+                try (PreparedStatement ps = conn.prepareStatement(sql)) {
+                    int idx = 1;
+                    for (Integer id : chunk) {
+                        ps.setInt(idx++, id);
+                    }
+                    ps.setString(idx++, Load.Status.DELIVERED.name());
+                    ps.setString(idx++, Load.Status.PAID.name());
+                    ps.setString(idx++, Load.Status.IN_TRANSIT.name());
+                    ps.setDate(idx++, java.sql.Date.valueOf(start));
+                    ps.setDate(idx++, java.sql.Date.valueOf(end));
+                    ps.setDate(idx++, java.sql.Date.valueOf(start));
+                    ps.setDate(idx, java.sql.Date.valueOf(end));
+                    try (ResultSet rs = ps.executeQuery()) {
+                        all.addAll(readLoads(rs));
+                    }
+                }
+            }
+        } catch (SQLException e) {
+            logger.error("Error getting loads for financials: {}", e.getMessage(), e);
+            throw new DataAccessException("Error getting loads for financials", e);
+        }
+        if (includeDocuments) {
+            attachDocuments(all);
+        }
+        for (Load load : all) {
+            if (load.getDriver() != null) {
+                result.computeIfAbsent(load.getDriver().getId(), k -> new ArrayList<>()).add(load);
+            }
+        }
+        logger.info("Retrieved {} loads for financials for {} drivers between {} and {}",
+            all.size(), ids.size(), start, end);
+        return result;
+    }
+
     // Document management methods
     public int addDocument(Load.LoadDocument doc) {
         logger.info("Adding document: {} for load ID: {}", doc.getFileName(), doc.getLoadId());
         String sql = "INSERT INTO load_documents (load_id, file_name, file_path, document_type, upload_date) VALUES (?, ?, ?, ?, ?)";
-        try (Connection conn = DatabaseConfig.getConnection()) {
-            PreparedStatement ps = conn.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS);
-            ps.setInt(1, doc.getLoadId());
-            ps.setString(2, doc.getFileName());
-            ps.setString(3, doc.getFilePath());
-            ps.setString(4, doc.getType().name());
-            ps.setDate(5, java.sql.Date.valueOf(doc.getUploadDate()));
-            ps.executeUpdate();
-            ResultSet keys = ps.getGeneratedKeys();
-            if (keys.next()) {
-                int id = keys.getInt(1);
+        try {
+            int id = DatabaseConfig.write(() -> {
+                try (Connection conn = DatabaseConfig.getConnection();
+                     PreparedStatement ps = conn.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS)) {
+                    ps.setInt(1, doc.getLoadId());
+                    ps.setString(2, doc.getFileName());
+                    ps.setString(3, doc.getFilePath());
+                    ps.setString(4, doc.getType().name());
+                    ps.setDate(5, java.sql.Date.valueOf(doc.getUploadDate()));
+                    ps.executeUpdate();
+                    try (ResultSet keys = ps.getGeneratedKeys()) {
+                        return keys.next() ? keys.getInt(1) : -1;
+                    }
+                }
+            });
+            if (id > 0) {
                 logger.info("Document added successfully with ID: {}", id);
-                return id;
             }
+            return id;
         } catch (SQLException e) {
             logger.error("Error adding document: {}", e.getMessage(), e);
             throw new DataAccessException("Error adding document", e);
         }
-        return -1;
     }
 
     public void deleteDocument(int docId) {
         logger.info("Deleting document with ID: {}", docId);
         String sql = "DELETE FROM load_documents WHERE id = ?";
-        try (Connection conn = DatabaseConfig.getConnection()) {
-            PreparedStatement ps = conn.prepareStatement(sql);
-            ps.setInt(1, docId);
-            int rowsAffected = ps.executeUpdate();
+        try {
+            int rowsAffected = DatabaseConfig.write(() -> {
+                try (Connection conn = DatabaseConfig.getConnection();
+                     PreparedStatement ps = conn.prepareStatement(sql)) {
+                    ps.setInt(1, docId);
+                    return ps.executeUpdate();
+                }
+            });
             if (rowsAffected > 0) {
                 logger.info("Document deleted successfully");
             } else {
@@ -1158,7 +1636,7 @@ public class LoadDAO {
     public List<Load.LoadDocument> getDocumentsByLoadId(int loadId) {
         logger.debug("Getting documents for load ID: {}", loadId);
         List<Load.LoadDocument> docs = new ArrayList<>();
-        try (Connection conn = DatabaseConfig.getConnection()) {
+        try (Connection conn = DatabaseConfig.getReadConnection()) {
             String sql = "SELECT * FROM load_documents WHERE load_id = ? ORDER BY upload_date DESC";
             PreparedStatement ps = conn.prepareStatement(sql);
             ps.setInt(1, loadId);
@@ -1182,7 +1660,8 @@ public class LoadDAO {
     }
     
     /**
-     * Get all documents for multiple loads - useful for payroll PDF merging
+     * Get all documents for multiple loads - useful for payroll PDF merging.
+     * Ids are queried in chunks to stay under SQLite's bound-parameter limit.
      * @param loadIds List of load IDs
      * @return Map of load ID to list of documents
      */
@@ -1194,33 +1673,33 @@ public class LoadDAO {
             return documentsMap;
         }
         
-        try (Connection conn = DatabaseConfig.getConnection()) {
-            // Build IN clause
-            String placeholders = loadIds.stream()
-                .map(id -> "?")
-                .collect(Collectors.joining(","));
-            
-            String sql = "SELECT * FROM load_documents WHERE load_id IN (" + placeholders + ") ORDER BY load_id, upload_date DESC";
-            PreparedStatement ps = conn.prepareStatement(sql);
-            
-            // Set parameters
-            for (int i = 0; i < loadIds.size(); i++) {
-                ps.setInt(i + 1, loadIds.get(i));
-            }
-            
-            ResultSet rs = ps.executeQuery();
-            while (rs.next()) {
-                int loadId = rs.getInt("load_id");
-                Load.LoadDocument doc = new Load.LoadDocument(
-                    rs.getInt("id"),
-                    loadId,
-                    rs.getString("file_name"),
-                    rs.getString("file_path"),
-                    Load.LoadDocument.DocumentType.valueOf(rs.getString("document_type")),
-                    rs.getDate("upload_date").toLocalDate()
-                );
+        try (Connection conn = DatabaseConfig.getReadConnection()) {
+            for (int from = 0; from < loadIds.size(); from += ID_BATCH_SIZE) {
+                List<Integer> chunk = loadIds.subList(from, Math.min(from + ID_BATCH_SIZE, loadIds.size()));
+                String placeholders = String.join(",", Collections.nCopies(chunk.size(), "?"));
+                String sql = "SELECT * FROM load_documents WHERE load_id IN (" + placeholders + ") ORDER BY load_id, upload_date DESC";
                 
-                documentsMap.computeIfAbsent(loadId, k -> new ArrayList<>()).add(doc);
+                try (PreparedStatement ps = conn.prepareStatement(sql)) {
+                    for (int i = 0; i < chunk.size(); i++) {
+                        ps.setInt(i + 1, chunk.get(i));
+                    }
+                    
+                    try (ResultSet rs = ps.executeQuery()) {
+                        while (rs.next()) {
+                            int loadId = rs.getInt("load_id");
+                            Load.LoadDocument doc = new Load.LoadDocument(
+                                rs.getInt("id"),
+                                loadId,
+                                rs.getString("file_name"),
+                                rs.getString("file_path"),
+                                Load.LoadDocument.DocumentType.valueOf(rs.getString("document_type")),
+                                rs.getDate("upload_date").toLocalDate()
+                            );
+                            
+                            documentsMap.computeIfAbsent(loadId, k -> new ArrayList<>()).add(doc);
+                        }
+                    }
+                }
             }
             
             logger.info("Retrieved documents for {} loads", documentsMap.size());
@@ -1231,6 +1710,21 @@ public class LoadDAO {
         return documentsMap;
     }
     
+    /**
+     * Prefetch documents for a whole result set with one batched query per
+     * chunk of ids instead of one query per load.
+     */
+    private void attachDocuments(List<Load> loads) {
+        if (loads.isEmpty()) {
+            return;
+        }
+        List<Integer> loadIds = loads.stream().map(Load::getId).toList();
+        Map<Integer, List<Load.LoadDocument>> documentsMap = getDocumentsByLoadIds(loadIds);
+        for (Load load : loads) {
+            load.setDocuments(documentsMap.getOrDefault(load.getId(), new ArrayList<>()));
+        }
+    }
+    
     /**
      * Get all PDF documents for a driver's loads within a date range
      * Useful for payroll document merging
@@ -1279,7 +1773,19 @@ public class LoadDAO {
         return documents;
     }
 
-    private Load extractLoad(ResultSet rs) throws SQLException {
+    /**
+     * Map every remaining row of a result set to a load, resolving drivers and
+     * trailers with one batched lookup each rather than one query per row.
+     */
+    private List<Load> readLoads(ResultSet rs) throws SQLException {
+        LoadHydrator hydrator = new LoadHydrator(employeeDAO, trailerDAO);
+        while (rs.next()) {
+            extractLoad(rs, hydrator);
+        }
+        return hydrator.hydrate();
+    }
+
+    private Load extractLoad(ResultSet rs, LoadHydrator hydrator) throws SQLException {
         int id = rs.getInt("id");
         String loadNumber = rs.getString("load_number");
         String poNumber = "";
@@ -1292,25 +1798,20 @@ public class LoadDAO {
         String pickUp = rs.getString("pick_up_location");
         String drop = rs.getString("drop_location");
         int driverId = rs.getInt("driver_id");
-        Employee driver = employeeDAO.getById(driverId);
         
+        // Driver falls back to the snapshot once the hydrator has resolved it
         String truckUnitSnapshot = "";
+        boolean snapshotFromDriver = false;
         try { truckUnitSnapshot = rs.getString("truck_unit_snapshot"); } catch (SQLException ex) { 
-            truckUnitSnapshot = driver != null ? driver.getTruckUnit() : ""; 
+            snapshotFromDriver = true;
         }
         
-        // Extract trailer information
+        // Extract trailer information; the trailer object is resolved by the hydrator
         int trailerId = 0;
         String trailerNumber = "";
         try { trailerId = rs.getInt("trailer_id"); } catch (SQLException ex) { trailerId = 0; }
         try { trailerNumber = rs.getString("trailer_number"); } catch (SQLException ex) { trailerNumber = ""; }
         
-        // Get trailer object if trailerId exists
-        Trailer trailer = null;
-        if (trailerId > 0) {
-            trailer = trailerDAO.findById(trailerId);
-        }
-        
         Load.Status status = Load.Status.valueOf(rs.getString("status"));
         double gross = rs.getDouble("gross_amount");
         String notes = rs.getString("notes");
@@ -1355,14 +1856,13 @@ public class LoadDAO {
         boolean hasRevisedRateConfirmation = false;
         try { hasRevisedRateConfirmation = rs.getInt("has_revised_rate_confirmation") == 1; } catch (SQLException ex) { hasRevisedRateConfirmation = false; }
         
-        Load load = new Load(id, loadNumber, poNumber, customer, customer2, billTo, pickUp, drop, driver, truckUnitSnapshot, 
+        Load load = new Load(id, loadNumber, poNumber, customer, customer2, billTo, pickUp, drop, null, truckUnitSnapshot, 
                           status, gross, notes, pickUpDate, pickUpTime, deliveryDate, deliveryTime, 
                           reminder, hasLumper, lumperAmount, hasRevisedRateConfirmation);
         
         // Set trailer info
         load.setTrailerId(trailerId);
         load.setTrailerNumber(trailerNumber);
-        load.setTrailer(trailer);
         
         // Set zip code and payment method fields
         try { load.setPickupZipCode(rs.getString("pickup_zip_code")); } catch (SQLException ex) { }
@@ -1384,6 +1884,7 @@ public class LoadDAO {
         try { load.setPaymentRateUsed(rs.getDouble("payment_rate_used")); } catch (SQLException ex) { }
         try { load.setFlatRateAmount(rs.getDouble("flat_rate_amount")); } catch (SQLException ex) { }
         
+        hydrator.add(load, driverId, trailerId, snapshotFromDriver);
         return load;
     }
 
@@ -1397,6 +1898,7 @@ public class LoadDAO {
             int rowsAffected = ps.executeUpdate();
             if (rowsAffected > 0) {
                 logger.info("Added new customer: {}", customer);
+                EnterpriseDataCacheManager.dataChanged(ReferenceData.CUSTOMERS);
             }
         } catch (SQLException e) {
             logger.error("Error saving customer: {}", e.getMessage(), e);
@@ -1429,6 +1931,7 @@ public class LoadDAO {
             int rowsAffected = ps.executeUpdate();
             if (rowsAffected > 0) {
                 logger.info("Customer deleted successfully");
+                EnterpriseDataCacheManager.dataChanged(ReferenceData.CUSTOMERS);
             } else {
                 logger.warn("Customer not found: {}", customerName);
             }
@@ -1448,6 +1951,7 @@ public class LoadDAO {
             int rowsAffected = ps.executeUpdate();
             if (rowsAffected > 0) {
                 logger.info("Added new billing entity: {}", billingEntity);
+                EnterpriseDataCacheManager.dataChanged(ReferenceData.BILLING_ENTITIES);
             }
         } catch (SQLException e) {
             logger.error("Error saving billing entity: {}", e.getMessage(), e);
@@ -1480,6 +1984,7 @@ public class LoadDAO {
             int rowsAffected = ps.executeUpdate();
             if (rowsAffected > 0) {
                 logger.info("Billing entity deleted successfully");
+                EnterpriseDataCacheManager.dataChanged(ReferenceData.BILLING_ENTITIES);
             } else {
                 logger.warn("Billing entity not found: {}", billingEntityName);
             }
@@ -2012,7 +2517,7 @@ public class LoadDAO {
             ORDER BY location_type, sequence
         """;
         
-        try (Connection conn = DatabaseConfig.getConnection();
+        try (Connection conn = DatabaseConfig.getReadConnection();
              PreparedStatement stmt = conn.prepareStatement(sql)) {
             
             stmt.setInt(1, loadId);
@@ -2047,6 +2552,46 @@ public class LoadDAO {
         }
     }
     
+    /**
+     * Attach the additional locations of a batch of loads with one query per chunk of ids
+     */
+    private void attachLocations(List<Load> loads) {
+        if (loads.isEmpty()) {
+            return;
+        }
+        List<Integer> loadIds = loads.stream().map(Load::getId).toList();
+        Map<Integer, List<LoadLocation>> byLoad = new HashMap<>();
+        try (Connection conn = DatabaseConfig.getConnection()) {
+            for (int from = 0; from < loadIds.size(); from += ID_BATCH_SIZE) {
+                List<Integer> chunk = loadIds.subList(from, Math.min(from + ID_BATCH_SIZE, loadIds.size()));
+                String placeholders = String.join(",", Collections.nCopies(chunk.size(), "?"));
+                String sql = """
+                    SELECT id, load_id, location_type, customer, address, city, state, date, time, notes, sequence
+                    FROM load_locations
+                    WHERE load_id IN (%s)
+                    ORDER BY load_id, location_type, sequence
+                    """.formatted(placeholders);
+                try (PreparedStatement ps = conn.prepareStatement(sql)) {
+                    for (int i = 0; i < chunk.size(); i++) {
+                        ps.setInt(i + 1, chunk.get(i));
+                    }
+                    try (ResultSet rs = ps.executeQuery()) {
+                        while (rs.next()) {
+                            LoadLocation location = extractLoadLocation(rs);
+                            byLoad.computeIfAbsent(location.getLoadId(), k -> new ArrayList<>()).add(location);
+                        }
+                    }
+                }
+            }
+        } catch (SQLException e) {
+            logger.error("Error getting locations for {} loads: {}", loads.size(), e.getMessage(), e);
+            throw new DataAccessException("Error getting load locations", e);
+        }
+        for (Load load : loads) {
+            load.setLocations(byLoad.getOrDefault(load.getId(), new ArrayList<>()));
+        }
+    }
+    
     private LoadLocation extractLoadLocation(ResultSet rs) throws SQLException {
         int id = rs.getInt("id");
         int loadId = rs.getInt("load_id");
@@ -2235,6 +2780,9 @@ public class LoadDAO {
                 int syncedToBook = conn.createStatement().executeUpdate(syncToBookSql);
                 processed += syncedToBook;
                 logger.info("Synced {} new addresses from customer_locations to customer_address_book", syncedToBook);
+                if (syncedToBook > 0) {
+                    EnterpriseDataCacheManager.dataChanged(ReferenceData.ADDRESSES);
+                }
                 
                 if (progressCallback != null) {
                     progressCallback.accept(new SyncProgress(processed, totalOperations, "Syncing address book to locations...", false));
@@ -2320,184 +2868,156 @@ public class LoadDAO {
     }
     
     /**
-     * Updates load statuses based on pickup and delivery times
+     * Updates load statuses based on pickup and delivery cutoffs
      * - If BOOKED/ASSIGNED and past pickup time -> PICKUP_LATE
-     * - If not DELIVERED and past delivery time -> DELIVERY_LATE
-     * @return number of loads updated
+     * - If not DELIVERED/PAID and past delivery time -> DELIVERY_LATE
+     * <p>
+     * Each transition is one {@code UPDATE} over the indexed cutoff columns, so only
+     * the loads that actually change are touched. A load past both cutoffs ends up
+     * DELIVERY_LATE.
+     * @return new status of every load that changed, by load id
      */
-    public int updateLateStatuses() {
-        logger.info("Checking and updating late load statuses");
-        
-        String sql = """
-            SELECT id, load_number, status, pickup_date, pickup_time, delivery_date, delivery_time
-            FROM loads 
-            WHERE status IN ('BOOKED', 'ASSIGNED', 'IN_TRANSIT', 'PICKUP_LATE', 'DELIVERY_LATE')
-            AND status != 'CANCELLED'
-        """;
-        
-        int updatedCount = 0;
-        
-        // Add retry logic for database locking
-        int retries = 3;
-        SQLException lastException = null;
-        
-        while (retries > 0) {
-            try (Connection conn = DatabaseConfig.getConnection()) {
-                // Use a single connection for all operations to avoid locking
-                conn.setAutoCommit(false);
-                
-                // Set busy timeout to wait up to 5 seconds if database is locked
-                try (Statement stmt = conn.createStatement()) {
-                    stmt.execute("PRAGMA busy_timeout = 5000");
-                }
-            
-            try (PreparedStatement ps = conn.prepareStatement(sql);
-                 ResultSet rs = ps.executeQuery()) {
-            
-            LocalDate today = LocalDate.now();
-            LocalTime now = LocalTime.now();
-            
-            while (rs.next()) {
-                int loadId = rs.getInt("id");
-                String loadNumber = rs.getString("load_number");
-                String currentStatus = rs.getString("status");
-                
-                // Get dates and times
-                LocalDate pickupDate = null;
-                LocalTime pickupTime = null;
-                LocalDate deliveryDate = null; 
-                LocalTime deliveryTime = null;
-                
-                java.sql.Date sqlPickupDate = rs.getDate("pickup_date");
-                if (sqlPickupDate != null) {
-                    pickupDate = sqlPickupDate.toLocalDate();
-                }
-                
-                Time sqlPickupTime = rs.getTime("pickup_time");
-                if (sqlPickupTime != null) {
-                    pickupTime = sqlPickupTime.toLocalTime();
-                }
-                
-                java.sql.Date sqlDeliveryDate = rs.getDate("delivery_date");
-                if (sqlDeliveryDate != null) {
-                    deliveryDate = sqlDeliveryDate.toLocalDate();
-                }
-                
-                Time sqlDeliveryTime = rs.getTime("delivery_time");
-                if (sqlDeliveryTime != null) {
-                    deliveryTime = sqlDeliveryTime.toLocalTime();
-                }
-                
-                String newStatus = null;
-                
-                // Check for pickup late
-                if ((currentStatus.equals("BOOKED") || currentStatus.equals("ASSIGNED")) && 
-                    pickupDate != null) {
-                    
-                    boolean isPickupLate = false;
-                    if (pickupDate.isBefore(today)) {
-                        isPickupLate = true;
-                    } else if (pickupDate.equals(today) && pickupTime != null && pickupTime.isBefore(now)) {
-                        isPickupLate = true;
-                    }
-                    
-                    if (isPickupLate) {
-                        newStatus = "PICKUP_LATE";
-                        logger.info("Load {} is past pickup time, marking as PICKUP_LATE", loadNumber);
+    public Map<Integer, Load.Status> updateLateStatuses() {
+        long now = System.currentTimeMillis();
+        logger.debug("Checking and updating late load statuses");
+        try {
+            return DatabaseConfig.write(() -> {
+                Map<Integer, Load.Status> changed = new LinkedHashMap<>();
+                try (Connection conn = DatabaseConfig.getConnection()) {
+                    conn.setAutoCommit(false);
+                    try {
+                        markLate(conn, MARK_PICKUP_LATE, now, Load.Status.PICKUP_LATE, changed);
+                        markLate(conn, MARK_DELIVERY_LATE, now, Load.Status.DELIVERY_LATE, changed);
+                        conn.commit();
+                    } catch (SQLException e) {
+                        conn.rollback();
+                        throw e;
+                    } finally {
+                        conn.setAutoCommit(true);
                     }
                 }
-                
-                // Check for delivery late
-                if (!currentStatus.equals("DELIVERED") && !currentStatus.equals("PAID") && 
-                    deliveryDate != null && newStatus == null) {
-                    
-                    boolean isDeliveryLate = false;
-                    if (deliveryDate.isBefore(today)) {
-                        isDeliveryLate = true;
-                    } else if (deliveryDate.equals(today) && deliveryTime != null && deliveryTime.isBefore(now)) {
-                        isDeliveryLate = true;
-                    }
-                    
-                    if (isDeliveryLate) {
-                        newStatus = "DELIVERY_LATE";
-                        logger.info("Load {} is past delivery time, marking as DELIVERY_LATE", loadNumber);
-                    }
+                if (!changed.isEmpty()) {
+                    logger.info("Updated {} loads with late status", changed.size());
+                    DomainEventBus.publishAll(Entity.LOAD, changed.keySet(), Change.UPDATE);
                 }
-                
-                // Update status if changed
-                if (newStatus != null && !newStatus.equals(currentStatus)) {
-                    updateLoadStatus(conn, loadId, newStatus);
-                    updatedCount++;
+                return changed;
+            });
+        } catch (SQLException e) {
+            logger.error("Error updating late load statuses: {}", e.getMessage(), e);
+            throw new DataAccessException("Failed to update late statuses", e);
+        }
+    }
+
+    private static final String MARK_PICKUP_LATE = """
+        UPDATE loads SET status = 'PICKUP_LATE'
+        WHERE status IN ('BOOKED', 'ASSIGNED') AND pickup_due_at < ?
+        RETURNING id
+        """;
+
+    private static final String MARK_DELIVERY_LATE = """
+        UPDATE loads SET status = 'DELIVERY_LATE'
+        WHERE status IN ('BOOKED', 'ASSIGNED', 'IN_TRANSIT', 'PICKUP_LATE') AND delivery_due_at < ?
+        RETURNING id
+        """;
+
+    private void markLate(Connection conn, String sql, long now, Load.Status status,
+                          Map<Integer, Load.Status> changed) throws SQLException {
+        try (PreparedStatement ps = conn.prepareStatement(sql)) {
+            ps.setLong(1, now);
+            try (ResultSet rs = ps.executeQuery()) {
+                while (rs.next()) {
+                    changed.put(rs.getInt(1), status);
                 }
             }
-            
-            // Commit all updates
-            conn.commit();
-            
-            if (updatedCount > 0) {
-                logger.info("Updated {} loads with late status", updatedCount);
-            }
-            
-            // If we get here, operation was successful
-            return updatedCount;
-                
-            } catch (SQLException e) {
-                // Rollback on error
-                conn.rollback();
-                logger.error("Error updating late load statuses", e);
-                lastException = e;
-                
-                // If it's a database locked error, retry
-                if (e.getMessage().contains("database is locked") && retries > 1) {
-                    logger.warn("Database is locked, retrying... ({} retries left)", retries - 1);
-                    retries--;
-                    
-                    // Wait a bit before retrying
-                    try {
-                        Thread.sleep(1000); // Wait 1 second
-                    } catch (InterruptedException ie) {
-                        Thread.currentThread().interrupt();
-                        throw new DataAccessException("Interrupted while waiting to retry", e);
-                    }
-                } else {
-                    // Not a lock error or no more retries
-                    throw new DataAccessException("Failed to update late statuses", e);
+        }
+    }
+
+    /**
+     * Earliest upcoming pickup and delivery cutoffs of the loads the late-status check
+     * could still change, soonest first.
+     * @param after only cutoffs at or after this time, in epoch millis
+     */
+    public List<LateStatusEngine.Deadline> getUpcomingLateCutoffs(long after, int limit) {
+        String sql = """
+            SELECT id, due FROM (
+                SELECT id, pickup_due_at AS due FROM loads
+                WHERE status IN ('BOOKED', 'ASSIGNED') AND pickup_due_at >= ?
+                ORDER BY pickup_due_at LIMIT ?)
+            UNION ALL
+            SELECT id, due FROM (
+                SELECT id, delivery_due_at AS due FROM loads
+                WHERE status IN ('BOOKED', 'ASSIGNED', 'IN_TRANSIT', 'PICKUP_LATE') AND delivery_due_at >= ?
+                ORDER BY delivery_due_at LIMIT ?)
+            ORDER BY due
+            LIMIT ?
+            """;
+        List<LateStatusEngine.Deadline> deadlines = new ArrayList<>();
+        try (Connection conn = DatabaseConfig.getReadConnection();
+             PreparedStatement ps = conn.prepareStatement(sql)) {
+            ps.setLong(1, after);
+            ps.setInt(2, limit);
+            ps.setLong(3, after);
+            ps.setInt(4, limit);
+            ps.setInt(5, limit);
+            try (ResultSet rs = ps.executeQuery()) {
+                while (rs.next()) {
+                    deadlines.add(new LateStatusEngine.Deadline(rs.getLong("due"), rs.getInt("id")));
                 }
             }
-            
         } catch (SQLException e) {
-            logger.error("Error connecting to database", e);
-            lastException = e;
-            retries--;
-            
-            if (retries > 0) {
-                logger.warn("Failed to connect, retrying... ({} retries left)", retries);
-                try {
-                    Thread.sleep(500); // Wait 500ms before retry
-                } catch (InterruptedException ie) {
-                    Thread.currentThread().interrupt();
-                    throw new DataAccessException("Interrupted while waiting to retry", e);
-                }
-            }
+            logger.error("Error getting upcoming late cutoffs: {}", e.getMessage(), e);
+            throw new DataAccessException("Error getting upcoming late cutoffs", e);
         }
+        return deadlines;
+    }
+
+    /**
+     * Instant a pickup or delivery becomes late, in epoch millis: the appointment time,
+     * or the end of the day when it has no time. Null without a date.
+     */
+    static Long lateCutoff(LocalDate date, LocalTime time) {
+        if (date == null) {
+            return null;
         }
-        
-        // If we exhausted all retries
-        throw new DataAccessException("Failed to update late statuses after " + 3 + " attempts", lastException);
+        LocalDateTime at = time != null ? date.atTime(time) : date.plusDays(1).atStartOfDay();
+        return at.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
     }
-    
+
     /**
-     * Updates the status of a single load using provided connection
+     * Fill the cutoff columns of loads saved before they existed
      */
-    private void updateLoadStatus(Connection conn, int loadId, String status) throws SQLException {
-        String sql = "UPDATE loads SET status = ? WHERE id = ?";
-        
-        try (PreparedStatement ps = conn.prepareStatement(sql)) {
-            ps.setString(1, status);
-            ps.setInt(2, loadId);
-            ps.executeUpdate();
-            
-            logger.debug("Updated load {} to status {}", loadId, status);
+    private void backfillLateCutoffs(Connection conn) throws SQLException {
+        String select = "SELECT id, pickup_date, pickup_time, delivery_date, delivery_time FROM loads";
+        String update = "UPDATE loads SET pickup_due_at = ?, delivery_due_at = ? WHERE id = ?";
+        boolean autoCommit = conn.getAutoCommit();
+        conn.setAutoCommit(false);
+        int count = 0;
+        try (PreparedStatement read = conn.prepareStatement(select);
+             PreparedStatement write = conn.prepareStatement(update);
+             ResultSet rs = read.executeQuery()) {
+            while (rs.next()) {
+                java.sql.Date pickupDate = rs.getDate("pickup_date");
+                Time pickupTime = rs.getTime("pickup_time");
+                java.sql.Date deliveryDate = rs.getDate("delivery_date");
+                Time deliveryTime = rs.getTime("delivery_time");
+                write.setObject(1, lateCutoff(pickupDate != null ? pickupDate.toLocalDate() : null,
+                    pickupTime != null ? pickupTime.toLocalTime() : null));
+                write.setObject(2, lateCutoff(deliveryDate != null ? deliveryDate.toLocalDate() : null,
+                    deliveryTime != null ? deliveryTime.toLocalTime() : null));
+                write.setInt(3, rs.getInt("id"));
+                write.addBatch();
+                if (++count % ID_BATCH_SIZE == 0) {
+                    write.executeBatch();
+                }
+            }
+            write.executeBatch();
+            conn.commit();
+            logger.info("Computed late-status cutoffs for {} existing loads", count);
+        } catch (SQLException e) {
+            conn.rollback();
+            throw e;
+        } finally {
+            conn.setAutoCommit(autoCommit);
         }
     }
     
@@ -2558,6 +3078,7 @@ public class LoadDAO {
                     if (generatedKeys.next()) {
                         int id = generatedKeys.getInt(1);
                         logger.info("Added new address to address book: {} - {}", customerName, address);
+                        EnterpriseDataCacheManager.addressesChanged(customerName);
                         
                         // Also sync to customer_locations for both PICKUP and DROP
                         syncAddressToCustomerLocations(customerId, locationName, address, city, state);
@@ -2659,6 +3180,7 @@ public class LoadDAO {
             
             ps.executeUpdate();
             logger.info("Updated customer address: {}", address.getId());
+            EnterpriseDataCacheManager.dataChanged(ReferenceData.ADDRESSES);
         } catch (SQLException e) {
             logger.error("Error updating customer address", e);
         }
@@ -2688,6 +3210,7 @@ public class LoadDAO {
                 ps.setInt(1, addressId);
                 ps.executeUpdate();
                 logger.info("Deleted from customer_address_book: {}", addressId);
+                EnterpriseDataCacheManager.dataChanged(ReferenceData.ADDRESSES);
                 
                 // Also delete matching entries from customer_locations
                 String deleteLocationsSql = "DELETE FROM customer_locations WHERE customer_id = ? AND address = ? AND city = ? AND state = ?";
@@ -2853,6 +3376,9 @@ public class LoadDAO {
     
     /**
      * Search addresses with enhanced matching for autocomplete
+     * <p>
+     * Every word of the query must start a word of the customer name, location name,
+     * address, city or state; the best matches come first.
      */
     public List<String> searchAddresses(String query) {
         List<String> results = new ArrayList<>();
@@ -2861,9 +3387,30 @@ public class LoadDAO {
         }
         
         String normalizedQuery = normalizeString(query);
+        String match = LoadSearchIndex.prefixQuery(query);
+        boolean fullText = match != null && LoadSearchIndex.isAvailable();
         
-        try (Connection conn = DatabaseConfig.getConnection()) {
-            String sql = """
+        try (Connection conn = DatabaseConfig.getReadConnection()) {
+            // Identical addresses are listed once, ranked by their best match
+            String sql = fullText ? """
+                SELECT customer_name, address, city, state, location_name
+                FROM (
+                    SELECT 
+                        c.name as customer_name,
+                        cab.address,
+                        cab.city,
+                        cab.state,
+                        cab.location_name,
+                        %s as score
+                    FROM address_book_fts
+                    JOIN customer_address_book cab ON cab.id = address_book_fts.rowid
+                    JOIN customers c ON cab.customer_id = c.id
+                    WHERE address_book_fts MATCH ?
+                )
+                GROUP BY customer_name, address, city, state, location_name
+                ORDER BY MIN(score), customer_name, address
+                LIMIT 50
+            """.formatted(LoadSearchIndex.ADDRESS_RANK) : """
                 SELECT DISTINCT 
                     c.name as customer_name,
                     cab.address,
@@ -2888,14 +3435,18 @@ public class LoadDAO {
             """;
             
             PreparedStatement ps = conn.prepareStatement(sql);
-            String likePattern = "%" + normalizedQuery + "%";
-            ps.setString(1, likePattern);
-            ps.setString(2, likePattern);
-            ps.setString(3, likePattern);
-            ps.setString(4, likePattern);
-            ps.setString(5, likePattern);
-            ps.setString(6, likePattern);
-            ps.setString(7, likePattern);
+            if (fullText) {
+                ps.setString(1, match);
+            } else {
+                String likePattern = "%" + normalizedQuery + "%";
+                ps.setString(1, likePattern);
+                ps.setString(2, likePattern);
+                ps.setString(3, likePattern);
+                ps.setString(4, likePattern);
+                ps.setString(5, likePattern);
+                ps.setString(6, likePattern);
+                ps.setString(7, likePattern);
+            }
             
             ResultSet rs = ps.executeQuery();
             while (rs.next()) {
@@ -3087,6 +3638,7 @@ public class LoadDAO {
                 // Commit transaction
                 conn.commit();
                 logger.info("Batch insert completed: {} addresses inserted", totalInserted);
+                EnterpriseDataCacheManager.dataChanged(ReferenceData.CUSTOMERS);
                 
             } catch (SQLException e) {
                 // Rollback on error
@@ -3178,15 +3730,44 @@ public class LoadDAO {
     
     /**
      * Search loads by multiple criteria
+     * <p>
+     * Every word of the query must start a word of the load number, PO, customers or
+     * locations; the best matches come first, weighted towards the load number and PO.
      */
     public List<Load> searchLoads(String query, int limit) throws DataAccessException {
+        String match = LoadSearchIndex.prefixQuery(query);
+        if (match == null || !LoadSearchIndex.isAvailable()) {
+            return searchLoadsLike(query, limit);
+        }
+        String sql = """
+            SELECT loads.* FROM loads_fts
+            JOIN loads ON loads.id = loads_fts.rowid
+            WHERE loads_fts MATCH ?
+            ORDER BY %s, loads.id DESC
+            LIMIT ?
+            """.formatted(LoadSearchIndex.LOADS_RANK);
+        
+        try (Connection conn = DatabaseConfig.getReadConnection();
+             PreparedStatement pstmt = conn.prepareStatement(sql)) {
+            pstmt.setString(1, match);
+            pstmt.setInt(2, limit);
+            
+            ResultSet rs = pstmt.executeQuery();
+            return readLoads(rs);
+        } catch (SQLException e) {
+            logger.error("Error searching loads", e);
+            throw new DataAccessException("Error searching loads", e);
+        }
+    }
+    
+    private List<Load> searchLoadsLike(String query, int limit) throws DataAccessException {
         String sql = """
             SELECT * FROM loads 
             WHERE load_number LIKE ? 
                 OR po_number LIKE ? 
                 OR customer LIKE ? 
                 OR customer2 LIKE ? 
-                OR pickup_location LIKE ? 
+                OR pick_up_location LIKE ? 
                 OR drop_location LIKE ?
             ORDER BY id DESC 
             LIMIT ?
@@ -3195,7 +3776,7 @@ public class LoadDAO {
         List<Load> loads = new ArrayList<>();
         String searchPattern = "%" + query + "%";
         
-        try (Connection conn = DatabaseConfig.getConnection();
+        try (Connection conn = DatabaseConfig.getReadConnection();
              PreparedStatement pstmt = conn.prepareStatement(sql)) {
             
             for (int i = 1; i <= 6; i++) {
@@ -3204,99 +3785,7 @@ public class LoadDAO {
             pstmt.setInt(7, limit);
             
             ResultSet rs = pstmt.executeQuery();
-            while (rs.next()) {
-                // Extract data from ResultSet
-                int id = rs.getInt("id");
-                String loadNumber = rs.getString("load_number");
-                String poNumber = rs.getString("po_number");
-                String customer = rs.getString("customer");
-                String customer2 = rs.getString("customer2");
-                String billTo = rs.getString("bill_to");
-                String pickUp = rs.getString("pickup_location");
-                String drop = rs.getString("drop_location");
-                
-                // Get driver
-                int driverId = rs.getInt("driver_id");
-                Employee driver = null;
-                if (driverId > 0) {
-                    driver = employeeDAO.getById(driverId);
-                }
-                
-                String truckUnitSnapshot = rs.getString("truck_unit_snapshot");
-                Load.Status status = Load.Status.valueOf(rs.getString("status"));
-                double gross = rs.getDouble("gross_amount");
-                String notes = rs.getString("notes");
-                
-                // Get dates
-                LocalDate pickUpDate = null;
-                java.sql.Date sqlPickUpDate = rs.getDate("pickup_date");
-                if (sqlPickUpDate != null) {
-                    pickUpDate = sqlPickUpDate.toLocalDate();
-                }
-                
-                LocalTime pickUpTime = null;
-                Time sqlPickUpTime = rs.getTime("pickup_time");
-                if (sqlPickUpTime != null) {
-                    pickUpTime = sqlPickUpTime.toLocalTime();
-                }
-                
-                LocalDate deliveryDate = null;
-                java.sql.Date sqlDeliveryDate = rs.getDate("delivery_date");
-                if (sqlDeliveryDate != null) {
-                    deliveryDate = sqlDeliveryDate.toLocalDate();
-                }
-                
-                LocalTime deliveryTime = null;
-                Time sqlDeliveryTime = rs.getTime("delivery_time");
-                if (sqlDeliveryTime != null) {
-                    deliveryTime = sqlDeliveryTime.toLocalTime();
-                }
-                
-                String reminder = rs.getString("reminder");
-                boolean hasLumper = rs.getBoolean("has_lumper");
-                double lumperAmount = rs.getDouble("lumper_amount");
-                boolean hasRevisedRateConfirmation = rs.getBoolean("has_revised_rate_confirmation");
-                
-                // Get trailer info
-                int trailerId = rs.getInt("trailer_id");
-                String trailerNumber = rs.getString("trailer_number");
-                Trailer trailer = null;
-                if (trailerId > 0) {
-                    trailer = trailerDAO.findById(trailerId);
-                }
-                
-                // Create Load object
-                Load load = new Load(id, loadNumber, poNumber, customer, customer2, billTo, pickUp, drop, driver, 
-                                  truckUnitSnapshot, status, gross, notes, pickUpDate, pickUpTime, 
-                                  deliveryDate, deliveryTime, reminder, hasLumper, lumperAmount, hasRevisedRateConfirmation);
-                
-                // Set trailer info
-                load.setTrailerId(trailerId);
-                load.setTrailerNumber(trailerNumber);
-                load.setTrailer(trailer);
-                
-                // Set zip code and payment method fields
-                try { load.setPickupZipCode(rs.getString("pickup_zip_code")); } catch (SQLException ex) { }
-                try { load.setDeliveryZipCode(rs.getString("delivery_zip_code")); } catch (SQLException ex) { }
-                try { load.setCalculatedMiles(rs.getDouble("calculated_miles")); } catch (SQLException ex) { }
-                try { 
-                    java.sql.Timestamp ts = rs.getTimestamp("miles_calculation_date");
-                    if (ts != null) {
-                        load.setMilesCalculationDate(ts.toLocalDateTime());
-                    }
-                } catch (SQLException ex) { }
-                try { 
-                    String paymentMethod = rs.getString("payment_method_used");
-                    if (paymentMethod != null) {
-                        load.setPaymentMethodUsed(com.company.payroll.employees.PaymentType.valueOf(paymentMethod));
-                    }
-                } catch (Exception ex) { }
-                try { load.setCalculatedDriverPay(rs.getDouble("calculated_driver_pay")); } catch (SQLException ex) { }
-                try { load.setPaymentRateUsed(rs.getDouble("payment_rate_used")); } catch (SQLException ex) { }
-                try { load.setFlatRateAmount(rs.getDouble("flat_rate_amount")); } catch (SQLException ex) { }
-                
-                loads.add(load);
-            }
+            loads.addAll(readLoads(rs));
             
             return loads;
         } catch (SQLException e) {
@@ -3374,6 +3863,10 @@ public class LoadDAO {
     
     /**
      * Search addresses with pattern matching - optimized for on-demand loading
+     * <p>
+     * Every word of the pattern must start a word of the location name, address, city
+     * or state. The best matches come first, or a customer's default pickup and drop
+     * addresses when the search is narrowed to that customer.
      * @param searchPattern The pattern to search for
      * @param customerName Optional customer name to filter results
      * @param limit Maximum number of results to return
@@ -3386,50 +3879,83 @@ public class LoadDAO {
         }
         
         String pattern = searchPattern.trim();
+        boolean forCustomer = customerName != null && !customerName.trim().isEmpty();
+        String match = LoadSearchIndex.prefixQuery(pattern);
+        boolean fullText = match != null && LoadSearchIndex.isAvailable();
+        
         StringBuilder sql = new StringBuilder("""
             SELECT cab.id, cab.customer_id, cab.location_name, cab.address, cab.city, cab.state,
                    cab.is_default_pickup, cab.is_default_drop, c.name as customer_name
-            FROM customer_address_book cab
-            JOIN customers c ON cab.customer_id = c.id
-            WHERE (UPPER(cab.address) LIKE UPPER(?) 
-                   OR UPPER(cab.city) LIKE UPPER(?)
-                   OR UPPER(cab.location_name) LIKE UPPER(?)
-                   OR UPPER(cab.address || ', ' || cab.city || ', ' || cab.state) LIKE UPPER(?))
         """);
+        if (fullText) {
+            sql.append("""
+                FROM address_book_fts
+                JOIN customer_address_book cab ON cab.id = address_book_fts.rowid
+                JOIN customers c ON cab.customer_id = c.id
+                WHERE address_book_fts MATCH ?
+            """);
+        } else {
+            sql.append("""
+                FROM customer_address_book cab
+                JOIN customers c ON cab.customer_id = c.id
+                WHERE (UPPER(cab.address) LIKE UPPER(?) 
+                       OR UPPER(cab.city) LIKE UPPER(?)
+                       OR UPPER(cab.location_name) LIKE UPPER(?)
+                       OR UPPER(cab.address || ', ' || cab.city || ', ' || cab.state) LIKE UPPER(?))
+            """);
+        }
         
-        if (customerName != null && !customerName.trim().isEmpty()) {
+        if (forCustomer) {
             sql.append(" AND c.name = ?");
         }
         
-        sql.append("""
-            ORDER BY 
-                c.name,
-                cab.is_default_pickup DESC,
-                cab.is_default_drop DESC,
-                CASE 
-                    WHEN UPPER(cab.address) = UPPER(?) THEN 1
-                    WHEN UPPER(cab.address) LIKE UPPER(?) THEN 2
-                    ELSE 3
-                END,
-                cab.address
-            LIMIT ?
-        """);
+        if (fullText && forCustomer) {
+            sql.append("""
+                ORDER BY cab.is_default_pickup DESC, cab.is_default_drop DESC, %s, cab.address
+                LIMIT ?
+            """.formatted(LoadSearchIndex.ADDRESS_RANK));
+        } else if (fullText) {
+            sql.append("""
+                ORDER BY %s, c.name, cab.address
+                LIMIT ?
+            """.formatted(LoadSearchIndex.ADDRESS_RANK));
+        } else {
+            sql.append("""
+                ORDER BY 
+                    c.name,
+                    cab.is_default_pickup DESC,
+                    cab.is_default_drop DESC,
+                    CASE 
+                        WHEN UPPER(cab.address) = UPPER(?) THEN 1
+                        WHEN UPPER(cab.address) LIKE UPPER(?) THEN 2
+                        ELSE 3
+                    END,
+                    cab.address
+                LIMIT ?
+            """);
+        }
         
-        try (Connection conn = DatabaseConfig.getConnection();
+        try (Connection conn = DatabaseConfig.getReadConnection();
              PreparedStatement ps = conn.prepareStatement(sql.toString())) {
             
             int paramIndex = 1;
-            ps.setString(paramIndex++, "%" + pattern + "%");
-            ps.setString(paramIndex++, "%" + pattern + "%");
-            ps.setString(paramIndex++, "%" + pattern + "%");
-            ps.setString(paramIndex++, "%" + pattern + "%");
+            if (fullText) {
+                ps.setString(paramIndex++, LoadSearchIndex.ADDRESS_COLUMNS + " : (" + match + ")");
+            } else {
+                ps.setString(paramIndex++, "%" + pattern + "%");
+                ps.setString(paramIndex++, "%" + pattern + "%");
+                ps.setString(paramIndex++, "%" + pattern + "%");
+                ps.setString(paramIndex++, "%" + pattern + "%");
+            }
             
-            if (customerName != null && !customerName.trim().isEmpty()) {
+            if (forCustomer) {
                 ps.setString(paramIndex++, customerName.trim());
             }
             
-            ps.setString(paramIndex++, pattern);
-            ps.setString(paramIndex++, pattern + "%");
+            if (!fullText) {
+                ps.setString(paramIndex++, pattern);
+                ps.setString(paramIndex++, pattern + "%");
+            }
             ps.setInt(paramIndex++, limit);
             
             ResultSet rs = ps.executeQuery();
@@ -3508,6 +4034,38 @@ public class LoadDAO {
             "CREATE INDEX IF NOT EXISTS idx_customer_address_book_customer_address ON customer_address_book(customer_id, address)"
         );
         
+        // PO and delivery date lookups for invoice reconciliation
+        conn.createStatement().execute(
+            "CREATE INDEX IF NOT EXISTS idx_loads_po_number ON loads(po_number)"
+        );
+        conn.createStatement().execute(
+            "CREATE INDEX IF NOT EXISTS idx_loads_delivery_date ON loads(delivery_date)"
+        );
+        
+        // Late-status transitions and the next cutoff lookup
+        conn.createStatement().execute(
+            "CREATE INDEX IF NOT EXISTS idx_loads_status_pickup_due ON loads(status, pickup_due_at)"
+        );
+        conn.createStatement().execute(
+            "CREATE INDEX IF NOT EXISTS idx_loads_status_delivery_due ON loads(status, delivery_due_at)"
+        );
+        
+        // Keyset pagination of the loads tables, newest pickup first
+        conn.createStatement().execute(
+            "CREATE INDEX IF NOT EXISTS idx_loads_pickup_keyset ON loads(IFNULL(pickup_date, 0), id)"
+        );
+        conn.createStatement().execute(
+            "CREATE INDEX IF NOT EXISTS idx_loads_pickup_date ON loads(pickup_date)"
+        );
+        
+        // Customer lookups, read from the index alone
+        conn.createStatement().execute(
+            "CREATE INDEX IF NOT EXISTS idx_loads_customer ON loads(customer)"
+        );
+        
+        // Full-text indexes of the load and address searches
+        LoadSearchIndex.ensure(conn);
+        
         logger.info("Database search indexes created successfully");
     }
     
@@ -3540,6 +4098,7 @@ public class LoadDAO {
                 conn.commit();
                 
                 logger.warn("Successfully cleared all customer data. {} customers deleted.", deletedCount);
+                EnterpriseDataCacheManager.dataChanged(ReferenceData.CUSTOMERS);
                 return deletedCount;
                 
             } catch (SQLException e) {
@@ -3580,6 +4139,7 @@ public class LoadDAO {
                 conn.commit();
                 
                 logger.warn("Successfully cleared all billing entities. {} billing entities deleted.", deletedCount);
+                EnterpriseDataCacheManager.dataChanged(ReferenceData.BILLING_ENTITIES);
                 return deletedCount;
                 
             } catch (SQLException e) {
@@ -3627,6 +4187,7 @@ public class LoadDAO {
                 
                 logger.warn("Successfully cleared all customer address data. {} addresses and {} locations deleted.", 
                            deletedAddressCount, deletedLocationsCount);
+                EnterpriseDataCacheManager.dataChanged(ReferenceData.ADDRESSES);
                 return deletedAddressCount;
                 
             } catch (SQLException e) {
@@ -3682,6 +4243,8 @@ public class LoadDAO {
                 String summary = String.format("Cleared all customer settings: %d customers, %d billing entities, %d addresses", 
                                                customerCount, billingCount, addressCount);
                 logger.warn(summary);
+                EnterpriseDataCacheManager.dataChanged(ReferenceData.CUSTOMERS);
+                EnterpriseDataCacheManager.dataChanged(ReferenceData.BILLING_ENTITIES);
                 return summary;
                 
             } catch (SQLException e) {
@@ -3729,6 +4292,7 @@ public class LoadDAO {
                 
                 conn.commit();
                 logger.info("Bulk delete completed. {} customers deleted.", deletedCount);
+                EnterpriseDataCacheManager.dataChanged(ReferenceData.CUSTOMERS);
                 
             } catch (SQLException e) {
                 conn.rollback();
@@ -3777,6 +4341,7 @@ public class LoadDAO {
                 
                 conn.commit();
                 logger.info("Bulk delete completed. {} billing entities deleted.", deletedCount);
+                EnterpriseDataCacheManager.dataChanged(ReferenceData.BILLING_ENTITIES);
                 
             } catch (SQLException e) {
                 conn.rollback();
@@ -3825,6 +4390,7 @@ public class LoadDAO {
                 
                 conn.commit();
                 logger.info("Bulk delete completed. {} customer addresses deleted.", deletedCount);
+                EnterpriseDataCacheManager.dataChanged(ReferenceData.ADDRESSES);
                 
             } catch (SQLException e) {
                 conn.rollback();
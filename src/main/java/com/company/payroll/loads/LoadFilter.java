@@ -0,0 +1,176 @@
+package com.company.payroll.loads;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Search criteria of the loads tables, translated to a SQL {@code WHERE} clause
+ * by {@link LoadDAO#getPage(LoadFilter, LoadPage.Cursor, int)}.
+ * <p>
+ * Text criteria match case-insensitively anywhere in the value, the bill-to
+ * entity must match exactly (ignoring case), and the date range matches loads
+ * whose pickup or delivery date falls inside it. Unset criteria match everything.
+ */
+public final class LoadFilter {
+    private final Set<Load.Status> statuses = EnumSet.noneOf(Load.Status.class);
+    private final Set<Load.Status> excludedStatuses = EnumSet.noneOf(Load.Status.class);
+    private String loadNumber;
+    private String truckUnit;
+    private String trailerNumber;
+    private Integer driverId;
+    private Integer trailerId;
+    private String billTo;
+    private LocalDate startDate;
+    private LocalDate endDate;
+    private Set<Integer> ids;
+
+    /** Only loads with one of these statuses */
+    public LoadFilter withStatus(Load.Status... included) {
+        statuses.addAll(List.of(included));
+        return this;
+    }
+
+    /** No loads with any of these statuses */
+    public LoadFilter withoutStatus(Load.Status... excluded) {
+        excludedStatuses.addAll(List.of(excluded));
+        return this;
+    }
+
+    public LoadFilter loadNumberContains(String text) {
+        this.loadNumber = blankToNull(text);
+        return this;
+    }
+
+    public LoadFilter truckUnitContains(String text) {
+        this.truckUnit = blankToNull(text);
+        return this;
+    }
+
+    public LoadFilter trailerNumberContains(String text) {
+        this.trailerNumber = blankToNull(text);
+        return this;
+    }
+
+    public LoadFilter driver(Integer driverId) {
+        this.driverId = driverId;
+        return this;
+    }
+
+    public LoadFilter trailer(Integer trailerId) {
+        this.trailerId = trailerId;
+        return this;
+    }
+
+    public LoadFilter billTo(String billTo) {
+        this.billTo = blankToNull(billTo);
+        return this;
+    }
+
+    /** Pickup or delivery on or between the dates; either bound may be null */
+    public LoadFilter dateRange(LocalDate start, LocalDate end) {
+        this.startDate = start;
+        this.endDate = end;
+        return this;
+    }
+
+    /**
+     * A copy of this filter that also requires one of the ids, to read back changed rows
+     */
+    LoadFilter withIds(Collection<Integer> loadIds) {
+        LoadFilter copy = new LoadFilter();
+        copy.statuses.addAll(statuses);
+        copy.excludedStatuses.addAll(excludedStatuses);
+        copy.loadNumber = loadNumber;
+        copy.truckUnit = truckUnit;
+        copy.trailerNumber = trailerNumber;
+        copy.driverId = driverId;
+        copy.trailerId = trailerId;
+        copy.billTo = billTo;
+        copy.startDate = startDate;
+        copy.endDate = endDate;
+        copy.ids = new LinkedHashSet<>(loadIds);
+        return copy;
+    }
+
+    /**
+     * Append the criteria to a query that already has a {@code WHERE} clause,
+     * adding one parameter per placeholder.
+     */
+    void appendTo(StringBuilder sql, List<Object> params) {
+        if (ids != null) {
+            sql.append(" AND id IN (").append(placeholders(ids.size())).append(")");
+            params.addAll(ids);
+        }
+        if (!statuses.isEmpty()) {
+            sql.append(" AND status IN (").append(placeholders(statuses.size())).append(")");
+            statuses.forEach(s -> params.add(s.name()));
+        }
+        if (!excludedStatuses.isEmpty()) {
+            sql.append(" AND status NOT IN (").append(placeholders(excludedStatuses.size())).append(")");
+            excludedStatuses.forEach(s -> params.add(s.name()));
+        }
+        appendContains(sql, params, "load_number", loadNumber);
+        appendContains(sql, params, "truck_unit_snapshot", truckUnit);
+        appendContains(sql, params, "trailer_number", trailerNumber);
+        if (driverId != null) {
+            sql.append(" AND driver_id = ?");
+            params.add(driverId);
+        }
+        if (trailerId != null) {
+            sql.append(" AND trailer_id = ?");
+            params.add(trailerId);
+        }
+        if (billTo != null) {
+            sql.append(" AND bill_to = ? COLLATE NOCASE");
+            params.add(billTo);
+        }
+        if (startDate != null || endDate != null) {
+            sql.append(" AND (");
+            appendDateRange(sql, params, "pickup_date");
+            sql.append(" OR ");
+            appendDateRange(sql, params, "delivery_date");
+            sql.append(")");
+        }
+    }
+
+    private void appendDateRange(StringBuilder sql, List<Object> params, String column) {
+        List<String> bounds = new ArrayList<>();
+        bounds.add(column + " IS NOT NULL");
+        if (startDate != null) {
+            bounds.add(column + " >= ?");
+            params.add(java.sql.Date.valueOf(startDate));
+        }
+        if (endDate != null) {
+            bounds.add(column + " <= ?");
+            params.add(java.sql.Date.valueOf(endDate));
+        }
+        sql.append("(").append(String.join(" AND ", bounds)).append(")");
+    }
+
+    private static void appendContains(StringBuilder sql, List<Object> params, String column, String text) {
+        if (text == null) {
+            return;
+        }
+        String escaped = text.toLowerCase(Locale.ROOT)
+            .replace("\\", "\\\\")
+            .replace("%", "\\%")
+            .replace("_", "\\_");
+        sql.append(" AND lower(").append(column).append(") LIKE ? ESCAPE '\\'");
+        params.add("%" + escaped + "%");
+    }
+
+    private static String placeholders(int count) {
+        return String.join(",", Collections.nCopies(count, "?"));
+    }
+
+    private static String blankToNull(String text) {
+        return text == null || text.trim().isEmpty() ? null : text.trim();
+    }
+}
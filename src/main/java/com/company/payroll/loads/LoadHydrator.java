@@ -0,0 +1,82 @@
+package com.company.payroll.loads;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.company.payroll.employees.Employee;
+import com.company.payroll.employees.EmployeeDAO;
+import com.company.payroll.trailers.Trailer;
+import com.company.payroll.trailers.TrailerDAO;
+
+/**
+ * Resolves the driver and trailer references of a batch of loads.
+ * <p>
+ * Rows are registered while a result set is being read; {@link #hydrate()} then
+ * loads every distinct driver and trailer with one batched lookup per entity
+ * type, so reading N loads costs a constant number of queries instead of 2N.
+ */
+class LoadHydrator {
+    private static final Logger logger = LoggerFactory.getLogger(LoadHydrator.class);
+
+    private final EmployeeDAO employeeDAO;
+    private final TrailerDAO trailerDAO;
+    private final List<PendingLoad> pending = new ArrayList<>();
+    private final Set<Integer> driverIds = new HashSet<>();
+    private final Set<Integer> trailerIds = new HashSet<>();
+
+    LoadHydrator(EmployeeDAO employeeDAO, TrailerDAO trailerDAO) {
+        this.employeeDAO = employeeDAO;
+        this.trailerDAO = trailerDAO;
+    }
+
+    /**
+     * Register a mapped load whose references still need to be resolved.
+     * @param load the load built from the current row
+     * @param driverId the row's driver_id (0 when unassigned)
+     * @param trailerId the row's trailer_id (0 when unassigned)
+     * @param snapshotFromDriver true if the truck unit snapshot should be taken from the driver
+     */
+    void add(Load load, int driverId, int trailerId, boolean snapshotFromDriver) {
+        pending.add(new PendingLoad(load, driverId, trailerId, snapshotFromDriver));
+        if (driverId > 0) {
+            driverIds.add(driverId);
+        }
+        if (trailerId > 0) {
+            trailerIds.add(trailerId);
+        }
+    }
+
+    /**
+     * Resolve all registered references and return the loads in registration order.
+     */
+    List<Load> hydrate() {
+        Map<Integer, Employee> drivers = employeeDAO.getByIds(driverIds);
+        Map<Integer, Trailer> trailers = trailerDAO.findByIds(trailerIds);
+        logger.debug("Hydrated {} loads with {} drivers and {} trailers",
+            pending.size(), drivers.size(), trailers.size());
+
+        List<Load> loads = new ArrayList<>(pending.size());
+        for (PendingLoad row : pending) {
+            Load load = row.load();
+            Employee driver = drivers.get(row.driverId());
+            load.setDriver(driver);
+            if (row.snapshotFromDriver()) {
+                load.setTruckUnitSnapshot(driver != null ? driver.getTruckUnit() : "");
+            }
+            if (row.trailerId() > 0) {
+                load.setTrailer(trailers.get(row.trailerId()));
+            }
+            loads.add(load);
+        }
+        return loads;
+    }
+
+    private record PendingLoad(Load load, int driverId, int trailerId, boolean snapshotFromDriver) {
+    }
+}
@@ -0,0 +1,22 @@
+package com.company.payroll.loads;
+
+import java.util.List;
+
+/**
+ * One window of loads in keyset order, newest pickup date first.
+ *
+ * @param loads the loads of the window
+ * @param next  position after the last load, or null when there are no further loads
+ */
+public record LoadPage(List<Load> loads, Cursor next) {
+
+    /**
+     * Position in the {@code (pickup_date, id)} order; the pickup key is the raw stored
+     * value (0 when the load has no pickup date), so it compares exactly like the index.
+     */
+    public record Cursor(Object pickupKey, int id) {}
+
+    public boolean hasMore() {
+        return next != null;
+    }
+}
@@ -0,0 +1,161 @@
+package com.company.payroll.loads;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Locale;
+import java.util.StringJoiner;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * SQLite FTS5 indexes behind the load and address search of {@link LoadDAO}.
+ * <ul>
+ *   <li>{@code loads_fts} indexes the load number, PO, customers and locations of
+ *       {@code loads}, reading the text back from the table itself.</li>
+ *   <li>{@code address_book_fts} indexes the address book together with the customer
+ *       name, and keeps its own copy because the name lives in another table.</li>
+ * </ul>
+ * Triggers keep both in step with their tables, so only the first start after an
+ * upgrade has to build them from the existing rows.
+ */
+final class LoadSearchIndex {
+    private static final Logger logger = LoggerFactory.getLogger(LoadSearchIndex.class);
+
+    /** Same token boundaries as the unicode61 tokenizer */
+    private static final Pattern TOKEN = Pattern.compile("[\\p{L}\\p{N}]+");
+
+    /** Load number first, then PO, customers and locations */
+    static final String LOADS_RANK = "bm25(loads_fts, 10.0, 8.0, 3.0, 3.0, 1.0, 1.0)";
+
+    /** Customer name, location name, address, city, state */
+    static final String ADDRESS_RANK = "bm25(address_book_fts, 4.0, 3.0, 2.0, 1.0, 1.0)";
+
+    /** Address columns only, for searches already narrowed to one customer */
+    static final String ADDRESS_COLUMNS = "{location_name address city state}";
+
+    private static volatile boolean available;
+
+    private LoadSearchIndex() {
+    }
+
+    /**
+     * Whether the indexes exist; searches fall back to {@code LIKE} scans when they don't.
+     */
+    static boolean isAvailable() {
+        return available;
+    }
+
+    /**
+     * Create the indexes and their triggers if they are missing, filling new ones from the tables.
+     */
+    static void ensure(Connection conn) {
+        try (Statement stmt = conn.createStatement()) {
+            if (!exists(stmt, "loads_fts")) {
+                stmt.execute("""
+                    CREATE VIRTUAL TABLE loads_fts USING fts5(
+                        load_number, po_number, customer, customer2, pick_up_location, drop_location,
+                        content='loads', content_rowid='id',
+                        tokenize='unicode61 remove_diacritics 2', prefix='2 3'
+                    )
+                """);
+                stmt.execute("INSERT INTO loads_fts(loads_fts) VALUES('rebuild')");
+                logger.info("Built load search index");
+            }
+            stmt.execute("""
+                CREATE TRIGGER IF NOT EXISTS loads_fts_insert AFTER INSERT ON loads BEGIN
+                    INSERT INTO loads_fts(rowid, load_number, po_number, customer, customer2, pick_up_location, drop_location)
+                    VALUES (new.id, new.load_number, new.po_number, new.customer, new.customer2, new.pick_up_location, new.drop_location);
+                END
+            """);
+            stmt.execute("""
+                CREATE TRIGGER IF NOT EXISTS loads_fts_delete AFTER DELETE ON loads BEGIN
+                    INSERT INTO loads_fts(loads_fts, rowid, load_number, po_number, customer, customer2, pick_up_location, drop_location)
+                    VALUES ('delete', old.id, old.load_number, old.po_number, old.customer, old.customer2, old.pick_up_location, old.drop_location);
+                END
+            """);
+            stmt.execute("""
+                CREATE TRIGGER IF NOT EXISTS loads_fts_update
+                AFTER UPDATE OF load_number, po_number, customer, customer2, pick_up_location, drop_location ON loads BEGIN
+                    INSERT INTO loads_fts(loads_fts, rowid, load_number, po_number, customer, customer2, pick_up_location, drop_location)
+                    VALUES ('delete', old.id, old.load_number, old.po_number, old.customer, old.customer2, old.pick_up_location, old.drop_location);
+                    INSERT INTO loads_fts(rowid, load_number, po_number, customer, customer2, pick_up_location, drop_location)
+                    VALUES (new.id, new.load_number, new.po_number, new.customer, new.customer2, new.pick_up_location, new.drop_location);
+                END
+            """);
+
+            if (!exists(stmt, "address_book_fts")) {
+                stmt.execute("""
+                    CREATE VIRTUAL TABLE address_book_fts USING fts5(
+                        customer_name, location_name, address, city, state,
+                        tokenize='unicode61 remove_diacritics 2', prefix='2 3'
+                    )
+                """);
+                stmt.execute("""
+                    INSERT INTO address_book_fts(rowid, customer_name, location_name, address, city, state)
+                    SELECT cab.id, c.name, cab.location_name, cab.address, cab.city, cab.state
+                    FROM customer_address_book cab
+                    LEFT JOIN customers c ON c.id = cab.customer_id
+                """);
+                logger.info("Built address search index");
+            }
+            stmt.execute("""
+                CREATE TRIGGER IF NOT EXISTS address_book_fts_insert AFTER INSERT ON customer_address_book BEGIN
+                    INSERT INTO address_book_fts(rowid, customer_name, location_name, address, city, state)
+                    VALUES (new.id, (SELECT name FROM customers WHERE id = new.customer_id),
+                            new.location_name, new.address, new.city, new.state);
+                END
+            """);
+            stmt.execute("""
+                CREATE TRIGGER IF NOT EXISTS address_book_fts_delete AFTER DELETE ON customer_address_book BEGIN
+                    DELETE FROM address_book_fts WHERE rowid = old.id;
+                END
+            """);
+            stmt.execute("""
+                CREATE TRIGGER IF NOT EXISTS address_book_fts_update
+                AFTER UPDATE OF customer_id, location_name, address, city, state ON customer_address_book BEGIN
+                    DELETE FROM address_book_fts WHERE rowid = old.id;
+                    INSERT INTO address_book_fts(rowid, customer_name, location_name, address, city, state)
+                    VALUES (new.id, (SELECT name FROM customers WHERE id = new.customer_id),
+                            new.location_name, new.address, new.city, new.state);
+                END
+            """);
+            stmt.execute("""
+                CREATE TRIGGER IF NOT EXISTS address_book_fts_customer_rename AFTER UPDATE OF name ON customers BEGIN
+                    UPDATE address_book_fts SET customer_name = new.name
+                    WHERE rowid IN (SELECT id FROM customer_address_book WHERE customer_id = new.id);
+                END
+            """);
+            available = true;
+        } catch (SQLException e) {
+            available = false;
+            logger.warn("Full-text search is unavailable, searching with LIKE scans: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * FTS5 query matching every word of the input as a prefix, or null if it has no words.
+     */
+    static String prefixQuery(String text) {
+        if (text == null) {
+            return null;
+        }
+        StringJoiner terms = new StringJoiner(" ");
+        Matcher m = TOKEN.matcher(text.toLowerCase(Locale.ROOT));
+        while (m.find()) {
+            terms.add("\"" + m.group() + "\"*");
+        }
+        return terms.length() == 0 ? null : terms.toString();
+    }
+
+    private static boolean exists(Statement stmt, String table) throws SQLException {
+        try (ResultSet rs = stmt.executeQuery(
+                "SELECT 1 FROM sqlite_master WHERE type = 'table' AND name = '" + table + "'")) {
+            return rs.next();
+        }
+    }
+}
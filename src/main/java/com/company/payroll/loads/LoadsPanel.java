@@ -13,7 +13,8 @@ import java.util.*;
 import java.util.Objects;
 import java.util.concurrent.CompletableFuture;
 import java.util.function.Consumer;
-import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.function.ToIntFunction;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -58,9 +59,12 @@ import org.slf4j.LoggerFactory;
 // Removed ControlsFX imports - using SimpleAutocompleteHandler instead
 
 // Application-specific imports
+import com.company.payroll.cache.EnterpriseDataCacheManager;
 import com.company.payroll.employees.Employee;
 import com.company.payroll.employees.EmployeeDAO;
 import com.company.payroll.employees.PaymentType;
+import com.company.payroll.events.DomainEventBus;
+import com.company.payroll.events.DomainEventBus.Entity;
 import com.company.payroll.trailers.Trailer;
 import com.company.payroll.trailers.TrailerDAO;
 import com.company.payroll.trucks.Truck;
@@ -89,7 +93,6 @@ public class LoadsPanel extends BorderPane {
     private final TruckDAO truckDAO = new TruckDAO();
     private final EnterpriseDataCacheManager cacheManager = EnterpriseDataCacheManager.getInstance();
     private final AddressBookManager addressBookManager = new AddressBookManager(loadDAO);
-    private final ObservableList<Load> allLoads = FXCollections.observableArrayList();
     private final ObservableList<Employee> allDrivers = FXCollections.observableArrayList();
     private final FilteredList<Employee> activeDrivers = new FilteredList<>(allDrivers, 
         driver -> driver.getStatus() == Employee.Status.ACTIVE);
@@ -114,8 +117,8 @@ public class LoadsPanel extends BorderPane {
     // Document storage directory
     private String DOCUMENT_STORAGE_PATH = DocumentManagerConfig.getLoadsStoragePath();
     
-    // Timeline for automatic status updates
-    private Timeline statusUpdateTimeline;
+    // Marks loads late as their pickup/delivery cutoffs pass
+    private LateStatusEngine lateStatusEngine;
     
     // Helper method to format driver display text
     private String formatDriverDisplay(Employee e) {
@@ -471,6 +474,11 @@ public class LoadsPanel extends BorderPane {
         
         reloadAll();
         
+        // Patch the tables and lists as rows are written, here or elsewhere
+        DomainEventBus.subscribe(Entity.LOAD, this::applyLoadChanges);
+        DomainEventBus.subscribe(Entity.EMPLOYEE, this::applyEmployeeChanges);
+        DomainEventBus.subscribe(Entity.TRAILER, this::applyTrailerChanges);
+        
         // Initialize automatic status update timeline
         initializeStatusUpdateScheduler();
 
@@ -492,75 +500,91 @@ public class LoadsPanel extends BorderPane {
     }
     
     /**
-     * Initializes the automatic status update scheduler
-     * Runs every 5 minutes to check for late loads
+     * Initializes the automatic status updates
+     * Wakes at the next pickup or delivery cutoff instead of polling
      */
     private void initializeStatusUpdateScheduler() {
-        logger.info("Initializing automatic status update scheduler");
-        
-        // Create timeline that runs every 5 minutes
-        statusUpdateTimeline = new Timeline(
-            new KeyFrame(Duration.minutes(5), e -> {
-                checkAndUpdateLateStatuses();
-            })
-        );
-        statusUpdateTimeline.setCycleCount(Timeline.INDEFINITE);
-        statusUpdateTimeline.play();
-        
-        // Also run immediately on startup
-        Platform.runLater(() -> {
-            checkAndUpdateLateStatuses();
-        });
-        
-        logger.info("Status update scheduler started - will check every 5 minutes");
+        logger.info("Initializing late status engine");
+        // The changed loads reach the tables through the LOAD events of the update
+        lateStatusEngine = new LateStatusEngine(loadDAO,
+            changed -> logger.info("Updated {} loads with late status", changed.size()));
+        lateStatusEngine.start();
     }
     
     /**
-     * Checks and updates late load statuses
+     * Checks and updates late load statuses right away
      */
     private void checkAndUpdateLateStatuses() {
-        logger.debug("Running automatic status update check");
-        
-        Task<Integer> updateTask = new Task<Integer>() {
-            @Override
-            protected Integer call() throws Exception {
-                return loadDAO.updateLateStatuses();
+        logger.debug("Running manual late status check");
+        if (lateStatusEngine != null) {
+            lateStatusEngine.checkNow();
+        }
+    }
+    
+    /**
+     * Patches the loaded rows with committed load changes instead of reloading the tables,
+     * then tells the listeners once for the whole delivery
+     */
+    private void applyLoadChanges(DomainEventBus.Changes changes) {
+        logger.debug("Applying {} load changes", changes.size());
+        for (StatusTab tab : statusTabs) {
+            if (tab.loads != null) {
+                tab.loads.applyChanges(changes);
             }
-            
-            @Override
-            protected void succeeded() {
-                Integer updatedCount = getValue();
-                if (updatedCount != null && updatedCount > 0) {
-                    logger.info("Updated {} loads with late status", updatedCount);
-                    // Refresh the table to show updated statuses
-                    Platform.runLater(() -> {
-                        reloadAll();
-                        // Notify listeners
-                        notifyLoadDataChangeListeners();
-                    });
+        }
+        notifyLoadDataChanged();
+    }
+    
+    /**
+     * Patches the driver list with committed employee changes
+     */
+    private void applyEmployeeChanges(DomainEventBus.Changes changes) {
+        allDrivers.removeIf(e -> changes.deleted().contains(e.getId()));
+        Set<Integer> upserted = changes.upserted();
+        if (!upserted.isEmpty()) {
+            patchById(allDrivers, employeeDAO.getByIds(upserted), upserted, Employee::getId);
+        }
+    }
+    
+    /**
+     * Patches the trailer list with committed trailer changes
+     */
+    private void applyTrailerChanges(DomainEventBus.Changes changes) {
+        allTrailers.removeIf(t -> changes.deleted().contains(t.getId()));
+        Set<Integer> upserted = changes.upserted();
+        if (!upserted.isEmpty()) {
+            patchById(allTrailers, trailerDAO.findByIds(upserted), upserted, Trailer::getId);
+        }
+    }
+    
+    /**
+     * Replace the rows with a changed id in place and append the new ones
+     */
+    private static <T> void patchById(ObservableList<T> list, Map<Integer, T> changed,
+                                      Set<Integer> changedIds, ToIntFunction<T> id) {
+        Map<Integer, T> remaining = new LinkedHashMap<>(changed);
+        for (int i = list.size() - 1; i >= 0; i--) {
+            int rowId = id.applyAsInt(list.get(i));
+            if (changedIds.contains(rowId)) {
+                T row = remaining.remove(rowId);
+                if (row != null) {
+                    list.set(i, row);
+                } else {
+                    list.remove(i);
                 }
             }
-            
-            @Override
-            protected void failed() {
-                Throwable exception = getException();
-                logger.error("Failed to update late statuses", exception);
-            }
-        };
-        
-        Thread updateThread = new Thread(updateTask);
-        updateThread.setDaemon(true);
-        updateThread.start();
+        }
+        list.addAll(remaining.values());
     }
     
     /**
-     * Stops the automatic status update scheduler
+     * Stops the automatic status updates
      * Should be called when the panel is being disposed
      */
     public void stopStatusUpdateScheduler() {
-        if (statusUpdateTimeline != null) {
-            statusUpdateTimeline.stop();
-            logger.info("Status update scheduler stopped");
+        if (lateStatusEngine != null) {
+            lateStatusEngine.stop();
+            logger.info("Late status engine stopped");
         }
     }
     
@@ -572,13 +596,10 @@ public class LoadsPanel extends BorderPane {
         loadDataChangeListeners.remove(listener);
     }
     
-    private void notifyLoadDataChangeListeners() {
-        for (LoadDataChangeListener listener : loadDataChangeListeners) {
-            listener.onLoadDataChanged();
-        }
-    }
-
     private void notifyLoadDataChanged() {
+        if (lateStatusEngine != null) {
+            lateStatusEngine.refresh(); // Saved loads may have new cutoffs
+        }
         for (LoadDataChangeListener listener : loadDataChangeListeners) {
             listener.onLoadDataChanged();
         }
@@ -592,30 +613,16 @@ public class LoadsPanel extends BorderPane {
     private static class StatusTab {
         Tab tab;
         TableView<Load> table;
-        FilteredList<Load> filteredList;
+        PagedLoadList loads;
     }
 
     private StatusTab makeActiveTab() {
         logger.debug("Creating Active Loads tab");
         StatusTab tab = new StatusTab();
         
-        // Default filter: last 10 days of active loads to improve performance
-        LocalDate tenDaysAgo = LocalDate.now().minusDays(10);
-        tab.filteredList = new FilteredList<>(allLoads, l -> {
-            boolean statusFilter = l.getStatus() != Load.Status.CANCELLED;
-            
-            // Check both pickup and delivery dates for recent loads
-            boolean dateFilter = false;
-            if (l.getPickUpDate() != null && !l.getPickUpDate().isBefore(tenDaysAgo)) {
-                dateFilter = true;
-            } else if (l.getDeliveryDate() != null && !l.getDeliveryDate().isBefore(tenDaysAgo)) {
-                dateFilter = true;
-            }
-            
-            return statusFilter && dateFilter;
-        });
-
-        TableView<Load> table = makeTableView(tab.filteredList, true);
+        tab.loads = new PagedLoadList(loadDAO, "Active Loads");
+        TableView<Load> table = makeTableView(tab.loads.getItems(), true);
+        tab.loads.attach(table);
 
         // Enhanced search controls
         TextField loadNumField = new TextField();
@@ -753,65 +760,18 @@ public class LoadsPanel extends BorderPane {
         Runnable refilter = () -> {
             logger.debug("Applying filters to Active Loads");
             
-            // Base predicate for active loads
-            Predicate<Load> pred = l -> l.getStatus() != Load.Status.CANCELLED;
-
-            String loadNum = loadNumField.getText().trim().toLowerCase();
-            if (!loadNum.isEmpty()) {
-                pred = pred.and(l -> l.getLoadNumber() != null && l.getLoadNumber().toLowerCase().contains(loadNum));
-            }
-            
-            String truckUnit = truckUnitField.getText().trim().toLowerCase();
-            if (!truckUnit.isEmpty()) {
-                pred = pred.and(l -> l.getTruckUnitSnapshot() != null && l.getTruckUnitSnapshot().toLowerCase().contains(truckUnit));
-            }
-            
-            String trailerNumber = trailerNumberField.getText().trim().toLowerCase();
-            if (!trailerNumber.isEmpty()) {
-                pred = pred.and(l -> l.getTrailerNumber() != null && l.getTrailerNumber().toLowerCase().contains(trailerNumber));
-            }
-            
             Employee driver = driverBox.getValue();
-            if (driver != null) {
-                pred = pred.and(l -> l.getDriver() != null && l.getDriver().getId() == driver.getId());
-            }
-            
             Trailer trailer = trailerBox.getValue();
-            if (trailer != null) {
-                pred = pred.and(l -> l.getTrailer() != null && l.getTrailer().getId() == trailer.getId());
-            }
-            
-            String customer = customerBox.getValue();
-            if (customer != null && !customer.trim().isEmpty()) {
-                pred = pred.and(l -> customer.equalsIgnoreCase(l.getBillTo()));
-            }
-            
-            LocalDate startDate = startDatePicker.getValue();
-            LocalDate endDate = endDatePicker.getValue();
-            if (startDate != null || endDate != null) {
-                pred = pred.and(l -> {
-                    // Check both pickup and delivery dates
-                    boolean inRange = false;
-                    
-                    if (l.getPickUpDate() != null) {
-                        boolean pickupInRange = true;
-                        if (startDate != null) pickupInRange = !l.getPickUpDate().isBefore(startDate);
-                        if (endDate != null) pickupInRange = pickupInRange && !l.getPickUpDate().isAfter(endDate);
-                        if (pickupInRange) inRange = true;
-                    }
-                    
-                    if (l.getDeliveryDate() != null) {
-                        boolean deliveryInRange = true;
-                        if (startDate != null) deliveryInRange = !l.getDeliveryDate().isBefore(startDate);
-                        if (endDate != null) deliveryInRange = deliveryInRange && !l.getDeliveryDate().isAfter(endDate);
-                        if (deliveryInRange) inRange = true;
-                    }
-                    
-                    return inRange;
-                });
-            }
-            
-            tab.filteredList.setPredicate(pred);
+            LoadFilter filter = new LoadFilter()
+                .withoutStatus(Load.Status.CANCELLED)
+                .loadNumberContains(loadNumField.getText())
+                .truckUnitContains(truckUnitField.getText())
+                .trailerNumberContains(trailerNumberField.getText())
+                .driver(driver != null ? driver.getId() : null)
+                .trailer(trailer != null ? trailer.getId() : null)
+                .billTo(customerBox.getValue())
+                .dateRange(startDatePicker.getValue(), endDatePicker.getValue());
+            tab.loads.setFilter(filter);
         };
 
         // Add listeners
@@ -862,8 +822,6 @@ public class LoadsPanel extends BorderPane {
                     if (resp == ButtonType.YES) {
                         logger.info("User confirmed deletion of load: {}", selected.getLoadNumber());
                         loadDAO.delete(selected.getId());
-                        reloadAll();
-                        notifyLoadDataChanged(); // Notify listeners
                     }
                 });
             }
@@ -880,7 +838,7 @@ public class LoadsPanel extends BorderPane {
         });
         exportBtn.setOnAction(e -> {
             logger.info("Export CSV button clicked");
-            exportCSV(table);
+            exportCSV(table, tab.loads::findAll);
         });
         refreshBtn.setOnAction(e -> {
             logger.info("Refresh button clicked");
@@ -890,8 +848,7 @@ public class LoadsPanel extends BorderPane {
 
         syncToTriumphBtn.setOnAction(e -> {
             logger.info("Sync to MyTriumph button clicked");
-            List<Load> toSync = allLoads.stream()
-                .filter(l -> (l.getStatus() == Load.Status.DELIVERED || l.getStatus() == Load.Status.PAID))
+            List<Load> toSync = loadDAO.find(new LoadFilter().withStatus(Load.Status.DELIVERED, Load.Status.PAID)).stream()
                 .filter(l -> l.getPONumber() != null && !l.getPONumber().isEmpty())
                 .collect(Collectors.toList());
             
@@ -941,23 +898,9 @@ public class LoadsPanel extends BorderPane {
         logger.debug("Creating Paid Loads tab");
         StatusTab tab = new StatusTab();
         
-        // Default filter: last 90 days of paid loads (longer period since paid loads are historical)
-        LocalDate ninetyDaysAgo = LocalDate.now().minusDays(90);
-        tab.filteredList = new FilteredList<>(allLoads, l -> {
-            boolean statusFilter = l.getStatus() == Load.Status.PAID;
-            
-            // Check both pickup and delivery dates for recent loads
-            boolean dateFilter = false;
-            if (l.getPickUpDate() != null && !l.getPickUpDate().isBefore(ninetyDaysAgo)) {
-                dateFilter = true;
-            } else if (l.getDeliveryDate() != null && !l.getDeliveryDate().isBefore(ninetyDaysAgo)) {
-                dateFilter = true;
-            }
-            
-            return statusFilter && dateFilter;
-        });
-
-        TableView<Load> table = makeTableView(tab.filteredList, true);
+        tab.loads = new PagedLoadList(loadDAO, "Paid Loads");
+        TableView<Load> table = makeTableView(tab.loads.getItems(), true);
+        tab.loads.attach(table);
 
         // Enhanced search controls
         TextField loadNumField = new TextField();
@@ -1093,65 +1036,18 @@ public class LoadsPanel extends BorderPane {
         Runnable refilter = () -> {
             logger.debug("Applying filters to Paid Loads");
             
-            // Base predicate for paid loads
-            Predicate<Load> pred = l -> l.getStatus() == Load.Status.PAID;
-
-            String loadNum = loadNumField.getText().trim().toLowerCase();
-            if (!loadNum.isEmpty()) {
-                pred = pred.and(l -> l.getLoadNumber() != null && l.getLoadNumber().toLowerCase().contains(loadNum));
-            }
-            
-            String truckUnit = truckUnitField.getText().trim().toLowerCase();
-            if (!truckUnit.isEmpty()) {
-                pred = pred.and(l -> l.getTruckUnitSnapshot() != null && l.getTruckUnitSnapshot().toLowerCase().contains(truckUnit));
-            }
-            
-            String trailerNumber = trailerNumberField.getText().trim().toLowerCase();
-            if (!trailerNumber.isEmpty()) {
-                pred = pred.and(l -> l.getTrailerNumber() != null && l.getTrailerNumber().toLowerCase().contains(trailerNumber));
-            }
-            
             Employee driver = driverBox.getValue();
-            if (driver != null) {
-                pred = pred.and(l -> l.getDriver() != null && l.getDriver().getId() == driver.getId());
-            }
-            
             Trailer trailer = trailerBox.getValue();
-            if (trailer != null) {
-                pred = pred.and(l -> l.getTrailer() != null && l.getTrailer().getId() == trailer.getId());
-            }
-            
-            String customer = customerBox.getValue();
-            if (customer != null && !customer.trim().isEmpty()) {
-                pred = pred.and(l -> customer.equalsIgnoreCase(l.getBillTo()));
-            }
-            
-            LocalDate startDate = startDatePicker.getValue();
-            LocalDate endDate = endDatePicker.getValue();
-            if (startDate != null || endDate != null) {
-                pred = pred.and(l -> {
-                    // Check both pickup and delivery dates
-                    boolean inRange = false;
-                    
-                    if (l.getPickUpDate() != null) {
-                        boolean pickupInRange = true;
-                        if (startDate != null) pickupInRange = !l.getPickUpDate().isBefore(startDate);
-                        if (endDate != null) pickupInRange = pickupInRange && !l.getPickUpDate().isAfter(endDate);
-                        if (pickupInRange) inRange = true;
-                    }
-                    
-                    if (l.getDeliveryDate() != null) {
-                        boolean deliveryInRange = true;
-                        if (startDate != null) deliveryInRange = !l.getDeliveryDate().isBefore(startDate);
-                        if (endDate != null) deliveryInRange = deliveryInRange && !l.getDeliveryDate().isAfter(endDate);
-                        if (deliveryInRange) inRange = true;
-                    }
-                    
-                    return inRange;
-                });
-            }
-            
-            tab.filteredList.setPredicate(pred);
+            LoadFilter filter = new LoadFilter()
+                .withStatus(Load.Status.PAID)
+                .loadNumberContains(loadNumField.getText())
+                .truckUnitContains(truckUnitField.getText())
+                .trailerNumberContains(trailerNumberField.getText())
+                .driver(driver != null ? driver.getId() : null)
+                .trailer(trailer != null ? trailer.getId() : null)
+                .billTo(customerBox.getValue())
+                .dateRange(startDatePicker.getValue(), endDatePicker.getValue());
+            tab.loads.setFilter(filter);
         };
 
         // Add listeners
@@ -1198,8 +1094,6 @@ public class LoadsPanel extends BorderPane {
                     if (resp == ButtonType.YES) {
                         logger.info("User confirmed deletion of paid load: {}", selected.getLoadNumber());
                         loadDAO.delete(selected.getId());
-                        reloadAll();
-                        notifyLoadDataChanged(); // Notify listeners
                     }
                 });
             }
@@ -1216,7 +1110,7 @@ public class LoadsPanel extends BorderPane {
         });
         exportBtn.setOnAction(e -> {
             logger.info("Export CSV button clicked for Paid Loads");
-            exportCSV(table);
+            exportCSV(table, tab.loads::findAll);
         });
         refreshBtn.setOnAction(e -> {
             logger.info("Refresh button clicked for Paid Loads");
@@ -1244,21 +1138,9 @@ public class LoadsPanel extends BorderPane {
         logger.debug("Creating All Loads tab with advanced filtering");
         StatusTab tab = new StatusTab();
         
-        // Default filter: last 45 days of all loads
-        LocalDate fortyFiveDaysAgo = LocalDate.now().minusDays(45);
-        tab.filteredList = new FilteredList<>(allLoads, l -> {
-            // Check both pickup and delivery dates for recent loads
-            boolean dateFilter = false;
-            if (l.getPickUpDate() != null && !l.getPickUpDate().isBefore(fortyFiveDaysAgo)) {
-                dateFilter = true;
-            } else if (l.getDeliveryDate() != null && !l.getDeliveryDate().isBefore(fortyFiveDaysAgo)) {
-                dateFilter = true;
-            }
-            
-            return dateFilter;
-        });
-
-        TableView<Load> table = makeTableView(tab.filteredList, true);
+        tab.loads = new PagedLoadList(loadDAO, "All Loads");
+        TableView<Load> table = makeTableView(tab.loads.getItems(), true);
+        tab.loads.attach(table);
 
         // Enhanced search controls (same as Active Loads)
         TextField loadNumField = new TextField();
@@ -1392,65 +1274,17 @@ public class LoadsPanel extends BorderPane {
         Runnable refilter = () -> {
             logger.debug("Applying filters to All Loads");
             
-            // Base predicate for all loads (no status filter)
-            Predicate<Load> pred = l -> true;
-
-            String loadNum = loadNumField.getText().trim().toLowerCase();
-            if (!loadNum.isEmpty()) {
-                pred = pred.and(l -> l.getLoadNumber() != null && l.getLoadNumber().toLowerCase().contains(loadNum));
-            }
-            
-            String truckUnit = truckUnitField.getText().trim().toLowerCase();
-            if (!truckUnit.isEmpty()) {
-                pred = pred.and(l -> l.getTruckUnitSnapshot() != null && l.getTruckUnitSnapshot().toLowerCase().contains(truckUnit));
-            }
-            
-            String trailerNumber = trailerNumberField.getText().trim().toLowerCase();
-            if (!trailerNumber.isEmpty()) {
-                pred = pred.and(l -> l.getTrailerNumber() != null && l.getTrailerNumber().toLowerCase().contains(trailerNumber));
-            }
-            
             Employee driver = driverBox.getValue();
-            if (driver != null) {
-                pred = pred.and(l -> l.getDriver() != null && l.getDriver().getId() == driver.getId());
-            }
-            
             Trailer trailer = trailerBox.getValue();
-            if (trailer != null) {
-                pred = pred.and(l -> l.getTrailer() != null && l.getTrailer().getId() == trailer.getId());
-            }
-            
-            String customer = customerBox.getValue();
-            if (customer != null && !customer.trim().isEmpty()) {
-                pred = pred.and(l -> customer.equalsIgnoreCase(l.getBillTo()));
-            }
-            
-            LocalDate startDate = startDatePicker.getValue();
-            LocalDate endDate = endDatePicker.getValue();
-            if (startDate != null || endDate != null) {
-                pred = pred.and(l -> {
-                    // Check both pickup and delivery dates
-                    boolean inRange = false;
-                    
-                    if (l.getPickUpDate() != null) {
-                        boolean pickupInRange = true;
-                        if (startDate != null) pickupInRange = !l.getPickUpDate().isBefore(startDate);
-                        if (endDate != null) pickupInRange = pickupInRange && !l.getPickUpDate().isAfter(endDate);
-                        if (pickupInRange) inRange = true;
-                    }
-                    
-                    if (l.getDeliveryDate() != null) {
-                        boolean deliveryInRange = true;
-                        if (startDate != null) deliveryInRange = !l.getDeliveryDate().isBefore(startDate);
-                        if (endDate != null) deliveryInRange = deliveryInRange && !l.getDeliveryDate().isAfter(endDate);
-                        if (deliveryInRange) inRange = true;
-                    }
-                    
-                    return inRange;
-                });
-            }
-            
-            tab.filteredList.setPredicate(pred);
+            LoadFilter filter = new LoadFilter()
+                .loadNumberContains(loadNumField.getText())
+                .truckUnitContains(truckUnitField.getText())
+                .trailerNumberContains(trailerNumberField.getText())
+                .driver(driver != null ? driver.getId() : null)
+                .trailer(trailer != null ? trailer.getId() : null)
+                .billTo(customerBox.getValue())
+                .dateRange(startDatePicker.getValue(), endDatePicker.getValue());
+            tab.loads.setFilter(filter);
         };
 
         // Add listeners
@@ -1487,15 +1321,13 @@ public class LoadsPanel extends BorderPane {
                     if (resp == ButtonType.YES) {
                         logger.info("User confirmed deletion of load: {}", selected.getLoadNumber());
                         loadDAO.delete(selected.getId());
-                        reloadAll();
-                        notifyLoadDataChanged();
                     }
                 });
             }
         });
         exportBtn.setOnAction(e -> {
             logger.info("Export CSV button clicked in All Loads tab");
-            exportCSV(table);
+            exportCSV(table, tab.loads::findAll);
         });
         refreshBtn.setOnAction(e -> {
             logger.info("Refresh button clicked in All Loads tab");
@@ -1534,8 +1366,10 @@ public class LoadsPanel extends BorderPane {
     private StatusTab makeStatusTab(String title, Load.Status filterStatus) {
         logger.debug("Creating {} tab", title);
         StatusTab statusTab = new StatusTab();
-        statusTab.filteredList = new FilteredList<>(allLoads, l -> filterStatus == null || l.getStatus() == filterStatus);
-        TableView<Load> table = makeTableView(statusTab.filteredList, filterStatus == null);
+        statusTab.loads = new PagedLoadList(loadDAO, title);
+        TableView<Load> table = makeTableView(statusTab.loads.getItems(), filterStatus == null);
+        statusTab.loads.attach(table);
+        statusTab.loads.setFilter(filterStatus == null ? new LoadFilter() : new LoadFilter().withStatus(filterStatus));
 
         Button addBtn = createStyledButton("➕ Add", "#28a745", "white");
         Button editBtn = createStyledButton("✏️ Edit", "#ffc107", "black");
@@ -1570,15 +1404,13 @@ public class LoadsPanel extends BorderPane {
                     if (resp == ButtonType.YES) {
                         logger.info("User confirmed deletion of load: {}", selected.getLoadNumber());
                         loadDAO.delete(selected.getId());
-                        reloadAll();
-                        notifyLoadDataChanged(); // Notify listeners
                     }
                 });
             }
         });
         exportBtn.setOnAction(e -> {
             logger.info("Export CSV button clicked in {} tab", title);
-            exportCSV(table);
+            exportCSV(table, statusTab.loads::findAll);
         });
         refreshBtn.setOnAction(e -> {
             logger.info("Refresh button clicked in {} tab", title);
@@ -2788,8 +2620,6 @@ public class LoadsPanel extends BorderPane {
                     load.setReminder("Lumper: " + lumperText);
                 }
                 loadDAO.update(load);
-                reloadAll();
-                notifyLoadDataChanged(); // Notify listeners
             });
         } else if ("remove".equals(action)) {
             Alert confirm = new Alert(Alert.AlertType.CONFIRMATION,
@@ -2801,8 +2631,6 @@ public class LoadsPanel extends BorderPane {
                     load.setHasRevisedRateConfirmation(false);
                     load.setReminder("");
                     loadDAO.update(load);
-                    reloadAll();
-                    notifyLoadDataChanged(); // Notify listeners
                 }
             });
         }
@@ -4783,7 +4611,7 @@ public class LoadsPanel extends BorderPane {
             } else if (useCurrentFilters) {
                 // Get current tab's filtered list - default to first tab if no selection  
                 StatusTab currentTab = statusTabs.get(0); // Default to active loads tab
-                dataToExport = new ArrayList<>(currentTab.filteredList);
+                dataToExport = currentTab.loads.findAll();
             } else {
                 dataToExport = loadDAO.getAll();
             }
@@ -6310,8 +6138,7 @@ public class LoadsPanel extends BorderPane {
                     
                     showInfo("Load updated successfully!");
                 }
-                reloadAll();
-                notifyLoadDataChanged();
+                reloadCustomerLists(); // The load may have added customers
             } catch (Exception e) {
                 logger.error("Error saving load: {}", e.getMessage(), e);
                 showError("Error saving load: " + e.getMessage());
@@ -7072,13 +6899,9 @@ public class LoadsPanel extends BorderPane {
     }
 
     private boolean checkDuplicateLoadNumber(String loadNum, int excludeId) {
-        String norm = loadNum.trim().toLowerCase(Locale.ROOT);
-        for (Load l : allLoads) {
-            if (l.getId() != excludeId && l.getLoadNumber() != null &&
-                l.getLoadNumber().trim().toLowerCase(Locale.ROOT).equals(norm)) {
-                logger.debug("Duplicate load number found: {}", loadNum);
-                return true;
-            }
+        if (loadDAO.existsLoadNumber(loadNum, excludeId)) {
+            logger.debug("Duplicate load number found: {}", loadNum);
+            return true;
         }
         return false;
     }
@@ -7144,20 +6967,23 @@ public class LoadsPanel extends BorderPane {
 
     private void reloadAll() {
         logger.debug("Reloading all data");
-        allLoads.setAll(loadDAO.getAll());
         allDrivers.setAll(employeeDAO.getAll());
         allTrailers.setAll(trailerDAO.findAll());
-        allCustomers.setAll(loadDAO.getAllCustomers());
-        allBillingEntities.setAll(loadDAO.getAllBillingEntities());
+        reloadCustomerLists();
         
         // No cache refresh needed with optimized on-demand implementation
         
         for (StatusTab tab : statusTabs) {
-            if (tab.filteredList != null)
-                tab.filteredList.setPredicate(tab.filteredList.getPredicate());
+            if (tab.loads != null)
+                tab.loads.refresh();
         }
-        logger.info("Data reload complete - Loads: {}, Drivers: {}, Trailers: {}, Customers: {}, Billing Entities: {}", 
-            allLoads.size(), allDrivers.size(), allTrailers.size(), allCustomers.size(), allBillingEntities.size());
+        logger.info("Data reload complete - Drivers: {}, Trailers: {}, Customers: {}, Billing Entities: {}", 
+            allDrivers.size(), allTrailers.size(), allCustomers.size(), allBillingEntities.size());
+    }
+
+    private void reloadCustomerLists() {
+        allCustomers.setAll(loadDAO.getAllCustomers());
+        allBillingEntities.setAll(loadDAO.getAllBillingEntities());
     }
 
     /**
@@ -7268,7 +7094,7 @@ public class LoadsPanel extends BorderPane {
         return false;
     }
 
-    private void exportCSV(TableView<Load> table) {
+    private void exportCSV(TableView<Load> table, Supplier<List<Load>> rows) {
         logger.info("Exporting loads to CSV");
         FileChooser fileChooser = new FileChooser();
         fileChooser.setTitle("Export Loads to CSV");
@@ -7282,7 +7108,7 @@ public class LoadsPanel extends BorderPane {
             String header = table.getColumns().stream().map(TableColumn::getText).collect(Collectors.joining(","));
             bw.write(header); bw.newLine();
             int count = 0;
-            for (Load l : table.getItems()) {
+            for (Load l : rows.get()) {
                 String row = String.join(",",
                         safe(l.getLoadNumber()),
                         safe(l.getPONumber()),
@@ -7457,12 +7283,6 @@ public class LoadsPanel extends BorderPane {
                 loadDAO.update(load);
                 
                 showInfo("Locations updated successfully!");
-                reloadAll();
-                // Force refresh on all tables to update cell styles
-                for (StatusTab tab : statusTabs) {
-                    if (tab.table != null) tab.table.refresh();
-                }
-                notifyLoadDataChanged();
             } catch (Exception e) {
                 logger.error("Error saving locations: {}", e.getMessage(), e);
                 showError("Error saving locations: " + e.getMessage());
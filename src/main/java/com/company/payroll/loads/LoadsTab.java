@@ -37,12 +37,7 @@ public class LoadsTab extends Tab implements EmployeesTab.EmployeeDataChangeList
         this.loadsPanel = new LoadsPanel();
         setContent(loadsPanel);
         
-        // Register for employee updates
-        employeesTab.addEmployeeDataChangeListener(this);
-        
-        // Register for trailer updates
-        trailersTab.addDataChangeListener(() ->
-                onTrailerDataChanged(trailersTab.getCurrentTrailers()));
+        // Driver and trailer lists are patched by the panel from DomainEventBus events
         
         // Register this tab as a listener for load data changes
         loadsPanel.addLoadDataChangeListener(this);
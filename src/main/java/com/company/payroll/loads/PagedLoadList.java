@@ -0,0 +1,197 @@
+package com.company.payroll.loads;
+
+import javafx.animation.PauseTransition;
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import javafx.concurrent.Task;
+import javafx.geometry.Orientation;
+import javafx.scene.Node;
+import javafx.scene.control.ScrollBar;
+import javafx.scene.control.TableView;
+import javafx.util.Duration;
+import com.company.payroll.events.DomainEventBus;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Rows of a loads table, fetched from the database one page at a time.
+ * <p>
+ * Only the loads the user has scrolled to are held: the first page is queried
+ * when the filter changes, and the next page when the table is scrolled near
+ * its end (see {@link LoadDAO#getPage(LoadFilter, LoadPage.Cursor, int)}).
+ * Queries run on a background thread; results of a superseded filter are dropped.
+ * All methods must be called on the FX application thread.
+ */
+class PagedLoadList {
+    private static final Logger logger = LoggerFactory.getLogger(PagedLoadList.class);
+    static final int PAGE_SIZE = 200;
+    private static final double PREFETCH_THRESHOLD = 0.9; // Scroll position that fetches the next page
+    private static final Duration FILTER_DELAY = Duration.millis(250); // Typing in a search field queries once
+    // Newest pickup first, loads without one last, ties by id; the order of LoadDAO#getPage
+    private static final Comparator<Load> PAGE_ORDER = Comparator
+        .comparing(Load::getPickUpDate, Comparator.nullsFirst(Comparator.<LocalDate>naturalOrder()))
+        .thenComparingInt(Load::getId)
+        .reversed();
+
+    private final LoadDAO loadDAO;
+    private final String name;
+    private final ObservableList<Load> items = FXCollections.observableArrayList();
+    private final PauseTransition filterDelay = new PauseTransition(FILTER_DELAY);
+    private LoadFilter filter = new LoadFilter();
+    private LoadPage.Cursor next;
+    private boolean hasMore;
+    private boolean loading;
+    private int generation;
+
+    PagedLoadList(LoadDAO loadDAO, String name) {
+        this.loadDAO = loadDAO;
+        this.name = name;
+        filterDelay.setOnFinished(e -> reload(PAGE_SIZE));
+    }
+
+    ObservableList<Load> getItems() {
+        return items;
+    }
+
+    /**
+     * Replace the filter and query its first page once the filter stops changing.
+     */
+    void setFilter(LoadFilter filter) {
+        this.filter = filter;
+        filterDelay.playFromStart();
+    }
+
+    /**
+     * Query the current filter again, keeping as many rows as are loaded now so
+     * the scroll position survives edits.
+     */
+    void refresh() {
+        filterDelay.stop();
+        reload(Math.max(PAGE_SIZE, items.size()));
+    }
+
+    /**
+     * Patch the loaded rows with committed changes instead of querying the filter again.
+     * <p>
+     * Deleted rows are dropped. Changed rows are read back through the current filter and
+     * moved to their place in page order, or dropped when the filter no longer matches them;
+     * a row that sorts past the last loaded one is left for the page that will fetch it.
+     * Changes larger than a page reload the list instead.
+     */
+    void applyChanges(DomainEventBus.Changes changes) {
+        Set<Integer> upserted = changes.upserted();
+        if (upserted.size() > PAGE_SIZE) {
+            refresh();
+            return;
+        }
+        items.removeIf(load -> changes.deleted().contains(load.getId()));
+        if (upserted.isEmpty()) {
+            return;
+        }
+        int requested = generation;
+        LoadFilter patchFilter = filter.withIds(upserted);
+        Task<List<Load>> task = new Task<>() {
+            @Override
+            protected List<Load> call() {
+                return loadDAO.find(patchFilter);
+            }
+        };
+        task.setOnSucceeded(e -> {
+            if (requested != generation) {
+                return; // A reload is already reading the changed rows
+            }
+            items.removeIf(load -> upserted.contains(load.getId()));
+            for (Load load : task.getValue()) {
+                int at = Collections.binarySearch(items, load, PAGE_ORDER);
+                int index = at >= 0 ? at : -at - 1;
+                if (index < items.size() || !hasMore) {
+                    items.add(index, load);
+                }
+            }
+            logger.debug("{}: patched {} changed loads", name, upserted.size());
+        });
+        task.setOnFailed(e ->
+            logger.error("{}: failed to read changed loads: {}", name, task.getException().getMessage(), task.getException()));
+        Thread thread = new Thread(task, "loads-patch-" + name);
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * Every load matching the current filter, loaded or not; queried on the calling thread.
+     */
+    List<Load> findAll() {
+        return loadDAO.find(filter);
+    }
+
+    /**
+     * Fetch the next page whenever the vertical scroll bar of the table nears its end.
+     */
+    void attach(TableView<Load> table) {
+        table.skinProperty().addListener((obs, oldSkin, newSkin) -> {
+            for (Node node : table.lookupAll(".scroll-bar")) {
+                if (node instanceof ScrollBar bar && bar.getOrientation() == Orientation.VERTICAL) {
+                    bar.valueProperty().addListener((o, oldValue, value) -> {
+                        if (value.doubleValue() >= bar.getMax() * PREFETCH_THRESHOLD) {
+                            loadMore();
+                        }
+                    });
+                }
+            }
+        });
+    }
+
+    private void loadMore() {
+        if (loading || !hasMore) {
+            return;
+        }
+        fetch(next, PAGE_SIZE, false);
+    }
+
+    private void reload(int limit) {
+        generation++;
+        fetch(null, limit, true);
+    }
+
+    private void fetch(LoadPage.Cursor after, int limit, boolean replace) {
+        int requested = generation;
+        LoadFilter pageFilter = filter;
+        loading = true;
+        Task<LoadPage> task = new Task<>() {
+            @Override
+            protected LoadPage call() {
+                return loadDAO.getPage(pageFilter, after, limit);
+            }
+        };
+        task.setOnSucceeded(e -> {
+            if (requested != generation) {
+                return;
+            }
+            LoadPage page = task.getValue();
+            if (replace) {
+                items.setAll(page.loads());
+            } else {
+                items.addAll(page.loads());
+            }
+            next = page.next();
+            hasMore = page.hasMore();
+            loading = false;
+            logger.debug("{}: {} loads shown (more: {})", name, items.size(), hasMore);
+        });
+        task.setOnFailed(e -> {
+            if (requested == generation) {
+                loading = false;
+            }
+            logger.error("{}: failed to load loads: {}", name, task.getException().getMessage(), task.getException());
+        });
+        Thread thread = new Thread(task, "loads-page-" + name);
+        thread.setDaemon(true);
+        thread.start();
+    }
+}
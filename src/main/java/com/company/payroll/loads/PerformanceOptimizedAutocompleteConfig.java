@@ -1,5 +1,7 @@
 package com.company.payroll.loads;
 
+import com.company.payroll.cache.EnterpriseDataCacheManager;
+
 import javafx.application.Platform;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
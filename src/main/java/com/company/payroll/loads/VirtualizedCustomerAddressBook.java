@@ -1,5 +1,7 @@
 package com.company.payroll.loads;
 
+import com.company.payroll.cache.EnterpriseDataCacheManager;
+
 import javafx.application.Platform;
 import javafx.beans.property.SimpleStringProperty;
 import javafx.beans.property.StringProperty;
@@ -57,7 +59,7 @@ public class VirtualizedCustomerAddressBook extends VBox {
     private final SortedList<CustomerAddress> sortedAddresses;
     
     // PERFORMANCE OPTIMIZATION
-    private final EnterpriseDataCacheManagerOptimized cacheManager;
+    private final EnterpriseDataCacheManager cacheManager;
     private final LoadDAO loadDAO;
     private CompletableFuture<Void> currentLoadTask;
     
@@ -84,7 +86,7 @@ public class VirtualizedCustomerAddressBook extends VBox {
     
     public VirtualizedCustomerAddressBook(LoadDAO loadDAO) {
         this.loadDAO = loadDAO;
-        this.cacheManager = EnterpriseDataCacheManagerOptimized.getInstance();
+        this.cacheManager = EnterpriseDataCacheManager.getInstance();
         
         // INITIALIZE FILTERED/SORTED LISTS - EFFICIENT FOR LARGE DATASETS
         this.filteredAddresses = new FilteredList<>(allAddresses);
@@ -17,6 +17,9 @@ import java.util.ArrayList;
 import java.time.format.DateTimeFormatter;
 import java.time.temporal.TemporalAdjusters;
 import java.time.DayOfWeek;
+import com.company.payroll.analytics.FactStore;
+import com.company.payroll.analytics.Groups;
+import com.company.payroll.analytics.LoadFacts;
 import com.company.payroll.expenses.CompanyExpenseDAO;
 import com.company.payroll.util.WindowAware;
 import com.company.payroll.maintenance.MaintenanceDAO;
@@ -102,6 +105,7 @@ public class CompanyFinancialsTab extends BorderPane implements WindowAware {
     // Data storage
     private List<CompanyExpense> currentExpenses = new ArrayList<>();
     private List<MaintenanceRecord> currentMaintenance = new ArrayList<>();
+    private WeeklyFinancialAggregates weeklyAggregates;
     
     // Dependencies
     private final PayrollTab payrollTab;
@@ -1000,10 +1004,7 @@ public class CompanyFinancialsTab extends BorderPane implements WindowAware {
     private List<FinancialRow> calculateRevenueData(LocalDate start, LocalDate end) {
         // Map to accumulate totals by driver
         Map<String, DriverTotals> driverTotalsMap = new HashMap<>();
-        
-        double totalGross = 0.0;
-        double totalServiceFee = 0.0;
-        double totalCompanyPay = 0.0;
+        DriverTotals grandTotals = new DriverTotals();
         
         // Start from the Monday of the week containing the start date
         LocalDate currentWeekStart = start.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
@@ -1013,42 +1014,45 @@ public class CompanyFinancialsTab extends BorderPane implements WindowAware {
             start.format(DateTimeFormatter.ofPattern("MM/dd/yyyy")),
             end.format(DateTimeFormatter.ofPattern("MM/dd/yyyy")));
         
+        LocalDate firstWholeWeek = null;
+        LocalDate lastWholeWeek = null;
         while (!currentWeekStart.isAfter(end)) {
             LocalDate weekEnd = currentWeekStart.plusDays(6); // Sunday
             
             // Only process if this week overlaps with our date range
             if (!weekEnd.isBefore(start)) {
-                LocalDate effectiveStart = currentWeekStart.isBefore(start) ? start : currentWeekStart;
-                LocalDate effectiveEnd = weekEnd.isAfter(end) ? end : weekEnd;
-                
-                // Get payroll data for this specific week
-                List<PayrollCalculator.PayrollRow> weekRows = payrollTab.getPayrollDataForDateRange(effectiveStart, effectiveEnd);
-                
-                for (PayrollCalculator.PayrollRow row : weekRows) {
-                    double gross = row.gross;
-                    double serviceFee = row.serviceFee;
-                    double companyPay = row.companyPay;
-                    
-                    // Accumulate totals by driver
-                    DriverTotals driverTotals = driverTotalsMap.computeIfAbsent(
-                        row.driverName, 
-                        k -> new DriverTotals()
-                    );
-                    
-                    driverTotals.gross += gross;
-                    driverTotals.serviceFee += serviceFee;
-                    driverTotals.companyPay += companyPay;
-                    driverTotals.weekCount++;
+                if (!currentWeekStart.isBefore(start) && !weekEnd.isAfter(end)) {
+                    // Whole weeks are read from the materialized aggregates below
+                    if (firstWholeWeek == null) {
+                        firstWholeWeek = currentWeekStart;
+                    }
+                    lastWholeWeek = currentWeekStart;
+                } else {
+                    LocalDate effectiveStart = currentWeekStart.isBefore(start) ? start : currentWeekStart;
+                    LocalDate effectiveEnd = weekEnd.isAfter(end) ? end : weekEnd;
                     
-                    totalGross += gross;
-                    totalServiceFee += serviceFee;
-                    totalCompanyPay += companyPay;
+                    // Partial weeks at the ends of the range are calculated on the spot
+                    for (PayrollCalculator.PayrollRow row : payrollTab.getPayrollDataForDateRange(effectiveStart, effectiveEnd)) {
+                        accumulate(driverTotalsMap, grandTotals, row.driverName, row.gross, row.serviceFee, row.companyPay);
+                    }
                 }
             }
             
             currentWeekStart = currentWeekStart.plusWeeks(1);
         }
         
+        if (firstWholeWeek != null) {
+            if (weeklyAggregates == null) {
+                weeklyAggregates = new WeeklyFinancialAggregates(payrollTab::getPayrollDataForDateRange);
+            }
+            for (WeeklyFinancialAggregates.Aggregate week : weeklyAggregates.getWeeks(firstWholeWeek, lastWholeWeek)) {
+                accumulate(driverTotalsMap, grandTotals, week.driverName(), week.gross(), week.serviceFee(), week.companyPay());
+            }
+        }
+        double totalGross = grandTotals.gross;
+        double totalServiceFee = grandTotals.serviceFee;
+        double totalCompanyPay = grandTotals.companyPay;
+        
         // Convert accumulated totals to FinancialRow objects
         List<FinancialRow> allRows = new ArrayList<>();
         
@@ -1115,6 +1119,19 @@ public class CompanyFinancialsTab extends BorderPane implements WindowAware {
         int weekCount = 0;
     }
     
+    private static void accumulate(Map<String, DriverTotals> driverTotalsMap, DriverTotals grandTotals,
+                                   String driverName, double gross, double serviceFee, double companyPay) {
+        DriverTotals driverTotals = driverTotalsMap.computeIfAbsent(driverName, k -> new DriverTotals());
+        driverTotals.gross += gross;
+        driverTotals.serviceFee += serviceFee;
+        driverTotals.companyPay += companyPay;
+        driverTotals.weekCount++;
+        
+        grandTotals.gross += gross;
+        grandTotals.serviceFee += serviceFee;
+        grandTotals.companyPay += companyPay;
+    }
+    
     private void loadExpenseData(LocalDate start, LocalDate end) {
         // Load company expenses
         currentExpenses = companyExpenseDAO.findByDateRange(start, end);
@@ -1744,16 +1761,21 @@ public class CompanyFinancialsTab extends BorderPane implements WindowAware {
         ScrollPane scrollPane = (ScrollPane) visualTab.getContent();
         VBox analyticsContainer = (VBox) scrollPane.getContent();
         
+        // Gross of the loads counted in the period, by month, from the report fact store
+        Groups monthlyGross = FactStore.getInstance()
+            .financialLoads(startDatePicker.getValue(), endDatePicker.getValue())
+            .grossBy(LoadFacts.Key.MONTH);
+        
         // Update charts with real data
-        updateRevenueExpenseLineChart(analyticsContainer);
+        updateRevenueExpenseLineChart(analyticsContainer, monthlyGross);
         updateExpenseDistributionPieChart(analyticsContainer);
-        updateMonthlyPerformanceBarChart(analyticsContainer);
+        updateMonthlyPerformanceBarChart(analyticsContainer, monthlyGross);
         updateProfitMarginAreaChart(analyticsContainer);
         updateKeyMetrics(analyticsContainer);
         updateFinancialHealthScore(analyticsContainer);
     }
     
-    private void updateRevenueExpenseLineChart(VBox container) {
+    private void updateRevenueExpenseLineChart(VBox container, Groups loadGross) {
         // Find the chart in the container
         @SuppressWarnings("unchecked")
         LineChart<String, Number> chart = findChart(container, LineChart.class);
@@ -1773,14 +1795,10 @@ public class CompanyFinancialsTab extends BorderPane implements WindowAware {
         Map<String, Double> monthlyRevenue = new LinkedHashMap<>();
         Map<String, Double> monthlyExpenses = new LinkedHashMap<>();
         
-        // Process financial table data
-        for (FinancialRow row : financialTable.getItems()) {
-            LocalDate weekStart = LocalDate.parse(row.getWeek().replace("Week of ", ""), 
-                DateTimeFormatter.ofPattern("MM/dd/yyyy"));
-            String monthKey = weekStart.format(DateTimeFormatter.ofPattern("MMM yyyy"));
-            
-            double gross = parseAmount(row.getGross());
-            monthlyRevenue.merge(monthKey, gross, Double::sum);
+        // Process load gross by month
+        for (int i = 0; i < loadGross.size(); i++) {
+            String monthKey = Groups.toMonth(loadGross.key(i)).format(DateTimeFormatter.ofPattern("MMM yyyy"));
+            monthlyRevenue.merge(monthKey, loadGross.sum(i), Double::sum);
         }
         
         // Process expense data
@@ -1879,7 +1897,7 @@ public class CompanyFinancialsTab extends BorderPane implements WindowAware {
         chart.setLabelsVisible(true);
     }
     
-    private void updateMonthlyPerformanceBarChart(VBox container) {
+    private void updateMonthlyPerformanceBarChart(VBox container, Groups loadGross) {
         @SuppressWarnings("unchecked")
         BarChart<String, Number> chart = findChart(container, BarChart.class);
         if (chart == null) return;
@@ -1900,14 +1918,10 @@ public class CompanyFinancialsTab extends BorderPane implements WindowAware {
         Map<String, Double> monthlyGross = new LinkedHashMap<>();
         Map<String, Double> monthlyExpense = new LinkedHashMap<>();
         
-        // Process financial data
-        for (FinancialRow row : financialTable.getItems()) {
-            LocalDate weekStart = LocalDate.parse(row.getWeek().replace("Week of ", ""), 
-                DateTimeFormatter.ofPattern("MM/dd/yyyy"));
-            String monthKey = weekStart.format(DateTimeFormatter.ofPattern("MMM"));
-            
-            double gross = parseAmount(row.getGross());
-            monthlyGross.merge(monthKey, gross, Double::sum);
+        // Process load gross by month
+        for (int i = 0; i < loadGross.size(); i++) {
+            String monthKey = Groups.toMonth(loadGross.key(i)).format(DateTimeFormatter.ofPattern("MMM"));
+            monthlyGross.merge(monthKey, loadGross.sum(i), Double::sum);
         }
         
         // Process expenses
@@ -0,0 +1,59 @@
+package com.company.payroll.payroll;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.ObjectInputStream;
+
+/**
+ * One-time import support for the Java serialization files the payroll ledgers
+ * were stored in before they moved to SQLite.
+ * <p>
+ * A file is read once, and renamed to {@code <name>.migrated} after its contents
+ * have been committed to the database, so it is never imported twice and remains
+ * available as a backup.
+ */
+final class LegacyLedgerFile {
+    private static final Logger logger = LoggerFactory.getLogger(LegacyLedgerFile.class);
+    static final String MIGRATED_SUFFIX = ".migrated";
+
+    private LegacyLedgerFile() {
+    }
+
+    /**
+     * Deserialize the file, or return null if it does not exist or cannot be read.
+     */
+    static Object read(String fileName) {
+        File file = new File(fileName);
+        if (!file.exists()) {
+            return null;
+        }
+        try (ObjectInputStream ois = new ObjectInputStream(new FileInputStream(file))) {
+            return ois.readObject();
+        } catch (Exception e) {
+            logger.error("Failed to read legacy ledger file {}: {}", fileName, e.getMessage(), e);
+            return null;
+        }
+    }
+
+    /**
+     * Rename an imported file so it is not imported again.
+     */
+    static void retire(String fileName) {
+        File file = new File(fileName);
+        if (!file.exists()) {
+            return;
+        }
+        File target = new File(fileName + MIGRATED_SUFFIX);
+        if (target.exists() && !target.delete()) {
+            logger.warn("Could not replace {}", target.getName());
+        }
+        if (file.renameTo(target)) {
+            logger.info("Imported legacy ledger file {} into the database, kept as {}", fileName, target.getName());
+        } else {
+            logger.warn("Imported {} but could not rename it; it will be skipped while the table has rows", fileName);
+        }
+    }
+}
@@ -1,26 +1,36 @@
 package com.company.payroll.payroll;
 
+import com.company.payroll.database.DatabaseConfig;
 import com.company.payroll.employees.Employee;
+import com.company.payroll.exception.DataAccessException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.io.*;
+import java.io.Serializable;
 import java.math.BigDecimal;
 import java.math.RoundingMode;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
 import java.time.LocalDate;
-import java.time.LocalDateTime;
 import java.util.*;
 import java.util.stream.Collectors;
 
 /**
  * PayrollAdvances management system following the PayrollEscrow pattern.
  * Handles cash advances with full tracking, repayment scheduling, and validation.
+ * <p>
+ * Entries live in the {@code advance_ledger} table, indexed by
+ * {@code (employee_id, week_start)} and by the advance a repayment belongs to.
+ * New entries are appended; only the status and notes of an advance are updated
+ * in place. Entries of the old {@code payroll_advances.dat} file are imported once.
  */
 public class PayrollAdvances implements Serializable {
     private static final Logger logger = LoggerFactory.getLogger(PayrollAdvances.class);
     private static final long serialVersionUID = 1L;
     private static final String DATA_FILE = "payroll_advances.dat";
-    private static final String SETTINGS_FILE = "payroll_advances_settings.dat";
     
     // Default business rules
     public static final BigDecimal DEFAULT_MAX_ADVANCE = new BigDecimal("5000.00");
@@ -29,7 +39,20 @@ public class PayrollAdvances implements Serializable {
     public static final int DEFAULT_MIN_WEEKS = 1;
     public static final BigDecimal DEFAULT_WEEKLY_LIMIT = new BigDecimal("500.00");
     
-    private final List<AdvanceEntry> entries = new ArrayList<>();
+    private static final String SELECT_ENTRIES = """
+        SELECT id, advance_id, entry_date, week_start, employee_id, employee_name, type, amount, notes,
+               status, weeks_to_repay, weekly_repayment_amount, first_repayment_date, last_repayment_date,
+               approved_by, parent_advance_id, payment_method, reference_number, processed_by
+        FROM advance_ledger
+        """;
+    private static final String INSERT_ENTRY = """
+        INSERT INTO advance_ledger (id, advance_id, entry_date, week_start, employee_id, employee_name, type,
+                                    amount, notes, status, weeks_to_repay, weekly_repayment_amount,
+                                    first_repayment_date, last_repayment_date, approved_by, parent_advance_id,
+                                    payment_method, reference_number, processed_by)
+        VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+        """;
+    
     private static PayrollAdvances instance;
     
     public enum AdvanceType {
@@ -141,6 +164,19 @@ public class PayrollAdvances implements Serializable {
             this.status = AdvanceStatus.ACTIVE;
         }
         
+        // Constructor for entries read back from the ledger
+        private AdvanceEntry(String id, LocalDate date, LocalDate weekStart, int employeeId, String employeeName,
+                             AdvanceType type, BigDecimal amount, String notes) {
+            this.id = id;
+            this.date = date;
+            this.weekStart = weekStart;
+            this.employeeId = employeeId;
+            this.employeeName = employeeName;
+            this.type = type;
+            this.amount = amount;
+            this.notes = notes;
+        }
+        
         private BigDecimal calculateWeeklyPayment(BigDecimal totalAmount, int weeks) {
             return totalAmount.divide(BigDecimal.valueOf(weeks), 2, RoundingMode.UP);
         }
@@ -176,7 +212,8 @@ public class PayrollAdvances implements Serializable {
     }
     
     private PayrollAdvances() {
-        loadData();
+        ensureTable();
+        importLegacyData();
     }
     
     public static PayrollAdvances getInstance() {
@@ -186,6 +223,75 @@ public class PayrollAdvances implements Serializable {
         return instance;
     }
     
+    private void ensureTable() {
+        try (Connection conn = DatabaseConfig.getConnection();
+             Statement stmt = conn.createStatement()) {
+            stmt.execute("""
+                CREATE TABLE IF NOT EXISTS advance_ledger (
+                    id TEXT PRIMARY KEY,
+                    advance_id TEXT,
+                    entry_date TEXT NOT NULL,
+                    week_start TEXT,
+                    employee_id INTEGER NOT NULL,
+                    employee_name TEXT,
+                    type TEXT NOT NULL,
+                    amount TEXT NOT NULL,
+                    notes TEXT,
+                    status TEXT,
+                    weeks_to_repay INTEGER,
+                    weekly_repayment_amount TEXT,
+                    first_repayment_date TEXT,
+                    last_repayment_date TEXT,
+                    approved_by TEXT,
+                    parent_advance_id TEXT,
+                    payment_method TEXT,
+                    reference_number TEXT,
+                    processed_by TEXT
+                )
+            """);
+            stmt.execute("CREATE INDEX IF NOT EXISTS idx_advance_ledger_employee_week ON advance_ledger(employee_id, week_start)");
+            stmt.execute("CREATE INDEX IF NOT EXISTS idx_advance_ledger_advance_id ON advance_ledger(advance_id)");
+            stmt.execute("CREATE INDEX IF NOT EXISTS idx_advance_ledger_parent ON advance_ledger(parent_advance_id)");
+            stmt.execute("CREATE INDEX IF NOT EXISTS idx_advance_ledger_date ON advance_ledger(entry_date)");
+        } catch (SQLException e) {
+            logger.error("Error ensuring advance_ledger table: {}", e.getMessage(), e);
+        }
+    }
+    
+    /**
+     * Move the entries of the old serialization file into the ledger
+     */
+    @SuppressWarnings("unchecked")
+    private void importLegacyData() {
+        try (Connection conn = DatabaseConfig.getConnection()) {
+            try (Statement stmt = conn.createStatement();
+                 ResultSet rs = stmt.executeQuery("SELECT 1 FROM advance_ledger LIMIT 1")) {
+                if (rs.next()) {
+                    return;
+                }
+            }
+            if (!(LegacyLedgerFile.read(DATA_FILE) instanceof List<?> loaded)) {
+                return;
+            }
+            conn.setAutoCommit(false);
+            try (PreparedStatement ps = conn.prepareStatement(INSERT_ENTRY)) {
+                for (AdvanceEntry entry : (List<AdvanceEntry>) loaded) {
+                    bindEntry(ps, entry);
+                    ps.addBatch();
+                }
+                ps.executeBatch();
+                conn.commit();
+            } catch (SQLException e) {
+                conn.rollback();
+                throw e;
+            }
+            LegacyLedgerFile.retire(DATA_FILE);
+            logger.info("Imported {} advance entries from {}", loaded.size(), DATA_FILE);
+        } catch (SQLException | ClassCastException e) {
+            logger.error("Failed to import advance entries from {}", DATA_FILE, e);
+        }
+    }
+    
     // Advance management - Updated to accept date parameter
     public AdvanceEntry createAdvance(Employee employee, LocalDate advanceDate, BigDecimal amount, 
                                     int weeksToRepay, String notes, String approvedBy) {
@@ -219,8 +325,7 @@ public class PayrollAdvances implements Serializable {
         
         AdvanceEntry entry = new AdvanceEntry(advanceDate, weekStart, employee, 
             amount, weeksToRepay, notes, approvedBy);
-        entries.add(entry);
-        saveData();
+        insertEntry(entry);
         logger.info("Created advance {} for employee {} amount ${} on date {}", 
             entry.getAdvanceId(), employee.getName(), amount, advanceDate);
         return entry;
@@ -257,12 +362,11 @@ public class PayrollAdvances implements Serializable {
         
         AdvanceEntry entry = new AdvanceEntry(paymentDate, weekStart, employee,
             amount, advanceId, method, referenceNumber, notes, processedBy);
-        entries.add(entry);
+        insertEntry(entry);
         
         // Check if advance is fully repaid
         updateAdvanceStatus(advanceId);
         
-        saveData();
         logger.info("Recorded repayment of ${} for advance {} on date {}", amount, advanceId, paymentDate);
         return entry;
     }
@@ -281,25 +385,24 @@ public class PayrollAdvances implements Serializable {
         
         AdvanceEntry entry = new AdvanceEntry(adjustmentDate, employee, type,
             amount, advanceId, notes, processedBy);
-        entries.add(entry);
+        insertEntry(entry);
         
         // Update advance status if forgiven
         if (type == AdvanceType.FORGIVENESS) {
             AdvanceEntry advance = findAdvanceById(advanceId);
             if (advance != null) {
                 advance.setStatus(AdvanceStatus.FORGIVEN);
+                saveStatus(advance);
             }
         }
         
-        saveData();
         logger.info("Created {} of ${} for advance {} on date {}", type, amount, advanceId, adjustmentDate);
         return entry;
     }
     
     public void deleteEntry(String entryId) {
         // Find the entry to be deleted
-        Optional<AdvanceEntry> entryOpt = entries.stream()
-            .filter(e -> e.getId().equals(entryId))
+        Optional<AdvanceEntry> entryOpt = queryEntries(SELECT_ENTRIES + " WHERE id = ?", entryId).stream()
             .findFirst();
             
         if (entryOpt.isPresent()) {
@@ -308,14 +411,14 @@ public class PayrollAdvances implements Serializable {
             if (entry.getAdvanceType() == AdvanceType.ADVANCE) {
                 // Delete all repayments for this advance
                 String advanceId = entry.getAdvanceId();
-                entries.removeIf(e -> advanceId.equals(e.getParentAdvanceId()));
+                executeUpdate("DELETE FROM advance_ledger WHERE parent_advance_id = ?", advanceId);
                 logger.info("Deleted all repayments for advance {}", advanceId);
             } else if (entry.getAdvanceType() == AdvanceType.REPAYMENT) {
                 // If deleting a repayment, we need to recalculate the advance status
                 String parentAdvanceId = entry.getParentAdvanceId();
                 
                 // Remove the entry first
-                entries.removeIf(e -> e.getId().equals(entryId));
+                executeUpdate("DELETE FROM advance_ledger WHERE id = ?", entryId);
                 
                 // Then update the parent advance status
                 if (parentAdvanceId != null) {
@@ -323,13 +426,11 @@ public class PayrollAdvances implements Serializable {
                     logger.info("Deleted repayment and recalculated status for advance {}", parentAdvanceId);
                 }
                 
-                saveData();
                 return; // Return early to avoid double removal
             }
         }
         
-        entries.removeIf(e -> e.getId().equals(entryId));
-        saveData();
+        executeUpdate("DELETE FROM advance_ledger WHERE id = ?", entryId);
         logger.info("Deleted advance entry {}", entryId);
     }
     
@@ -356,14 +457,13 @@ public class PayrollAdvances implements Serializable {
             advance.setStatus(AdvanceStatus.ACTIVE);
             logger.info("Advance {} marked as active (balance: ${})", advanceId, balance);
         }
+        saveStatus(advance);
     }
     
     // Query methods
     public List<AdvanceEntry> getEntriesForEmployee(int employeeId) {
-        List<AdvanceEntry> employeeEntries = entries.stream()
-            .filter(e -> e.getEmployeeId() == employeeId)
-            .sorted(Comparator.comparing(AdvanceEntry::getDate))
-            .collect(Collectors.toList());
+        List<AdvanceEntry> employeeEntries = queryEntries(
+            SELECT_ENTRIES + " WHERE employee_id = ? ORDER BY entry_date, rowid", employeeId);
             
         // Calculate running balance
         BigDecimal runningBalance = BigDecimal.ZERO;
@@ -377,11 +477,20 @@ public class PayrollAdvances implements Serializable {
         return employeeEntries;
     }
     
+    /**
+     * Entries dated within [start, end] grouped by employee, each list newest first.
+     * Unlike {@link #getEntriesForEmployee(int)} running balances are not recomputed.
+     */
+    public Map<Integer, List<AdvanceEntry>> getEntriesByEmployeeBetween(LocalDate start, LocalDate end) {
+        return queryEntries(SELECT_ENTRIES + " WHERE entry_date BETWEEN ? AND ? ORDER BY entry_date DESC, rowid",
+                start.toString(), end.toString()).stream()
+            .collect(Collectors.groupingBy(AdvanceEntry::getEmployeeId));
+    }
+    
     public List<AdvanceEntry> getAllEntries() {
         // Create a list with all entries and calculate balances
         Map<Integer, BigDecimal> balances = new HashMap<>();
-        List<AdvanceEntry> allEntriesSorted = new ArrayList<>(entries);
-        allEntriesSorted.sort(Comparator.comparing(AdvanceEntry::getDate));
+        List<AdvanceEntry> allEntriesSorted = queryEntries(SELECT_ENTRIES + " ORDER BY entry_date, rowid");
         
         for (AdvanceEntry entry : allEntriesSorted) {
             BigDecimal currentBalance = balances.getOrDefault(entry.getEmployeeId(), BigDecimal.ZERO);
@@ -396,59 +505,40 @@ public class PayrollAdvances implements Serializable {
     }
     
     public List<AdvanceEntry> getActiveAdvances() {
-        return entries.stream()
-            .filter(e -> e.getAdvanceType() == AdvanceType.ADVANCE)
-            .filter(e -> e.getStatus() == AdvanceStatus.ACTIVE)
-            .sorted(Comparator.comparing(AdvanceEntry::getDate).reversed())
-            .collect(Collectors.toList());
+        return queryEntries(SELECT_ENTRIES + " WHERE type = ? AND status = ? ORDER BY entry_date DESC, rowid",
+            AdvanceType.ADVANCE.name(), AdvanceStatus.ACTIVE.name());
     }
     
     public List<AdvanceEntry> getAdvancesForEmployee(Employee employee) {
         if (employee == null) return new ArrayList<>();
         
-        return entries.stream()
-            .filter(e -> e.getEmployeeId() == employee.getId())
-            .filter(e -> e.getAdvanceType() == AdvanceType.ADVANCE)
-            .sorted(Comparator.comparing(AdvanceEntry::getDate).reversed())
-            .collect(Collectors.toList());
+        return queryEntries(SELECT_ENTRIES + " WHERE employee_id = ? AND type = ? ORDER BY entry_date DESC, rowid",
+            employee.getId(), AdvanceType.ADVANCE.name());
     }
     
     public List<AdvanceEntry> getRepaymentsForAdvance(String advanceId) {
-        return entries.stream()
-            .filter(e -> advanceId.equals(e.getParentAdvanceId()))
-            .filter(e -> e.getAdvanceType() == AdvanceType.REPAYMENT)
-            .sorted(Comparator.comparing(AdvanceEntry::getDate))
-            .collect(Collectors.toList());
+        return queryEntries(SELECT_ENTRIES + " WHERE parent_advance_id = ? AND type = ? ORDER BY entry_date, rowid",
+            advanceId, AdvanceType.REPAYMENT.name());
     }
     
     // Balance calculations
     public BigDecimal getCurrentBalance(Employee employee) {
         if (employee == null) return BigDecimal.ZERO;
         
-        return entries.stream()
-            .filter(e -> e.getEmployeeId() == employee.getId())
-            .map(AdvanceEntry::getAmount)
-            .reduce(BigDecimal.ZERO, BigDecimal::add);
+        return sumAmounts("SELECT amount FROM advance_ledger WHERE employee_id = ?", employee.getId());
     }
     
     public BigDecimal getTotalAdvanced(Employee employee) {
         if (employee == null) return BigDecimal.ZERO;
         
-        return entries.stream()
-            .filter(e -> e.getEmployeeId() == employee.getId())
-            .filter(e -> e.getAdvanceType() == AdvanceType.ADVANCE)
-            .map(AdvanceEntry::getAmount)
-            .reduce(BigDecimal.ZERO, BigDecimal::add);
+        return sumAmounts("SELECT amount FROM advance_ledger WHERE employee_id = ? AND type = ?",
+            employee.getId(), AdvanceType.ADVANCE.name());
     }
     
     public BigDecimal getTotalRepaid(Employee employee) {
         if (employee == null) return BigDecimal.ZERO;
 
-        return entries.stream()
-            .filter(e -> e.getEmployeeId() == employee.getId())
-            .filter(e -> e.getAdvanceType() == AdvanceType.REPAYMENT)
-            .map(e -> e.getAmount().abs())
-            .reduce(BigDecimal.ZERO, BigDecimal::add);
+        return getTotalRepaid(employee.getId());
     }
 
     /**
@@ -457,23 +547,17 @@ public class PayrollAdvances implements Serializable {
      * identifier is known.
      */
     public BigDecimal getTotalRepaid(int employeeId) {
-        return entries.stream()
-            .filter(e -> e.getEmployeeId() == employeeId)
-            .filter(e -> e.getAdvanceType() == AdvanceType.REPAYMENT)
-            .map(e -> e.getAmount().abs())
-            .reduce(BigDecimal.ZERO, BigDecimal::add);
+        return sumAbsoluteAmounts("SELECT amount FROM advance_ledger WHERE employee_id = ? AND type = ?",
+            employeeId, AdvanceType.REPAYMENT.name());
     }
     
     public BigDecimal getAdvanceBalance(String advanceId) {
         AdvanceEntry advance = findAdvanceById(advanceId);
         if (advance == null) return BigDecimal.ZERO;
         
-        BigDecimal totalRepaid = entries.stream()
-            .filter(e -> advanceId.equals(e.getParentAdvanceId()))
-            .filter(e -> e.getAdvanceType() == AdvanceType.REPAYMENT || 
-                        e.getAdvanceType() == AdvanceType.FORGIVENESS)
-            .map(e -> e.getAmount().abs())
-            .reduce(BigDecimal.ZERO, BigDecimal::add);
+        BigDecimal totalRepaid = sumAbsoluteAmounts(
+            "SELECT amount FROM advance_ledger WHERE parent_advance_id = ? AND type IN (?, ?)",
+            advanceId, AdvanceType.REPAYMENT.name(), AdvanceType.FORGIVENESS.name());
             
         return advance.getAmount().subtract(totalRepaid);
     }
@@ -481,31 +565,25 @@ public class PayrollAdvances implements Serializable {
     public BigDecimal getScheduledRepaymentForWeek(Employee employee, LocalDate weekStart) {
         if (employee == null || weekStart == null) return BigDecimal.ZERO;
         
-        return getActiveAdvances().stream()
-            .filter(a -> a.getEmployeeId() == employee.getId())
-            .filter(a -> !weekStart.isBefore(a.getFirstRepaymentDate()))
-            .filter(a -> !weekStart.isAfter(a.getLastRepaymentDate()))
-            .map(AdvanceEntry::getWeeklyRepaymentAmount)
-            .reduce(BigDecimal.ZERO, BigDecimal::add);
+        String week = weekStart.toString();
+        return sumAmounts("""
+            SELECT weekly_repayment_amount FROM advance_ledger
+            WHERE employee_id = ? AND type = ? AND status = ?
+              AND first_repayment_date <= ? AND last_repayment_date >= ?
+            """, employee.getId(), AdvanceType.ADVANCE.name(), AdvanceStatus.ACTIVE.name(), week, week);
     }
     
     public boolean hasActiveAdvance(Employee employee) {
         if (employee == null) return false;
         
-        return entries.stream()
-            .filter(e -> e.getEmployeeId() == employee.getId())
-            .filter(e -> e.getAdvanceType() == AdvanceType.ADVANCE)
-            .anyMatch(e -> e.getStatus() == AdvanceStatus.ACTIVE);
+        return getActiveAdvanceCount(employee) > 0;
     }
     
     public int getActiveAdvanceCount(Employee employee) {
         if (employee == null) return 0;
         
-        return (int) entries.stream()
-            .filter(e -> e.getEmployeeId() == employee.getId())
-            .filter(e -> e.getAdvanceType() == AdvanceType.ADVANCE)
-            .filter(e -> e.getStatus() == AdvanceStatus.ACTIVE)
-            .count();
+        return queryEntries(SELECT_ENTRIES + " WHERE employee_id = ? AND type = ? AND status = ?",
+            employee.getId(), AdvanceType.ADVANCE.name(), AdvanceStatus.ACTIVE.name()).size();
     }
     
     // Status management
@@ -516,6 +594,7 @@ public class PayrollAdvances implements Serializable {
         BigDecimal balance = getAdvanceBalance(advanceId);
         if (balance.compareTo(BigDecimal.ZERO) <= 0) {
             advance.setStatus(AdvanceStatus.COMPLETED);
+            saveStatus(advance);
             logger.info("Advance {} marked as completed", advanceId);
         }
     }
@@ -525,15 +604,12 @@ public class PayrollAdvances implements Serializable {
      * Useful for data integrity checks or after bulk operations.
      */
     public void recalculateAllAdvanceStatuses() {
-        List<AdvanceEntry> advances = entries.stream()
-            .filter(e -> e.getAdvanceType() == AdvanceType.ADVANCE)
-            .collect(Collectors.toList());
+        List<AdvanceEntry> advances = queryEntries(SELECT_ENTRIES + " WHERE type = ?", AdvanceType.ADVANCE.name());
             
         for (AdvanceEntry advance : advances) {
             recalculateAdvanceStatus(advance.getAdvanceId());
         }
         
-        saveData();
         logger.info("Recalculated status for {} advances", advances.size());
     }
     
@@ -542,7 +618,7 @@ public class PayrollAdvances implements Serializable {
         if (advance != null && advance.getStatus() == AdvanceStatus.ACTIVE) {
             advance.setStatus(AdvanceStatus.DEFAULTED);
             advance.setNotes(advance.getNotes() + " | DEFAULTED: " + reason);
-            saveData();
+            saveStatus(advance);
             logger.info("Advance {} marked as defaulted: {}", advanceId, reason);
         }
     }
@@ -559,41 +635,155 @@ public class PayrollAdvances implements Serializable {
             
             advance.setStatus(AdvanceStatus.CANCELLED);
             advance.setNotes(advance.getNotes() + " | CANCELLED: " + reason);
-            saveData();
+            saveStatus(advance);
             logger.info("Advance {} cancelled: {}", advanceId, reason);
         }
     }
     
     // Helper methods
     private AdvanceEntry findAdvanceById(String advanceId) {
-        return entries.stream()
-            .filter(e -> advanceId.equals(e.getAdvanceId()) || advanceId.equals(e.getId()))
-            .findFirst()
-            .orElse(null);
+        List<AdvanceEntry> found = queryEntries(
+            SELECT_ENTRIES + " WHERE advance_id = ? OR id = ? ORDER BY rowid LIMIT 1", advanceId, advanceId);
+        return found.isEmpty() ? null : found.get(0);
     }
     
     // Persistence methods
-    private void saveData() {
-        try (ObjectOutputStream oos = new ObjectOutputStream(new FileOutputStream(DATA_FILE))) {
-            oos.writeObject(entries);
-            logger.debug("Advance entries saved to {}", DATA_FILE);
-        } catch (IOException e) {
-            logger.error("Failed to save advance data", e);
+    private void insertEntry(AdvanceEntry entry) {
+        try (Connection conn = DatabaseConfig.getConnection();
+             PreparedStatement ps = conn.prepareStatement(INSERT_ENTRY)) {
+            bindEntry(ps, entry);
+            ps.executeUpdate();
+        } catch (SQLException e) {
+            logger.error("Failed to save advance entry {}", entry.getId(), e);
+            throw new DataAccessException("Failed to save advance entry", e);
         }
     }
     
-    @SuppressWarnings("unchecked")
-    private void loadData() {
-        File file = new File(DATA_FILE);
-        if (file.exists()) {
-            try (ObjectInputStream ois = new ObjectInputStream(new FileInputStream(file))) {
-                List<AdvanceEntry> loaded = (List<AdvanceEntry>) ois.readObject();
-                entries.clear();
-                entries.addAll(loaded);
-                logger.info("Loaded {} advance entries from {}", entries.size(), DATA_FILE);
-            } catch (Exception e) {
-                logger.error("Failed to load advance data", e);
+    /**
+     * Write back the status and notes of an entry, the only fields that change after it is recorded
+     */
+    private void saveStatus(AdvanceEntry entry) {
+        executeUpdate("UPDATE advance_ledger SET status = ?, notes = ? WHERE id = ?",
+            entry.status != null ? entry.status.name() : null, entry.notes, entry.id);
+    }
+    
+    private static void bindEntry(PreparedStatement ps, AdvanceEntry entry) throws SQLException {
+        ps.setString(1, entry.id);
+        ps.setString(2, entry.advanceId);
+        ps.setString(3, entry.date.toString());
+        ps.setString(4, isoOrNull(entry.weekStart));
+        ps.setInt(5, entry.employeeId);
+        ps.setString(6, entry.employeeName);
+        ps.setString(7, entry.type.name());
+        ps.setString(8, entry.amount.toPlainString());
+        ps.setString(9, entry.notes);
+        ps.setString(10, entry.status != null ? entry.status.name() : null);
+        ps.setInt(11, entry.weeksToRepay);
+        ps.setString(12, entry.weeklyRepaymentAmount != null ? entry.weeklyRepaymentAmount.toPlainString() : null);
+        ps.setString(13, isoOrNull(entry.firstRepaymentDate));
+        ps.setString(14, isoOrNull(entry.lastRepaymentDate));
+        ps.setString(15, entry.approvedBy);
+        ps.setString(16, entry.parentAdvanceId);
+        ps.setString(17, entry.paymentMethod != null ? entry.paymentMethod.name() : null);
+        ps.setString(18, entry.referenceNumber);
+        ps.setString(19, entry.processedBy);
+    }
+    
+    private static AdvanceEntry readEntry(ResultSet rs) throws SQLException {
+        AdvanceEntry entry = new AdvanceEntry(
+            rs.getString("id"),
+            LocalDate.parse(rs.getString("entry_date")),
+            dateOrNull(rs.getString("week_start")),
+            rs.getInt("employee_id"),
+            rs.getString("employee_name"),
+            AdvanceType.valueOf(rs.getString("type")),
+            new BigDecimal(rs.getString("amount")),
+            rs.getString("notes"));
+        entry.advanceId = rs.getString("advance_id");
+        String status = rs.getString("status");
+        entry.status = status != null ? AdvanceStatus.valueOf(status) : null;
+        entry.weeksToRepay = rs.getInt("weeks_to_repay");
+        String weekly = rs.getString("weekly_repayment_amount");
+        entry.weeklyRepaymentAmount = weekly != null ? new BigDecimal(weekly) : null;
+        entry.firstRepaymentDate = dateOrNull(rs.getString("first_repayment_date"));
+        entry.lastRepaymentDate = dateOrNull(rs.getString("last_repayment_date"));
+        entry.approvedBy = rs.getString("approved_by");
+        entry.parentAdvanceId = rs.getString("parent_advance_id");
+        String method = rs.getString("payment_method");
+        entry.paymentMethod = method != null ? PaymentMethod.valueOf(method) : null;
+        entry.referenceNumber = rs.getString("reference_number");
+        entry.processedBy = rs.getString("processed_by");
+        return entry;
+    }
+    
+    private static String isoOrNull(LocalDate date) {
+        return date != null ? date.toString() : null;
+    }
+    
+    private static LocalDate dateOrNull(String iso) {
+        return iso != null ? LocalDate.parse(iso) : null;
+    }
+    
+    private List<AdvanceEntry> queryEntries(String sql, Object... params) {
+        List<AdvanceEntry> result = new ArrayList<>();
+        try (Connection conn = DatabaseConfig.getConnection();
+             PreparedStatement ps = conn.prepareStatement(sql)) {
+            for (int i = 0; i < params.length; i++) {
+                ps.setObject(i + 1, params[i]);
+            }
+            try (ResultSet rs = ps.executeQuery()) {
+                while (rs.next()) {
+                    result.add(readEntry(rs));
+                }
+            }
+        } catch (SQLException e) {
+            logger.error("Failed to load advance entries", e);
+            throw new DataAccessException("Failed to load advance entries", e);
+        }
+        return result;
+    }
+    
+    private BigDecimal sumAmounts(String sql, Object... params) {
+        return sumAmounts(false, sql, params);
+    }
+    
+    private BigDecimal sumAbsoluteAmounts(String sql, Object... params) {
+        return sumAmounts(true, sql, params);
+    }
+    
+    private BigDecimal sumAmounts(boolean absolute, String sql, Object... params) {
+        BigDecimal total = BigDecimal.ZERO;
+        try (Connection conn = DatabaseConfig.getConnection();
+             PreparedStatement ps = conn.prepareStatement(sql)) {
+            for (int i = 0; i < params.length; i++) {
+                ps.setObject(i + 1, params[i]);
+            }
+            try (ResultSet rs = ps.executeQuery()) {
+                while (rs.next()) {
+                    String amount = rs.getString(1);
+                    if (amount != null) {
+                        BigDecimal value = new BigDecimal(amount);
+                        total = total.add(absolute ? value.abs() : value);
+                    }
+                }
+            }
+        } catch (SQLException e) {
+            logger.error("Failed to sum advance amounts", e);
+            throw new DataAccessException("Failed to load advance amounts", e);
+        }
+        return total;
+    }
+    
+    private void executeUpdate(String sql, Object... params) {
+        try (Connection conn = DatabaseConfig.getConnection();
+             PreparedStatement ps = conn.prepareStatement(sql)) {
+            for (int i = 0; i < params.length; i++) {
+                ps.setObject(i + 1, params[i]);
             }
+            ps.executeUpdate();
+        } catch (SQLException e) {
+            logger.error("Failed to update advance ledger", e);
+            throw new DataAccessException("Failed to update advance ledger", e);
         }
     }
-}
\ No newline at end of file
+}
@@ -7,6 +7,8 @@ import com.company.payroll.employees.PaymentType;
 import com.company.payroll.employees.PaymentMethodHistory;
 import com.company.payroll.employees.PaymentMethodHistoryDAO;
 import com.company.payroll.calculators.PaymentMethodCalculator;
+import com.company.payroll.database.DatabaseConfig;
+import com.company.payroll.exception.DataAccessException;
 import com.company.payroll.fuel.FuelTransaction;
 import com.company.payroll.fuel.FuelTransactionDAO;
 import com.company.payroll.loads.Load;
@@ -17,9 +19,18 @@ import org.slf4j.LoggerFactory;
 import java.math.BigDecimal;
 import java.math.RoundingMode;
 import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
 import java.time.LocalDate;
 import java.util.*;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.IntConsumer;
+import java.util.stream.IntStream;
 import java.util.stream.Collectors;
 
 /**
@@ -49,9 +60,34 @@ public class PayrollCalculator {
     private final PayrollAdvances payrollAdvances;
     private final PayrollOtherAdjustments payrollOtherAdjustments;
     private final PayrollEscrow payrollEscrow;
+    private final PayrollHistoryDAO payrollHistoryDAO;
     
-    // Cache for calculation results
-    private final Map<String, PayrollCalculationCache> calculationCache = new ConcurrentHashMap<>();
+    // Results of recent runs by drivers and period, least recently used evicted first;
+    // entries are dropped when PayrollInputChanges logs a change reaching their period
+    private static final int CACHE_CAPACITY = 64;
+    private final Map<String, PayrollCalculationCache> calculationCache = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, PayrollCalculationCache> eldest) {
+            if (size() > CACHE_CAPACITY) {
+                cacheEvictions.increment();
+                return true;
+            }
+            return false;
+        }
+    };
+    // Last change log entry applied to the cache, -1 while the log is unavailable; guarded by calculationCache
+    private long appliedChangeSeq = -1;
+    private final LongAdder cacheHits = new LongAdder();
+    private final LongAdder cacheMisses = new LongAdder();
+    private final LongAdder cacheEvictions = new LongAdder();
+    private final LongAdder cacheInvalidations = new LongAdder();
+    
+    // Parallel execution settings and timings of the last run
+    private volatile ExecutionMode executionMode = ExecutionMode.FORK_JOIN;
+    private volatile int parallelism = Math.max(1, Runtime.getRuntime().availableProcessors());
+    private volatile Map<Integer, Duration> lastRunTimings = Collections.emptyMap();
+    // Pool of the FORK_JOIN mode, replaced when the parallelism changes; guarded by this
+    private ForkJoinPool forkJoinPool;
 
     public PayrollCalculator(EmployeeDAO employeeDAO, LoadDAO loadDAO, FuelTransactionDAO fuelDAO) {
         this.employeeDAO = employeeDAO;
@@ -64,44 +100,447 @@ public class PayrollCalculator {
         this.payrollAdvances = PayrollAdvances.getInstance();
         this.payrollOtherAdjustments = PayrollOtherAdjustments.getInstance();
         this.payrollEscrow = PayrollEscrow.getInstance();
+        this.payrollHistoryDAO = new PayrollHistoryDAO();
+        try (Connection conn = DatabaseConfig.getConnection()) {
+            PayrollInputChanges.ensure(conn);
+            appliedChangeSeq = PayrollInputChanges.latestSeq(conn);
+        } catch (SQLException e) {
+            logger.warn("Payroll input change log unavailable, results will not be cached: {}", e.getMessage());
+        }
         logger.info("PayrollCalculator initialized with all components including payment method support");
     }
 
+    /**
+     * How the per-driver inputs of a payroll run are fetched. Both modes feed the
+     * same calculation, so they produce identical rows.
+     */
+    public enum LoadingMode {
+        /** Separate queries for every driver */
+        PER_DRIVER,
+        /** One set of queries for the whole run, grouped by driver in memory */
+        BULK
+    }
+
+    /**
+     * How the per-driver calculations of a payroll run are executed. Inputs are always
+     * gathered on the calling thread first, so parallel workers only read snapshots.
+     */
+    public enum ExecutionMode {
+        /** Drivers are calculated one after another on the calling thread */
+        SEQUENTIAL,
+        /** Drivers are calculated on a dedicated ForkJoinPool sized by the parallelism */
+        FORK_JOIN,
+        /** Every driver gets a virtual thread, at most parallelism of them running at once */
+        VIRTUAL_THREADS
+    }
+
     /**
      * Calculate payroll rows for given drivers and date range
      */
     public List<PayrollRow> calculatePayrollRows(List<Employee> drivers, LocalDate start, LocalDate end) {
-        logger.info("Starting payroll calculation for {} drivers from {} to {}", 
-            drivers.size(), start, end);
-        
-        List<PayrollRow> rows = new ArrayList<>();
+        return calculatePayrollRows(drivers, start, end, LoadingMode.BULK);
+    }
+
+    /**
+     * Calculate payroll rows for given drivers and date range using the given loading mode
+     */
+    public List<PayrollRow> calculatePayrollRows(List<Employee> drivers, LocalDate start, LocalDate end,
+                                                 LoadingMode mode) {
+        return calculatePayrollRows(drivers, start, end, mode, executionMode);
+    }
+
+    /**
+     * Calculate payroll rows for given drivers and date range.
+     * Rows are returned in the order of the drivers list whatever the execution mode;
+     * per-driver timings of the last calculated run are available from {@link #getLastRunTimings()}.
+     * Drivers of a locked week are served from the week's snapshots, and the others from
+     * the cache when possible; both modes produce the same rows, so a run is answered from
+     * the cache whatever the modes it was calculated with.
+     * <p>
+     * Only a period of exactly one week is served from snapshots. Longer periods are always
+     * calculated as one run, which applies the recurring deductions, adjustments and escrow
+     * of their first week once, so locking a week inside them never changes their rows.
+     */
+    public List<PayrollRow> calculatePayrollRows(List<Employee> drivers, LocalDate start, LocalDate end,
+                                                 LoadingMode mode, ExecutionMode execution) {
+        Map<Integer, PayrollRow> frozen = getSnapshotRows(drivers, start, end);
+        if (frozen.isEmpty()) {
+            return calculateOrCached(drivers, start, end, mode, execution);
+        }
         
+        List<Employee> live = drivers.stream()
+            .filter(driver -> !frozen.containsKey(driver.getId()))
+            .collect(Collectors.toList());
+        logger.info("Serving {} of {} drivers from the payroll snapshots of the week starting {}",
+            drivers.size() - live.size(), drivers.size(), start);
+        Iterator<PayrollRow> liveRows = live.isEmpty() ? Collections.emptyIterator()
+            : calculateOrCached(live, start, end, mode, execution).iterator();
+        List<PayrollRow> result = new ArrayList<>(drivers.size());
         for (Employee driver : drivers) {
+            PayrollRow row = frozen.get(driver.getId());
+            result.add(row != null ? row : liveRows.next());
+        }
+        return result;
+    }
+    
+    /**
+     * Frozen rows of the drivers when the period is exactly one locked week, otherwise empty
+     */
+    private Map<Integer, PayrollRow> getSnapshotRows(List<Employee> drivers, LocalDate start, LocalDate end) {
+        if (drivers.isEmpty() || !end.equals(start.plusDays(6))) {
+            return Collections.emptyMap();
+        }
+        Map<Integer, Employee> byId = new HashMap<>();
+        for (Employee driver : drivers) {
+            byId.putIfAbsent(driver.getId(), driver);
+        }
+        try {
+            return payrollHistoryDAO.getSnapshotRows(start, byId);
+        } catch (DataAccessException e) {
+            logger.warn("Could not read payroll snapshots for the week starting {}, calculating it: {}",
+                start, e.getMessage());
+            return Collections.emptyMap();
+        }
+    }
+    
+    private List<PayrollRow> calculateOrCached(List<Employee> drivers, LocalDate start, LocalDate end,
+                                               LoadingMode mode, ExecutionMode execution) {
+        String key = cacheKey(drivers, start, end);
+        long seq = applyInputChanges();
+        if (seq >= 0) {
+            synchronized (calculationCache) {
+                PayrollCalculationCache cached = calculationCache.get(key);
+                if (cached != null && !cached.isExpired()) {
+                    cacheHits.increment();
+                    logger.debug("Payroll cache hit for {} drivers from {} to {} (hit ratio {})",
+                        drivers.size(), start, end, String.format("%.2f", getCacheStats().hitRatio()));
+                    return new ArrayList<>(cached.rows);
+                }
+            }
+            cacheMisses.increment();
+        }
+        
+        List<PayrollRow> rows = runPayroll(drivers, start, end, mode, execution);
+        
+        if (seq >= 0 && rows.stream().noneMatch(row -> row.driverName != null && row.driverName.contains("(ERROR:"))) {
+            synchronized (calculationCache) {
+                // Inputs changed during the run may or may not be in the rows, so do not keep them
+                if (applyInputChanges() == seq) {
+                    calculationCache.put(key, new PayrollCalculationCache(key, start, end, rows));
+                }
+            }
+        }
+        return rows;
+    }
+    
+    private List<PayrollRow> runPayroll(List<Employee> drivers, LocalDate start, LocalDate end,
+                                        LoadingMode mode, ExecutionMode execution) {
+        logger.info("Starting payroll calculation for {} drivers from {} to {} ({}, {})", 
+            drivers.size(), start, end, mode, execution);
+        long runStart = System.nanoTime();
+        int count = drivers.size();
+        
+        Map<Integer, DriverPeriodData> prefetched = Collections.emptyMap();
+        if (mode == LoadingMode.BULK && !drivers.isEmpty()) {
+            try {
+                prefetched = prefetchPeriodData(drivers, start, end);
+            } catch (Exception e) {
+                logger.error("Bulk payroll prefetch failed, falling back to per-driver queries", e);
+            }
+        }
+        
+        // Gather every input on this thread so the calculations below never touch shared state
+        DriverPeriodData[] inputs = new DriverPeriodData[count];
+        DriverPayments[] payments = new DriverPayments[count];
+        String[] loadErrors = new String[count];
+        long[] nanos = new long[count];
+        List<Employee> loadedSeparately = new ArrayList<>();
+        Set<LocalDate> separateDates = new HashSet<>();
+        for (int i = 0; i < count; i++) {
+            Employee driver = drivers.get(i);
+            inputs[i] = prefetched.get(driver.getId());
+            if (inputs[i] != null) {
+                continue;
+            }
+            long t0 = System.nanoTime();
+            try {
+                inputs[i] = loadPeriodData(driver, start, end);
+                loadedSeparately.add(driver);
+                separateDates.addAll(paymentDates(inputs[i].loads(), end));
+            } catch (Exception e) {
+                logger.error("Error loading payroll data for driver {} (ID: {})", 
+                    driver.getName(), driver.getId(), e);
+                loadErrors[i] = e.getMessage();
+            }
+            nanos[i] = System.nanoTime() - t0;
+        }
+        if (!loadedSeparately.isEmpty()) {
+            paymentMethodCalculator.preloadEffectivePaymentMethods(loadedSeparately, separateDates);
+        }
+        // Payment methods and per-load payments read the history DAO's connection and the distance service
+        for (int i = 0; i < count; i++) {
+            if (inputs[i] == null) {
+                continue;
+            }
+            Employee driver = drivers.get(i);
+            long t0 = System.nanoTime();
+            try {
+                payments[i] = resolvePayments(driver, end, inputs[i].loads());
+            } catch (Exception e) {
+                logger.error("Error resolving payment methods for driver {} (ID: {})", 
+                    driver.getName(), driver.getId(), e);
+                loadErrors[i] = e.getMessage();
+                inputs[i] = null;
+            }
+            nanos[i] += System.nanoTime() - t0;
+        }
+        
+        PayrollRow[] rows = new PayrollRow[count];
+        IntConsumer calculateOne = i -> {
+            Employee driver = drivers.get(i);
+            long t0 = System.nanoTime();
             try {
-                PayrollRow row = calculateDriverPayroll(driver, start, end);
-                rows.add(row);
+                if (inputs[i] == null) {
+                    rows[i] = createErrorRow(driver, loadErrors[i]);
+                } else {
+                    rows[i] = calculateDriverPayroll(driver, start, end, inputs[i], payments[i]);
+                }
             } catch (Exception e) {
                 logger.error("Error calculating payroll for driver {} (ID: {})", 
                     driver.getName(), driver.getId(), e);
                 // Add error row to maintain consistency
-                rows.add(createErrorRow(driver, e.getMessage()));
+                rows[i] = createErrorRow(driver, e.getMessage());
             }
+            nanos[i] += System.nanoTime() - t0;
+        };
+        runCalculations(count, calculateOne, execution);
+        
+        List<PayrollRow> result = new ArrayList<>(count);
+        Map<Integer, Duration> timings = new LinkedHashMap<>();
+        for (int i = 0; i < count; i++) {
+            Employee driver = drivers.get(i);
+            result.add(rows[i] != null ? rows[i] : createErrorRow(driver, "Calculation interrupted"));
+            timings.put(driver.getId(), Duration.ofNanos(nanos[i]));
         }
+        lastRunTimings = Collections.unmodifiableMap(timings);
+        logTimings(drivers, nanos, System.nanoTime() - runStart);
         
-        logger.info("Payroll calculation completed. Generated {} rows", rows.size());
-        return rows;
+        logger.info("Payroll calculation completed. Generated {} rows", result.size());
+        return result;
+    }
+    
+    /**
+     * Run calculateOne for indexes 0..count-1 with the requested execution mode
+     */
+    private void runCalculations(int count, IntConsumer calculateOne, ExecutionMode execution) {
+        if (execution == ExecutionMode.SEQUENTIAL || count < 2 || parallelism < 2) {
+            for (int i = 0; i < count; i++) {
+                calculateOne.accept(i);
+            }
+            return;
+        }
+        
+        if (execution == ExecutionMode.FORK_JOIN) {
+            try {
+                forkJoinPool().submit(() -> IntStream.range(0, count).parallel().forEach(calculateOne)).get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                logger.warn("Payroll calculation interrupted");
+            } catch (ExecutionException e) {
+                logger.error("Parallel payroll calculation failed", e.getCause());
+            }
+            return;
+        }
+        
+        Semaphore permits = new Semaphore(parallelism);
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < count; i++) {
+                int index = i;
+                executor.submit(() -> {
+                    permits.acquireUninterruptibly();
+                    try {
+                        calculateOne.accept(index);
+                    } finally {
+                        permits.release();
+                    }
+                });
+            }
+        }
+    }
+    
+    /**
+     * The pool of the FORK_JOIN mode, rebuilt when the parallelism changed since it was created.
+     * Runs still on a replaced pool finish there before its threads stop.
+     */
+    private synchronized ForkJoinPool forkJoinPool() {
+        int wanted = parallelism;
+        if (forkJoinPool == null || forkJoinPool.getParallelism() != wanted) {
+            if (forkJoinPool != null) {
+                forkJoinPool.shutdown();
+            }
+            forkJoinPool = new ForkJoinPool(wanted);
+        }
+        return forkJoinPool;
+    }
+    
+    /**
+     * Log a timing summary of the last run, including the slowest drivers
+     */
+    private void logTimings(List<Employee> drivers, long[] nanos, long totalNanos) {
+        if (drivers.isEmpty()) {
+            return;
+        }
+        List<Integer> slowest = IntStream.range(0, drivers.size()).boxed()
+            .sorted(Comparator.comparingLong((Integer i) -> nanos[i]).reversed())
+            .limit(5)
+            .collect(Collectors.toList());
+        String summary = slowest.stream()
+            .map(i -> drivers.get(i).getName() + "=" + nanos[i] / 1_000_000 + "ms")
+            .collect(Collectors.joining(", "));
+        logger.info("Payroll run took {}ms for {} drivers; slowest: {}",
+            totalNanos / 1_000_000, drivers.size(), summary);
+        if (logger.isDebugEnabled()) {
+            for (int i = 0; i < drivers.size(); i++) {
+                logger.debug("Driver {} (ID: {}) calculated in {}ms",
+                    drivers.get(i).getName(), drivers.get(i).getId(), nanos[i] / 1_000_000);
+            }
+        }
+    }
+    
+    /**
+     * Per-driver calculation times of the most recent run keyed by driver id, in driver order.
+     * Includes the driver's own data loading when it was not prefetched in bulk.
+     */
+    public Map<Integer, Duration> getLastRunTimings() {
+        return lastRunTimings;
+    }
+    
+    /**
+     * Set how calculatePayrollRows runs the per-driver calculations by default
+     * @param mode the execution mode
+     * @param parallelism maximum number of drivers calculated at the same time
+     */
+    public void setExecutionMode(ExecutionMode mode, int parallelism) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("Parallelism must be at least 1");
+        }
+        this.executionMode = mode;
+        this.parallelism = parallelism;
+        logger.info("Payroll execution mode set to {} with parallelism {}", mode, parallelism);
+    }
+    
+    /**
+     * Everything calculateDriverPayroll reads from storage for one driver and period
+     */
+    private record DriverPeriodData(List<Load> loads, List<FuelTransaction> fuels, double recurringFees,
+                                    List<PayrollAdvances.AdvanceEntry> advanceEntries,
+                                    PayrollOtherAdjustments.WeekSnapshot adjustments,
+                                    BigDecimal escrowBalance, BigDecimal escrowTarget,
+                                    BigDecimal escrowWeeklyDeposit) {
+    }
+    
+    /**
+     * The driver's payment method at the end of the period and the payment of every load,
+     * in load order
+     */
+    private record DriverPayments(PaymentMethodHistory current,
+                                  List<PaymentMethodCalculator.PaymentCalculationResult> loadPayments) {
+    }
+    
+    /**
+     * Look up the payment methods and calculate the load payments of a driver. Per-mile loads
+     * get their distance calculated and stored on the load.
+     */
+    private DriverPayments resolvePayments(Employee driver, LocalDate end, List<Load> loads) {
+        PaymentMethodHistory current = paymentMethodCalculator.getEffectivePaymentMethod(driver, end);
+        List<PaymentMethodCalculator.PaymentCalculationResult> loadPayments = new ArrayList<>(loads.size());
+        for (Load load : loads) {
+            loadPayments.add(paymentMethodCalculator.calculateLoadPayment(load));
+        }
+        return new DriverPayments(current, loadPayments);
+    }
+    
+    /**
+     * Fetch the inputs of a single driver with per-driver queries
+     */
+    private DriverPeriodData loadPeriodData(Employee driver, LocalDate start, LocalDate end) {
+        List<Load> loads = loadDAO.getByDriverAndDateRangeForFinancials(driver.getId(), start, end, false);
+        List<FuelTransaction> fuels = fuelDAO.getByDriverAndDateRange(driver.getName(), start, end);
+        double recurringFees = payrollRecurring.totalDeductionsForDriverWeek(driver.getId(), start);
+        List<PayrollAdvances.AdvanceEntry> advances = payrollAdvances.getEntriesForEmployee(driver.getId()).stream()
+            .filter(e -> !e.getDate().isBefore(start) && !e.getDate().isAfter(end))
+            .collect(Collectors.toList());
+        return new DriverPeriodData(loads, fuels, recurringFees, advances,
+            payrollOtherAdjustments.snapshotWeek(List.of(driver.getId()), start),
+            payrollEscrow.getCurrentBalance(driver), payrollEscrow.getTargetAmount(driver),
+            payrollEscrow.getWeeklyAmount(driver, start));
     }
     
     /**
-     * Calculate payroll for a single driver
+     * Fetch the inputs of all drivers with one query per source and warm the payment
+     * method cache for every date the calculation will ask for. Drivers without a name
+     * are left out: their fuel lookup is not name-scoped and goes through the per-driver path.
      */
-    private PayrollRow calculateDriverPayroll(Employee driver, LocalDate start, LocalDate end) {
+    private Map<Integer, DriverPeriodData> prefetchPeriodData(List<Employee> drivers, LocalDate start, LocalDate end) {
+        List<Employee> named = drivers.stream()
+            .filter(d -> d.getName() != null && !d.getName().isBlank())
+            .collect(Collectors.toList());
+        List<Integer> ids = named.stream().map(Employee::getId).collect(Collectors.toList());
+        
+        Map<Integer, List<Load>> loadsByDriver = loadDAO.getByDriversAndDateRangeForFinancials(ids, start, end, false);
+        Map<String, List<FuelTransaction>> fuelsByName = fuelDAO.getByDriverNamesAndDateRange(
+            named.stream().map(Employee::getName).collect(Collectors.toList()), start, end);
+        Map<Integer, Double> recurringByDriver = payrollRecurring.totalDeductionsByDriverForWeek(start);
+        Map<Integer, List<PayrollAdvances.AdvanceEntry>> advancesByDriver = payrollAdvances.getEntriesByEmployeeBetween(start, end);
+        Map<Integer, BigDecimal> escrowBalances = payrollEscrow.getCurrentBalances();
+        Map<Integer, BigDecimal> escrowTargets = payrollEscrow.getTargetAmounts();
+        Map<Integer, BigDecimal> escrowWeekly = payrollEscrow.getWeeklyAmounts(start);
+        PayrollOtherAdjustments.WeekSnapshot adjustments = payrollOtherAdjustments.snapshotWeek(ids, start);
+        
+        Set<LocalDate> dates = new HashSet<>();
+        loadsByDriver.values().forEach(list -> dates.addAll(paymentDates(list, end)));
+        paymentMethodCalculator.preloadEffectivePaymentMethods(named, dates);
+        
+        Map<Integer, DriverPeriodData> result = new HashMap<>();
+        for (Employee driver : named) {
+            int id = driver.getId();
+            result.put(id, new DriverPeriodData(
+                new ArrayList<>(loadsByDriver.getOrDefault(id, Collections.emptyList())),
+                new ArrayList<>(fuelsByName.getOrDefault(FuelTransactionDAO.driverKey(driver.getName()), Collections.emptyList())),
+                recurringByDriver.getOrDefault(id, 0.0),
+                advancesByDriver.getOrDefault(id, Collections.emptyList()),
+                adjustments,
+                escrowBalances.getOrDefault(id, BigDecimal.ZERO),
+                escrowTargets.getOrDefault(id, PayrollEscrow.DEFAULT_TARGET_AMOUNT),
+                escrowWeekly.getOrDefault(id, BigDecimal.ZERO)));
+        }
+        logger.info("Prefetched payroll inputs for {} drivers ({} with loads, {} with fuel)",
+            result.size(), loadsByDriver.size(), fuelsByName.size());
+        return result;
+    }
+    
+    /**
+     * Effective dates calculateDriverPayroll and calculateLoadPayment look payment methods up for
+     */
+    private static Set<LocalDate> paymentDates(List<Load> loads, LocalDate end) {
+        Set<LocalDate> dates = new HashSet<>();
+        dates.add(end);
+        for (Load load : loads) {
+            dates.add(load.getDeliveryDate() != null ? load.getDeliveryDate() : LocalDate.now());
+        }
+        return dates;
+    }
+    
+    /**
+     * Calculate payroll for a single driver from its gathered inputs only
+     */
+    private PayrollRow calculateDriverPayroll(Employee driver, LocalDate start, LocalDate end, DriverPeriodData data,
+                                              DriverPayments payments) {
         logger.debug("Calculating payroll for driver: {} (ID: {}, Truck: {})", 
             driver.getName(), driver.getId(), driver.getTruckUnit());
         
-        // Get loads and fuel transactions
-        List<Load> loads = loadDAO.getByDriverAndDateRangeForFinancials(driver.getId(), start, end);
-        List<FuelTransaction> fuels = fuelDAO.getByDriverAndDateRange(driver.getName(), start, end);
+        List<Load> loads = data.loads();
+        List<FuelTransaction> fuels = data.fuels();
         
         // Log load details for debugging
         if (logger.isDebugEnabled()) {
@@ -112,7 +551,7 @@ public class PayrollCalculator {
         }
         
         // Check if driver uses payment methods
-        PaymentMethodHistory currentPaymentMethod = paymentMethodCalculator.getEffectivePaymentMethod(driver, end);
+        PaymentMethodHistory currentPaymentMethod = payments.current();
         boolean usesPaymentMethods = currentPaymentMethod != null && 
                                    currentPaymentMethod.getPaymentType() != PaymentType.PERCENTAGE;
         
@@ -137,12 +576,12 @@ public class PayrollCalculator {
         Map<PaymentType, BigDecimal> paymentMethodTotals = new HashMap<>();
         
         // Process each load based on its payment method
-        for (Load load : loads) {
+        for (int i = 0; i < loads.size(); i++) {
+            Load load = loads.get(i);
             grossBD = grossBD.add(BigDecimal.valueOf(load.getGrossAmount()));
             
-            // Calculate driver payment for this load
-            PaymentMethodCalculator.PaymentCalculationResult loadPayment = 
-                paymentMethodCalculator.calculateLoadPayment(load);
+            // Driver payment for this load
+            PaymentMethodCalculator.PaymentCalculationResult loadPayment = payments.loadPayments().get(i);
             
             if (loadPayment.isValid()) {
                 BigDecimal loadDriverPay = BigDecimal.valueOf(loadPayment.getDriverPayment());
@@ -176,7 +615,7 @@ public class PayrollCalculator {
             .reduce(BigDecimal.ZERO, BigDecimal::add);
         
         // Get fuel deductions from adjustments panel
-        BigDecimal fuelAdjustmentsBD = payrollOtherAdjustments.getFuelDeductionsBD(driver.getId(), start);
+        BigDecimal fuelAdjustmentsBD = data.adjustments().getFuelDeductionsBD(driver.getId());
         
         // Total fuel is sum of both sources
         BigDecimal totalFuelBD = fuelTransactionsBD.add(fuelAdjustmentsBD);
@@ -198,8 +637,7 @@ public class PayrollCalculator {
             String loadNumber = load.getLoadNumber();
             BigDecimal loadGross = BigDecimal.valueOf(load.getGrossAmount());
             BigDecimal loadServiceFee = loadGross.multiply(serviceFeePct).divide(HUNDRED, 2, RoundingMode.HALF_UP);
-            BigDecimal bonusForThisLoad = BigDecimal.valueOf(
-                payrollOtherAdjustments.getBonusForLoad(driver.getId(), start, loadNumber));
+            BigDecimal bonusForThisLoad = data.adjustments().getBonusForLoadBD(driver.getId(), loadNumber);
             
             totalServiceFeeBD = totalServiceFeeBD.add(loadServiceFee);
             totalBonusBD = totalBonusBD.add(bonusForThisLoad);
@@ -239,7 +677,7 @@ public class PayrollCalculator {
         double grossAfterFuel = grossAfterSF - fuel;
 
         // Calculate recurring fees
-        double recurringFees = payrollRecurring.totalDeductionsForDriverWeek(driver.getId(), start);
+        double recurringFees = data.recurringFees();
         logger.debug("Driver {} - Recurring fees: ${}", driver.getName(), recurringFees);
         
         // Cash Advances - Only deduct repayments that are manually scheduled/recorded for the week
@@ -247,9 +685,8 @@ public class PayrollCalculator {
         BigDecimal advanceRepaymentsBD = BigDecimal.ZERO;
         
         // Get advances given this week
-        List<PayrollAdvances.AdvanceEntry> weeklyAdvances = payrollAdvances.getEntriesForEmployee(driver.getId()).stream()
+        List<PayrollAdvances.AdvanceEntry> weeklyAdvances = data.advanceEntries().stream()
             .filter(e -> e.getAdvanceType() == PayrollAdvances.AdvanceType.ADVANCE)
-            .filter(e -> !e.getDate().isBefore(start) && !e.getDate().isAfter(end))
             .collect(Collectors.toList());
         advancesGivenBD = weeklyAdvances.stream()
             .map(PayrollAdvances.AdvanceEntry::getAmount)
@@ -259,9 +696,8 @@ public class PayrollCalculator {
         
         // Only deduct repayments that are manually scheduled/recorded for the week
         // IMPORTANT: Repayments are stored as negative values, so we need to handle this correctly
-        List<PayrollAdvances.AdvanceEntry> weeklyRepayments = payrollAdvances.getEntriesForEmployee(driver.getId()).stream()
+        List<PayrollAdvances.AdvanceEntry> weeklyRepayments = data.advanceEntries().stream()
             .filter(e -> e.getAdvanceType() == PayrollAdvances.AdvanceType.REPAYMENT)
-            .filter(e -> !e.getDate().isBefore(start) && !e.getDate().isAfter(end))
             .collect(Collectors.toList());
         
         // Sum the repayments (they're already negative, so we get the absolute value for display)
@@ -273,16 +709,16 @@ public class PayrollCalculator {
         logger.debug("Driver {} - Advance repayments this week: ${}", driver.getName(), advanceRepayments);
 
         // Other deductions and reimbursements (excluding fuel which is handled separately)
-        BigDecimal otherDeductionsBD = payrollOtherAdjustments.getTotalDeductionsBD(driver.getId(), start)
+        BigDecimal otherDeductionsBD = data.adjustments().getTotalDeductionsBD(driver.getId())
             .subtract(fuelAdjustmentsBD); // Subtract fuel to avoid double counting
         double otherDeductions = otherDeductionsBD.doubleValue();
         
-        double reimbursements = payrollOtherAdjustments.getTotalReimbursements(driver.getId(), start);
+        double reimbursements = data.adjustments().getTotalReimbursementsBD(driver.getId()).doubleValue();
         double totalReimbursements = Math.abs(reimbursements) + Math.abs(totalBonus);
 
         // Escrow deposits calculation
         BigDecimal escrowDepositBD = calculateEscrowDeposit(
-            driver, start, 
+            driver, data.escrowBalance(), data.escrowTarget(), data.escrowWeeklyDeposit(),
             BigDecimal.valueOf(gross),
             BigDecimal.valueOf(grossAfterFuel), 
             BigDecimal.valueOf(recurringFees),
@@ -375,27 +811,23 @@ public class PayrollCalculator {
     /**
      * Calculate escrow deposit amount - UPDATED to use isEscrowFullyFunded()
      */
-    private BigDecimal calculateEscrowDeposit(Employee driver, LocalDate weekStart, BigDecimal gross,
+    private BigDecimal calculateEscrowDeposit(Employee driver, BigDecimal currentBalance, BigDecimal targetAmount,
+                                            BigDecimal manualEscrowDeposit, BigDecimal gross,
                                             BigDecimal grossAfterFuel, BigDecimal recurringFees,
                                             BigDecimal advanceRepayments, BigDecimal otherDeductions,
                                             BigDecimal reimbursements) {
         
-        // Use the new isEscrowFullyFunded method which only returns true when balance EXCEEDS target
-        if (payrollEscrow.isEscrowFullyFunded(driver)) {
+        // Same rule as PayrollEscrow.isEscrowFullyFunded(): only true when balance EXCEEDS target
+        if (currentBalance.compareTo(targetAmount) > 0) {
             logger.debug("Driver {} - Escrow balance exceeds target, no deduction needed", driver.getName());
             return BigDecimal.ZERO;
         }
         
-        BigDecimal remainingToTarget = payrollEscrow.getRemainingToTarget(driver);
-        BigDecimal currentBalance = payrollEscrow.getCurrentBalance(driver);
-        BigDecimal targetAmount = payrollEscrow.getTargetAmount(driver);
+        BigDecimal remainingToTarget = targetAmount.subtract(currentBalance).max(BigDecimal.ZERO);
         
         logger.debug("Driver {} - Escrow status: Current=${}, Target=${}, Remaining=${}", 
             driver.getName(), currentBalance, targetAmount, remainingToTarget);
         
-        // Check for manual weekly deposit first
-        BigDecimal manualEscrowDeposit = payrollEscrow.getWeeklyAmount(driver, weekStart);
-        
         // If manual deposit exists, use it (even if at target amount)
         if (manualEscrowDeposit.compareTo(BigDecimal.ZERO) > 0) {
             logger.info("Manual escrow deposit for driver {}: ${} (Current balance: ${}, Target: ${})", 
@@ -518,8 +950,73 @@ public class PayrollCalculator {
      * Clear calculation cache
      */
     public void clearCache() {
-        calculationCache.clear();
-        logger.debug("Calculation cache cleared");
+        synchronized (calculationCache) {
+            calculationCache.clear();
+        }
+        CacheStats stats = getCacheStats();
+        logger.debug("Calculation cache cleared ({} hits, {} misses, hit ratio {})",
+            stats.hits(), stats.misses(), String.format("%.2f", stats.hitRatio()));
+    }
+    
+    /**
+     * Counters of the calculation cache since the calculator was created
+     * @param evictions entries dropped to keep the cache within its capacity
+     * @param invalidations entries dropped because an input of their period changed
+     */
+    public record CacheStats(long hits, long misses, long evictions, long invalidations, int size) {
+        public double hitRatio() {
+            long lookups = hits + misses;
+            return lookups == 0 ? 0 : (double) hits / lookups;
+        }
+    }
+    
+    public CacheStats getCacheStats() {
+        int size;
+        synchronized (calculationCache) {
+            size = calculationCache.size();
+        }
+        return new CacheStats(cacheHits.sum(), cacheMisses.sum(), cacheEvictions.sum(),
+            cacheInvalidations.sum(), size);
+    }
+    
+    /**
+     * Drop the cached runs reached by the payroll inputs changed since the last call.
+     * @return sequence number of the last change applied, or -1 when nothing can be cached
+     */
+    private long applyInputChanges() {
+        synchronized (calculationCache) {
+            if (appliedChangeSeq < 0) {
+                return -1;
+            }
+            try (Connection conn = DatabaseConfig.getReadConnection()) {
+                PayrollInputChanges.Changes changes = PayrollInputChanges.since(conn, appliedChangeSeq);
+                if (!changes.isEmpty()) {
+                    Iterator<PayrollCalculationCache> entries = calculationCache.values().iterator();
+                    while (entries.hasNext()) {
+                        PayrollCalculationCache entry = entries.next();
+                        if (changes.touches(entry.start, entry.end)) {
+                            entries.remove();
+                            cacheInvalidations.increment();
+                        }
+                    }
+                }
+                appliedChangeSeq = changes.seq();
+                return appliedChangeSeq;
+            } catch (SQLException e) {
+                logger.warn("Could not read payroll input changes, clearing the calculation cache: {}", e.getMessage());
+                cacheInvalidations.add(calculationCache.size());
+                calculationCache.clear();
+                return -1;
+            }
+        }
+    }
+    
+    private static String cacheKey(List<Employee> drivers, LocalDate start, LocalDate end) {
+        StringBuilder key = new StringBuilder().append(start).append('/').append(end).append(':');
+        for (Employee driver : drivers) {
+            key.append(driver.getId()).append(',');
+        }
+        return key.toString();
     }
     
     /**
@@ -779,15 +1276,17 @@ public class PayrollCalculator {
      */
     private static class PayrollCalculationCache {
         private final String key;
+        private final LocalDate start;
+        private final LocalDate end;
         private final LocalDate calculationDate;
         private final List<PayrollRow> rows;
-        private final Map<String, Double> totals;
         
-        public PayrollCalculationCache(String key, List<PayrollRow> rows, Map<String, Double> totals) {
+        public PayrollCalculationCache(String key, LocalDate start, LocalDate end, List<PayrollRow> rows) {
             this.key = key;
+            this.start = start;
+            this.end = end;
             this.calculationDate = LocalDate.now();
             this.rows = new ArrayList<>(rows);
-            this.totals = new HashMap<>(totals);
         }
         
         public boolean isExpired() {
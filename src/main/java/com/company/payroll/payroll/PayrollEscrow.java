@@ -1,15 +1,29 @@
 package com.company.payroll.payroll;
 
+import com.company.payroll.database.DatabaseConfig;
 import com.company.payroll.employees.Employee;
+import com.company.payroll.exception.DataAccessException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.io.*;
+import java.io.Serializable;
 import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
 import java.time.LocalDate;
 import java.util.*;
-import java.util.stream.Collectors;
 
+/**
+ * Escrow ledger of the drivers, stored in the {@code escrow_ledger} table.
+ * <p>
+ * Entries are appended as they are recorded and never rewritten. Every query reads
+ * only the rows of the driver or week it is about through the
+ * {@code (driver_id, week_start)} index. Entries and targets kept in the old
+ * {@code .dat} files are imported once, the first time the tables are empty.
+ */
 public class PayrollEscrow implements Serializable {
     private static final Logger logger = LoggerFactory.getLogger(PayrollEscrow.class);
     private static final long serialVersionUID = 1L;
@@ -19,8 +33,17 @@ public class PayrollEscrow implements Serializable {
     // Default target escrow amount
     public static final BigDecimal DEFAULT_TARGET_AMOUNT = new BigDecimal("3000.00");
     
-    private final List<EscrowEntry> entries = new ArrayList<>();
-    private final Map<Integer, BigDecimal> driverTargetAmounts = new HashMap<>();
+    private static final String SELECT_ENTRIES =
+        "SELECT id, driver_id, driver_name, entry_date, week_start, type, amount, notes FROM escrow_ledger";
+    private static final String INSERT_ENTRY = """
+        INSERT INTO escrow_ledger (id, driver_id, driver_name, entry_date, week_start, type, amount, notes)
+        VALUES (?, ?, ?, ?, ?, ?, ?, ?)
+        """;
+    private static final String UPSERT_TARGET = """
+        INSERT INTO escrow_targets (driver_id, target_amount) VALUES (?, ?)
+        ON CONFLICT(driver_id) DO UPDATE SET target_amount = excluded.target_amount
+        """;
+    
     private static PayrollEscrow instance;
     
     public enum EscrowType {
@@ -53,6 +76,18 @@ public class PayrollEscrow implements Serializable {
             this.notes = notes;
         }
         
+        private EscrowEntry(String id, LocalDate date, LocalDate weekStart, int driverId, String driverName,
+                            EscrowType type, BigDecimal amount, String notes) {
+            this.id = id;
+            this.date = date;
+            this.weekStart = weekStart;
+            this.driverId = driverId;
+            this.driverName = driverName;
+            this.type = type;
+            this.amount = amount;
+            this.notes = notes;
+        }
+        
         // Getters
         public String getId() { return id; }
         public LocalDate getDate() { return date; }
@@ -68,8 +103,8 @@ public class PayrollEscrow implements Serializable {
     }
     
     private PayrollEscrow() {
-        loadData();
-        loadTargetAmounts();
+        ensureTables();
+        importLegacyData();
     }
     
     public static PayrollEscrow getInstance() {
@@ -79,25 +114,146 @@ public class PayrollEscrow implements Serializable {
         return instance;
     }
     
+    private void ensureTables() {
+        try (Connection conn = DatabaseConfig.getConnection();
+             Statement stmt = conn.createStatement()) {
+            stmt.execute("""
+                CREATE TABLE IF NOT EXISTS escrow_ledger (
+                    id TEXT PRIMARY KEY,
+                    driver_id INTEGER NOT NULL,
+                    driver_name TEXT,
+                    entry_date TEXT NOT NULL,
+                    week_start TEXT,
+                    type TEXT NOT NULL,
+                    amount TEXT NOT NULL,
+                    notes TEXT
+                )
+            """);
+            stmt.execute("CREATE INDEX IF NOT EXISTS idx_escrow_ledger_driver_week ON escrow_ledger(driver_id, week_start)");
+            stmt.execute("CREATE INDEX IF NOT EXISTS idx_escrow_ledger_week ON escrow_ledger(week_start)");
+            stmt.execute("""
+                CREATE TABLE IF NOT EXISTS escrow_targets (
+                    driver_id INTEGER PRIMARY KEY,
+                    target_amount TEXT NOT NULL
+                )
+            """);
+        } catch (SQLException e) {
+            logger.error("Error ensuring escrow tables: {}", e.getMessage(), e);
+        }
+    }
+    
+    /**
+     * Move entries and targets of the old serialization files into the tables
+     */
+    @SuppressWarnings("unchecked")
+    private void importLegacyData() {
+        if (isEmpty("escrow_ledger") && LegacyLedgerFile.read(DATA_FILE) instanceof List<?> loaded) {
+            try (Connection conn = DatabaseConfig.getConnection()) {
+                conn.setAutoCommit(false);
+                try (PreparedStatement ps = conn.prepareStatement(INSERT_ENTRY)) {
+                    for (EscrowEntry entry : (List<EscrowEntry>) loaded) {
+                        bindEntry(ps, entry);
+                        ps.addBatch();
+                    }
+                    ps.executeBatch();
+                    conn.commit();
+                } catch (SQLException e) {
+                    conn.rollback();
+                    throw e;
+                }
+                LegacyLedgerFile.retire(DATA_FILE);
+                logger.info("Imported {} escrow entries from {}", loaded.size(), DATA_FILE);
+            } catch (SQLException | ClassCastException e) {
+                logger.error("Failed to import escrow entries from {}", DATA_FILE, e);
+            }
+        }
+        if (isEmpty("escrow_targets") && LegacyLedgerFile.read(TARGET_AMOUNTS_FILE) instanceof Map<?, ?> loaded) {
+            try (Connection conn = DatabaseConfig.getConnection()) {
+                conn.setAutoCommit(false);
+                try (PreparedStatement ps = conn.prepareStatement(UPSERT_TARGET)) {
+                    for (Map.Entry<Integer, BigDecimal> target : ((Map<Integer, BigDecimal>) loaded).entrySet()) {
+                        ps.setInt(1, target.getKey());
+                        ps.setString(2, target.getValue().toPlainString());
+                        ps.addBatch();
+                    }
+                    ps.executeBatch();
+                    conn.commit();
+                } catch (SQLException e) {
+                    conn.rollback();
+                    throw e;
+                }
+                LegacyLedgerFile.retire(TARGET_AMOUNTS_FILE);
+                logger.info("Imported {} driver target amounts from {}", loaded.size(), TARGET_AMOUNTS_FILE);
+            } catch (SQLException | ClassCastException e) {
+                logger.error("Failed to import target amounts from {}", TARGET_AMOUNTS_FILE, e);
+            }
+        }
+    }
+    
+    private static boolean isEmpty(String table) {
+        try (Connection conn = DatabaseConfig.getConnection();
+             Statement stmt = conn.createStatement();
+             ResultSet rs = stmt.executeQuery("SELECT 1 FROM " + table + " LIMIT 1")) {
+            return !rs.next();
+        } catch (SQLException e) {
+            logger.error("Error checking {}: {}", table, e.getMessage(), e);
+            return false;
+        }
+    }
+    
     // Target amount management
     public void setTargetAmount(Employee driver, BigDecimal amount) {
         if (driver != null && amount != null && amount.compareTo(BigDecimal.ZERO) > 0) {
-            driverTargetAmounts.put(driver.getId(), amount);
-            saveTargetAmounts();
+            try (Connection conn = DatabaseConfig.getConnection();
+                 PreparedStatement ps = conn.prepareStatement(UPSERT_TARGET)) {
+                ps.setInt(1, driver.getId());
+                ps.setString(2, amount.toPlainString());
+                ps.executeUpdate();
+            } catch (SQLException e) {
+                logger.error("Failed to save target amount for driver {}", driver.getName(), e);
+                throw new DataAccessException("Failed to save escrow target amount", e);
+            }
             logger.info("Set target escrow amount for driver {} to ${}", driver.getName(), amount);
         }
     }
     
     public BigDecimal getTargetAmount(Employee driver) {
         if (driver == null) return DEFAULT_TARGET_AMOUNT;
-        return driverTargetAmounts.getOrDefault(driver.getId(), DEFAULT_TARGET_AMOUNT);
+        try (Connection conn = DatabaseConfig.getConnection();
+             PreparedStatement ps = conn.prepareStatement("SELECT target_amount FROM escrow_targets WHERE driver_id = ?")) {
+            ps.setInt(1, driver.getId());
+            try (ResultSet rs = ps.executeQuery()) {
+                return rs.next() ? new BigDecimal(rs.getString(1)) : DEFAULT_TARGET_AMOUNT;
+            }
+        } catch (SQLException e) {
+            logger.error("Failed to load target amount for driver {}", driver.getName(), e);
+            return DEFAULT_TARGET_AMOUNT;
+        }
+    }
+    
+    /**
+     * Stored target amounts keyed by driver id, read in one query; same values as
+     * {@link #getTargetAmount(Employee)} for the whole fleet. Drivers without a stored
+     * target are absent ({@link #DEFAULT_TARGET_AMOUNT}).
+     */
+    public Map<Integer, BigDecimal> getTargetAmounts() {
+        Map<Integer, BigDecimal> targets = new HashMap<>();
+        try (Connection conn = DatabaseConfig.getConnection();
+             Statement stmt = conn.createStatement();
+             ResultSet rs = stmt.executeQuery("SELECT driver_id, target_amount FROM escrow_targets")) {
+            while (rs.next()) {
+                targets.put(rs.getInt(1), new BigDecimal(rs.getString(2)));
+            }
+        } catch (SQLException e) {
+            logger.error("Failed to load escrow target amounts", e);
+        }
+        return targets;
     }
     
     // Entry management
     public EscrowEntry addDeposit(Employee driver, LocalDate transactionDate, LocalDate weekStart, BigDecimal amount, String notes) {
         EscrowEntry entry = new EscrowEntry(transactionDate, weekStart, driver, EscrowType.DEPOSIT, amount, notes);
-        entries.add(entry);
-        saveData();
+        insertEntry(entry);
         logger.info("Added escrow deposit for driver {} amount ${} on {}", driver.getName(), amount, transactionDate);
         return entry;
     }
@@ -111,15 +267,13 @@ public class PayrollEscrow implements Serializable {
         }
         
         EscrowEntry entry = new EscrowEntry(transactionDate, weekStart, driver, EscrowType.WITHDRAWAL, amount, notes);
-        entries.add(entry);
-        saveData();
+        insertEntry(entry);
         logger.info("Added escrow withdrawal for driver {} amount ${} on {}", driver.getName(), amount, transactionDate);
         return entry;
     }
     
     public void deleteEntry(String entryId) {
-        entries.removeIf(e -> e.getId().equals(entryId));
-        saveData();
+        executeUpdate("DELETE FROM escrow_ledger WHERE id = ?", entryId);
         logger.info("Deleted escrow entry {}", entryId);
     }
     
@@ -127,17 +281,13 @@ public class PayrollEscrow implements Serializable {
      * Clear all escrow data (for testing/debugging)
      */
     public void clearAllData() {
-        entries.clear();
-        saveData();
+        executeUpdate("DELETE FROM escrow_ledger");
         logger.info("Cleared all escrow data");
     }
     
     // Query methods
     public List<EscrowEntry> getEntriesForDriver(int driverId) {
-        List<EscrowEntry> driverEntries = entries.stream()
-            .filter(e -> e.getDriverId() == driverId)
-            .sorted(Comparator.comparing(EscrowEntry::getDate))
-            .collect(Collectors.toList());
+        List<EscrowEntry> driverEntries = queryEntries(SELECT_ENTRIES + " WHERE driver_id = ? ORDER BY entry_date, rowid", driverId);
             
         // Calculate running balance
         BigDecimal runningBalance = BigDecimal.ZERO;
@@ -158,8 +308,7 @@ public class PayrollEscrow implements Serializable {
     public List<EscrowEntry> getAllEntries() {
         // Create a list with all entries and calculate balances
         Map<Integer, BigDecimal> balances = new HashMap<>();
-        List<EscrowEntry> allEntriesSorted = new ArrayList<>(entries);
-        allEntriesSorted.sort(Comparator.comparing(EscrowEntry::getDate));
+        List<EscrowEntry> allEntriesSorted = queryEntries(SELECT_ENTRIES + " ORDER BY entry_date, rowid");
         
         for (EscrowEntry entry : allEntriesSorted) {
             BigDecimal currentBalance = balances.getOrDefault(entry.getDriverId(), BigDecimal.ZERO);
@@ -181,8 +330,7 @@ public class PayrollEscrow implements Serializable {
     public BigDecimal getCurrentBalance(Employee driver) {
         if (driver == null) return BigDecimal.ZERO;
         
-        return entries.stream()
-            .filter(e -> e.getDriverId() == driver.getId())
+        return queryEntries(SELECT_ENTRIES + " WHERE driver_id = ?", driver.getId()).stream()
             .map(e -> e.type == EscrowType.DEPOSIT ? e.getAmount() : e.getAmount().negate())
             .reduce(BigDecimal.ZERO, BigDecimal::add);
     }
@@ -190,21 +338,15 @@ public class PayrollEscrow implements Serializable {
     public BigDecimal getTotalDeposits(Employee driver) {
         if (driver == null) return BigDecimal.ZERO;
         
-        return entries.stream()
-            .filter(e -> e.getDriverId() == driver.getId())
-            .filter(e -> e.type == EscrowType.DEPOSIT)
-            .map(EscrowEntry::getAmount)
-            .reduce(BigDecimal.ZERO, BigDecimal::add);
+        return sumAmounts("SELECT amount FROM escrow_ledger WHERE driver_id = ? AND type = ?",
+            driver.getId(), EscrowType.DEPOSIT.name());
     }
     
     public BigDecimal getTotalWithdrawals(Employee driver) {
         if (driver == null) return BigDecimal.ZERO;
         
-        return entries.stream()
-            .filter(e -> e.getDriverId() == driver.getId())
-            .filter(e -> e.type == EscrowType.WITHDRAWAL)
-            .map(EscrowEntry::getAmount)
-            .reduce(BigDecimal.ZERO, BigDecimal::add);
+        return sumAmounts("SELECT amount FROM escrow_ledger WHERE driver_id = ? AND type = ?",
+            driver.getId(), EscrowType.WITHDRAWAL.name());
     }
     
     public BigDecimal getRemainingToTarget(Employee driver) {
@@ -246,60 +388,118 @@ public class PayrollEscrow implements Serializable {
     public BigDecimal getWeeklyAmount(Employee driver, LocalDate weekStart) {
         if (driver == null || weekStart == null) return BigDecimal.ZERO;
         
-        return entries.stream()
-            .filter(e -> e.getDriverId() == driver.getId())
-            .filter(e -> e.getWeekStart() != null && e.getWeekStart().equals(weekStart))
-            .filter(e -> e.type == EscrowType.DEPOSIT)
-            .map(EscrowEntry::getAmount)
-            .reduce(BigDecimal.ZERO, BigDecimal::add);
+        return sumAmounts("SELECT amount FROM escrow_ledger WHERE driver_id = ? AND week_start = ? AND type = ?",
+            driver.getId(), weekStart.toString(), EscrowType.DEPOSIT.name());
+    }
+    
+    /**
+     * Current balance of every driver with escrow activity, in a single pass over the ledger.
+     * Drivers without entries are absent (balance zero).
+     */
+    public Map<Integer, BigDecimal> getCurrentBalances() {
+        Map<Integer, BigDecimal> balances = new HashMap<>();
+        for (EscrowEntry e : queryEntries(SELECT_ENTRIES)) {
+            BigDecimal signed = e.type == EscrowType.DEPOSIT ? e.getAmount() : e.getAmount().negate();
+            balances.merge(e.getDriverId(), signed, BigDecimal::add);
+        }
+        return balances;
+    }
+    
+    /**
+     * Deposits recorded for the given week keyed by driver id; same sums as
+     * {@link #getWeeklyAmount(Employee, LocalDate)} for the whole fleet.
+     */
+    public Map<Integer, BigDecimal> getWeeklyAmounts(LocalDate weekStart) {
+        Map<Integer, BigDecimal> amounts = new HashMap<>();
+        if (weekStart == null) return amounts;
+        
+        for (EscrowEntry e : queryEntries(SELECT_ENTRIES + " WHERE week_start = ? AND type = ?",
+                weekStart.toString(), EscrowType.DEPOSIT.name())) {
+            amounts.merge(e.getDriverId(), e.getAmount(), BigDecimal::add);
+        }
+        return amounts;
     }
     
     // Persistence methods
-    private void saveData() {
-        try (ObjectOutputStream oos = new ObjectOutputStream(new FileOutputStream(DATA_FILE))) {
-            oos.writeObject(entries);
-            logger.debug("Escrow entries saved to {}", DATA_FILE);
-        } catch (IOException e) {
-            logger.error("Failed to save escrow data", e);
+    private void insertEntry(EscrowEntry entry) {
+        try (Connection conn = DatabaseConfig.getConnection();
+             PreparedStatement ps = conn.prepareStatement(INSERT_ENTRY)) {
+            bindEntry(ps, entry);
+            ps.executeUpdate();
+        } catch (SQLException e) {
+            logger.error("Failed to save escrow entry {}", entry.getId(), e);
+            throw new DataAccessException("Failed to save escrow entry", e);
         }
     }
     
-    @SuppressWarnings("unchecked")
-    private void loadData() {
-        File file = new File(DATA_FILE);
-        if (file.exists()) {
-            try (ObjectInputStream ois = new ObjectInputStream(new FileInputStream(file))) {
-                List<EscrowEntry> loaded = (List<EscrowEntry>) ois.readObject();
-                entries.clear();
-                entries.addAll(loaded);
-                logger.info("Loaded {} escrow entries from {}", entries.size(), DATA_FILE);
-            } catch (Exception e) {
-                logger.error("Failed to load escrow data", e);
+    private static void bindEntry(PreparedStatement ps, EscrowEntry entry) throws SQLException {
+        ps.setString(1, entry.id);
+        ps.setInt(2, entry.driverId);
+        ps.setString(3, entry.driverName);
+        ps.setString(4, entry.date.toString());
+        ps.setString(5, entry.weekStart != null ? entry.weekStart.toString() : null);
+        ps.setString(6, entry.type.name());
+        ps.setString(7, entry.amount.toPlainString());
+        ps.setString(8, entry.notes);
+    }
+    
+    private List<EscrowEntry> queryEntries(String sql, Object... params) {
+        List<EscrowEntry> result = new ArrayList<>();
+        try (Connection conn = DatabaseConfig.getConnection();
+             PreparedStatement ps = conn.prepareStatement(sql)) {
+            for (int i = 0; i < params.length; i++) {
+                ps.setObject(i + 1, params[i]);
+            }
+            try (ResultSet rs = ps.executeQuery()) {
+                while (rs.next()) {
+                    String weekStart = rs.getString("week_start");
+                    result.add(new EscrowEntry(
+                        rs.getString("id"),
+                        LocalDate.parse(rs.getString("entry_date")),
+                        weekStart != null ? LocalDate.parse(weekStart) : null,
+                        rs.getInt("driver_id"),
+                        rs.getString("driver_name"),
+                        EscrowType.valueOf(rs.getString("type")),
+                        new BigDecimal(rs.getString("amount")),
+                        rs.getString("notes")));
+                }
             }
+        } catch (SQLException e) {
+            logger.error("Failed to load escrow entries", e);
+            throw new DataAccessException("Failed to load escrow entries", e);
         }
+        return result;
     }
     
-    private void saveTargetAmounts() {
-        try (ObjectOutputStream oos = new ObjectOutputStream(new FileOutputStream(TARGET_AMOUNTS_FILE))) {
-            oos.writeObject(driverTargetAmounts);
-            logger.debug("Target amounts saved to {}", TARGET_AMOUNTS_FILE);
-        } catch (IOException e) {
-            logger.error("Failed to save target amounts", e);
+    private BigDecimal sumAmounts(String sql, Object... params) {
+        BigDecimal total = BigDecimal.ZERO;
+        try (Connection conn = DatabaseConfig.getConnection();
+             PreparedStatement ps = conn.prepareStatement(sql)) {
+            for (int i = 0; i < params.length; i++) {
+                ps.setObject(i + 1, params[i]);
+            }
+            try (ResultSet rs = ps.executeQuery()) {
+                while (rs.next()) {
+                    total = total.add(new BigDecimal(rs.getString(1)));
+                }
+            }
+        } catch (SQLException e) {
+            logger.error("Failed to sum escrow amounts", e);
+            throw new DataAccessException("Failed to load escrow amounts", e);
         }
+        return total;
     }
     
-    @SuppressWarnings("unchecked")
-    private void loadTargetAmounts() {
-        File file = new File(TARGET_AMOUNTS_FILE);
-        if (file.exists()) {
-            try (ObjectInputStream ois = new ObjectInputStream(new FileInputStream(file))) {
-                Map<Integer, BigDecimal> loaded = (Map<Integer, BigDecimal>) ois.readObject();
-                driverTargetAmounts.clear();
-                driverTargetAmounts.putAll(loaded);
-                logger.info("Loaded {} driver target amounts from {}", driverTargetAmounts.size(), TARGET_AMOUNTS_FILE);
-            } catch (Exception e) {
-                logger.error("Failed to load target amounts", e);
+    private void executeUpdate(String sql, Object... params) {
+        try (Connection conn = DatabaseConfig.getConnection();
+             PreparedStatement ps = conn.prepareStatement(sql)) {
+            for (int i = 0; i < params.length; i++) {
+                ps.setObject(i + 1, params[i]);
             }
+            ps.executeUpdate();
+        } catch (SQLException e) {
+            logger.error("Failed to update escrow ledger", e);
+            throw new DataAccessException("Failed to update escrow ledger", e);
         }
     }
-}
\ No newline at end of file
+}
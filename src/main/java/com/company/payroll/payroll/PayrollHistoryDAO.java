@@ -1,22 +1,32 @@
 package com.company.payroll.payroll;
 
+import com.company.payroll.employees.Employee;
 import com.company.payroll.exception.DataAccessException;
 import com.company.payroll.database.DatabaseConfig;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.IOException;
 import java.sql.*;
 import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
- * Data Access Object for managing payroll history records
+ * Data Access Object for managing payroll history records.
+ * <p>
+ * Locking a week also freezes its rows in {@code payroll_snapshots}, one
+ * {@link PayrollSnapshotCodec} blob per (week, driver), so the locked week can be served
+ * without recalculating it from loads and fuel.
  */
 public class PayrollHistoryDAO {
     private static final Logger logger = LoggerFactory.getLogger(PayrollHistoryDAO.class);
     private static final String DB_URL = "jdbc:sqlite:payroll.db";
     
+    private static volatile boolean ensured;
+    
     private final Connection connection;
     
     public PayrollHistoryDAO() {
@@ -25,6 +35,54 @@ public class PayrollHistoryDAO {
     
     public PayrollHistoryDAO(Connection connection) {
         this.connection = connection;
+        ensureSchema();
+    }
+    
+    /**
+     * Create the history table, which was only created by DatabaseMigration before, and
+     * the snapshot table.
+     */
+    private static synchronized void ensureSchema() {
+        if (ensured) {
+            return;
+        }
+        try (Connection conn = DatabaseConfig.getConnection();
+             Statement stmt = conn.createStatement()) {
+            stmt.execute("""
+                CREATE TABLE IF NOT EXISTS payroll_history (
+                    id INTEGER PRIMARY KEY AUTOINCREMENT,
+                    employee_id INTEGER NOT NULL,
+                    payroll_date DATE NOT NULL,
+                    driver_name TEXT NOT NULL,
+                    truck_unit TEXT,
+                    load_count INTEGER,
+                    gross REAL,
+                    total_deductions REAL,
+                    net_pay REAL,
+                    driver_percent_used REAL,
+                    company_percent_used REAL,
+                    service_fee_percent_used REAL,
+                    locked BOOLEAN DEFAULT 0,
+                    created_date TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+                    FOREIGN KEY (employee_id) REFERENCES employees(id)
+                )
+            """);
+            stmt.execute("CREATE INDEX IF NOT EXISTS idx_payroll_history_date ON payroll_history(payroll_date)");
+            stmt.execute("""
+                CREATE TABLE IF NOT EXISTS payroll_snapshots (
+                    payroll_date TEXT NOT NULL,
+                    employee_id INTEGER NOT NULL,
+                    format_version INTEGER NOT NULL,
+                    row_data BLOB NOT NULL,
+                    created_at INTEGER NOT NULL,
+                    PRIMARY KEY (payroll_date, employee_id)
+                )
+            """);
+            ensured = true;
+        } catch (SQLException e) {
+            logger.error("Failed to initialize payroll history tables: {}", e.getMessage(), e);
+            throw new DataAccessException("Failed to initialize payroll history tables", e);
+        }
     }
     
     private Connection getConnection() throws SQLException {
@@ -35,7 +93,8 @@ public class PayrollHistoryDAO {
     }
     
     /**
-     * Save payroll history for a specific week
+     * Save payroll history for a specific week. The rows replace the history of the same
+     * drivers for that week; a locked week also stores their snapshots, all in one transaction.
      */
     public void savePayrollHistory(List<PayrollCalculator.PayrollRow> payrollRows, LocalDate weekStart, boolean locked) throws DataAccessException {
         String sql = """
@@ -46,33 +105,59 @@ public class PayrollHistoryDAO {
             VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
         """;
         
-        try (Connection conn = getConnection();
-             PreparedStatement pstmt = conn.prepareStatement(sql)) {
-            
-            conn.setAutoCommit(false);
-            
-            for (PayrollCalculator.PayrollRow row : payrollRows) {
-                pstmt.setInt(1, row.driverId);
-                pstmt.setDate(2, Date.valueOf(weekStart));
-                pstmt.setString(3, row.driverName);
-                pstmt.setString(4, row.truckUnit);
-                pstmt.setInt(5, row.loadCount);
-                pstmt.setDouble(6, row.gross);
-                pstmt.setDouble(7, row.getTotalDeductions());
-                pstmt.setDouble(8, row.netPay);
-                pstmt.setDouble(9, row.driverPercent);
-                pstmt.setDouble(10, row.companyPercent);
-                pstmt.setDouble(11, row.serviceFeePercent);
-                pstmt.setBoolean(12, locked);
-                
-                pstmt.addBatch();
-            }
-            
-            pstmt.executeBatch();
-            conn.commit();
-            conn.setAutoCommit(true);
+        try {
+            DatabaseConfig.write(() -> {
+                try (Connection conn = DatabaseConfig.getConnection();
+                     PreparedStatement delete = conn.prepareStatement(
+                         "DELETE FROM payroll_history WHERE payroll_date = ? AND employee_id = ?");
+                     PreparedStatement pstmt = conn.prepareStatement(sql);
+                     PreparedStatement snapshot = conn.prepareStatement("""
+                         INSERT OR REPLACE INTO payroll_snapshots
+                         (payroll_date, employee_id, format_version, row_data, created_at)
+                         VALUES (?, ?, ?, ?, ?)
+                         """)) {
+                    
+                    long now = System.currentTimeMillis();
+                    for (PayrollCalculator.PayrollRow row : payrollRows) {
+                        delete.setDate(1, Date.valueOf(weekStart));
+                        delete.setInt(2, row.driverId);
+                        delete.addBatch();
+                        
+                        pstmt.setInt(1, row.driverId);
+                        pstmt.setDate(2, Date.valueOf(weekStart));
+                        pstmt.setString(3, row.driverName);
+                        pstmt.setString(4, row.truckUnit);
+                        pstmt.setInt(5, row.loadCount);
+                        pstmt.setDouble(6, row.gross);
+                        pstmt.setDouble(7, row.getTotalDeductions());
+                        pstmt.setDouble(8, row.netPay);
+                        pstmt.setDouble(9, row.driverPercent);
+                        pstmt.setDouble(10, row.companyPercent);
+                        pstmt.setDouble(11, row.serviceFeePercent);
+                        pstmt.setBoolean(12, locked);
+                        pstmt.addBatch();
+                        
+                        if (locked) {
+                            snapshot.setString(1, weekStart.toString());
+                            snapshot.setInt(2, row.driverId);
+                            snapshot.setInt(3, PayrollSnapshotCodec.VERSION);
+                            snapshot.setBytes(4, PayrollSnapshotCodec.encode(row));
+                            snapshot.setLong(5, now);
+                            snapshot.addBatch();
+                        }
+                    }
+                    
+                    delete.executeBatch();
+                    pstmt.executeBatch();
+                    if (locked) {
+                        snapshot.executeBatch();
+                    }
+                }
+                return null;
+            });
             
-            logger.info("Saved payroll history for {} drivers for week starting {}", payrollRows.size(), weekStart);
+            logger.info("Saved payroll history for {} drivers for week starting {}{}", payrollRows.size(), weekStart,
+                locked ? " with snapshots" : "");
             
         } catch (SQLException e) {
             logger.error("Failed to save payroll history", e);
@@ -81,16 +166,21 @@ public class PayrollHistoryDAO {
     }
     
     /**
-     * Delete payroll history for a specific week
+     * Delete payroll history and snapshots for a specific week
      */
     public void deletePayrollHistory(LocalDate weekStart) throws DataAccessException {
         String sql = "DELETE FROM payroll_history WHERE payroll_date = ?";
         
-        try (Connection conn = getConnection();
-             PreparedStatement pstmt = conn.prepareStatement(sql)) {
-            
-            pstmt.setDate(1, Date.valueOf(weekStart));
-            int deleted = pstmt.executeUpdate();
+        try {
+            int deleted = DatabaseConfig.write(() -> {
+                try (Connection conn = DatabaseConfig.getConnection();
+                     PreparedStatement pstmt = conn.prepareStatement(sql)) {
+                    pstmt.setDate(1, Date.valueOf(weekStart));
+                    int count = pstmt.executeUpdate();
+                    deleteSnapshots(conn, weekStart);
+                    return count;
+                }
+            });
             
             logger.info("Deleted {} payroll history records for week starting {}", deleted, weekStart);
             
@@ -106,12 +196,20 @@ public class PayrollHistoryDAO {
     public void updateLockStatus(LocalDate weekStart, boolean locked) throws DataAccessException {
         String sql = "UPDATE payroll_history SET locked = ? WHERE payroll_date = ?";
         
-        try (Connection conn = getConnection();
-             PreparedStatement pstmt = conn.prepareStatement(sql)) {
-            
-            pstmt.setBoolean(1, locked);
-            pstmt.setDate(2, Date.valueOf(weekStart));
-            int updated = pstmt.executeUpdate();
+        try {
+            int updated = DatabaseConfig.write(() -> {
+                try (Connection conn = DatabaseConfig.getConnection();
+                     PreparedStatement pstmt = conn.prepareStatement(sql)) {
+                    pstmt.setBoolean(1, locked);
+                    pstmt.setDate(2, Date.valueOf(weekStart));
+                    int count = pstmt.executeUpdate();
+                    if (!locked) {
+                        // An unlocked week is calculated again; snapshots are only written when locking
+                        deleteSnapshots(conn, weekStart);
+                    }
+                    return count;
+                }
+            });
             
             logger.info("Updated lock status to {} for {} records for week starting {}", 
                 locked, updated, weekStart);
@@ -242,6 +340,53 @@ public class PayrollHistoryDAO {
         return lockedWeeks;
     }
     
+    /**
+     * Frozen rows of a locked week by driver id, read with one indexed query.
+     * Snapshots of an unknown format version are left out, so those drivers are calculated again.
+     * @param drivers drivers by id, attached to the loads of their rows
+     */
+    public Map<Integer, PayrollCalculator.PayrollRow> getSnapshotRows(LocalDate weekStart,
+                                                                      Map<Integer, Employee> drivers) throws DataAccessException {
+        String sql = "SELECT employee_id, row_data FROM payroll_snapshots WHERE payroll_date = ?";
+        Map<Integer, PayrollCalculator.PayrollRow> rows = new HashMap<>();
+        
+        try (Connection conn = DatabaseConfig.getReadConnection();
+             PreparedStatement pstmt = conn.prepareStatement(sql)) {
+            
+            pstmt.setString(1, weekStart.toString());
+            
+            try (ResultSet rs = pstmt.executeQuery()) {
+                while (rs.next()) {
+                    int employeeId = rs.getInt("employee_id");
+                    if (!drivers.containsKey(employeeId)) {
+                        continue;
+                    }
+                    PayrollCalculator.PayrollRow row = PayrollSnapshotCodec.decode(rs.getBytes("row_data"),
+                        drivers.get(employeeId));
+                    if (row != null) {
+                        rows.put(employeeId, row);
+                    } else {
+                        logger.warn("Skipping payroll snapshot of driver {} for week {} in an unknown format",
+                            employeeId, weekStart);
+                    }
+                }
+            }
+            
+        } catch (SQLException | IOException e) {
+            logger.error("Failed to get payroll snapshots", e);
+            throw new DataAccessException("Failed to get payroll snapshots", e);
+        }
+        
+        return rows;
+    }
+    
+    private static void deleteSnapshots(Connection conn, LocalDate weekStart) throws SQLException {
+        try (PreparedStatement pstmt = conn.prepareStatement("DELETE FROM payroll_snapshots WHERE payroll_date = ?")) {
+            pstmt.setString(1, weekStart.toString());
+            pstmt.executeUpdate();
+        }
+    }
+    
     private PayrollHistoryEntry mapResultSetToHistoryEntry(ResultSet rs) throws SQLException {
         return new PayrollHistoryEntry(
             rs.getDate("payroll_date").toLocalDate(),
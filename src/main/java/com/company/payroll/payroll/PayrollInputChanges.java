@@ -0,0 +1,238 @@
+package com.company.payroll.payroll;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.temporal.TemporalAdjusters;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Log of the payroll weeks whose inputs changed, kept by triggers on the input tables.
+ * <p>
+ * Every insert, update or delete appends the Monday of each week it touches to
+ * {@code payroll_input_changes}:
+ * <ul>
+ *   <li>loads, by delivery date or else pickup date, for both the old and the new row;
+ *       undated loads that payroll picks up in every period touch every week,</li>
+ *   <li>fuel transactions, other adjustments, recurring deductions and advance ledger
+ *       entries, by their own date or week,</li>
+ *   <li>employees and payment method history, which touch every week,</li>
+ *   <li>escrow ledger entries and targets, which touch every week: deposits are sized from
+ *       the current balance and target rather than the balance of the week,</li>
+ *   <li>payroll snapshots, which replace a locked week's calculation, by their week.</li>
+ * </ul>
+ * Advance balances are carried from week to week, so a change to their ledger also reaches
+ * every later week.
+ * Readers keep the sequence number they have applied and ask for the {@link Changes}
+ * after it. Entries older than {@link #RETENTION} are pruned; a reader that fell behind
+ * the oldest entry is told that every week changed.
+ */
+final class PayrollInputChanges {
+    private static final Logger logger = LoggerFactory.getLogger(PayrollInputChanges.class);
+
+    static final Duration RETENTION = Duration.ofDays(30);
+
+    /** Week value meaning every week */
+    private static final String ALL_WEEKS = "*";
+
+    /** Ledgers whose balances carry over into the following weeks */
+    private static final Set<String> CARRIED_TABLES = Set.of("advance_ledger");
+
+    /** Payroll statuses that put an undated load into every period, see LoadDAO.getByDateRangeForFinancials */
+    private static final String UNDATED_STATUSES = "('DELIVERED', 'PAID', 'IN_TRANSIT')";
+
+    private static volatile boolean ensured;
+
+    /**
+     * Weeks changed after a sequence number
+     * @param seq sequence number of the last change included
+     * @param carriedFrom earliest week of a carried balance change, which reaches every later week, or null
+     * @param all whether every week has to be treated as changed
+     */
+    record Changes(long seq, Set<LocalDate> weeks, LocalDate carriedFrom, boolean all) {
+        boolean isEmpty() {
+            return !all && weeks.isEmpty() && carriedFrom == null;
+        }
+
+        /** Whether a change reaches any day of the date range */
+        boolean touches(LocalDate start, LocalDate end) {
+            if (all || (carriedFrom != null && !carriedFrom.isAfter(end))) {
+                return true;
+            }
+            for (LocalDate week : weeks) {
+                if (!week.plusDays(6).isBefore(start) && !week.isAfter(end)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+    private PayrollInputChanges() {
+    }
+
+    /**
+     * Create the log and the triggers of the input tables that exist.
+     */
+    static synchronized void ensure(Connection conn) throws SQLException {
+        if (ensured) {
+            return;
+        }
+        try (Statement stmt = conn.createStatement()) {
+            stmt.execute("""
+                CREATE TABLE IF NOT EXISTS payroll_input_changes (
+                    seq INTEGER PRIMARY KEY AUTOINCREMENT,
+                    week_start TEXT NOT NULL,
+                    source TEXT NOT NULL,
+                    changed_at INTEGER NOT NULL
+                )
+            """);
+
+            Set<String> tables = new HashSet<>();
+            try (ResultSet rs = stmt.executeQuery("SELECT name FROM sqlite_master WHERE type = 'table'")) {
+                while (rs.next()) {
+                    tables.add(rs.getString(1));
+                }
+            }
+            if (tables.contains("loads")) {
+                createTriggers(stmt, "loads", row -> "CASE WHEN " + row + ".delivery_date IS NULL AND " + row
+                    + ".pickup_date IS NULL AND " + row + ".status IN " + UNDATED_STATUSES + " THEN '" + ALL_WEEKS
+                    + "' ELSE " + weekOf("COALESCE(" + row + ".delivery_date, " + row + ".pickup_date)") + " END");
+            }
+            createWeekTriggers(stmt, tables, "fuel_transactions", "tran_date_iso");
+            createWeekTriggers(stmt, tables, "other_adjustments", "week_start");
+            createWeekTriggers(stmt, tables, "recurring_deductions", "week_start");
+            createWeekTriggers(stmt, tables, "advance_ledger", "entry_date");
+            createWeekTriggers(stmt, tables, "payroll_snapshots", "payroll_date");
+            for (String table : List.of("employees", "employee_payment_method_history",
+                    "escrow_ledger", "escrow_targets")) {
+                if (tables.contains(table)) {
+                    createTriggers(stmt, table, row -> "'" + ALL_WEEKS + "'");
+                }
+            }
+        }
+        ensured = true;
+    }
+
+    /**
+     * Sequence number of the latest change, 0 when nothing was logged yet
+     */
+    static long latestSeq(Connection conn) throws SQLException {
+        try (Statement stmt = conn.createStatement();
+             ResultSet rs = stmt.executeQuery("SELECT IFNULL(MAX(seq), 0) FROM payroll_input_changes")) {
+            return rs.next() ? rs.getLong(1) : 0;
+        }
+    }
+
+    /**
+     * Changes logged after the given sequence number.
+     */
+    static Changes since(Connection conn, long seq) throws SQLException {
+        Set<LocalDate> weeks = new HashSet<>();
+        LocalDate carriedFrom = null;
+        boolean all = false;
+        long last = seq;
+        try (PreparedStatement ps = conn.prepareStatement(
+                "SELECT MIN(seq) FROM payroll_input_changes")) {
+            try (ResultSet rs = ps.executeQuery()) {
+                long oldest = rs.next() ? rs.getLong(1) : 0;
+                if (oldest > seq + 1) {
+                    all = true; // Pruned past this reader
+                }
+            }
+        }
+        try (PreparedStatement ps = conn.prepareStatement(
+                "SELECT seq, week_start, source FROM payroll_input_changes WHERE seq > ? ORDER BY seq")) {
+            ps.setLong(1, seq);
+            try (ResultSet rs = ps.executeQuery()) {
+                while (rs.next()) {
+                    last = rs.getLong(1);
+                    String week = rs.getString(2);
+                    if (ALL_WEEKS.equals(week)) {
+                        all = true;
+                    } else if (!all) {
+                        LocalDate date = LocalDate.parse(week);
+                        weeks.add(date);
+                        if (CARRIED_TABLES.contains(rs.getString(3))
+                                && (carriedFrom == null || date.isBefore(carriedFrom))) {
+                            carriedFrom = date;
+                        }
+                    }
+                }
+            }
+        }
+        return all ? new Changes(last, Set.of(), null, true) : new Changes(last, weeks, carriedFrom, false);
+    }
+
+    /**
+     * Delete entries older than the retention, always keeping the latest one.
+     */
+    static int prune(Connection conn) throws SQLException {
+        try (PreparedStatement ps = conn.prepareStatement("""
+                DELETE FROM payroll_input_changes
+                WHERE changed_at < ? AND seq < (SELECT MAX(seq) FROM payroll_input_changes)
+                """)) {
+            ps.setLong(1, System.currentTimeMillis() - RETENTION.toMillis());
+            int deleted = ps.executeUpdate();
+            if (deleted > 0) {
+                logger.debug("Pruned {} payroll input changes", deleted);
+            }
+            return deleted;
+        }
+    }
+
+    static LocalDate weekStart(LocalDate date) {
+        return date.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+    }
+
+    private static void createWeekTriggers(Statement stmt, Set<String> tables, String table, String column)
+            throws SQLException {
+        if (tables.contains(table)) {
+            createTriggers(stmt, table, row -> weekOf(row + "." + column));
+        }
+    }
+
+    /**
+     * Insert, update and delete triggers logging the week a row alias (NEW or OLD) belongs to;
+     * rows without a week are not logged.
+     */
+    private static void createTriggers(Statement stmt, String table, Function<String, String> week)
+            throws SQLException {
+        String[][] events = {{"insert", "INSERT"}, {"update", "UPDATE"}, {"delete", "DELETE"}};
+        for (String[] event : events) {
+            String rows = switch (event[1]) {
+                case "INSERT" -> "SELECT " + week.apply("NEW") + " AS week_start";
+                case "DELETE" -> "SELECT " + week.apply("OLD") + " AS week_start";
+                default -> "SELECT " + week.apply("OLD") + " AS week_start UNION SELECT " + week.apply("NEW");
+            };
+            stmt.execute("""
+                CREATE TRIGGER IF NOT EXISTS payroll_input_%s_%s AFTER %s ON %s BEGIN
+                    INSERT INTO payroll_input_changes (week_start, source, changed_at)
+                    SELECT week_start, '%s', CAST(strftime('%%s', 'now') AS INTEGER) * 1000
+                    FROM (%s) WHERE week_start IS NOT NULL;
+                END
+            """.formatted(table, event[0], event[1], table, table, rows));
+        }
+    }
+
+    /**
+     * Monday of the week of a date column, which holds either an ISO date or, when written
+     * through {@code setDate}, epoch millis
+     */
+    private static String weekOf(String column) {
+        return ("date(CASE WHEN typeof(%1$s) IN ('integer', 'real') "
+            + "THEN datetime(%1$s / 1000, 'unixepoch', 'localtime') ELSE %1$s END, '-6 days', 'weekday 1')")
+            .formatted(column);
+    }
+}
@@ -1,13 +1,17 @@
 package com.company.payroll.payroll;
 
+import com.company.payroll.database.DatabaseConfig;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.*;
 import java.math.BigDecimal;
 import java.math.RoundingMode;
-import java.nio.file.Files;
-import java.nio.file.StandardCopyOption;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.*;
@@ -20,6 +24,12 @@ import java.util.stream.Collectors;
  * Thread-safe, business-ready PayrollOtherAdjustments management system.
  * Handles payroll adjustments (deductions and reimbursements) with comprehensive validation, 
  * audit trails, and error recovery.
+ * <p>
+ * Adjustments are stored in the {@code other_adjustments} table indexed by
+ * {@code (driver_id, week_start)}, and the audit trail in {@code other_adjustment_audit}.
+ * Saving a week only writes the rows that were added, changed or removed, and every
+ * query reads only the rows of the requested driver and week. The data of the old
+ * {@code payroll_other_adjustments.dat} file is imported once.
  */
 public class PayrollOtherAdjustments implements Serializable {
     private static final Logger logger = LoggerFactory.getLogger(PayrollOtherAdjustments.class);
@@ -29,11 +39,25 @@ public class PayrollOtherAdjustments implements Serializable {
     private static final BigDecimal MAX_ADJUSTMENT_AMOUNT = new BigDecimal("50000.00");
     private static final BigDecimal MIN_ADJUSTMENT_AMOUNT = new BigDecimal("0.01");
     
+    private static final String SELECT_ADJUSTMENTS = """
+        SELECT id, driver_id, category, type, amount, description, week_start, load_number,
+               created_date, created_by, reference_number, status
+        FROM other_adjustments
+        """;
+    private static final String INSERT_ADJUSTMENT = """
+        INSERT INTO other_adjustments (id, driver_id, category, type, amount, description, week_start,
+                                       load_number, created_date, created_by, reference_number, status)
+        VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+        """;
+    private static final String INSERT_AUDIT = """
+        INSERT INTO other_adjustment_audit (id, timestamp, action, employee_id, details, performed_by)
+        VALUES (?, ?, ?, ?, ?, ?)
+        """;
+    
+    // Serializes writers; the remaining fields are only populated on instances read from the legacy file
     private final ReadWriteLock lock = new ReentrantReadWriteLock();
     private final Map<String, List<OtherAdjustment>> adjustments = new ConcurrentHashMap<>();
     private final Map<String, AuditEntry> auditTrail = new ConcurrentHashMap<>();
-    private transient boolean dataModified = false;
-    private transient int nextId = 1;
     
     private static volatile PayrollOtherAdjustments instance;
 
@@ -50,8 +74,13 @@ public class PayrollOtherAdjustments implements Serializable {
         public final String performedBy;
         
         public AuditEntry(String action, String employeeId, String details, String performedBy) {
-            this.id = UUID.randomUUID().toString();
-            this.timestamp = LocalDateTime.now();
+            this(UUID.randomUUID().toString(), LocalDateTime.now(), action, employeeId, details, performedBy);
+        }
+        
+        private AuditEntry(String id, LocalDateTime timestamp, String action, String employeeId,
+                           String details, String performedBy) {
+            this.id = id;
+            this.timestamp = timestamp;
             this.action = action;
             this.employeeId = employeeId;
             this.details = details;
@@ -100,13 +129,15 @@ public class PayrollOtherAdjustments implements Serializable {
         public OtherAdjustment(int id, int driverId, String category, String type, BigDecimal amount, 
                              String description, LocalDate weekStart, String loadNumber, 
                              String createdBy, String referenceNumber, AdjustmentStatus status) {
-            // Validation
-            if (amount != null && (amount.compareTo(MIN_ADJUSTMENT_AMOUNT) < 0 || 
-                                  amount.compareTo(MAX_ADJUSTMENT_AMOUNT) > 0)) {
-                throw new IllegalArgumentException("Amount must be between " + MIN_ADJUSTMENT_AMOUNT + 
-                                                 " and " + MAX_ADJUSTMENT_AMOUNT);
-            }
-            
+            this(id, driverId, category, type, validateAmount(amount), description, weekStart, loadNumber,
+                 LocalDateTime.now(), createdBy, referenceNumber, status);
+        }
+
+        // Constructor for stored adjustments, which keep their creation time
+        private OtherAdjustment(int id, int driverId, String category, String type, BigDecimal amount,
+                                String description, LocalDate weekStart, String loadNumber,
+                                LocalDateTime createdDate, String createdBy, String referenceNumber,
+                                AdjustmentStatus status) {
             this.id = id;
             this.driverId = driverId;
             this.category = category;
@@ -115,12 +146,21 @@ public class PayrollOtherAdjustments implements Serializable {
             this.description = description;
             this.weekStart = weekStart;
             this.loadNumber = loadNumber;
-            this.createdDate = LocalDateTime.now();
+            this.createdDate = createdDate;
             this.createdBy = createdBy;
             this.referenceNumber = referenceNumber;
             this.status = status != null ? status : AdjustmentStatus.ACTIVE;
         }
 
+        private static BigDecimal validateAmount(BigDecimal amount) {
+            if (amount != null && (amount.compareTo(MIN_ADJUSTMENT_AMOUNT) < 0 || 
+                                  amount.compareTo(MAX_ADJUSTMENT_AMOUNT) > 0)) {
+                throw new IllegalArgumentException("Amount must be between " + MIN_ADJUSTMENT_AMOUNT + 
+                                                 " and " + MAX_ADJUSTMENT_AMOUNT);
+            }
+            return amount;
+        }
+
         // Backward compatibility constructors
         public OtherAdjustment(int id, int driverId, String category, String type, double amount, 
                              String description, LocalDate weekStart) {
@@ -174,8 +214,8 @@ public class PayrollOtherAdjustments implements Serializable {
 
     private PayrollOtherAdjustments() {
         logger.info("Initializing PayrollOtherAdjustments system");
-        loadData();
-        initializeNextId();
+        ensureTables();
+        importLegacyData();
     }
 
     public static PayrollOtherAdjustments getInstance() {
@@ -189,33 +229,61 @@ public class PayrollOtherAdjustments implements Serializable {
         return instance;
     }
 
-    private static String key(int driverId, LocalDate weekStart) {
-        return driverId + "_" + weekStart.toString();
+    private void ensureTables() {
+        try (Connection conn = DatabaseConfig.getConnection();
+             Statement stmt = conn.createStatement()) {
+            stmt.execute("""
+                CREATE TABLE IF NOT EXISTS other_adjustments (
+                    id INTEGER PRIMARY KEY AUTOINCREMENT,
+                    driver_id INTEGER NOT NULL,
+                    week_start TEXT NOT NULL,
+                    category TEXT NOT NULL,
+                    type TEXT,
+                    amount TEXT NOT NULL,
+                    description TEXT,
+                    load_number TEXT,
+                    created_date TEXT,
+                    created_by TEXT,
+                    reference_number TEXT,
+                    status TEXT NOT NULL
+                )
+            """);
+            stmt.execute("CREATE INDEX IF NOT EXISTS idx_other_adjustments_driver_week ON other_adjustments(driver_id, week_start)");
+            stmt.execute("CREATE INDEX IF NOT EXISTS idx_other_adjustments_week ON other_adjustments(week_start)");
+            stmt.execute("""
+                CREATE TABLE IF NOT EXISTS other_adjustment_audit (
+                    id TEXT PRIMARY KEY,
+                    timestamp TEXT NOT NULL,
+                    action TEXT NOT NULL,
+                    employee_id TEXT,
+                    details TEXT,
+                    performed_by TEXT
+                )
+            """);
+            stmt.execute("CREATE INDEX IF NOT EXISTS idx_other_adjustment_audit_employee ON other_adjustment_audit(employee_id, timestamp)");
+        } catch (SQLException e) {
+            logger.error("Error ensuring adjustment tables: {}", e.getMessage(), e);
+        }
     }
 
     /**
-     * Get adjustments for a driver and week with defensive copying
+     * Get adjustments for a driver and week
      */
     public List<OtherAdjustment> getAdjustmentsForDriverWeek(int driverId, LocalDate weekStart) {
-        lock.readLock().lock();
-        try {
-            logger.debug("Getting adjustments for driver {} week {}", driverId, weekStart);
-            String keyStr = key(driverId, weekStart);
-            List<OtherAdjustment> list = adjustments.getOrDefault(keyStr, Collections.emptyList())
-                .stream()
-                .filter(adj -> adj.status == OtherAdjustment.AdjustmentStatus.ACTIVE || 
-                              adj.status == OtherAdjustment.AdjustmentStatus.APPROVED)
-                .map(OtherAdjustment::clone)
-                .collect(Collectors.toList());
-            logger.debug("Found {} active adjustments for key {}", list.size(), keyStr);
-            return list;
-        } finally {
-            lock.readLock().unlock();
-        }
+        logger.debug("Getting adjustments for driver {} week {}", driverId, weekStart);
+        List<OtherAdjustment> list = loadDriverWeek(driverId, weekStart).stream()
+            .filter(PayrollOtherAdjustments::isEffective)
+            .collect(Collectors.toList());
+        logger.debug("Found {} active adjustments for driver {} week {}", list.size(), driverId, weekStart);
+        return list;
     }
 
     /**
-     * Save adjustments with validation and audit trail
+     * Save adjustments with validation and audit trail.
+     * <p>
+     * The list replaces the effective adjustments of the week: new entries (id 0) are
+     * inserted, changed ones updated and missing ones deleted, all in one transaction.
+     * Reversed entries are kept as history.
      */
     public boolean saveAdjustmentsForDriverWeek(int driverId, LocalDate weekStart, List<OtherAdjustment> list) {
         lock.writeLock().lock();
@@ -229,46 +297,67 @@ public class PayrollOtherAdjustments implements Serializable {
                 return false;
             }
             
-            String keyStr = key(driverId, weekStart);
-            List<OtherAdjustment> existingList = adjustments.getOrDefault(keyStr, new ArrayList<>());
-            
             // Build a map of existing adjustments by ID for tracking changes
-            Map<Integer, OtherAdjustment> existingMap = existingList.stream()
+            Map<Integer, OtherAdjustment> existingMap = loadDriverWeek(driverId, weekStart).stream()
+                .filter(PayrollOtherAdjustments::isEffective)
                 .collect(Collectors.toMap(adj -> adj.id, adj -> adj));
             
-            // Process the new list
-            List<OtherAdjustment> processedList = new ArrayList<>();
-            for (OtherAdjustment adj : list) {
-                if (adj.id == 0) {
-                    // New adjustment - assign ID
-                    OtherAdjustment newAdj = new OtherAdjustment(
-                        getNextId(), adj.driverId, adj.category, adj.type, adj.amount,
-                        adj.description, adj.weekStart, adj.loadNumber, adj.createdBy,
-                        adj.referenceNumber, adj.status
-                    );
-                    processedList.add(newAdj);
-                    
-                    addAuditEntry("ADJUSTMENT_CREATED", String.valueOf(driverId),
-                        String.format("Created %s adjustment: %s - $%.2f", 
-                            adj.category, adj.type, adj.amount), adj.createdBy);
-                } else {
-                    // Existing adjustment - check for changes
-                    OtherAdjustment existing = existingMap.get(adj.id);
-                    if (existing != null && !existing.equals(adj)) {
-                        addAuditEntry("ADJUSTMENT_MODIFIED", String.valueOf(driverId),
-                            String.format("Modified adjustment ID %d: %s", adj.id, adj.type), 
-                            adj.createdBy);
+            try (Connection conn = DatabaseConfig.getConnection()) {
+                conn.setAutoCommit(false);
+                try (PreparedStatement insert = conn.prepareStatement(INSERT_ADJUSTMENT);
+                     PreparedStatement update = conn.prepareStatement("""
+                         UPDATE other_adjustments
+                         SET category = ?, type = ?, amount = ?, description = ?, load_number = ?,
+                             created_by = ?, reference_number = ?, status = ?
+                         WHERE id = ?
+                         """);
+                     PreparedStatement delete = conn.prepareStatement("DELETE FROM other_adjustments WHERE id = ?");
+                     PreparedStatement audit = conn.prepareStatement(INSERT_AUDIT)) {
+                    Set<Integer> kept = new HashSet<>();
+                    for (OtherAdjustment adj : list) {
+                        if (adj.id == 0 || !existingMap.containsKey(adj.id)) {
+                            // New adjustment - the database assigns the ID
+                            bindAdjustment(insert, adj, driverId, weekStart, null);
+                            insert.executeUpdate();
+                            bindAudit(audit, new AuditEntry("ADJUSTMENT_CREATED", String.valueOf(driverId),
+                                String.format("Created %s adjustment: %s - $%.2f", 
+                                    adj.category, adj.type, adj.amount), adj.createdBy));
+                            audit.executeUpdate();
+                        } else {
+                            // Existing adjustment - write only when changed
+                            kept.add(adj.id);
+                            if (!existingMap.get(adj.id).equals(adj)) {
+                                update.setString(1, adj.category);
+                                update.setString(2, adj.type);
+                                update.setString(3, adj.amount.toPlainString());
+                                update.setString(4, adj.description);
+                                update.setString(5, adj.loadNumber);
+                                update.setString(6, adj.createdBy);
+                                update.setString(7, adj.referenceNumber);
+                                update.setString(8, adj.status.name());
+                                update.setInt(9, adj.id);
+                                update.executeUpdate();
+                                bindAudit(audit, new AuditEntry("ADJUSTMENT_MODIFIED", String.valueOf(driverId),
+                                    String.format("Modified adjustment ID %d: %s", adj.id, adj.type), 
+                                    adj.createdBy));
+                                audit.executeUpdate();
+                            }
+                        }
                     }
-                    processedList.add(adj);
+                    for (Integer id : existingMap.keySet()) {
+                        if (!kept.contains(id)) {
+                            delete.setInt(1, id);
+                            delete.executeUpdate();
+                        }
+                    }
+                    conn.commit();
+                } catch (SQLException e) {
+                    conn.rollback();
+                    throw e;
                 }
             }
             
-            // Replace the entire list for this key
-            adjustments.put(keyStr, new ArrayList<>(processedList));
-            dataModified = true;
-            save();
-            
-            logger.info("Adjustments saved successfully for key {}", keyStr);
+            logger.info("Adjustments saved successfully for driver {} week {}", driverId, weekStart);
             return true;
             
         } catch (Exception e) {
@@ -287,62 +376,44 @@ public class PayrollOtherAdjustments implements Serializable {
         try {
             logger.info("Removing adjustment with id {} by {}", id, removedBy);
             
-            boolean found = false;
-            String foundKey = null;
-            OtherAdjustment toRemove = null;
-            
             // Find the adjustment
-            for (Map.Entry<String, List<OtherAdjustment>> entry : adjustments.entrySet()) {
-                for (OtherAdjustment adj : entry.getValue()) {
-                    if (adj.id == id && (adj.status == OtherAdjustment.AdjustmentStatus.ACTIVE ||
-                                        adj.status == OtherAdjustment.AdjustmentStatus.APPROVED)) {
-                        found = true;
-                        foundKey = entry.getKey();
-                        toRemove = adj;
-                        break;
-                    }
-                }
-                if (found) break;
-            }
+            OtherAdjustment toRemove = queryAdjustments(SELECT_ADJUSTMENTS + " WHERE id = ?", id).stream()
+                .filter(PayrollOtherAdjustments::isEffective)
+                .findFirst()
+                .orElse(null);
             
-            if (found && toRemove != null) {
-                List<OtherAdjustment> list = adjustments.get(foundKey);
-                
-                // Create reversed entry
-                OtherAdjustment reversed = new OtherAdjustment(
-                    getNextId(), toRemove.driverId, toRemove.category, toRemove.type, toRemove.amount,
-                    "REVERSED: " + toRemove.description + " - " + reason,
-                    toRemove.weekStart, toRemove.loadNumber, removedBy, toRemove.referenceNumber,
-                    OtherAdjustment.AdjustmentStatus.REVERSED
-                );
-                
-                // Update original to reversed status
-                List<OtherAdjustment> updatedList = new ArrayList<>();
-                for (OtherAdjustment adj : list) {
-                    if (adj.id == id) {
+            if (toRemove != null) {
+                try (Connection conn = DatabaseConfig.getConnection()) {
+                    conn.setAutoCommit(false);
+                    try (PreparedStatement update = conn.prepareStatement(
+                             "UPDATE other_adjustments SET status = ? WHERE id = ?");
+                         PreparedStatement insert = conn.prepareStatement(INSERT_ADJUSTMENT);
+                         PreparedStatement audit = conn.prepareStatement(INSERT_AUDIT)) {
                         // Mark original as reversed
-                        OtherAdjustment reversedOriginal = new OtherAdjustment(
-                            adj.id, adj.driverId, adj.category, adj.type, adj.amount,
-                            adj.description, adj.weekStart, adj.loadNumber, adj.createdBy,
-                            adj.referenceNumber, OtherAdjustment.AdjustmentStatus.REVERSED
+                        update.setString(1, OtherAdjustment.AdjustmentStatus.REVERSED.name());
+                        update.setInt(2, id);
+                        update.executeUpdate();
+                        
+                        // Add the reversal entry
+                        OtherAdjustment reversed = new OtherAdjustment(
+                            0, toRemove.driverId, toRemove.category, toRemove.type, toRemove.amount,
+                            "REVERSED: " + toRemove.description + " - " + reason,
+                            toRemove.weekStart, toRemove.loadNumber, removedBy, toRemove.referenceNumber,
+                            OtherAdjustment.AdjustmentStatus.REVERSED
                         );
-                        updatedList.add(reversedOriginal);
-                    } else {
-                        updatedList.add(adj);
+                        bindAdjustment(insert, reversed, toRemove.driverId, toRemove.weekStart, null);
+                        insert.executeUpdate();
+                        
+                        bindAudit(audit, new AuditEntry("ADJUSTMENT_REVERSED", String.valueOf(toRemove.driverId),
+                            String.format("Reversed adjustment ID %d: %s - %s", id, toRemove.type, reason), removedBy));
+                        audit.executeUpdate();
+                        conn.commit();
+                    } catch (SQLException e) {
+                        conn.rollback();
+                        throw e;
                     }
                 }
                 
-                // Add the reversal entry
-                updatedList.add(reversed);
-                
-                adjustments.put(foundKey, updatedList);
-                
-                addAuditEntry("ADJUSTMENT_REVERSED", String.valueOf(toRemove.driverId),
-                    String.format("Reversed adjustment ID %d: %s - %s", id, toRemove.type, reason), removedBy);
-                
-                dataModified = true;
-                save();
-                
                 logger.info("Adjustment {} reversed successfully", id);
                 return new OperationResult(true, "Adjustment reversed successfully");
             } else {
@@ -367,21 +438,10 @@ public class PayrollOtherAdjustments implements Serializable {
      * Get total deductions with BigDecimal precision
      */
     public BigDecimal getTotalDeductionsBD(int driverId, LocalDate weekStart) {
-        lock.readLock().lock();
-        try {
-            logger.debug("Calculating total deductions for driver {} week {}", driverId, weekStart);
-            List<OtherAdjustment> list = adjustments.getOrDefault(key(driverId, weekStart), Collections.emptyList());
-            BigDecimal total = list.stream()
-                .filter(adj -> "Deduction".equals(adj.category) && 
-                              (adj.status == OtherAdjustment.AdjustmentStatus.ACTIVE || 
-                               adj.status == OtherAdjustment.AdjustmentStatus.APPROVED))
-                .map(adj -> adj.amount.abs())
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
-            logger.debug("Total deductions for driver {} week {}: ${}", driverId, weekStart, total);
-            return total;
-        } finally {
-            lock.readLock().unlock();
-        }
+        logger.debug("Calculating total deductions for driver {} week {}", driverId, weekStart);
+        BigDecimal total = sumDeductions(loadDriverWeek(driverId, weekStart));
+        logger.debug("Total deductions for driver {} week {}: ${}", driverId, weekStart, total);
+        return total;
     }
 
     // Backward compatibility
@@ -393,22 +453,10 @@ public class PayrollOtherAdjustments implements Serializable {
      * Get fuel deductions specifically
      */
     public BigDecimal getFuelDeductionsBD(int driverId, LocalDate weekStart) {
-        lock.readLock().lock();
-        try {
-            logger.debug("Calculating fuel deductions for driver {} week {}", driverId, weekStart);
-            List<OtherAdjustment> list = adjustments.getOrDefault(key(driverId, weekStart), Collections.emptyList());
-            BigDecimal total = list.stream()
-                .filter(adj -> "Deduction".equals(adj.category) && 
-                              "Fuel".equals(adj.type) &&
-                              (adj.status == OtherAdjustment.AdjustmentStatus.ACTIVE || 
-                               adj.status == OtherAdjustment.AdjustmentStatus.APPROVED))
-                .map(adj -> adj.amount.abs())
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
-            logger.debug("Fuel deductions for driver {} week {}: ${}", driverId, weekStart, total);
-            return total;
-        } finally {
-            lock.readLock().unlock();
-        }
+        logger.debug("Calculating fuel deductions for driver {} week {}", driverId, weekStart);
+        BigDecimal total = sumFuelDeductions(loadDriverWeek(driverId, weekStart));
+        logger.debug("Fuel deductions for driver {} week {}: ${}", driverId, weekStart, total);
+        return total;
     }
     
     public double getFuelDeductions(int driverId, LocalDate weekStart) {
@@ -419,22 +467,10 @@ public class PayrollOtherAdjustments implements Serializable {
      * Get total reimbursements with BigDecimal precision
      */
     public BigDecimal getTotalReimbursementsBD(int driverId, LocalDate weekStart) {
-        lock.readLock().lock();
-        try {
-            logger.debug("Calculating total reimbursements for driver {} week {}", driverId, weekStart);
-            List<OtherAdjustment> list = adjustments.getOrDefault(key(driverId, weekStart), Collections.emptyList());
-            BigDecimal total = list.stream()
-                .filter(adj -> "Reimbursement".equals(adj.category) && 
-                              (adj.type == null || !adj.type.startsWith("Load Bonus:")) &&
-                              (adj.status == OtherAdjustment.AdjustmentStatus.ACTIVE || 
-                               adj.status == OtherAdjustment.AdjustmentStatus.APPROVED))
-                .map(adj -> adj.amount.abs())
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
-            logger.debug("Total reimbursements for driver {} week {}: ${}", driverId, weekStart, total);
-            return total;
-        } finally {
-            lock.readLock().unlock();
-        }
+        logger.debug("Calculating total reimbursements for driver {} week {}", driverId, weekStart);
+        BigDecimal total = sumReimbursements(loadDriverWeek(driverId, weekStart));
+        logger.debug("Total reimbursements for driver {} week {}: ${}", driverId, weekStart, total);
+        return total;
     }
 
     // Backward compatibility
@@ -446,26 +482,11 @@ public class PayrollOtherAdjustments implements Serializable {
      * Get bonus for load with BigDecimal precision
      */
     public BigDecimal getBonusForLoadBD(int driverId, LocalDate weekStart, String loadNumber) {
-        lock.readLock().lock();
-        try {
-            List<OtherAdjustment> list = adjustments.getOrDefault(key(driverId, weekStart), Collections.emptyList());
-            BigDecimal bonus = list.stream()
-                .filter(adj -> "Reimbursement".equals(adj.category) &&
-                              adj.type != null &&
-                              adj.type.startsWith("Load Bonus:") &&
-                              loadNumber != null &&
-                              loadNumber.equals(adj.loadNumber) &&
-                              (adj.status == OtherAdjustment.AdjustmentStatus.ACTIVE || 
-                               adj.status == OtherAdjustment.AdjustmentStatus.APPROVED))
-                .map(adj -> adj.amount.abs())
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
-            if (bonus.compareTo(BigDecimal.ZERO) > 0) {
-                logger.info("Bonus found for driver {} load {}: ${}", driverId, loadNumber, bonus);
-            }
-            return bonus;
-        } finally {
-            lock.readLock().unlock();
+        BigDecimal bonus = sumBonusForLoad(loadDriverWeek(driverId, weekStart), loadNumber);
+        if (bonus.compareTo(BigDecimal.ZERO) > 0) {
+            logger.info("Bonus found for driver {} load {}: ${}", driverId, loadNumber, bonus);
         }
+        return bonus;
     }
 
     // Backward compatibility
@@ -473,87 +494,179 @@ public class PayrollOtherAdjustments implements Serializable {
         return getBonusForLoadBD(driverId, weekStart, loadNumber).doubleValue();
     }
 
+    /**
+     * Take a consistent copy of one week's adjustments for the given drivers with a single
+     * query over that week's rows. The snapshot answers the same totals as the getters above
+     * without further queries, so concurrent payroll calculations all see the same state.
+     */
+    public WeekSnapshot snapshotWeek(Collection<Integer> driverIds, LocalDate weekStart) {
+        Set<Integer> wanted = new HashSet<>(driverIds);
+        Map<Integer, List<OtherAdjustment>> byDriver = new HashMap<>();
+        for (OtherAdjustment adj : queryAdjustments(SELECT_ADJUSTMENTS + " WHERE week_start = ? ORDER BY id",
+                weekStart.toString())) {
+            if (wanted.contains(adj.driverId)) {
+                byDriver.computeIfAbsent(adj.driverId, k -> new ArrayList<>()).add(adj);
+            }
+        }
+        logger.debug("Snapshot of week {} adjustments for {} drivers", weekStart, byDriver.size());
+        return new WeekSnapshot(weekStart, byDriver);
+    }
+
+    /**
+     * Immutable view of one week's adjustments, see {@link #snapshotWeek(Collection, LocalDate)}
+     */
+    public static final class WeekSnapshot {
+        private final LocalDate weekStart;
+        private final Map<Integer, List<OtherAdjustment>> byDriver;
+
+        private WeekSnapshot(LocalDate weekStart, Map<Integer, List<OtherAdjustment>> byDriver) {
+            this.weekStart = weekStart;
+            this.byDriver = byDriver;
+        }
+
+        public LocalDate getWeekStart() {
+            return weekStart;
+        }
+
+        public BigDecimal getTotalDeductionsBD(int driverId) {
+            return sumDeductions(byDriver.getOrDefault(driverId, Collections.emptyList()));
+        }
+
+        public BigDecimal getFuelDeductionsBD(int driverId) {
+            return sumFuelDeductions(byDriver.getOrDefault(driverId, Collections.emptyList()));
+        }
+
+        public BigDecimal getTotalReimbursementsBD(int driverId) {
+            return sumReimbursements(byDriver.getOrDefault(driverId, Collections.emptyList()));
+        }
+
+        public BigDecimal getBonusForLoadBD(int driverId, String loadNumber) {
+            return sumBonusForLoad(byDriver.getOrDefault(driverId, Collections.emptyList()), loadNumber);
+        }
+    }
+
+    private static boolean isEffective(OtherAdjustment adj) {
+        return adj.status == OtherAdjustment.AdjustmentStatus.ACTIVE || 
+               adj.status == OtherAdjustment.AdjustmentStatus.APPROVED;
+    }
+
+    private static BigDecimal sumDeductions(List<OtherAdjustment> list) {
+        return list.stream()
+            .filter(adj -> "Deduction".equals(adj.category) && isEffective(adj))
+            .map(adj -> adj.amount.abs())
+            .reduce(BigDecimal.ZERO, BigDecimal::add);
+    }
+
+    private static BigDecimal sumFuelDeductions(List<OtherAdjustment> list) {
+        return list.stream()
+            .filter(adj -> "Deduction".equals(adj.category) && 
+                          "Fuel".equals(adj.type) &&
+                          isEffective(adj))
+            .map(adj -> adj.amount.abs())
+            .reduce(BigDecimal.ZERO, BigDecimal::add);
+    }
+
+    private static BigDecimal sumReimbursements(List<OtherAdjustment> list) {
+        return list.stream()
+            .filter(adj -> "Reimbursement".equals(adj.category) && 
+                          (adj.type == null || !adj.type.startsWith("Load Bonus:")) &&
+                          isEffective(adj))
+            .map(adj -> adj.amount.abs())
+            .reduce(BigDecimal.ZERO, BigDecimal::add);
+    }
+
+    private static BigDecimal sumBonusForLoad(List<OtherAdjustment> list, String loadNumber) {
+        return list.stream()
+            .filter(adj -> "Reimbursement".equals(adj.category) &&
+                          adj.type != null &&
+                          adj.type.startsWith("Load Bonus:") &&
+                          loadNumber != null &&
+                          loadNumber.equals(adj.loadNumber) &&
+                          isEffective(adj))
+            .map(adj -> adj.amount.abs())
+            .reduce(BigDecimal.ZERO, BigDecimal::add);
+    }
+
     /**
      * Get summary statistics for an employee
      */
     public AdjustmentSummary getEmployeeSummary(int driverId, LocalDate startDate, LocalDate endDate) {
-        lock.readLock().lock();
-        try {
-            BigDecimal totalDeductions = BigDecimal.ZERO;
-            BigDecimal totalReimbursements = BigDecimal.ZERO;
-            BigDecimal totalBonuses = BigDecimal.ZERO;
-            BigDecimal totalFuelDeductions = BigDecimal.ZERO;
-            long adjustmentCount = 0;
-            
-            for (Map.Entry<String, List<OtherAdjustment>> entry : adjustments.entrySet()) {
-                if (entry.getKey().startsWith(driverId + "_")) {
-                    for (OtherAdjustment adj : entry.getValue()) {
-                        if ((adj.status == OtherAdjustment.AdjustmentStatus.ACTIVE || 
-							 adj.status == OtherAdjustment.AdjustmentStatus.APPROVED) &&
-                            !adj.weekStart.isBefore(startDate) && 
-                            !adj.weekStart.isAfter(endDate)) {
-                            
-                            adjustmentCount++;
-                            if ("Deduction".equals(adj.category)) {
-                                totalDeductions = totalDeductions.add(adj.amount);
-                                if ("Fuel".equals(adj.type)) {
-                                    totalFuelDeductions = totalFuelDeductions.add(adj.amount);
-                                }
-                            } else if ("Reimbursement".equals(adj.category)) {
-                                if (adj.type != null && adj.type.startsWith("Load Bonus:")) {
-                                    totalBonuses = totalBonuses.add(adj.amount);
-                                } else {
-                                    totalReimbursements = totalReimbursements.add(adj.amount);
-                                }
-                            }
-                        }
+        BigDecimal totalDeductions = BigDecimal.ZERO;
+        BigDecimal totalReimbursements = BigDecimal.ZERO;
+        BigDecimal totalBonuses = BigDecimal.ZERO;
+        BigDecimal totalFuelDeductions = BigDecimal.ZERO;
+        long adjustmentCount = 0;
+        
+        for (OtherAdjustment adj : queryAdjustments(
+                SELECT_ADJUSTMENTS + " WHERE driver_id = ? AND week_start BETWEEN ? AND ?",
+                driverId, startDate.toString(), endDate.toString())) {
+            if (isEffective(adj)) {
+                adjustmentCount++;
+                if ("Deduction".equals(adj.category)) {
+                    totalDeductions = totalDeductions.add(adj.amount);
+                    if ("Fuel".equals(adj.type)) {
+                        totalFuelDeductions = totalFuelDeductions.add(adj.amount);
+                    }
+                } else if ("Reimbursement".equals(adj.category)) {
+                    if (adj.type != null && adj.type.startsWith("Load Bonus:")) {
+                        totalBonuses = totalBonuses.add(adj.amount);
+                    } else {
+                        totalReimbursements = totalReimbursements.add(adj.amount);
                     }
                 }
             }
-            
-            return new AdjustmentSummary(driverId, totalDeductions, totalReimbursements, 
-                                       totalBonuses, totalFuelDeductions, adjustmentCount);
-        } finally {
-            lock.readLock().unlock();
         }
+        
+        return new AdjustmentSummary(driverId, totalDeductions, totalReimbursements, 
+                                   totalBonuses, totalFuelDeductions, adjustmentCount);
     }
 
     /**
      * Get audit trail
      */
     public List<AuditEntry> getAuditTrail(String employeeId, LocalDate startDate, LocalDate endDate) {
-        lock.readLock().lock();
-        try {
-            return auditTrail.values().stream()
-                .filter(e -> (employeeId == null || e.employeeId.equals(employeeId)))
-                .filter(e -> (startDate == null || !e.timestamp.toLocalDate().isBefore(startDate)))
-                .filter(e -> (endDate == null || !e.timestamp.toLocalDate().isAfter(endDate)))
-                .sorted(Comparator.comparing((AuditEntry e) -> e.timestamp).reversed())
-                .collect(Collectors.toList());
-        } finally {
-            lock.readLock().unlock();
-        }
-    }
-
-    // Helper methods
-    
-    private synchronized int getNextId() {
-        return nextId++;
-    }
-    
-    private void initializeNextId() {
-        int maxId = 0;
-        for (List<OtherAdjustment> list : adjustments.values()) {
-            for (OtherAdjustment adj : list) {
-                if (adj.id > maxId) {
-                    maxId = adj.id;
+        StringBuilder sql = new StringBuilder(
+            "SELECT id, timestamp, action, employee_id, details, performed_by FROM other_adjustment_audit WHERE 1=1");
+        List<Object> params = new ArrayList<>();
+        if (employeeId != null) {
+            sql.append(" AND employee_id = ?");
+            params.add(employeeId);
+        }
+        if (startDate != null) {
+            sql.append(" AND timestamp >= ?");
+            params.add(startDate.atStartOfDay().toString());
+        }
+        if (endDate != null) {
+            sql.append(" AND timestamp < ?");
+            params.add(endDate.plusDays(1).atStartOfDay().toString());
+        }
+        sql.append(" ORDER BY timestamp DESC");
+        
+        List<AuditEntry> result = new ArrayList<>();
+        try (Connection conn = DatabaseConfig.getConnection();
+             PreparedStatement ps = conn.prepareStatement(sql.toString())) {
+            for (int i = 0; i < params.size(); i++) {
+                ps.setObject(i + 1, params.get(i));
+            }
+            try (ResultSet rs = ps.executeQuery()) {
+                while (rs.next()) {
+                    result.add(new AuditEntry(
+                        rs.getString("id"),
+                        LocalDateTime.parse(rs.getString("timestamp")),
+                        rs.getString("action"),
+                        rs.getString("employee_id"),
+                        rs.getString("details"),
+                        rs.getString("performed_by")));
                 }
             }
+        } catch (SQLException e) {
+            logger.error("Error loading adjustment audit trail", e);
         }
-        nextId = maxId + 1;
-        logger.info("Initialized nextId to {}", nextId);
+        return result;
     }
 
+    // Helper methods
+
     private ValidationResult validateAdjustments(List<OtherAdjustment> adjustments) {
         for (OtherAdjustment adj : adjustments) {
             if (adj.amount == null || adj.amount.compareTo(BigDecimal.ZERO) <= 0) {
@@ -569,110 +682,121 @@ public class PayrollOtherAdjustments implements Serializable {
         return new ValidationResult(true, null);
     }
 
-    private void addAuditEntry(String action, String employeeId, String details, String performedBy) {
-        AuditEntry entry = new AuditEntry(action, employeeId, details, performedBy);
-        auditTrail.put(entry.id, entry);
-        // Keep audit trail size manageable
-        if (auditTrail.size() > 10000) {
-            // Remove oldest entries
-            List<String> oldestKeys = auditTrail.entrySet().stream()
-                .sorted(Map.Entry.comparingByValue((a, b) -> a.timestamp.compareTo(b.timestamp)))
-                .limit(1000)
-                .map(Map.Entry::getKey)
-                .collect(Collectors.toList());
-            oldestKeys.forEach(auditTrail::remove);
-        }
+    private List<OtherAdjustment> loadDriverWeek(int driverId, LocalDate weekStart) {
+        return queryAdjustments(SELECT_ADJUSTMENTS + " WHERE driver_id = ? AND week_start = ? ORDER BY id",
+            driverId, weekStart.toString());
     }
 
-    private void save() {
-        if (!dataModified) {
-            return;
-        }
-        
-        try {
-            // Create backup first
-            File mainFile = new File(ADJ_DATA_FILE);
-            if (mainFile.exists()) {
-                File backupFile = new File(BACKUP_DATA_FILE);
-                Files.copy(mainFile.toPath(), backupFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
-            }
-            
-            // Save to temp file first
-            File tempFile = new File(ADJ_DATA_FILE + ".tmp");
-            try (ObjectOutputStream oos = new ObjectOutputStream(
-                    new BufferedOutputStream(new FileOutputStream(tempFile)))) {
-                oos.writeObject(this);
+    private List<OtherAdjustment> queryAdjustments(String sql, Object... params) {
+        List<OtherAdjustment> result = new ArrayList<>();
+        try (Connection conn = DatabaseConfig.getConnection();
+             PreparedStatement ps = conn.prepareStatement(sql)) {
+            for (int i = 0; i < params.length; i++) {
+                ps.setObject(i + 1, params[i]);
             }
-            
-            // Atomic rename with error checking
-            if (!tempFile.renameTo(mainFile)) {
-                // If rename fails, try copy and delete as fallback
-                try {
-                    Files.move(tempFile.toPath(), mainFile.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
-                } catch (IOException moveException) {
-                    // Final fallback: copy then delete
-                    Files.copy(tempFile.toPath(), mainFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
-                    tempFile.delete();
+            try (ResultSet rs = ps.executeQuery()) {
+                while (rs.next()) {
+                    String created = rs.getString("created_date");
+                    result.add(new OtherAdjustment(
+                        rs.getInt("id"),
+                        rs.getInt("driver_id"),
+                        rs.getString("category"),
+                        rs.getString("type"),
+                        new BigDecimal(rs.getString("amount")),
+                        rs.getString("description"),
+                        LocalDate.parse(rs.getString("week_start")),
+                        rs.getString("load_number"),
+                        created != null ? LocalDateTime.parse(created) : null,
+                        rs.getString("created_by"),
+                        rs.getString("reference_number"),
+                        OtherAdjustment.AdjustmentStatus.valueOf(rs.getString("status"))));
                 }
             }
-            dataModified = false;
-            
-            logger.debug("Adjustments data saved successfully");
-            
-        } catch (IOException e) {
-            logger.error("Error saving adjustments data", e);
-            throw new RuntimeException("Failed to save adjustments data", e);
+        } catch (SQLException e) {
+            logger.error("Error loading adjustments", e);
+            throw new RuntimeException("Failed to load adjustments data", e);
         }
+        return result;
     }
 
-    private void loadData() {
-        File mainFile = new File(ADJ_DATA_FILE);
-        File backupFile = new File(BACKUP_DATA_FILE);
-        
-        // Try main file first
-        PayrollOtherAdjustments loaded = loadFromFile(mainFile);
-        if (loaded != null) {
-            copyFrom(loaded);
-            return;
-        }
-        
-        // Try backup file
-        logger.warn("Main data file corrupted or missing, trying backup");
-        loaded = loadFromFile(backupFile);
-        if (loaded != null) {
-            copyFrom(loaded);
-            return;
-        }
-        
-        // No data files found
-        logger.info("No valid data files found, starting with empty data");
+    private static void bindAdjustment(PreparedStatement ps, OtherAdjustment adj, int driverId,
+                                       LocalDate weekStart, Integer id) throws SQLException {
+        ps.setObject(1, id);
+        ps.setInt(2, driverId);
+        ps.setString(3, adj.category);
+        ps.setString(4, adj.type);
+        ps.setString(5, adj.amount.toPlainString());
+        ps.setString(6, adj.description);
+        ps.setString(7, weekStart.toString());
+        ps.setString(8, adj.loadNumber);
+        ps.setString(9, adj.createdDate != null ? adj.createdDate.toString() : null);
+        ps.setString(10, adj.createdBy);
+        ps.setString(11, adj.referenceNumber);
+        ps.setString(12, adj.status.name());
     }
 
-    private PayrollOtherAdjustments loadFromFile(File file) {
-        if (!file.exists()) {
-            return null;
-        }
-        
-        try (ObjectInputStream ois = new ObjectInputStream(
-                new BufferedInputStream(new FileInputStream(file)))) {
-            Object obj = ois.readObject();
-            if (obj instanceof PayrollOtherAdjustments) {
-                logger.info("Loaded adjustments data from {}", file.getName());
-                return (PayrollOtherAdjustments) obj;
+    private static void bindAudit(PreparedStatement ps, AuditEntry entry) throws SQLException {
+        ps.setString(1, entry.id);
+        ps.setString(2, entry.timestamp.toString());
+        ps.setString(3, entry.action);
+        ps.setString(4, entry.employeeId);
+        ps.setString(5, entry.details);
+        ps.setString(6, entry.performedBy);
+    }
+
+    /**
+     * Move the adjustments and audit trail of the old serialization file (or its backup)
+     * into the tables, the first time the adjustments table is empty.
+     */
+    private void importLegacyData() {
+        try (Connection conn = DatabaseConfig.getConnection()) {
+            try (Statement stmt = conn.createStatement();
+                 ResultSet rs = stmt.executeQuery("SELECT 1 FROM other_adjustments LIMIT 1")) {
+                if (rs.next()) {
+                    return;
+                }
             }
-        } catch (Exception e) {
-            logger.error("Error loading from {}: {}", file.getName(), e.getMessage());
+            PayrollOtherAdjustments loaded = loadFromFile(ADJ_DATA_FILE);
+            if (loaded == null) {
+                loaded = loadFromFile(BACKUP_DATA_FILE);
+            }
+            if (loaded == null) {
+                return;
+            }
+            
+            int count = 0;
+            conn.setAutoCommit(false);
+            try (PreparedStatement insert = conn.prepareStatement(INSERT_ADJUSTMENT);
+                 PreparedStatement audit = conn.prepareStatement(INSERT_AUDIT)) {
+                for (List<OtherAdjustment> list : loaded.adjustments.values()) {
+                    for (OtherAdjustment adj : list) {
+                        bindAdjustment(insert, adj, adj.driverId, adj.weekStart, adj.id);
+                        insert.addBatch();
+                        count++;
+                    }
+                }
+                insert.executeBatch();
+                for (AuditEntry entry : loaded.auditTrail.values()) {
+                    bindAudit(audit, entry);
+                    audit.addBatch();
+                }
+                audit.executeBatch();
+                conn.commit();
+            } catch (SQLException e) {
+                conn.rollback();
+                throw e;
+            }
+            LegacyLedgerFile.retire(ADJ_DATA_FILE);
+            LegacyLedgerFile.retire(BACKUP_DATA_FILE);
+            logger.info("Imported {} adjustments and {} audit entries from the legacy data file",
+                count, loaded.auditTrail.size());
+        } catch (SQLException e) {
+            logger.error("Failed to import legacy adjustments data", e);
         }
-        
-        return null;
     }
-    
-    private void copyFrom(PayrollOtherAdjustments other) {
-        this.adjustments.clear();
-        this.adjustments.putAll(other.adjustments);
-        this.auditTrail.clear();
-        this.auditTrail.putAll(other.auditTrail);
-        this.dataModified = false;
+
+    private static PayrollOtherAdjustments loadFromFile(String fileName) {
+        return LegacyLedgerFile.read(fileName) instanceof PayrollOtherAdjustments loaded ? loaded : null;
     }
 
     // Result classes
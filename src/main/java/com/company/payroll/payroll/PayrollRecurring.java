@@ -8,7 +8,9 @@ import org.slf4j.LoggerFactory;
 import java.sql.*;
 import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Simple recurring fee deduction logic for PayrollTab.
@@ -152,6 +154,26 @@ public class PayrollRecurring {
         return 0.0;
     }
 
+    // Same totals as totalDeductionsForDriverWeek for every driver charged in the week; absent = 0
+    public Map<Integer, Double> totalDeductionsByDriverForWeek(LocalDate weekStart) {
+        logger.debug("Calculating total deductions for all drivers week {}", weekStart);
+        ensureTable();
+        Map<Integer, Double> totals = new HashMap<>();
+        String sql = "SELECT driver_id, SUM(amount) FROM recurring_deductions WHERE week_start=? GROUP BY driver_id";
+        try (Connection conn = DatabaseConfig.getConnection();
+             PreparedStatement ps = conn.prepareStatement(sql)) {
+            ps.setDate(1, java.sql.Date.valueOf(weekStart));
+            ResultSet rs = ps.executeQuery();
+            while (rs.next()) {
+                totals.put(rs.getInt(1), rs.getDouble(2));
+            }
+            logger.debug("Recurring deductions found for {} drivers week {}", totals.size(), weekStart);
+        } catch (SQLException e) {
+            logger.error("Error summing deductions for week {}: {}", weekStart, e.getMessage(), e);
+        }
+        return totals;
+    }
+
     // Charge all recurring fees for a driver+week, but don't allow duplicate charges
     public boolean chargeAllRecurringFees(int driverId, LocalDate weekStart, List<RecurringDeduction> toCharge) {
         logger.info("Charging {} recurring fees for driver {} week {}", toCharge.size(), driverId, weekStart);
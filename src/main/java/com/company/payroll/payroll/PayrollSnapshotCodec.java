@@ -0,0 +1,269 @@
+package com.company.payroll.payroll;
+
+import com.company.payroll.employees.Employee;
+import com.company.payroll.employees.PaymentType;
+import com.company.payroll.fuel.FuelTransaction;
+import com.company.payroll.loads.Load;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * Binary form of a {@link PayrollCalculator.PayrollRow} frozen with its week, deflated.
+ * <p>
+ * A snapshot holds every amount of the row, the payment method breakdown and the load and
+ * fuel line items. Loads keep the fields payroll and its reports read; their documents and
+ * extra stops are not part of the snapshot. The driver of the loads is not stored either
+ * and is attached again when the snapshot is read.
+ * <p>
+ * The format starts with its {@link #VERSION}; bump it whenever the layout changes and keep
+ * reading the older versions, or treat them as missing so the week is calculated again.
+ */
+final class PayrollSnapshotCodec {
+    static final int VERSION = 1;
+
+    private PayrollSnapshotCodec() {
+    }
+
+    static byte[] encode(PayrollCalculator.PayrollRow row) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(512);
+        try (DataOutputStream out = new DataOutputStream(new DeflaterOutputStream(bytes))) {
+            out.writeInt(VERSION);
+            out.writeInt(row.driverId);
+            writeString(out, row.driverName);
+            writeString(out, row.truckUnit);
+            out.writeInt(row.loadCount);
+            for (double amount : new double[] {row.gross, row.serviceFee, row.grossAfterServiceFee, row.companyPay,
+                    row.driverPay, row.driverGrossShare, row.fuel, row.grossAfterFuel, row.recurringFees,
+                    row.advancesGiven, row.advanceRepayments, row.escrowDeposits, row.otherDeductions,
+                    row.reimbursements, row.netPay, row.companyPercent, row.driverPercent, row.serviceFeePercent,
+                    row.totalMiles}) {
+                out.writeDouble(amount);
+            }
+
+            out.writeInt(row.paymentMethodCounts.size());
+            for (Map.Entry<PaymentType, Integer> entry : row.paymentMethodCounts.entrySet()) {
+                out.writeUTF(entry.getKey().name());
+                out.writeInt(entry.getValue());
+            }
+            out.writeInt(row.paymentMethodTotals.size());
+            for (Map.Entry<PaymentType, BigDecimal> entry : row.paymentMethodTotals.entrySet()) {
+                out.writeUTF(entry.getKey().name());
+                out.writeUTF(entry.getValue().toPlainString());
+            }
+
+            out.writeInt(row.loads.size());
+            for (Load load : row.loads) {
+                writeLoad(out, load);
+            }
+            out.writeInt(row.fuels.size());
+            for (FuelTransaction fuel : row.fuels) {
+                writeFuel(out, fuel);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e); // Not thrown by in-memory streams
+        }
+        return bytes.toByteArray();
+    }
+
+    /**
+     * @param driver the driver the row belongs to, attached to its loads; may be null
+     * @return the row, or null when the snapshot was written by an unknown format version
+     */
+    static PayrollCalculator.PayrollRow decode(byte[] data, Employee driver) throws IOException {
+        try (DataInputStream in = new DataInputStream(new InflaterInputStream(new ByteArrayInputStream(data)))) {
+            if (in.readInt() != VERSION) {
+                return null;
+            }
+            int driverId = in.readInt();
+            String driverName = readString(in);
+            String truckUnit = readString(in);
+            int loadCount = in.readInt();
+            double[] amounts = new double[19];
+            for (int i = 0; i < amounts.length; i++) {
+                amounts[i] = in.readDouble();
+            }
+
+            Map<PaymentType, Integer> counts = new EnumMap<>(PaymentType.class);
+            for (int i = in.readInt(); i > 0; i--) {
+                counts.put(PaymentType.valueOf(in.readUTF()), in.readInt());
+            }
+            Map<PaymentType, BigDecimal> totals = new EnumMap<>(PaymentType.class);
+            for (int i = in.readInt(); i > 0; i--) {
+                totals.put(PaymentType.valueOf(in.readUTF()), new BigDecimal(in.readUTF()));
+            }
+
+            int loadTotal = in.readInt();
+            List<Load> loads = new ArrayList<>(loadTotal);
+            for (int i = 0; i < loadTotal; i++) {
+                loads.add(readLoad(in, driver));
+            }
+            int fuelTotal = in.readInt();
+            List<FuelTransaction> fuels = new ArrayList<>(fuelTotal);
+            for (int i = 0; i < fuelTotal; i++) {
+                fuels.add(readFuel(in));
+            }
+
+            return new PayrollCalculator.PayrollRow(driverId, driverName, truckUnit, loadCount,
+                amounts[0], amounts[1], amounts[2], amounts[3], amounts[4], amounts[5], amounts[6], amounts[7],
+                amounts[8], amounts[9], amounts[10], amounts[11], amounts[12], amounts[13], amounts[14],
+                loads, fuels, amounts[15], amounts[16], amounts[17], counts, totals, amounts[18]);
+        }
+    }
+
+    private static void writeLoad(DataOutputStream out, Load load) throws IOException {
+        out.writeInt(load.getId());
+        writeString(out, load.getLoadNumber());
+        writeString(out, load.getPONumber());
+        writeString(out, load.getCustomer());
+        writeString(out, load.getCustomer2());
+        writeString(out, load.getBillTo());
+        writeString(out, load.getPickUpLocation());
+        writeString(out, load.getDropLocation());
+        writeString(out, load.getTruckUnitSnapshot());
+        out.writeInt(load.getTrailerId());
+        writeString(out, load.getTrailerNumber());
+        writeString(out, load.getStatus() != null ? load.getStatus().name() : null);
+        out.writeDouble(load.getGrossAmount());
+        writeString(out, load.getNotes());
+        writeString(out, load.getPickUpDate() != null ? load.getPickUpDate().toString() : null);
+        writeString(out, load.getPickUpTime() != null ? load.getPickUpTime().toString() : null);
+        writeString(out, load.getDeliveryDate() != null ? load.getDeliveryDate().toString() : null);
+        writeString(out, load.getDeliveryTime() != null ? load.getDeliveryTime().toString() : null);
+        writeString(out, load.getReminder());
+        out.writeBoolean(load.isHasLumper());
+        out.writeDouble(load.getLumperAmount());
+        out.writeBoolean(load.isHasRevisedRateConfirmation());
+        out.writeDouble(load.getDriverRate());
+        writeString(out, load.getPickupZipCode());
+        writeString(out, load.getDeliveryZipCode());
+        out.writeDouble(load.getCalculatedMiles());
+        writeString(out, load.getMilesCalculationDate() != null ? load.getMilesCalculationDate().toString() : null);
+        writeString(out, load.getPaymentMethodUsed() != null ? load.getPaymentMethodUsed().name() : null);
+        out.writeDouble(load.getCalculatedDriverPay());
+        out.writeDouble(load.getPaymentRateUsed());
+        out.writeDouble(load.getFlatRateAmount());
+    }
+
+    private static Load readLoad(DataInputStream in, Employee driver) throws IOException {
+        int id = in.readInt();
+        String loadNumber = readString(in);
+        String poNumber = readString(in);
+        String customer = readString(in);
+        String customer2 = readString(in);
+        String billTo = readString(in);
+        String pickUpLocation = readString(in);
+        String dropLocation = readString(in);
+        String truckUnit = readString(in);
+        int trailerId = in.readInt();
+        String trailerNumber = readString(in);
+        String status = readString(in);
+        double grossAmount = in.readDouble();
+        String notes = readString(in);
+        String pickUpDate = readString(in);
+        String pickUpTime = readString(in);
+        String deliveryDate = readString(in);
+        String deliveryTime = readString(in);
+        String reminder = readString(in);
+        boolean hasLumper = in.readBoolean();
+        double lumperAmount = in.readDouble();
+        boolean hasRevisedRateConfirmation = in.readBoolean();
+
+        Load load = new Load(id, loadNumber, poNumber, customer, customer2, billTo, pickUpLocation, dropLocation,
+            driver, truckUnit, status != null ? Load.Status.valueOf(status) : null, grossAmount, notes,
+            pickUpDate != null ? LocalDate.parse(pickUpDate) : null,
+            pickUpTime != null ? LocalTime.parse(pickUpTime) : null,
+            deliveryDate != null ? LocalDate.parse(deliveryDate) : null,
+            deliveryTime != null ? LocalTime.parse(deliveryTime) : null,
+            reminder, hasLumper, lumperAmount, hasRevisedRateConfirmation);
+        load.setTrailerId(trailerId);
+        load.setTrailerNumber(trailerNumber);
+        load.setDriverRate(in.readDouble());
+        load.setPickupZipCode(readString(in));
+        load.setDeliveryZipCode(readString(in));
+        load.setCalculatedMiles(in.readDouble());
+        String milesDate = readString(in);
+        load.setMilesCalculationDate(milesDate != null ? LocalDateTime.parse(milesDate) : null);
+        String paymentMethod = readString(in);
+        load.setPaymentMethodUsed(paymentMethod != null ? PaymentType.valueOf(paymentMethod) : null);
+        load.setCalculatedDriverPay(in.readDouble());
+        load.setPaymentRateUsed(in.readDouble());
+        load.setFlatRateAmount(in.readDouble());
+        return load;
+    }
+
+    private static void writeFuel(DataOutputStream out, FuelTransaction fuel) throws IOException {
+        out.writeInt(fuel.getId());
+        for (String value : new String[] {fuel.getCardNumber(), fuel.getTranDate(), fuel.getTranTime(),
+                fuel.getInvoice(), fuel.getUnit(), fuel.getDriverName(), fuel.getOdometer(), fuel.getLocationName(),
+                fuel.getCity(), fuel.getStateProv()}) {
+            writeString(out, value);
+        }
+        out.writeDouble(fuel.getFees());
+        writeString(out, fuel.getItem());
+        for (double value : new double[] {fuel.getUnitPrice(), fuel.getDiscPPU(), fuel.getDiscCost(), fuel.getQty(),
+                fuel.getDiscAmt()}) {
+            out.writeDouble(value);
+        }
+        writeString(out, fuel.getDiscType());
+        out.writeDouble(fuel.getAmt());
+        writeString(out, fuel.getDb());
+        writeString(out, fuel.getCurrency());
+        out.writeInt(fuel.getEmployeeId());
+    }
+
+    private static FuelTransaction readFuel(DataInputStream in) throws IOException {
+        int id = in.readInt();
+        String[] text = new String[10];
+        for (int i = 0; i < text.length; i++) {
+            text[i] = readString(in);
+        }
+        double fees = in.readDouble();
+        String item = readString(in);
+        double[] amounts = new double[5];
+        for (int i = 0; i < amounts.length; i++) {
+            amounts[i] = in.readDouble();
+        }
+        String discType = readString(in);
+        double amt = in.readDouble();
+        String db = readString(in);
+        String currency = readString(in);
+        int employeeId = in.readInt();
+        return new FuelTransaction(id, text[0], text[1], text[2], text[3], text[4], text[5], text[6], text[7],
+            text[8], text[9], fees, item, amounts[0], amounts[1], amounts[2], amounts[3], amounts[4], discType,
+            amt, db, currency, employeeId);
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        if (value == null) {
+            out.writeInt(-1);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(DataInputStream in) throws IOException {
+        int length = in.readInt();
+        if (length < 0) {
+            return null;
+        }
+        return new String(in.readNBytes(length), StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,326 @@
+package com.company.payroll.payroll;
+
+import com.company.payroll.database.DatabaseConfig;
+import com.company.payroll.exception.DataAccessException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.BiFunction;
+
+/**
+ * Materialized per-driver payroll totals of whole Monday-to-Sunday weeks, so financial
+ * reports over months or years read stored rows instead of running the payroll engine
+ * once per week.
+ * <p>
+ * {@code weekly_financial_aggregates} holds one row per (week_start, driver_id) and
+ * {@code weekly_financial_weeks} lists the weeks whose rows are current. Before reading,
+ * the weeks logged in {@link PayrollInputChanges} since the last read are dropped from
+ * that list. Missing weeks are calculated on demand and stored, unless a payroll input
+ * changed while they were being calculated.
+ */
+public final class WeeklyFinancialAggregates {
+    private static final Logger logger = LoggerFactory.getLogger(WeeklyFinancialAggregates.class);
+
+    private static volatile boolean ensured;
+
+    private final BiFunction<LocalDate, LocalDate, List<PayrollCalculator.PayrollRow>> calculator;
+
+    /**
+     * Totals of one driver for one week
+     * @param deductions recurring fees, advance repayments, escrow deposits and other deductions
+     */
+    public record Aggregate(LocalDate weekStart, int driverId, String driverName, int loadCount, double gross,
+                            double serviceFee, double companyPay, double fuel, double deductions, double netPay) {
+        static Aggregate of(LocalDate weekStart, PayrollCalculator.PayrollRow row) {
+            return new Aggregate(weekStart, row.driverId, row.driverName, row.loadCount, row.gross, row.serviceFee,
+                row.companyPay, row.fuel,
+                row.recurringFees + row.advanceRepayments + row.escrowDeposits + row.otherDeductions, row.netPay);
+        }
+    }
+
+    /**
+     * @param calculator payroll rows of all drivers for a date range
+     */
+    public WeeklyFinancialAggregates(BiFunction<LocalDate, LocalDate, List<PayrollCalculator.PayrollRow>> calculator) {
+        this.calculator = calculator;
+        ensureSchema();
+    }
+
+    public static LocalDate weekStart(LocalDate date) {
+        return PayrollInputChanges.weekStart(date);
+    }
+
+    /**
+     * Rows of every week from the week of {@code first} to the week of {@code last}, both
+     * included, calculating the weeks that are not materialized yet.
+     */
+    public List<Aggregate> getWeeks(LocalDate first, LocalDate last) {
+        LocalDate from = weekStart(first);
+        LocalDate to = weekStart(last);
+        if (to.isBefore(from)) {
+            return new ArrayList<>();
+        }
+        try {
+            long seq = applyChanges();
+            Set<LocalDate> stored = new HashSet<>();
+            try (Connection conn = DatabaseConfig.getReadConnection()) {
+                try (PreparedStatement ps = conn.prepareStatement(
+                        "SELECT week_start FROM weekly_financial_weeks WHERE week_start BETWEEN ? AND ?")) {
+                    ps.setString(1, from.toString());
+                    ps.setString(2, to.toString());
+                    try (ResultSet rs = ps.executeQuery()) {
+                        while (rs.next()) {
+                            stored.add(LocalDate.parse(rs.getString(1)));
+                        }
+                    }
+                }
+            }
+
+            List<Aggregate> result = new ArrayList<>();
+            List<Aggregate> calculated = new ArrayList<>();
+            List<LocalDate> calculatedWeeks = new ArrayList<>();
+            for (LocalDate week = from; !week.isAfter(to); week = week.plusWeeks(1)) {
+                if (stored.contains(week)) {
+                    continue;
+                }
+                List<Aggregate> rows = calculate(week);
+                result.addAll(rows);
+                if (rows.stream().noneMatch(r -> r.driverName() != null && r.driverName().contains("(ERROR:"))) {
+                    calculated.addAll(rows);
+                    calculatedWeeks.add(week);
+                }
+            }
+            if (!calculatedWeeks.isEmpty()) {
+                logger.info("Calculated {} of {} weeks from {} to {}", calculatedWeeks.size(),
+                    calculatedWeeks.size() + stored.size(), from, to);
+                store(calculatedWeeks, calculated, seq);
+            }
+            if (!stored.isEmpty()) {
+                result.addAll(read(from, to, stored));
+            }
+            result.sort(Comparator.comparing(Aggregate::weekStart));
+            return result;
+        } catch (SQLException e) {
+            logger.error("Error reading weekly financial aggregates: {}", e.getMessage(), e);
+            throw new DataAccessException("Error reading weekly financial aggregates", e);
+        }
+    }
+
+    /**
+     * Forget every materialized week, e.g. after a change the triggers cannot see.
+     */
+    public void invalidateAll() {
+        try {
+            DatabaseConfig.write(() -> {
+                try (Connection conn = DatabaseConfig.getConnection();
+                     Statement stmt = conn.createStatement()) {
+                    stmt.executeUpdate("DELETE FROM weekly_financial_weeks");
+                }
+                return null;
+            });
+            logger.info("Invalidated all weekly financial aggregates");
+        } catch (SQLException e) {
+            logger.error("Error invalidating weekly financial aggregates: {}", e.getMessage(), e);
+            throw new DataAccessException("Error invalidating weekly financial aggregates", e);
+        }
+    }
+
+    /**
+     * Drop the weeks whose inputs changed since the last read.
+     * @return sequence number of the last change applied
+     */
+    private static long applyChanges() throws SQLException {
+        try (Connection conn = DatabaseConfig.getReadConnection()) {
+            long applied = appliedSeq(conn);
+            if (PayrollInputChanges.latestSeq(conn) == applied) {
+                return applied;
+            }
+        }
+        return DatabaseConfig.write(() -> {
+            try (Connection conn = DatabaseConfig.getConnection()) {
+                PayrollInputChanges.Changes changes = PayrollInputChanges.since(conn, appliedSeq(conn));
+                if (changes.all()) {
+                    try (Statement stmt = conn.createStatement()) {
+                        stmt.executeUpdate("DELETE FROM weekly_financial_weeks");
+                    }
+                } else {
+                    if (changes.carriedFrom() != null) {
+                        try (PreparedStatement ps = conn.prepareStatement(
+                                "DELETE FROM weekly_financial_weeks WHERE week_start >= ?")) {
+                            ps.setString(1, changes.carriedFrom().toString());
+                            ps.executeUpdate();
+                        }
+                    }
+                    try (PreparedStatement ps = conn.prepareStatement(
+                            "DELETE FROM weekly_financial_weeks WHERE week_start = ?")) {
+                        for (LocalDate week : changes.weeks()) {
+                            ps.setString(1, week.toString());
+                            ps.addBatch();
+                        }
+                        ps.executeBatch();
+                    }
+                }
+                try (PreparedStatement ps = conn.prepareStatement("UPDATE weekly_financial_sync SET applied_seq = ?")) {
+                    ps.setLong(1, changes.seq());
+                    ps.executeUpdate();
+                }
+                PayrollInputChanges.prune(conn);
+                logger.debug("Applied payroll input changes up to {}: {}", changes.seq(),
+                    changes.all() ? "all weeks" : changes.weeks().size() + " weeks");
+                return changes.seq();
+            }
+        });
+    }
+
+    private List<Aggregate> calculate(LocalDate week) {
+        List<Aggregate> rows = new ArrayList<>();
+        for (PayrollCalculator.PayrollRow row : calculator.apply(week, week.plusDays(6))) {
+            rows.add(Aggregate.of(week, row));
+        }
+        return rows;
+    }
+
+    /**
+     * Replace the rows of the calculated weeks, unless a payroll input changed since the
+     * calculation started.
+     */
+    private void store(List<LocalDate> weeks, List<Aggregate> rows, long seq) throws SQLException {
+        boolean stored = DatabaseConfig.write(() -> {
+            try (Connection conn = DatabaseConfig.getConnection()) {
+                if (PayrollInputChanges.latestSeq(conn) != seq) {
+                    return false;
+                }
+                try (PreparedStatement deleteRows = conn.prepareStatement(
+                         "DELETE FROM weekly_financial_aggregates WHERE week_start = ?");
+                     PreparedStatement markWeek = conn.prepareStatement(
+                         "INSERT OR REPLACE INTO weekly_financial_weeks (week_start, computed_at) VALUES (?, ?)");
+                     PreparedStatement insertRow = conn.prepareStatement("""
+                         INSERT INTO weekly_financial_aggregates (week_start, driver_id, driver_name, load_count,
+                             gross, service_fee, company_pay, fuel, deductions, net_pay)
+                         VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+                         """)) {
+                    long now = System.currentTimeMillis();
+                    for (LocalDate week : weeks) {
+                        deleteRows.setString(1, week.toString());
+                        deleteRows.addBatch();
+                        markWeek.setString(1, week.toString());
+                        markWeek.setLong(2, now);
+                        markWeek.addBatch();
+                    }
+                    deleteRows.executeBatch();
+                    for (Aggregate row : rows) {
+                        insertRow.setString(1, row.weekStart().toString());
+                        insertRow.setInt(2, row.driverId());
+                        insertRow.setString(3, row.driverName());
+                        insertRow.setInt(4, row.loadCount());
+                        insertRow.setDouble(5, row.gross());
+                        insertRow.setDouble(6, row.serviceFee());
+                        insertRow.setDouble(7, row.companyPay());
+                        insertRow.setDouble(8, row.fuel());
+                        insertRow.setDouble(9, row.deductions());
+                        insertRow.setDouble(10, row.netPay());
+                        insertRow.addBatch();
+                    }
+                    insertRow.executeBatch();
+                    markWeek.executeBatch();
+                }
+                return true;
+            }
+        });
+        if (!stored) {
+            logger.debug("Payroll inputs changed while calculating {} weeks; not storing them", weeks.size());
+        }
+    }
+
+    private List<Aggregate> read(LocalDate from, LocalDate to, Set<LocalDate> weeks) throws SQLException {
+        String sql = """
+            SELECT a.week_start, a.driver_id, a.driver_name, a.load_count, a.gross, a.service_fee,
+                   a.company_pay, a.fuel, a.deductions, a.net_pay
+            FROM weekly_financial_aggregates a
+            JOIN weekly_financial_weeks w ON w.week_start = a.week_start
+            WHERE a.week_start BETWEEN ? AND ?
+            """;
+        List<Aggregate> rows = new ArrayList<>();
+        try (Connection conn = DatabaseConfig.getReadConnection();
+             PreparedStatement ps = conn.prepareStatement(sql)) {
+            ps.setString(1, from.toString());
+            ps.setString(2, to.toString());
+            try (ResultSet rs = ps.executeQuery()) {
+                while (rs.next()) {
+                    LocalDate week = LocalDate.parse(rs.getString("week_start"));
+                    if (!weeks.contains(week)) {
+                        continue; // Invalidated after the week list was read; calculated above instead
+                    }
+                    rows.add(new Aggregate(week, rs.getInt("driver_id"), rs.getString("driver_name"),
+                        rs.getInt("load_count"), rs.getDouble("gross"), rs.getDouble("service_fee"),
+                        rs.getDouble("company_pay"), rs.getDouble("fuel"), rs.getDouble("deductions"),
+                        rs.getDouble("net_pay")));
+                }
+            }
+        }
+        return rows;
+    }
+
+    private static long appliedSeq(Connection conn) throws SQLException {
+        try (Statement stmt = conn.createStatement();
+             ResultSet rs = stmt.executeQuery("SELECT applied_seq FROM weekly_financial_sync")) {
+            return rs.next() ? rs.getLong(1) : 0;
+        }
+    }
+
+    /**
+     * Create the tables and the payroll input change log.
+     */
+    private static synchronized void ensureSchema() {
+        if (ensured) {
+            return;
+        }
+        try (Connection conn = DatabaseConfig.getConnection();
+             Statement stmt = conn.createStatement()) {
+            stmt.execute("""
+                CREATE TABLE IF NOT EXISTS weekly_financial_aggregates (
+                    week_start TEXT NOT NULL,
+                    driver_id INTEGER NOT NULL,
+                    driver_name TEXT,
+                    load_count INTEGER NOT NULL DEFAULT 0,
+                    gross REAL NOT NULL DEFAULT 0,
+                    service_fee REAL NOT NULL DEFAULT 0,
+                    company_pay REAL NOT NULL DEFAULT 0,
+                    fuel REAL NOT NULL DEFAULT 0,
+                    deductions REAL NOT NULL DEFAULT 0,
+                    net_pay REAL NOT NULL DEFAULT 0,
+                    PRIMARY KEY (week_start, driver_id)
+                )
+            """);
+            stmt.execute("""
+                CREATE TABLE IF NOT EXISTS weekly_financial_weeks (
+                    week_start TEXT PRIMARY KEY,
+                    computed_at INTEGER NOT NULL
+                )
+            """);
+            stmt.execute("CREATE TABLE IF NOT EXISTS weekly_financial_sync (applied_seq INTEGER NOT NULL)");
+            PayrollInputChanges.ensure(conn);
+            stmt.execute("""
+                INSERT INTO weekly_financial_sync (applied_seq)
+                SELECT IFNULL((SELECT MAX(seq) FROM payroll_input_changes), 0)
+                WHERE NOT EXISTS (SELECT 1 FROM weekly_financial_sync)
+            """);
+            ensured = true;
+            logger.info("Weekly financial aggregates initialized");
+        } catch (SQLException e) {
+            logger.error("Failed to initialize weekly financial aggregates: {}", e.getMessage(), e);
+            throw new DataAccessException("Failed to initialize weekly financial aggregates", e);
+        }
+    }
+}
@@ -22,8 +22,11 @@ import java.time.format.DateTimeFormatter;
 import java.time.temporal.TemporalAdjusters;
 import java.text.NumberFormat;
 import java.util.*;
-import java.util.stream.Collectors;
-import com.company.payroll.loads.LoadDAO;
+import com.company.payroll.analytics.FactStore;
+import com.company.payroll.analytics.Groups;
+import com.company.payroll.analytics.LoadFacts;
+import com.company.payroll.database.DimensionLookup;
+import com.company.payroll.database.DimensionLookup.Dimension;
 import com.company.payroll.payroll.ModernButtonStyles;
 import com.company.payroll.loads.Load;
 import com.company.payroll.loads.Load.Status;
@@ -79,9 +82,12 @@ public class RevenueTab extends Tab implements WindowAware {
     private static final NumberFormat CURRENCY_FORMAT = NumberFormat.getCurrencyInstance();
     private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofPattern("MM/dd/yyyy");
 
-    private final LoadDAO loadDAO = new LoadDAO();
+    private final FactStore factStore = FactStore.getInstance();
     private ObservableList<RevenueEntry> allRevenueData = FXCollections.observableArrayList();
     private ObservableList<RevenueEntry> filteredData = FXCollections.observableArrayList();
+    // Columnar copies of the entries above, row for row, for the summary and chart kernels
+    private LoadFacts allFacts;
+    private LoadFacts filteredFacts;
     
     private String companyName = "Your Company Name";
     private Image companyLogo = null;
@@ -757,25 +763,25 @@ public class RevenueTab extends Tab implements WindowAware {
                 LocalDate start = startDatePicker.getValue();
                 LocalDate end = endDatePicker.getValue();
                 
-                // Load data from LoadDAO
-                List<Load> loads = loadDAO.getByDateRange(start, end);
+                // Delivered loads from the report fact store
+                LoadFacts delivered = factStore.deliveredLoads(start, end);
+                LoadFacts facts = delivered.where(row -> delivered.gross(row) > 0);
                 
                 // Convert to RevenueEntry objects
                 allRevenueData.clear();
-                for (Load load : loads) {
-                    if (load.getGrossAmount() > 0) {
-                        RevenueEntry entry = new RevenueEntry(
-                            "INV-" + load.getId(),
-                            load.getPickUpDate() != null ? load.getPickUpDate() : load.getDeliveryDate(),
-                            load.getCustomer(),
-                            String.valueOf(load.getId()),
-                            load.getGrossAmount(),
-                            mapLoadStatusToRevenue(load.getStatus()),
-                            load.getNotes()
-                        );
-                        allRevenueData.add(entry);
-                    }
+                for (int row = 0; row < facts.size(); row++) {
+                    RevenueEntry entry = new RevenueEntry(
+                        "INV-" + facts.loadId(row),
+                        facts.day(row),
+                        facts.customer(row),
+                        String.valueOf(facts.loadId(row)),
+                        facts.gross(row),
+                        mapLoadStatusToRevenue(facts.status(row)),
+                        facts.notes(row)
+                    );
+                    allRevenueData.add(entry);
                 }
+                allFacts = facts;
                 
                 return null;
             }
@@ -797,6 +803,21 @@ public class RevenueTab extends Tab implements WindowAware {
         new Thread(loadTask).start();
     }
     
+    /**
+     * Revenue of the filtered loads by revenue status, summed by load status first
+     */
+    private Map<String, Double> revenueByStatus() {
+        Map<String, Double> statusRevenue = new LinkedHashMap<>();
+        if (filteredFacts != null) {
+            Groups byStatus = filteredFacts.grossBy(LoadFacts.Key.STATUS);
+            Load.Status[] statuses = Load.Status.values();
+            for (int i = 0; i < byStatus.size(); i++) {
+                statusRevenue.merge(mapLoadStatusToRevenue(statuses[byStatus.key(i)]), byStatus.sum(i), Double::sum);
+            }
+        }
+        return statusRevenue;
+    }
+    
     private String mapLoadStatusToRevenue(Load.Status loadStatus) {
         return switch (loadStatus) {
             case PAID -> "PAID";
@@ -813,7 +834,9 @@ public class RevenueTab extends Tab implements WindowAware {
         String searchText = searchField.getText().toLowerCase();
         String selectedCustomer = customerComboBox.getValue();
         
-        for (RevenueEntry entry : allRevenueData) {
+        boolean[] matches = new boolean[allRevenueData.size()];
+        for (int i = 0; i < allRevenueData.size(); i++) {
+            RevenueEntry entry = allRevenueData.get(i);
             boolean matchesSearch = searchText.isEmpty() ||
                 entry.getInvoiceNumber().toLowerCase().contains(searchText) ||
                 entry.getCustomer().toLowerCase().contains(searchText) ||
@@ -825,27 +848,27 @@ public class RevenueTab extends Tab implements WindowAware {
             
             if (matchesSearch && matchesCustomer) {
                 filteredData.add(entry);
+                matches[i] = true;
             }
         }
+        filteredFacts = allFacts != null ? allFacts.where(row -> matches[row]) : null;
         
         revenueTable.setItems(filteredData);
         updateSummary();
     }
     
     private void updateSummary() {
-        double totalRevenue = 0;
+        double totalRevenue = filteredFacts != null ? filteredFacts.totalGross() : 0;
         double collected = 0;
         double pending = 0;
         double outstanding = 0;
         int totalLoads = filteredData.size();
         
-        for (RevenueEntry entry : filteredData) {
-            totalRevenue += entry.getAmount();
-            
-            switch (entry.getStatus()) {
-                case "PAID" -> collected += entry.getAmount();
-                case "PENDING" -> pending += entry.getAmount();
-                case "OVERDUE" -> outstanding += entry.getAmount();
+        for (Map.Entry<String, Double> entry : revenueByStatus().entrySet()) {
+            switch (entry.getKey()) {
+                case "PAID" -> collected += entry.getValue();
+                case "PENDING" -> pending += entry.getValue();
+                case "OVERDUE" -> outstanding += entry.getValue();
             }
         }
         
@@ -890,20 +913,19 @@ public class RevenueTab extends Tab implements WindowAware {
     private void updateRevenueLineChart() {
         revenueChart.getData().clear();
         
-        // Group by date
-        Map<LocalDate, Double> dailyRevenue = new TreeMap<>();
-        for (RevenueEntry entry : filteredData) {
-            dailyRevenue.merge(entry.getDate(), entry.getAmount(), Double::sum);
-        }
-        
         XYChart.Series<String, Number> series = new XYChart.Series<>();
         series.setName("Daily Revenue");
         
-        for (Map.Entry<LocalDate, Double> entry : dailyRevenue.entrySet()) {
-            series.getData().add(new XYChart.Data<>(
-                entry.getKey().format(DateTimeFormatter.ofPattern("MM/dd")), 
-                entry.getValue()
-            ));
+        // Group by date
+        if (filteredFacts != null) {
+            Groups dailyRevenue = filteredFacts.grossBy(LoadFacts.Key.DAY);
+            DateTimeFormatter dayFormat = DateTimeFormatter.ofPattern("MM/dd");
+            for (int i = 0; i < dailyRevenue.size(); i++) {
+                series.getData().add(new XYChart.Data<>(
+                    Groups.toDate(dailyRevenue.key(i)).format(dayFormat),
+                    dailyRevenue.sum(i)
+                ));
+            }
         }
         
         revenueChart.getData().add(series);
@@ -912,20 +934,14 @@ public class RevenueTab extends Tab implements WindowAware {
     private void updateCustomerBarChart() {
         customerChart.getData().clear();
         
-        // Group by customer and get top 10
-        Map<String, Double> customerRevenue = new HashMap<>();
-        for (RevenueEntry entry : filteredData) {
-            customerRevenue.merge(entry.getCustomer(), entry.getAmount(), Double::sum);
-        }
-        
-        List<Map.Entry<String, Double>> sortedCustomers = customerRevenue.entrySet().stream()
-            .sorted(Map.Entry.<String, Double>comparingByValue().reversed())
-            .limit(10)
-            .collect(Collectors.toList());
-        
         XYChart.Series<String, Number> series = new XYChart.Series<>();
-        for (Map.Entry<String, Double> entry : sortedCustomers) {
-            series.getData().add(new XYChart.Data<>(entry.getKey(), entry.getValue()));
+        
+        // Group by customer and get top 10
+        if (filteredFacts != null) {
+            Groups topCustomers = filteredFacts.grossBy(LoadFacts.Key.CUSTOMER).top(10);
+            for (int i = 0; i < topCustomers.size(); i++) {
+                series.getData().add(new XYChart.Data<>(topCustomers.label(i), topCustomers.sum(i)));
+            }
         }
         
         customerChart.getData().add(series);
@@ -934,12 +950,7 @@ public class RevenueTab extends Tab implements WindowAware {
     private void updateStatusPieChart() {
         statusChart.getData().clear();
         
-        Map<String, Double> statusRevenue = new HashMap<>();
-        for (RevenueEntry entry : filteredData) {
-            statusRevenue.merge(entry.getStatus(), entry.getAmount(), Double::sum);
-        }
-        
-        for (Map.Entry<String, Double> entry : statusRevenue.entrySet()) {
+        for (Map.Entry<String, Double> entry : revenueByStatus().entrySet()) {
             PieChart.Data slice = new PieChart.Data(
                 entry.getKey() + " (" + CURRENCY_FORMAT.format(entry.getValue()) + ")", 
                 entry.getValue()
@@ -951,18 +962,19 @@ public class RevenueTab extends Tab implements WindowAware {
     private void updateMonthlyTrendChart() {
         trendChart.getData().clear();
         
-        // Group by month
-        Map<String, Double> monthlyRevenue = new TreeMap<>();
-        for (RevenueEntry entry : filteredData) {
-            String month = entry.getDate().format(DateTimeFormatter.ofPattern("MMM yyyy"));
-            monthlyRevenue.merge(month, entry.getAmount(), Double::sum);
-        }
-        
         XYChart.Series<String, Number> series = new XYChart.Series<>();
         series.setName("Monthly Revenue");
         
-        for (Map.Entry<String, Double> entry : monthlyRevenue.entrySet()) {
-            series.getData().add(new XYChart.Data<>(entry.getKey(), entry.getValue()));
+        // Group by month, in calendar order
+        if (filteredFacts != null) {
+            Groups monthlyRevenue = filteredFacts.grossBy(LoadFacts.Key.MONTH);
+            DateTimeFormatter monthFormat = DateTimeFormatter.ofPattern("MMM yyyy");
+            for (int i = 0; i < monthlyRevenue.size(); i++) {
+                series.getData().add(new XYChart.Data<>(
+                    Groups.toMonth(monthlyRevenue.key(i)).format(monthFormat),
+                    monthlyRevenue.sum(i)
+                ));
+            }
         }
         
         trendChart.getData().add(series);
@@ -978,21 +990,13 @@ public class RevenueTab extends Tab implements WindowAware {
             LocalDate end = endDatePicker.getValue();
             long daysBetween = java.time.temporal.ChronoUnit.DAYS.between(start, end) + 1;
             
-            double totalRevenue = filteredData.stream()
-                .mapToDouble(RevenueEntry::getAmount)
-                .sum();
+            double totalRevenue = filteredFacts != null ? filteredFacts.totalGross() : 0;
             
             double dailyAverage = totalRevenue / daysBetween;
             
             // Find best day
-            Map<LocalDate, Double> dailyTotals = new HashMap<>();
-            for (RevenueEntry entry : filteredData) {
-                dailyTotals.merge(entry.getDate(), entry.getAmount(), Double::sum);
-            }
-            
-            Map.Entry<LocalDate, Double> bestDay = dailyTotals.entrySet().stream()
-                .max(Map.Entry.comparingByValue())
-                .orElse(null);
+            Groups dailyTotals = filteredFacts != null ? filteredFacts.grossBy(LoadFacts.Key.DAY) : null;
+            int bestDay = dailyTotals != null ? dailyTotals.maxIndex() : -1;
             
             // Add summary rows
             int row = 0;
@@ -1002,18 +1006,15 @@ public class RevenueTab extends Tab implements WindowAware {
             addSummaryRow(summaryGrid, row++, "Total Revenue:", CURRENCY_FORMAT.format(totalRevenue));
             addSummaryRow(summaryGrid, row++, "Daily Average:", CURRENCY_FORMAT.format(dailyAverage));
             
-            if (bestDay != null) {
+            if (bestDay >= 0) {
                 addSummaryRow(summaryGrid, row++, "Best Day:", 
-                    bestDay.getKey().format(DATE_FORMAT) + " (" + 
-                    CURRENCY_FORMAT.format(bestDay.getValue()) + ")");
+                    Groups.toDate(dailyTotals.key(bestDay)).format(DATE_FORMAT) + " (" + 
+                    CURRENCY_FORMAT.format(dailyTotals.sum(bestDay)) + ")");
             }
             
             addSummaryRow(summaryGrid, row++, "Total Loads:", String.valueOf(filteredData.size()));
             addSummaryRow(summaryGrid, row++, "Unique Customers:", 
-                String.valueOf(filteredData.stream()
-                    .map(RevenueEntry::getCustomer)
-                    .distinct()
-                    .count()));
+                String.valueOf(filteredFacts != null ? filteredFacts.grossBy(LoadFacts.Key.CUSTOMER).size() : 0));
         }
     }
     
@@ -1144,23 +1145,17 @@ public class RevenueTab extends Tab implements WindowAware {
     }
     
     private void initializeCustomers() {
-        // Load unique customers from database
-        Set<String> customers = new HashSet<>();
+        // Distinct customer names straight from the loads index
+        List<String> customers = new ArrayList<>();
         customers.add("All Customers");
         
         try {
-            List<Load> allLoads = loadDAO.getAll();
-            for (Load load : allLoads) {
-                if (load.getCustomer() != null && !load.getCustomer().isEmpty()) {
-                    customers.add(load.getCustomer());
-                }
-            }
+            customers.addAll(DimensionLookup.labels(Dimension.CUSTOMERS));
         } catch (Exception e) {
             // Ignore
         }
         
-        customerComboBox.getItems().clear();
-        customerComboBox.getItems().addAll(customers.stream().sorted().collect(Collectors.toList()));
+        customerComboBox.getItems().setAll(customers);
         customerComboBox.setValue("All Customers");
     }
     
@@ -3,8 +3,8 @@ package com.company.payroll.services;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.List;
+
 
 /**
  * Service for calculating distances between zip codes using geocoded coordinates.
@@ -16,12 +16,13 @@ public class DistanceCalculationService {
     // Earth's radius in miles
     private static final double EARTH_RADIUS_MILES = 3959.0;
     
-    // Cache for distance calculations
-    private static final Map<String, Double> distanceCache = new ConcurrentHashMap<>();
-    
-    // Maximum cache size
+    // Maximum distances held in memory
     private static final int MAX_CACHE_SIZE = 10000;
     
+    // Distances by normalized zip pair, kept across restarts
+    private static final RouteCache<Double> distanceCache =
+        RouteCache.create("zip-distance", MAX_CACHE_SIZE, RouteCache.Codec.doubles());
+    
     private final ZipCodeGeocodingService geocodingService;
     
     public DistanceCalculationService() {
@@ -59,7 +60,7 @@ public class DistanceCalculationService {
         }
         
         // Check cache
-        String cacheKey = createCacheKey(fromZip, toZip);
+        String cacheKey = RouteCache.routeKey(fromZip, toZip);
         Double cachedDistance = distanceCache.get(cacheKey);
         if (cachedDistance != null) {
             logger.debug("Returning cached distance for {} to {}: {} miles", 
@@ -95,8 +96,10 @@ public class DistanceCalculationService {
         
         logger.info("Calculated distance from {} to {}: {} miles", fromZip, toZip, distance);
         
-        // Cache the result
-        cacheDistance(cacheKey, distance);
+        // Cache the result, unless an end is only estimated from its state center
+        if (!fromResult.isEstimated() && !toResult.isEstimated()) {
+            distanceCache.put(cacheKey, distance);
+        }
         
         return distance;
     }
@@ -258,32 +261,6 @@ public class DistanceCalculationService {
         return normalized;
     }
     
-    /**
-     * Create cache key for distance lookup.
-     */
-    private String createCacheKey(String fromZip, String toZip) {
-        // Order doesn't matter for distance, so normalize the key
-        if (fromZip.compareTo(toZip) <= 0) {
-            return fromZip + "-" + toZip;
-        } else {
-            return toZip + "-" + fromZip;
-        }
-    }
-    
-    /**
-     * Cache a distance calculation.
-     */
-    private void cacheDistance(String key, double distance) {
-        // Implement simple cache size limit
-        if (distanceCache.size() >= MAX_CACHE_SIZE) {
-            // Clear oldest entries (simple strategy - clear half the cache)
-            distanceCache.clear();
-            logger.info("Distance cache cleared due to size limit");
-        }
-        
-        distanceCache.put(key, distance);
-    }
-    
     /**
      * Get state from zip code (simplified).
      */
@@ -318,7 +295,7 @@ public class DistanceCalculationService {
     }
     
     /**
-     * Clear the distance cache.
+     * Clear the distance cache, including the stored distances.
      */
     public void clearCache() {
         distanceCache.clear();
@@ -326,17 +303,25 @@ public class DistanceCalculationService {
     }
     
     /**
-     * Get cache size.
+     * Get the number of distances held in memory.
      */
     public int getCacheSize() {
         return distanceCache.size();
     }
     
     /**
-     * Get statistics about distance calculations.
+     * Get hit, miss and eviction counts of the distance cache.
+     */
+    public RouteCache.Stats getCacheStats() {
+        return distanceCache.getStats();
+    }
+    
+    /**
+     * Get statistics about the distances held in memory.
      */
     public DistanceStatistics getStatistics() {
-        if (distanceCache.isEmpty()) {
+        List<Double> distances = distanceCache.values();
+        if (distances.isEmpty()) {
             return new DistanceStatistics(0, 0, 0, 0);
         }
         
@@ -344,15 +329,15 @@ public class DistanceCalculationService {
         double min = Double.MAX_VALUE;
         double max = 0;
         
-        for (double distance : distanceCache.values()) {
+        for (double distance : distances) {
             sum += distance;
             min = Math.min(min, distance);
             max = Math.max(max, distance);
         }
         
-        double avg = sum / distanceCache.size();
+        double avg = sum / distances.size();
         
-        return new DistanceStatistics(distanceCache.size(), avg, min, max);
+        return new DistanceStatistics(distances.size(), avg, min, max);
     }
     
     /**
@@ -0,0 +1,408 @@
+package com.company.payroll.services;
+
+import com.company.payroll.database.DatabaseConfig;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * Two-tier cache of geocodes and distances that survives restarts.
+ * <p>
+ * Each named cache keeps its most recently used entries in a size-bounded LRU map and
+ * stores every entry in the {@code route_cache} SQLite table:
+ * <ul>
+ *   <li>a lookup that misses the LRU map falls through to the table and promotes what it finds,</li>
+ *   <li>new entries are written behind, in batches on a single background thread,</li>
+ *   <li>{@link #flushAll()} writes what is still pending, call it before the pool is shut down.</li>
+ * </ul>
+ * Keys are normalized with {@link #placeKey(String)} and {@link #routeKey(String, String)}, so
+ * the same place or route spelled differently shares one entry. When the database cannot be
+ * used the cache keeps working in memory only.
+ */
+public final class RouteCache<V> {
+    private static final Logger logger = LoggerFactory.getLogger(RouteCache.class);
+    private static final long FLUSH_DELAY_MS = 2000;
+    private static final int FLUSH_BATCH_SIZE = 500; // Pending writes that trigger an immediate flush
+    private static final long FLUSH_TIMEOUT_SECONDS = 10;
+
+    private static final String SELECT_VALUE =
+        "SELECT value FROM route_cache WHERE cache_name = ? AND cache_key = ?";
+    private static final String UPSERT_VALUE =
+        "INSERT OR REPLACE INTO route_cache (cache_name, cache_key, value, updated_at) VALUES (?, ?, ?, ?)";
+    private static final String DELETE_CACHE =
+        "DELETE FROM route_cache WHERE cache_name = ?";
+
+    private static final List<RouteCache<?>> CACHES = new CopyOnWriteArrayList<>();
+    private static final ScheduledExecutorService WRITER = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread thread = new Thread(r, "route-cache-writer");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private static final Object TABLE_LOCK = new Object();
+    private static volatile Boolean tableReady;
+
+    /**
+     * Converts values to and from the text stored in the table
+     */
+    public interface Codec<V> {
+        String encode(V value);
+
+        /** The value, or null if the text cannot be read */
+        V decode(String text);
+
+        static Codec<Double> doubles() {
+            return new Codec<>() {
+                @Override
+                public String encode(Double value) {
+                    return Double.toString(value);
+                }
+
+                @Override
+                public Double decode(String text) {
+                    try {
+                        return Double.valueOf(text);
+                    } catch (NumberFormatException e) {
+                        return null;
+                    }
+                }
+            };
+        }
+    }
+
+    /**
+     * Counters of one cache since startup or the last {@link #clear()}
+     *
+     * @param hits lookups answered by the in-memory tier
+     * @param diskHits lookups answered by the SQLite tier
+     * @param misses lookups neither tier could answer
+     * @param evictions entries dropped from the in-memory tier to stay within its bound
+     */
+    public record Stats(String name, int size, int maxSize, long hits, long diskHits, long misses,
+                        long evictions, int pendingWrites) {
+        public double hitRate() {
+            long lookups = hits + diskHits + misses;
+            return lookups == 0 ? 0 : (double) (hits + diskHits) / lookups;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%s[size=%d/%d, hits=%d, diskHits=%d, misses=%d, evictions=%d, pending=%d, hitRate=%.1f%%]",
+                name, size, maxSize, hits, diskHits, misses, evictions, pendingWrites, hitRate() * 100);
+        }
+    }
+
+    private final String name;
+    private final int maxSize;
+    private final Codec<V> codec;
+    private final LinkedHashMap<String, V> entries;
+    private final Map<String, V> pending = new LinkedHashMap<>();
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong diskHits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+    private boolean flushScheduled;
+
+    private RouteCache(String name, int maxSize, Codec<V> codec) {
+        this.name = name;
+        this.maxSize = maxSize;
+        this.codec = codec;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, V> eldest) {
+                if (size() > RouteCache.this.maxSize) {
+                    evictions.incrementAndGet();
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    /**
+     * Create a cache whose entries are stored under the given name.
+     * @param maxSize entries held in memory; the table is not bounded
+     */
+    public static <V> RouteCache<V> create(String name, int maxSize, Codec<V> codec) {
+        if (maxSize < 1) {
+            throw new IllegalArgumentException("Cache size must be at least 1");
+        }
+        RouteCache<V> cache = new RouteCache<>(name, maxSize, codec);
+        CACHES.add(cache);
+        return cache;
+    }
+
+    /**
+     * Cache key of a place: trimmed, lower case, with runs of whitespace collapsed
+     */
+    public static String placeKey(String place) {
+        if (place == null) {
+            return "";
+        }
+        return place.trim().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Cache key of a route. Distances do not depend on the direction, so both
+     * directions share the key.
+     */
+    public static String routeKey(String origin, String destination) {
+        String a = placeKey(origin);
+        String b = placeKey(destination);
+        return a.compareTo(b) <= 0 ? a + "|" + b : b + "|" + a;
+    }
+
+    /**
+     * The cached value, from memory or else from the table, or null.
+     */
+    public V get(String key) {
+        synchronized (this) {
+            V value = entries.get(key);
+            if (value == null) {
+                value = pending.get(key);
+                if (value != null) {
+                    entries.put(key, value);
+                }
+            }
+            if (value != null) {
+                hits.incrementAndGet();
+                return value;
+            }
+        }
+        V stored = readStored(key);
+        if (stored == null) {
+            misses.incrementAndGet();
+            return null;
+        }
+        diskHits.incrementAndGet();
+        synchronized (this) {
+            entries.putIfAbsent(key, stored);
+        }
+        return stored;
+    }
+
+    /**
+     * The cached value, or the loader's result which is then cached. A null
+     * result is returned but not cached. The loader runs without holding the cache.
+     */
+    public V computeIfAbsent(String key, Function<String, V> loader) {
+        V value = get(key);
+        if (value == null) {
+            value = loader.apply(key);
+            if (value != null) {
+                put(key, value);
+            }
+        }
+        return value;
+    }
+
+    /**
+     * Cache a value and queue it for the table.
+     */
+    public void put(String key, V value) {
+        synchronized (this) {
+            entries.put(key, value);
+            pending.put(key, value);
+            if (pending.size() >= FLUSH_BATCH_SIZE) {
+                WRITER.execute(this::writePending);
+            } else if (!flushScheduled) {
+                flushScheduled = true;
+                WRITER.schedule(this::writePending, FLUSH_DELAY_MS, TimeUnit.MILLISECONDS);
+            }
+        }
+    }
+
+    /**
+     * Drop every entry of this cache from memory and from the table, and reset the counters.
+     */
+    public void clear() {
+        synchronized (this) {
+            entries.clear();
+            pending.clear();
+        }
+        hits.set(0);
+        diskHits.set(0);
+        misses.set(0);
+        evictions.set(0);
+        // Deleted on the writer so it cannot be overtaken by an earlier flush
+        await(WRITER.submit(this::deleteStored));
+    }
+
+    /** Entries held in memory */
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    /** Snapshot of the keys held in memory, least recently used first */
+    public synchronized List<String> keys() {
+        return new ArrayList<>(entries.keySet());
+    }
+
+    /** Snapshot of the values held in memory */
+    public synchronized List<V> values() {
+        return new ArrayList<>(entries.values());
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public Stats getStats() {
+        synchronized (this) {
+            return new Stats(name, entries.size(), maxSize, hits.get(), diskHits.get(), misses.get(),
+                evictions.get(), pending.size());
+        }
+    }
+
+    /**
+     * Write the pending entries of this cache and wait until they are stored.
+     */
+    public void flush() {
+        await(WRITER.submit(this::writePending));
+    }
+
+    /**
+     * Write the pending entries of every cache, e.g. before the application exits.
+     */
+    public static void flushAll() {
+        for (RouteCache<?> cache : CACHES) {
+            cache.flush();
+        }
+    }
+
+    private void writePending() {
+        Map<String, V> batch;
+        synchronized (this) {
+            flushScheduled = false;
+            if (pending.isEmpty()) {
+                return;
+            }
+            batch = new LinkedHashMap<>(pending);
+        }
+        if (ensureTable()) {
+            try {
+                DatabaseConfig.executeWithRetry(() -> {
+                    writeBatch(batch);
+                    return null;
+                });
+                logger.debug("Stored {} entries of route cache {}", batch.size(), name);
+            } catch (SQLException e) {
+                logger.warn("Could not store {} entries of route cache {}: {}", batch.size(), name, e.getMessage());
+            }
+        }
+        // Entries replaced meanwhile stay pending for the next flush
+        synchronized (this) {
+            batch.forEach(pending::remove);
+        }
+    }
+
+    private void writeBatch(Map<String, V> batch) throws SQLException {
+        long now = System.currentTimeMillis();
+        try (Connection conn = DatabaseConfig.getConnection()) {
+            conn.setAutoCommit(false);
+            try (PreparedStatement ps = conn.prepareStatement(UPSERT_VALUE)) {
+                for (Map.Entry<String, V> entry : batch.entrySet()) {
+                    ps.setString(1, name);
+                    ps.setString(2, entry.getKey());
+                    ps.setString(3, codec.encode(entry.getValue()));
+                    ps.setLong(4, now);
+                    ps.addBatch();
+                }
+                ps.executeBatch();
+                conn.commit();
+            } catch (SQLException e) {
+                conn.rollback();
+                throw e;
+            } finally {
+                conn.setAutoCommit(true);
+            }
+        }
+    }
+
+    private V readStored(String key) {
+        if (!ensureTable()) {
+            return null;
+        }
+        try (Connection conn = DatabaseConfig.getConnection();
+             PreparedStatement ps = conn.prepareStatement(SELECT_VALUE)) {
+            ps.setString(1, name);
+            ps.setString(2, key);
+            try (ResultSet rs = ps.executeQuery()) {
+                return rs.next() ? codec.decode(rs.getString(1)) : null;
+            }
+        } catch (SQLException e) {
+            logger.warn("Could not read route cache {} entry {}: {}", name, key, e.getMessage());
+            return null;
+        }
+    }
+
+    private void deleteStored() {
+        if (!ensureTable()) {
+            return;
+        }
+        try (Connection conn = DatabaseConfig.getConnection();
+             PreparedStatement ps = conn.prepareStatement(DELETE_CACHE)) {
+            ps.setString(1, name);
+            int deleted = ps.executeUpdate();
+            logger.info("Cleared route cache {} ({} stored entries)", name, deleted);
+        } catch (SQLException e) {
+            logger.warn("Could not clear stored entries of route cache {}: {}", name, e.getMessage());
+        }
+    }
+
+    private static boolean ensureTable() {
+        Boolean ready = tableReady;
+        if (ready != null) {
+            return ready;
+        }
+        synchronized (TABLE_LOCK) {
+            if (tableReady == null) {
+                try (Connection conn = DatabaseConfig.getConnection();
+                     Statement stmt = conn.createStatement()) {
+                    stmt.execute("""
+                        CREATE TABLE IF NOT EXISTS route_cache (
+                            cache_name TEXT NOT NULL,
+                            cache_key TEXT NOT NULL,
+                            value TEXT NOT NULL,
+                            updated_at INTEGER NOT NULL,
+                            PRIMARY KEY (cache_name, cache_key)
+                        ) WITHOUT ROWID
+                    """);
+                    tableReady = true;
+                } catch (SQLException | RuntimeException e) {
+                    logger.warn("Route cache table unavailable, caching in memory only: {}", e.getMessage());
+                    tableReady = false;
+                }
+            }
+            return tableReady;
+        }
+    }
+
+    private void await(Future<?> task) {
+        try {
+            task.get(FLUSH_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException | TimeoutException e) {
+            logger.warn("Route cache {} did not finish writing: {}", name, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,149 @@
+package com.company.payroll.services;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Offline table of US ZIP code centroids, memory-mapped from a sorted binary file.
+ * <p>
+ * File layout (big-endian), written by {@link ZipCentroidTableBuilder}:
+ * <pre>
+ *   int    magic "ZIPC"
+ *   int    format version
+ *   int    record count
+ *   record count times, sorted by ZIP:
+ *     int    ZIP code as a number (00501 is 501)
+ *     int    latitude in millionths of a degree
+ *     int    longitude in millionths of a degree
+ *     byte2  state abbreviation, ASCII, blank when unknown
+ * </pre>
+ * A lookup is a binary search with absolute reads on the mapped file, so the table uses
+ * no heap, pages in on demand and can be shared by any number of threads.
+ */
+public final class ZipCentroidTable {
+    private static final Logger logger = LoggerFactory.getLogger(ZipCentroidTable.class);
+
+    static final int MAGIC = 0x5A495043; // "ZIPC"
+    static final int VERSION = 1;
+    static final int HEADER_BYTES = 12;
+    static final int RECORD_BYTES = 14;
+    static final double SCALE = 1_000_000.0;
+
+    /** System property naming the table file; defaults to {@value #DEFAULT_FILE} in the working directory */
+    public static final String FILE_PROPERTY = "payroll.zipCentroids";
+    public static final String DEFAULT_FILE = "zip_centroids.bin";
+
+    /**
+     * Centroid of one ZIP code
+     */
+    public record Centroid(String zipCode, double latitude, double longitude, String state) {}
+
+    private final ByteBuffer records;
+    private final int count;
+
+    private ZipCentroidTable(ByteBuffer records, int count) {
+        this.records = records;
+        this.count = count;
+    }
+
+    /**
+     * Map a table file.
+     * @throws IOException if the file cannot be read or is not a ZIP centroid table
+     */
+    public static ZipCentroidTable open(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size < HEADER_BYTES) {
+                throw new IOException("Not a ZIP centroid table: " + file);
+            }
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+            if (buffer.getInt(0) != MAGIC) {
+                throw new IOException("Not a ZIP centroid table: " + file);
+            }
+            if (buffer.getInt(4) != VERSION) {
+                throw new IOException("Unsupported ZIP centroid table version " + buffer.getInt(4) + ": " + file);
+            }
+            int count = buffer.getInt(8);
+            if (count < 0 || size != HEADER_BYTES + (long) count * RECORD_BYTES) {
+                throw new IOException("Truncated ZIP centroid table: " + file);
+            }
+            // The mapping stays valid after the channel is closed
+            return new ZipCentroidTable(buffer.slice(HEADER_BYTES, count * RECORD_BYTES), count);
+        }
+    }
+
+    /**
+     * The table configured by {@value #FILE_PROPERTY}, or null if there is none or it cannot be read.
+     */
+    public static ZipCentroidTable openDefault() {
+        Path file = Paths.get(System.getProperty(FILE_PROPERTY, DEFAULT_FILE));
+        if (!Files.isRegularFile(file)) {
+            logger.info("No offline ZIP centroid table at {}, geocoding uses the online services only", file.toAbsolutePath());
+            return null;
+        }
+        try {
+            ZipCentroidTable table = open(file);
+            logger.info("Loaded offline ZIP centroid table {} with {} ZIP codes", file.toAbsolutePath(), table.size());
+            return table;
+        } catch (IOException e) {
+            logger.error("Could not load offline ZIP centroid table {}: {}", file.toAbsolutePath(), e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Centroid of a five digit ZIP code, or null if the table does not have it.
+     */
+    public Centroid find(String zipCode) {
+        int zip = parseZip(zipCode);
+        if (zip < 0) {
+            return null;
+        }
+        int low = 0;
+        int high = count - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int key = records.getInt(mid * RECORD_BYTES);
+            if (key < zip) {
+                low = mid + 1;
+            } else if (key > zip) {
+                high = mid - 1;
+            } else {
+                int offset = mid * RECORD_BYTES;
+                String state = new String(new char[] {
+                    (char) records.get(offset + 12), (char) records.get(offset + 13)}).trim();
+                return new Centroid(zipCode, records.getInt(offset + 4) / SCALE,
+                    records.getInt(offset + 8) / SCALE, state);
+            }
+        }
+        return null;
+    }
+
+    public int size() {
+        return count;
+    }
+
+    private static int parseZip(String zipCode) {
+        if (zipCode == null || zipCode.length() != 5) {
+            return -1;
+        }
+        int zip = 0;
+        for (int i = 0; i < 5; i++) {
+            char c = zipCode.charAt(i);
+            if (c < '0' || c > '9') {
+                return -1;
+            }
+            zip = zip * 10 + (c - '0');
+        }
+        return zip;
+    }
+}
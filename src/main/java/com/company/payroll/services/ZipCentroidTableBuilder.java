@@ -0,0 +1,184 @@
+package com.company.payroll.services;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedOutputStream;
+import java.io.BufferedReader;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Builds the binary table read by {@link ZipCentroidTable} from a delimited text file.
+ * <p>
+ * The input needs a header row; comma and tab separated files are accepted, so the Census
+ * ZCTA gazetteer, GeoNames postal code dumps and the usual ZIP database CSVs work as they are.
+ * Columns are found by name:
+ * <ul>
+ *   <li>ZIP: {@code zip}, {@code zipcode}, {@code zip_code}, {@code postal_code}, {@code zcta5} or {@code geoid},</li>
+ *   <li>latitude: {@code lat}, {@code latitude} or {@code intptlat},</li>
+ *   <li>longitude: {@code lon}, {@code lng}, {@code longitude} or {@code intptlong},</li>
+ *   <li>state (optional): {@code state}, {@code state_id}, {@code state_code}, {@code usps} or {@code admin_code1}.</li>
+ * </ul>
+ * ZIPs that lost their leading zeros are padded back to five digits. Rows with an invalid ZIP or
+ * coordinates are skipped; of duplicate ZIPs the first row wins. Run it with
+ * <pre>
+ *   mvn exec:java -Dexec.mainClass=com.company.payroll.services.ZipCentroidTableBuilder \
+ *       -Dexec.args="us_zip_centroids.csv zip_centroids.bin"
+ * </pre>
+ */
+public final class ZipCentroidTableBuilder {
+    private static final Logger logger = LoggerFactory.getLogger(ZipCentroidTableBuilder.class);
+
+    private static final List<String> ZIP_COLUMNS = List.of("zip", "zipcode", "zip_code", "postal_code", "zcta5", "geoid");
+    private static final List<String> LAT_COLUMNS = List.of("lat", "latitude", "intptlat");
+    private static final List<String> LON_COLUMNS = List.of("lon", "lng", "longitude", "intptlong");
+    private static final List<String> STATE_COLUMNS = List.of("state", "state_id", "state_code", "usps", "admin_code1");
+
+    private record Row(double latitude, double longitude, String state) {}
+
+    private ZipCentroidTableBuilder() {}
+
+    public static void main(String[] args) {
+        if (args.length != 2) {
+            System.err.println("Usage: ZipCentroidTableBuilder <input.csv> <output.bin>");
+            System.exit(2);
+        }
+        try {
+            int count = build(Paths.get(args[0]), Paths.get(args[1]));
+            System.out.println("Wrote " + count + " ZIP centroids to " + args[1]);
+        } catch (IOException e) {
+            logger.error("Failed to build ZIP centroid table: {}", e.getMessage(), e);
+            System.exit(1);
+        }
+    }
+
+    /**
+     * Convert the input file into a table file, replacing the output only once it is complete.
+     * @return number of ZIP codes written
+     */
+    public static int build(Path input, Path output) throws IOException {
+        Map<Integer, Row> rows = new TreeMap<>();
+        int skipped = 0;
+        int duplicates = 0;
+        try (BufferedReader reader = Files.newBufferedReader(input, StandardCharsets.UTF_8)) {
+            String header = reader.readLine();
+            if (header == null) {
+                throw new IOException("Empty input file: " + input);
+            }
+            header = header.replace("\uFEFF", ""); // Byte order mark of files saved by Excel
+            char delimiter = header.indexOf('\t') >= 0 ? '\t' : ',';
+            List<String> columns = split(header, delimiter);
+            int zipCol = column(columns, ZIP_COLUMNS, true, input);
+            int latCol = column(columns, LAT_COLUMNS, true, input);
+            int lonCol = column(columns, LON_COLUMNS, true, input);
+            int stateCol = column(columns, STATE_COLUMNS, false, input);
+
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isBlank()) {
+                    continue;
+                }
+                List<String> fields = split(line, delimiter);
+                try {
+                    int zip = normalizeZip(fields.get(zipCol));
+                    double lat = Double.parseDouble(fields.get(latCol).trim());
+                    double lon = Double.parseDouble(fields.get(lonCol).trim());
+                    String state = stateCol >= 0 && stateCol < fields.size() ? fields.get(stateCol).trim() : "";
+                    if (zip < 0 || lat < -90 || lat > 90 || lon < -180 || lon > 180 || (lat == 0 && lon == 0)) {
+                        skipped++;
+                        continue;
+                    }
+                    if (rows.putIfAbsent(zip, new Row(lat, lon, state.length() == 2 ? state.toUpperCase(Locale.ROOT) : "")) != null) {
+                        duplicates++;
+                    }
+                } catch (NumberFormatException | IndexOutOfBoundsException e) {
+                    skipped++;
+                }
+            }
+        }
+
+        Path temp = output.resolveSibling(output.getFileName() + ".tmp");
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp)))) {
+            out.writeInt(ZipCentroidTable.MAGIC);
+            out.writeInt(ZipCentroidTable.VERSION);
+            out.writeInt(rows.size());
+            for (Map.Entry<Integer, Row> entry : rows.entrySet()) {
+                Row row = entry.getValue();
+                String state = row.state().isEmpty() ? "  " : row.state();
+                out.writeInt(entry.getKey());
+                out.writeInt((int) Math.round(row.latitude() * ZipCentroidTable.SCALE));
+                out.writeInt((int) Math.round(row.longitude() * ZipCentroidTable.SCALE));
+                out.writeByte(state.charAt(0));
+                out.writeByte(state.charAt(1));
+            }
+        }
+        Files.move(temp, output, StandardCopyOption.REPLACE_EXISTING);
+        logger.info("Built ZIP centroid table {}: {} ZIP codes, {} rows skipped, {} duplicates ignored",
+            output, rows.size(), skipped, duplicates);
+        return rows.size();
+    }
+
+    /**
+     * ZIP as a number, or -1; accepts ZIP+4 and ZIPs whose leading zeros were dropped
+     */
+    static int normalizeZip(String value) {
+        String digits = value.replaceAll("[^0-9]", "");
+        if (digits.length() == 9) {
+            digits = digits.substring(0, 5);
+        }
+        if (digits.isEmpty() || digits.length() > 5) {
+            return -1;
+        }
+        return Integer.parseInt(digits);
+    }
+
+    private static int column(List<String> columns, List<String> names, boolean required, Path input) throws IOException {
+        for (int i = 0; i < columns.size(); i++) {
+            if (names.contains(columns.get(i).trim().toLowerCase(Locale.ROOT))) {
+                return i;
+            }
+        }
+        if (required) {
+            throw new IOException("No " + names.get(0) + " column (" + String.join(", ", names) + ") in " + input);
+        }
+        return -1;
+    }
+
+    /**
+     * Split one line, honouring double quoted fields
+     */
+    private static List<String> split(String line, char delimiter) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (c == '"') {
+                if (quoted && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    field.append('"');
+                    i++;
+                } else {
+                    quoted = !quoted;
+                }
+            } else if (c == delimiter && !quoted) {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+}
@@ -12,19 +12,40 @@ import java.net.URL;
 import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
 
 /**
  * Service for geocoding zip codes to latitude/longitude coordinates.
- * Uses multiple fallback mechanisms for reliability.
+ * Uses multiple fallback mechanisms for reliability: the offline
+ * {@link ZipCentroidTable} first, then the online services, then state centers.
  */
 public class ZipCodeGeocodingService {
     private static final Logger logger = LoggerFactory.getLogger(ZipCodeGeocodingService.class);
     
-    // Cache for geocoding results
-    private static final Map<String, GeocodingResult> geocodeCache = new ConcurrentHashMap<>();
+    // Maximum geocoding results held in memory
+    private static final int MAX_CACHE_SIZE = 5000;
+    
+    // Geocoding results by 5 digit zip code, kept across restarts
+    private static final RouteCache<GeocodingResult> geocodeCache =
+        RouteCache.create("zip-geocode", MAX_CACHE_SIZE, new GeocodingResultCodec());
+    
+    // Zip codes no lookup could resolve, by the time of the attempt; kept in memory only
+    private static final Map<String, Long> unresolvedZips = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Long> eldest) {
+            return size() > MAX_CACHE_SIZE;
+        }
+    };
+    
+    // How long a zip code stays unresolved before the lookups are tried again
+    private static final long UNRESOLVED_RETRY_MS = TimeUnit.HOURS.toMillis(1);
+    
+    // Offline centroid table, mapped on first use; null when not installed
+    private static final class OfflineTable {
+        static final ZipCentroidTable INSTANCE = ZipCentroidTable.openDefault();
+    }
     
     // Rate limiting
     private static long lastApiCall = 0;
@@ -38,6 +59,9 @@ public class ZipCodeGeocodingService {
     private static final int CONNECTION_TIMEOUT = 5000; // 5 seconds
     private static final int READ_TIMEOUT = 10000; // 10 seconds
     
+    // Source of results estimated from the state center
+    private static final String STATE_ESTIMATE_SOURCE = "State Center Estimate";
+    
     // US State center coordinates for fallback
     private static final Map<String, double[]> STATE_CENTERS = new HashMap<>();
     
@@ -114,32 +138,77 @@ public class ZipCodeGeocodingService {
         // Take only first 5 digits
         normalizedZip = normalizedZip.substring(0, 5);
         
-        // Check cache first
+        // Zip codes that recently failed go straight to the state estimate
+        if (isUnresolved(normalizedZip)) {
+            return estimateFromState(normalizedZip);
+        }
+        
+        // Check cache first; estimates stored by earlier versions are looked up again
         GeocodingResult cached = geocodeCache.get(normalizedZip);
-        if (cached != null && cached.isValid()) {
+        if (cached != null && cached.isValid() && !cached.isExpired() && !cached.isEstimated()) {
             logger.debug("Returning cached geocoding result for zip {}", normalizedZip);
             return cached;
         }
         
-        // Try primary geocoding service
-        GeocodingResult result = geocodeWithZippopotam(normalizedZip);
+        // Try the offline table, no network or rate limit involved
+        GeocodingResult result = geocodeOffline(normalizedZip);
         
-        // If primary fails, try fallback
+        // Then the primary online geocoding service
         if (result == null || !result.isValid()) {
-            result = geocodeWithNominatim(normalizedZip);
+            result = geocodeWithZippopotam(normalizedZip);
         }
         
-        // If both fail, use state center estimation
+        // If primary fails, try fallback
         if (result == null || !result.isValid()) {
-            result = estimateFromState(normalizedZip);
+            result = geocodeWithNominatim(normalizedZip);
         }
         
-        // Cache the result
+        // Cache the result; a state center estimate is not cached, so the zip is retried later
         if (result != null && result.isValid()) {
             geocodeCache.put(normalizedZip, result);
+            return result;
         }
         
-        return result;
+        // If both fail, use state center estimation
+        markUnresolved(normalizedZip);
+        return estimateFromState(normalizedZip);
+    }
+    
+    private static boolean isUnresolved(String zipCode) {
+        synchronized (unresolvedZips) {
+            Long failedAt = unresolvedZips.get(zipCode);
+            if (failedAt == null) {
+                return false;
+            }
+            if (System.currentTimeMillis() - failedAt > UNRESOLVED_RETRY_MS) {
+                unresolvedZips.remove(zipCode);
+                return false;
+            }
+            return true;
+        }
+    }
+    
+    private static void markUnresolved(String zipCode) {
+        synchronized (unresolvedZips) {
+            unresolvedZips.put(zipCode, System.currentTimeMillis());
+        }
+    }
+    
+    /**
+     * Geocode using the offline ZIP centroid table.
+     */
+    private GeocodingResult geocodeOffline(String zipCode) {
+        ZipCentroidTable table = OfflineTable.INSTANCE;
+        if (table == null) {
+            return null;
+        }
+        ZipCentroidTable.Centroid centroid = table.find(zipCode);
+        if (centroid == null) {
+            logger.debug("Zip {} is not in the offline centroid table", zipCode);
+            return null;
+        }
+        return new GeocodingResult(zipCode, centroid.latitude(), centroid.longitude(),
+                                   "", centroid.state(), "Offline ZIP Table");
     }
     
     /**
@@ -267,7 +336,7 @@ public class ZipCodeGeocodingService {
                 double[] coords = STATE_CENTERS.get(state);
                 logger.info("Estimating coordinates for zip {} based on state {}", zipCode, state);
                 return new GeocodingResult(zipCode, coords[0], coords[1], 
-                                         "Estimated", state, "State Center Estimate");
+                                         "Estimated", state, STATE_ESTIMATE_SOURCE);
             }
         } catch (Exception e) {
             logger.error("Error estimating coordinates for zip {}", zipCode, e);
@@ -358,20 +427,63 @@ public class ZipCodeGeocodingService {
     }
     
     /**
-     * Clear the geocoding cache.
+     * Clear the geocoding cache, including the stored results.
      */
     public void clearCache() {
         geocodeCache.clear();
+        synchronized (unresolvedZips) {
+            unresolvedZips.clear();
+        }
         logger.info("Geocoding cache cleared");
     }
     
     /**
-     * Get cache size.
+     * Get the number of results held in memory.
      */
     public int getCacheSize() {
         return geocodeCache.size();
     }
     
+    /**
+     * Get hit, miss and eviction counts of the geocoding cache.
+     */
+    public RouteCache.Stats getCacheStats() {
+        return geocodeCache.getStats();
+    }
+    
+    /**
+     * Stores results as JSON, keeping the original timestamp so they still expire
+     */
+    private static final class GeocodingResultCodec implements RouteCache.Codec<GeocodingResult> {
+        private static final ObjectMapper MAPPER = new ObjectMapper();
+        
+        @Override
+        public String encode(GeocodingResult result) {
+            return MAPPER.createObjectNode()
+                .put("zip", result.zipCode)
+                .put("lat", result.latitude)
+                .put("lon", result.longitude)
+                .put("city", result.city)
+                .put("state", result.state)
+                .put("source", result.source)
+                .put("timestamp", result.timestamp)
+                .toString();
+        }
+        
+        @Override
+        public GeocodingResult decode(String text) {
+            try {
+                JsonNode node = MAPPER.readTree(text);
+                return new GeocodingResult(node.path("zip").asText(""), node.path("lat").asDouble(), node.path("lon").asDouble(),
+                                           node.path("city").asText(""), node.path("state").asText(""),
+                                           node.path("source").asText(""), node.path("timestamp").asLong());
+            } catch (Exception e) {
+                logger.debug("Ignoring unreadable cached geocoding result: {}", e.getMessage());
+                return null;
+            }
+        }
+    }
+    
     /**
      * Result of geocoding operation.
      */
@@ -386,13 +498,18 @@ public class ZipCodeGeocodingService {
         
         public GeocodingResult(String zipCode, double latitude, double longitude, 
                              String city, String state, String source) {
+            this(zipCode, latitude, longitude, city, state, source, System.currentTimeMillis());
+        }
+        
+        private GeocodingResult(String zipCode, double latitude, double longitude,
+                                String city, String state, String source, long timestamp) {
             this.zipCode = zipCode;
             this.latitude = latitude;
             this.longitude = longitude;
             this.city = city;
             this.state = state;
             this.source = source;
-            this.timestamp = System.currentTimeMillis();
+            this.timestamp = timestamp;
         }
         
         public boolean isValid() {
@@ -401,6 +518,13 @@ public class ZipCodeGeocodingService {
                    longitude >= -180 && longitude <= 180;
         }
         
+        /**
+         * Whether the coordinates are only the center of the zip code's state
+         */
+        public boolean isEstimated() {
+            return STATE_ESTIMATE_SOURCE.equals(source);
+        }
+        
         public boolean isExpired() {
             // Cache for 30 days
             return System.currentTimeMillis() - timestamp > TimeUnit.DAYS.toMillis(30);
@@ -1,7 +1,7 @@
 package com.company.payroll.trailers;
 
-import org.apache.poi.ss.usermodel.*;
-import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import com.company.payroll.util.StreamingXlsxReader;
+import com.company.payroll.util.StreamingXlsxReader.SheetRow;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -101,27 +101,22 @@ public class TrailerCSVImporter {
         logger.info("Importing trailers from Excel file: {}", filePath);
         List<Trailer> trailers = new ArrayList<>();
         
-        try (FileInputStream fis = new FileInputStream(filePath.toFile());
-             Workbook workbook = new XSSFWorkbook(fis)) {
-            
-            Sheet sheet = workbook.getSheetAt(0);
-            if (sheet.getPhysicalNumberOfRows() == 0) {
+        try (StreamingXlsxReader rows = StreamingXlsxReader.open(filePath.toFile())) {
+            if (!rows.hasNext()) {
                 throw new IOException("Empty Excel file");
             }
             
             // Parse headers from first row
-            Row headerRow = sheet.getRow(0);
-            String[] headers = new String[headerRow.getLastCellNum()];
-            for (int i = 0; i < headerRow.getLastCellNum(); i++) {
-                Cell cell = headerRow.getCell(i);
-                headers[i] = cell != null ? cell.toString().trim() : "";
+            SheetRow headerRow = rows.next();
+            String[] headers = new String[headerRow.getCellCount()];
+            for (int i = 0; i < headerRow.getCellCount(); i++) {
+                headers[i] = headerRow.getString(i);
             }
             Map<String, Integer> columnIndices = getColumnIndices(headers);
             
             // Read data rows
-            for (int rowNum = 1; rowNum <= sheet.getLastRowNum(); rowNum++) {
-                Row row = sheet.getRow(rowNum);
-                if (row == null) continue;
+            while (rows.hasNext()) {
+                SheetRow row = rows.next();
                 
                 try {
                     Trailer trailer = parseTrailerFromExcel(row, columnIndices);
@@ -129,7 +124,7 @@ public class TrailerCSVImporter {
                         trailers.add(trailer);
                     }
                 } catch (Exception e) {
-                    logger.warn("Error parsing Excel row {}: {}", rowNum + 1, e.getMessage());
+                    logger.warn("Error parsing Excel row {}: {}", row.getRowNum() + 1, e.getMessage());
                 }
             }
         }
@@ -257,14 +252,8 @@ public class TrailerCSVImporter {
     /**
      * Parse trailer from Excel row
      */
-    private static Trailer parseTrailerFromExcel(Row row, Map<String, Integer> columnIndices) {
-        return parseTrailerFromValues(columnIndices, i -> {
-            if (i >= 0) {
-                Cell cell = row.getCell(i);
-                return getCellValueAsString(cell);
-            }
-            return "";
-        });
+    private static Trailer parseTrailerFromExcel(SheetRow row, Map<String, Integer> columnIndices) {
+        return parseTrailerFromValues(columnIndices, row::getString);
     }
     
     /**
@@ -462,48 +451,6 @@ public class TrailerCSVImporter {
         return result.toArray(new String[0]);
     }
     
-    /**
-     * Get cell value as string
-     */
-    private static String getCellValueAsString(Cell cell) {
-        if (cell == null) {
-            return "";
-        }
-        
-        switch (cell.getCellType()) {
-            case STRING:
-                return cell.getStringCellValue();
-            case NUMERIC:
-                if (DateUtil.isCellDateFormatted(cell)) {
-                    try {
-                        return cell.getLocalDateTimeCellValue().toLocalDate().toString();
-                    } catch (Exception e) {
-                        return "";
-                    }
-                } else {
-                    double value = cell.getNumericCellValue();
-                    if (Math.floor(value) == value) {
-                        return String.valueOf((int) value);
-                    }
-                    return String.valueOf(value);
-                }
-            case BOOLEAN:
-                return String.valueOf(cell.getBooleanCellValue());
-            case FORMULA:
-                try {
-                    return cell.getStringCellValue();
-                } catch (Exception e) {
-                    try {
-                        return String.valueOf(cell.getNumericCellValue());
-                    } catch (Exception e2) {
-                        return "";
-                    }
-                }
-            default:
-                return "";
-        }
-    }
-    
     /**
      * Parse date string using multiple formatters
      */
@@ -2,6 +2,11 @@ package com.company.payroll.trailers;
 
 import com.company.payroll.exception.DataAccessException;
 import com.company.payroll.database.DatabaseConfig;
+import com.company.payroll.events.DomainEventBus;
+import com.company.payroll.events.DomainEventBus.Change;
+import com.company.payroll.events.DomainEventBus.Entity;
+import com.company.payroll.cache.EnterpriseDataCacheManager;
+import com.company.payroll.cache.EnterpriseDataCacheManager.ReferenceData;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -11,7 +16,11 @@ import java.sql.*;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Data Access Object for Trailer operations.
@@ -20,6 +29,7 @@ import java.util.List;
 public class TrailerDAO {
     private static final Logger logger = LoggerFactory.getLogger(TrailerDAO.class);
     private static final String DB_URL = "jdbc:sqlite:payroll.db";
+    private static final int ID_BATCH_SIZE = 500; // Stay well below SQLite's bound-parameter limit
     
     public TrailerDAO() {
         initializeDatabase();
@@ -109,11 +119,17 @@ public class TrailerDAO {
     // CRUD Operations
     
     public Trailer save(Trailer trailer) {
-        if (trailer.getId() > 0) {
-            return update(trailer);
-        } else {
-            return insert(trailer);
+        Change change = trailer.getId() > 0 ? Change.UPDATE : Change.INSERT;
+        Trailer saved;
+        try {
+            saved = DatabaseConfig.write(() -> change == Change.UPDATE ? update(trailer) : insert(trailer));
+        } catch (SQLException e) {
+            logger.error("Failed to save trailer: {}", e.getMessage(), e);
+            throw new DataAccessException("Failed to save trailer", e);
         }
+        EnterpriseDataCacheManager.dataChanged(ReferenceData.TRAILERS);
+        DomainEventBus.publish(Entity.TRAILER, saved.getId(), change);
+        return saved;
     }
     
     private Trailer insert(Trailer trailer) {
@@ -203,17 +219,22 @@ public class TrailerDAO {
     public void delete(int id) {
         String sql = "DELETE FROM trailers WHERE id = ?";
         
-        try (Connection conn = DatabaseConfig.getConnection();
-             PreparedStatement pstmt = conn.prepareStatement(sql)) {
-             
-            pstmt.setInt(1, id);
-            int affectedRows = pstmt.executeUpdate();
+        try {
+            int affectedRows = DatabaseConfig.write(() -> {
+                try (Connection conn = DatabaseConfig.getConnection();
+                     PreparedStatement pstmt = conn.prepareStatement(sql)) {
+                    pstmt.setInt(1, id);
+                    return pstmt.executeUpdate();
+                }
+            });
             
             if (affectedRows == 0) {
                 throw new DataAccessException("Deleting trailer failed, no trailer with ID: " + id);
             }
             
             logger.info("Deleted trailer with ID: {}", id);
+            EnterpriseDataCacheManager.dataChanged(ReferenceData.TRAILERS);
+            DomainEventBus.publish(Entity.TRAILER, id, Change.DELETE);
             
         } catch (SQLException e) {
             logger.error("Failed to delete trailer: {}", e.getMessage(), e);
@@ -226,7 +247,7 @@ public class TrailerDAO {
     public Trailer findById(int id) {
         String sql = "SELECT * FROM trailers WHERE id = ?";
         
-        try (Connection conn = DatabaseConfig.getConnection();
+        try (Connection conn = DatabaseConfig.getReadConnection();
              PreparedStatement pstmt = conn.prepareStatement(sql)) {
              
             pstmt.setInt(1, id);
@@ -244,10 +265,54 @@ public class TrailerDAO {
         }
     }
     
+    /**
+     * Find several trailers using chunked IN (...) queries.
+     * @param ids trailer ids; duplicates and non-positive ids are ignored
+     * @return map of trailer id to trailer for every id that exists
+     */
+    public Map<Integer, Trailer> findByIds(Collection<Integer> ids) {
+        if (ids == null || ids.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        List<Integer> distinctIds = ids.stream()
+            .filter(id -> id != null && id > 0)
+            .distinct()
+            .toList();
+        Map<Integer, Trailer> trailers = new HashMap<>();
+        if (distinctIds.isEmpty()) {
+            return trailers;
+        }
+        
+        try (Connection conn = DatabaseConfig.getReadConnection()) {
+            for (int from = 0; from < distinctIds.size(); from += ID_BATCH_SIZE) {
+                List<Integer> chunk = distinctIds.subList(from, Math.min(from + ID_BATCH_SIZE, distinctIds.size()));
+                String placeholders = String.join(",", Collections.nCopies(chunk.size(), "?"));
+                String sql = "SELECT * FROM trailers WHERE id IN (" + placeholders + ")";
+                try (PreparedStatement pstmt = conn.prepareStatement(sql)) {
+                    for (int i = 0; i < chunk.size(); i++) {
+                        pstmt.setInt(i + 1, chunk.get(i));
+                    }
+                    try (ResultSet rs = pstmt.executeQuery()) {
+                        while (rs.next()) {
+                            Trailer trailer = mapResultSetToTrailer(rs);
+                            trailers.put(trailer.getId(), trailer);
+                        }
+                    }
+                }
+            }
+            
+            return trailers;
+            
+        } catch (SQLException e) {
+            logger.error("Failed to find trailers by IDs: {}", e.getMessage(), e);
+            throw new DataAccessException("Failed to find trailers", e);
+        }
+    }
+    
     public Trailer findByTrailerNumber(String trailerNumber) {
         String sql = "SELECT * FROM trailers WHERE trailer_number = ?";
         
-        try (Connection conn = DatabaseConfig.getConnection();
+        try (Connection conn = DatabaseConfig.getReadConnection();
              PreparedStatement pstmt = conn.prepareStatement(sql)) {
              
             pstmt.setString(1, trailerNumber);
@@ -268,7 +333,7 @@ public class TrailerDAO {
     public List<Trailer> findAll() {
         String sql = "SELECT * FROM trailers ORDER BY trailer_number";
         
-        try (Connection conn = DatabaseConfig.getConnection();
+        try (Connection conn = DatabaseConfig.getReadConnection();
              Statement stmt = conn.createStatement();
              ResultSet rs = stmt.executeQuery(sql)) {
              
@@ -288,7 +353,7 @@ public class TrailerDAO {
     public List<Trailer> findByStatus(TrailerStatus status) {
         String sql = "SELECT * FROM trailers WHERE status = ? ORDER BY trailer_number";
         
-        try (Connection conn = DatabaseConfig.getConnection();
+        try (Connection conn = DatabaseConfig.getReadConnection();
              PreparedStatement pstmt = conn.prepareStatement(sql)) {
              
             pstmt.setString(1, status.name());
@@ -351,7 +416,7 @@ public class TrailerDAO {
     public List<Trailer> findAvailable() {
         String sql = "SELECT * FROM trailers WHERE is_assigned = 0 AND status = ? ORDER BY trailer_number";
         
-        try (Connection conn = DatabaseConfig.getConnection();
+        try (Connection conn = DatabaseConfig.getReadConnection();
              PreparedStatement pstmt = conn.prepareStatement(sql)) {
              
             pstmt.setString(1, TrailerStatus.ACTIVE.name());
@@ -530,11 +595,15 @@ public class TrailerDAO {
     public List<Trailer> addOrUpdateAll(List<Trailer> trailers) {
         logger.info("Processing {} trailers for import", trailers.size());
         List<Trailer> resultTrailers = new ArrayList<>();
+        List<Integer> insertedIds = new ArrayList<>();
+        List<Integer> updatedIds = new ArrayList<>();
         
-        try (Connection conn = DatabaseConfig.getConnection()) {
-            conn.setAutoCommit(false);
-            
-            try {
+        try {
+            // The whole import is one writer transaction
+            DatabaseConfig.write(() -> {
+                resultTrailers.clear();
+                insertedIds.clear();
+                updatedIds.clear();
                 int added = 0;
                 int updated = 0;
                 
@@ -547,39 +616,39 @@ public class TrailerDAO {
                         mergeTrailerData(existing, importedTrailer);
                         update(existing);
                         resultTrailers.add(existing); // Use existing trailer with proper ID
+                        updatedIds.add(existing.getId());
                         updated++;
                         logger.debug("Updated existing trailer: {} (ID: {})", existing.getTrailerNumber(), existing.getId());
                     } else {
                         // Add new trailer
                         Trailer insertedTrailer = insert(importedTrailer);
                         resultTrailers.add(insertedTrailer); // Use inserted trailer with proper ID
+                        insertedIds.add(insertedTrailer.getId());
                         added++;
                         logger.debug("Added new trailer: {} (ID: {})", insertedTrailer.getTrailerNumber(), insertedTrailer.getId());
                     }
                 }
                 
-                conn.commit();
                 logger.info("Import completed - Added: {}, Updated: {}", added, updated);
-                
-                // Validate that all result trailers have proper IDs
-                for (Trailer trailer : resultTrailers) {
-                    if (trailer.getId() <= 0) {
-                        logger.error("CRITICAL: Trailer {} has invalid ID: {}", trailer.getTrailerNumber(), trailer.getId());
-                    } else {
-                        logger.debug("Trailer {} has valid ID: {}", trailer.getTrailerNumber(), trailer.getId());
-                    }
+                return null;
+            });
+            
+            // Validate that all result trailers have proper IDs
+            for (Trailer trailer : resultTrailers) {
+                if (trailer.getId() <= 0) {
+                    logger.error("CRITICAL: Trailer {} has invalid ID: {}", trailer.getTrailerNumber(), trailer.getId());
+                } else {
+                    logger.debug("Trailer {} has valid ID: {}", trailer.getTrailerNumber(), trailer.getId());
                 }
-                
-            } catch (Exception e) {
-                conn.rollback();
-                logger.error("Import failed, rolling back transaction", e);
-                throw new DataAccessException("Import failed", e);
             }
-        } catch (SQLException e) {
-            logger.error("Database connection error during import", e);
-            throw new DataAccessException("Database connection error", e);
+        } catch (SQLException | DataAccessException e) {
+            logger.error("Import failed, rolling back transaction", e);
+            throw new DataAccessException("Import failed", e);
         }
         
+        EnterpriseDataCacheManager.dataChanged(ReferenceData.TRAILERS);
+        DomainEventBus.publishAll(Entity.TRAILER, insertedIds, Change.INSERT);
+        DomainEventBus.publishAll(Entity.TRAILER, updatedIds, Change.UPDATE);
         return resultTrailers;
     }
     
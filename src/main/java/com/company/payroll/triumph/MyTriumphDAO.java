@@ -8,11 +8,17 @@ import org.slf4j.LoggerFactory;
 import java.sql.*;
 import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 
 public class MyTriumphDAO {
     private static final Logger logger = LoggerFactory.getLogger(MyTriumphDAO.class);
     private static final String DB_URL = "jdbc:sqlite:payroll.db";
+    private static final int PO_BATCH_SIZE = 500; // Stay well below SQLite's bound-parameter limit
 
     public MyTriumphDAO() {
         logger.debug("Initializing MyTriumphDAO");
@@ -203,6 +209,40 @@ public class MyTriumphDAO {
         return null;
     }
 
+    /**
+     * Records for several POs at once, keyed by PO
+     */
+    public Map<String, MyTriumphRecord> getByPOs(Collection<String> pos) {
+        List<String> distinct = pos.stream().filter(Objects::nonNull).distinct().toList();
+        Map<String, MyTriumphRecord> result = new HashMap<>();
+        if (distinct.isEmpty()) {
+            return result;
+        }
+        logger.debug("Getting records for {} POs", distinct.size());
+        try (Connection conn = DatabaseConfig.getConnection()) {
+            for (int from = 0; from < distinct.size(); from += PO_BATCH_SIZE) {
+                List<String> chunk = distinct.subList(from, Math.min(from + PO_BATCH_SIZE, distinct.size()));
+                String placeholders = String.join(",", Collections.nCopies(chunk.size(), "?"));
+                try (PreparedStatement ps = conn.prepareStatement(
+                        "SELECT * FROM mytriumph_audit WHERE po IN (" + placeholders + ")")) {
+                    for (int i = 0; i < chunk.size(); i++) {
+                        ps.setString(i + 1, chunk.get(i));
+                    }
+                    try (ResultSet rs = ps.executeQuery()) {
+                        while (rs.next()) {
+                            MyTriumphRecord rec = mapRow(rs);
+                            result.put(rec.getPo(), rec);
+                        }
+                    }
+                }
+            }
+        } catch (SQLException e) {
+            logger.error("Error getting records by PO: {}", e.getMessage(), e);
+            throw new DataAccessException("Error getting records by PO", e);
+        }
+        return result;
+    }
+
     public void updateByPO(String po, MyTriumphRecord updates) {
         logger.info("Updating record by PO: {} with invoice: {}", po, updates.getInvoiceNumber());
         String sql = "UPDATE mytriumph_audit SET dtr_name=?, invoice_number=?, invoice_date=?, inv_amt=?, source='IMPORT', matched=1 WHERE po=?";
@@ -245,6 +285,44 @@ public class MyTriumphDAO {
         }
     }
 
+    /**
+     * Mark the LOAD records of all given POs as matched in one transaction.
+     * @return number of records updated
+     */
+    public int markAsMatched(Collection<String> pos) {
+        List<String> distinct = pos.stream().filter(Objects::nonNull).distinct().toList();
+        if (distinct.isEmpty()) {
+            return 0;
+        }
+        logger.info("Marking {} POs as matched", distinct.size());
+        String sql = "UPDATE mytriumph_audit SET matched=1 WHERE po=? AND source='LOAD' AND matched=0";
+        try (Connection conn = DatabaseConfig.getConnection()) {
+            boolean autoCommit = conn.getAutoCommit();
+            conn.setAutoCommit(false);
+            try (PreparedStatement ps = conn.prepareStatement(sql)) {
+                for (String po : distinct) {
+                    ps.setString(1, po);
+                    ps.addBatch();
+                }
+                int updated = 0;
+                for (int count : ps.executeBatch()) {
+                    updated += Math.max(count, 0);
+                }
+                conn.commit();
+                logger.info("Marked {} LOAD records as matched", updated);
+                return updated;
+            } catch (SQLException e) {
+                conn.rollback();
+                throw e;
+            } finally {
+                conn.setAutoCommit(autoCommit);
+            }
+        } catch (SQLException e) {
+            logger.error("Error marking records as matched: {}", e.getMessage(), e);
+            throw new DataAccessException("Error marking records as matched", e);
+        }
+    }
+
     private MyTriumphRecord mapRow(ResultSet rs) throws SQLException {
         int id = rs.getInt("id");
         String dtrName = rs.getString("dtr_name");
@@ -1,16 +1,14 @@
 package com.company.payroll.triumph;
 
-import org.apache.poi.ss.usermodel.*;
-import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import com.company.payroll.util.StreamingXlsxReader;
+import com.company.payroll.util.StreamingXlsxReader.SheetRow;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.File;
-import java.io.FileInputStream;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
-import java.util.Iterator;
 import java.util.List;
 
 public class MyTriumphExcelImporter {
@@ -19,25 +17,21 @@ public class MyTriumphExcelImporter {
     public static List<MyTriumphRecord> importFromXlsx(File file) throws Exception {
         logger.info("Starting import from file: {}", file.getName());
         List<MyTriumphRecord> result = new ArrayList<>();
-        try (FileInputStream fis = new FileInputStream(file);
-             Workbook workbook = new XSSFWorkbook(fis)) {
-            Sheet sheet = workbook.getSheetAt(0);
-            Iterator<Row> rowIterator = sheet.iterator();
-
+        try (StreamingXlsxReader rowIterator = StreamingXlsxReader.open(file)) {
             // Header row
             if (!rowIterator.hasNext()) {
                 logger.error("Empty sheet in file: {}", file.getName());
                 throw new Exception("Empty sheet!");
             }
-            Row headerRow = rowIterator.next();
+            SheetRow headerRow = rowIterator.next();
             int colDTR = -1, colINV = -1, colDATE = -1, colPO = -1, colAMT = -1;
-            for (Cell cell : headerRow) {
-                String val = getCellString(cell).toUpperCase();
-                if (val.equals("DTR_NAME") || val.equals("DTRNAME") || val.equals("DTR NAME")) colDTR = cell.getColumnIndex();
-                else if (val.equals("INVOICE#") || val.equals("INVOICE") || val.equals("INV#")) colINV = cell.getColumnIndex();
-                else if (val.equals("INV_DATE") || val.equals("INVDATE") || val.equals("INV DATE") || val.equals("INVOICE DATE")) colDATE = cell.getColumnIndex();
-                else if (val.equals("PO") || val.equals("P.O.")) colPO = cell.getColumnIndex();
-                else if (val.equals("INVAMT") || val.equals("INV AMT") || val.equals("INVOICE AMT") || val.equals("AMOUNT")) colAMT = cell.getColumnIndex();
+            for (int col = 0; col < headerRow.getCellCount(); col++) {
+                String val = headerRow.getString(col).toUpperCase();
+                if (val.equals("DTR_NAME") || val.equals("DTRNAME") || val.equals("DTR NAME")) colDTR = col;
+                else if (val.equals("INVOICE#") || val.equals("INVOICE") || val.equals("INV#")) colINV = col;
+                else if (val.equals("INV_DATE") || val.equals("INVDATE") || val.equals("INV DATE") || val.equals("INVOICE DATE")) colDATE = col;
+                else if (val.equals("PO") || val.equals("P.O.")) colPO = col;
+                else if (val.equals("INVAMT") || val.equals("INV AMT") || val.equals("INVOICE AMT") || val.equals("AMOUNT")) colAMT = col;
             }
             
             logger.debug("Column indices - DTR: {}, INV: {}, DATE: {}, PO: {}, AMT: {}", 
@@ -62,26 +56,22 @@ public class MyTriumphExcelImporter {
             
             while (rowIterator.hasNext()) {
                 rowNum++;
-                Row row = rowIterator.next();
+                SheetRow row = rowIterator.next();
                 
-                String dtr = getCellString(row.getCell(colDTR));
-                String inv = getCellString(row.getCell(colINV));
-                String po = getCellString(row.getCell(colPO));
-                Double invAmt = getCellDouble(row.getCell(colAMT));
+                String dtr = row.getString(colDTR);
+                String inv = row.getString(colINV);
+                String po = row.getString(colPO);
+                Double invAmt = parseAmount(row.getString(colAMT));
                 
+                // Date formatted cells already come back as ISO dates
                 LocalDate date = null;
-                Cell dateCell = row.getCell(colDATE);
-                if (dateCell != null) {
-                    if (dateCell.getCellType() == CellType.NUMERIC && DateUtil.isCellDateFormatted(dateCell)) {
-                        date = dateCell.getDateCellValue().toInstant().atZone(java.time.ZoneId.systemDefault()).toLocalDate();
-                    } else {
-                        String dateStr = getCellString(dateCell);
-                        for (DateTimeFormatter fmt : fmts) {
-                            try { 
-                                date = LocalDate.parse(dateStr, fmt); 
-                                break; 
-                            } catch (Exception ignore) { }
-                        }
+                String dateStr = row.getString(colDATE);
+                if (!dateStr.isEmpty()) {
+                    for (DateTimeFormatter fmt : fmts) {
+                        try { 
+                            date = LocalDate.parse(dateStr, fmt); 
+                            break; 
+                        } catch (Exception ignore) { }
                     }
                 }
                 
@@ -102,58 +92,17 @@ public class MyTriumphExcelImporter {
         return result;
     }
 
-    private static String getCellString(Cell cell) {
-        if (cell == null) return "";
-        switch (cell.getCellType()) {
-            case STRING:
-                return cell.getStringCellValue().trim();
-            case NUMERIC:
-                double val = cell.getNumericCellValue();
-                if (Math.floor(val) == val) {
-                    return String.valueOf((long)val);
-                }
-                return String.valueOf(val);
-            case BOOLEAN:
-                return String.valueOf(cell.getBooleanCellValue());
-            case FORMULA:
-                try {
-                    return cell.getStringCellValue().trim();
-                } catch (Exception e) {
-                    try {
-                        return String.valueOf(cell.getNumericCellValue());
-                    } catch (Exception e2) {
-                        return "";
-                    }
-                }
-            default:
-                return "";
-        }
-    }
-
-    private static Double getCellDouble(Cell cell) {
-        if (cell == null) return null;
-        switch (cell.getCellType()) {
-            case NUMERIC:
-                return cell.getNumericCellValue();
-            case STRING:
-                String str = cell.getStringCellValue()
-                    .replace("$", "")
-                    .replace(",", "")
-                    .replace(" ", "")
-                    .trim();
-                try { 
-                    return Double.parseDouble(str); 
-                } catch (Exception e) { 
-                    return null; 
-                }
-            case FORMULA:
-                try {
-                    return cell.getNumericCellValue();
-                } catch (Exception e) {
-                    return null;
-                }
-            default:
-                return null;
+    private static Double parseAmount(String value) {
+        String str = value
+            .replace("$", "")
+            .replace(",", "")
+            .replace(" ", "")
+            .trim();
+        if (str.isEmpty()) return null;
+        try { 
+            return Double.parseDouble(str); 
+        } catch (Exception e) { 
+            return null; 
         }
     }
 
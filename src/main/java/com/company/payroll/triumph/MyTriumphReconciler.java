@@ -0,0 +1,159 @@
+package com.company.payroll.triumph;
+
+import com.company.payroll.loads.Load;
+import com.company.payroll.loads.LoadDAO;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Matches invoice audit records to loads for a whole statement at once.
+ * <p>
+ * Instead of scanning every load per record, one pass builds two indexes from
+ * the loads the statement can refer to:
+ * <ol>
+ *   <li>PO number to load, from a single batched PO query,</li>
+ *   <li>(driver name, delivery date) to load, from the delivery dates of the records the PO index did not match.</li>
+ * </ol>
+ * When several loads share a key the oldest one wins, as the original linear scan did.
+ * Matching needs no documents, so the loads are read without them.
+ */
+public class MyTriumphReconciler {
+    private static final Logger logger = LoggerFactory.getLogger(MyTriumphReconciler.class);
+
+    private final LoadDAO loadDAO;
+    private final MyTriumphDAO triumphDAO;
+
+    public MyTriumphReconciler(LoadDAO loadDAO, MyTriumphDAO triumphDAO) {
+        this.loadDAO = loadDAO;
+        this.triumphDAO = triumphDAO;
+    }
+
+    private record DriverDateKey(String driverName, LocalDate date) {}
+
+    /**
+     * Outcome of matching a set of records
+     */
+    public static final class Reconciliation {
+        public static final Reconciliation EMPTY = new Reconciliation(Collections.emptyMap(), 0);
+
+        private final Map<MyTriumphRecord, Load> matches;
+        private final int byPoCount;
+
+        private Reconciliation(Map<MyTriumphRecord, Load> matches, int byPoCount) {
+            this.matches = matches;
+            this.byPoCount = byPoCount;
+        }
+
+        /** Matched load of the record, or null */
+        public Load getLoad(MyTriumphRecord record) {
+            return matches.get(record);
+        }
+
+        public int getMatchedCount() {
+            return matches.size();
+        }
+
+        public int getMatchedByPoCount() {
+            return byPoCount;
+        }
+
+        public int getMatchedByDriverDateCount() {
+            return matches.size() - byPoCount;
+        }
+
+        /** PO numbers of the matched loads */
+        public Set<String> getMatchedLoadPoNumbers() {
+            Set<String> pos = new LinkedHashSet<>();
+            for (Load load : matches.values()) {
+                if (load.getPONumber() != null && !load.getPONumber().isEmpty()) {
+                    pos.add(load.getPONumber());
+                }
+            }
+            return pos;
+        }
+    }
+
+    /**
+     * Match each record to a load, first by PO and then by driver and delivery date.
+     */
+    public Reconciliation match(Collection<MyTriumphRecord> records) {
+        if (records.isEmpty()) {
+            return Reconciliation.EMPTY;
+        }
+        Map<MyTriumphRecord, Load> matches = new IdentityHashMap<>();
+
+        Set<String> pos = new LinkedHashSet<>();
+        for (MyTriumphRecord rec : records) {
+            if (rec.getPo() != null && !rec.getPo().isEmpty()) {
+                pos.add(rec.getPo());
+            }
+        }
+        Map<String, Load> byPo = new HashMap<>();
+        for (Load load : loadDAO.getByPoNumbers(pos, false)) {
+            byPo.putIfAbsent(load.getPONumber(), load);
+        }
+
+        List<MyTriumphRecord> unmatched = new ArrayList<>();
+        for (MyTriumphRecord rec : records) {
+            Load load = rec.getPo() != null ? byPo.get(rec.getPo()) : null;
+            if (load != null) {
+                matches.put(rec, load);
+            } else if (rec.getDriverName() != null && !rec.getDriverName().isEmpty() && rec.getInvoiceDate() != null) {
+                unmatched.add(rec);
+            }
+        }
+        int byPoCount = matches.size();
+
+        if (!unmatched.isEmpty()) {
+            Map<DriverDateKey, Load> byDriverDate = indexByDriverAndDeliveryDate(unmatched);
+            for (MyTriumphRecord rec : unmatched) {
+                Load load = byDriverDate.get(new DriverDateKey(rec.getDriverName(), rec.getInvoiceDate()));
+                if (load != null) {
+                    matches.put(rec, load);
+                }
+            }
+        }
+
+        logger.debug("Reconciled {} records: {} by PO, {} by driver and date, {} unmatched",
+            records.size(), byPoCount, matches.size() - byPoCount, records.size() - matches.size());
+        return new Reconciliation(matches, byPoCount);
+    }
+
+    /**
+     * Match a statement and mark the LOAD records of every matched load as matched
+     * in a single transaction.
+     */
+    public Reconciliation reconcile(Collection<MyTriumphRecord> statement) {
+        Reconciliation result = match(statement);
+        triumphDAO.markAsMatched(result.getMatchedLoadPoNumbers());
+        return result;
+    }
+
+    private Map<DriverDateKey, Load> indexByDriverAndDeliveryDate(List<MyTriumphRecord> records) {
+        LocalDate min = null;
+        LocalDate max = null;
+        for (MyTriumphRecord rec : records) {
+            LocalDate date = rec.getInvoiceDate();
+            min = min == null || date.isBefore(min) ? date : min;
+            max = max == null || date.isAfter(max) ? date : max;
+        }
+        Map<DriverDateKey, Load> index = new HashMap<>();
+        for (Load load : loadDAO.getByDeliveryDateRange(min, max, false)) {
+            if (load.getDriver() != null && load.getDriver().getName() != null) {
+                index.putIfAbsent(new DriverDateKey(load.getDriver().getName(), load.getDeliveryDate()), load);
+            }
+        }
+        return index;
+    }
+}
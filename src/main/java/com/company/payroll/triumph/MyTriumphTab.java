@@ -44,6 +44,8 @@ public class MyTriumphTab extends Tab implements WindowAware {
     
     private final MyTriumphDAO triumphDAO = new MyTriumphDAO();
     private final LoadDAO loadDAO = new LoadDAO();
+    private final MyTriumphReconciler reconciler = new MyTriumphReconciler(loadDAO, triumphDAO);
+    private MyTriumphReconciler.Reconciliation reconciliation = MyTriumphReconciler.Reconciliation.EMPTY;
 
     private final ObservableList<MyTriumphRecord> allRecords = FXCollections.observableArrayList();
     private final ObservableList<Load> deliveredLoads = FXCollections.observableArrayList();
@@ -539,9 +541,16 @@ public class MyTriumphTab extends Tab implements WindowAware {
             int added = 0;
             int skippedDuplicates = 0;
 
+            // Look up the whole statement at once
+            Map<String, MyTriumphRecord> existingByPo = triumphDAO.getByPOs(
+                imported.stream().map(MyTriumphRecord::getPo).toList());
+            Map<String, MyTriumphRecord> memByPo = new HashMap<>();
+            for (MyTriumphRecord memRec : allRecords) {
+                memByPo.putIfAbsent(memRec.getPo(), memRec);
+            }
+
             for (MyTriumphRecord rec : imported) {
-                // Check if PO already exists
-                MyTriumphRecord existing = triumphDAO.getByPO(rec.getPo());
+                MyTriumphRecord existing = existingByPo.get(rec.getPo());
                 
                 if (existing != null) {
                     logger.debug("Updating existing record for PO: {}", rec.getPo());
@@ -550,16 +559,14 @@ public class MyTriumphTab extends Tab implements WindowAware {
                     updatedExisting++;
                     
                     // Update in-memory record
-                    for (MyTriumphRecord memRec : allRecords) {
-                        if (memRec.getPo().equals(rec.getPo())) {
-                            memRec.setDtrName(rec.getDtrName());
-                            memRec.setInvoiceNumber(rec.getInvoiceNumber());
-                            memRec.setInvoiceDate(rec.getInvoiceDate());
-                            memRec.setInvAmt(rec.getInvAmt());
-                            memRec.setSource("IMPORT");
-                            memRec.setMatched(true);
-                            break;
-                        }
+                    MyTriumphRecord memRec = memByPo.get(rec.getPo());
+                    if (memRec != null) {
+                        memRec.setDtrName(rec.getDtrName());
+                        memRec.setInvoiceNumber(rec.getInvoiceNumber());
+                        memRec.setInvoiceDate(rec.getInvoiceDate());
+                        memRec.setInvAmt(rec.getInvAmt());
+                        memRec.setSource("IMPORT");
+                        memRec.setMatched(true);
                     }
                 } else {
                     logger.debug("Adding new record for PO: {}", rec.getPo());
@@ -576,6 +583,15 @@ public class MyTriumphTab extends Tab implements WindowAware {
                 }
             }
             
+            // Statement lines matched to a load bill that load's LOAD record
+            MyTriumphReconciler.Reconciliation statement = reconciler.reconcile(imported);
+            Set<String> billedPos = statement.getMatchedLoadPoNumbers();
+            for (MyTriumphRecord memRec : allRecords) {
+                if ("LOAD".equals(memRec.getSource()) && billedPos.contains(memRec.getPo())) {
+                    memRec.setMatched(true);
+                }
+            }
+            
             reloadCrossReference();
             updateSum();
             table.refresh();
@@ -609,10 +625,7 @@ public class MyTriumphTab extends Tab implements WindowAware {
             return;
         }
         
-        int synced = 0;
-        for (Load load : loadsWithPO) {
-            synced += syncFromLoads(Arrays.asList(load));
-        }
+        int synced = syncFromLoads(loadsWithPO);
         
         logger.info("Sync complete - {} loads synced", synced);
                     showInfo("Synced " + synced + " loads to Invoice audit.");
@@ -622,10 +635,14 @@ public class MyTriumphTab extends Tab implements WindowAware {
         logger.debug("Syncing {} loads", deliveredLoads.size());
         int added = 0;
         int updated = 0;
+        Map<String, MyTriumphRecord> existingByPo = triumphDAO.getByPOs(deliveredLoads.stream()
+            .filter(l -> l.getPONumber() != null && !l.getPONumber().isEmpty())
+            .map(l -> l.getPONumber().trim())
+            .toList());
         for (Load load : deliveredLoads) {
             if (load.getPONumber() != null && !load.getPONumber().isEmpty()) {
                 String po = load.getPONumber().trim();
-                MyTriumphRecord existingRecord = triumphDAO.getByPO(po);
+                MyTriumphRecord existingRecord = existingByPo.get(po);
                 if (existingRecord == null) {
                     // Create new record
                     logger.debug("Adding new record for PO: {} from load: {}", po, load.getLoadNumber());
@@ -642,6 +659,7 @@ public class MyTriumphTab extends Tab implements WindowAware {
                     int id = triumphDAO.add(rec);
                     if (id > 0) {
                         rec.setId(id);
+                        existingByPo.put(po, rec);
                         added++;
                     }
                 } else {
@@ -816,6 +834,7 @@ public class MyTriumphTab extends Tab implements WindowAware {
                 rec.setDriverName("");
             }
         }
+        reconciliation = reconciler.match(allRecords);
         logger.debug("Cross reference complete - {} records matched", matchedCount);
     }
 
@@ -994,7 +1013,7 @@ public class MyTriumphTab extends Tab implements WindowAware {
         // Records are eligible if they have invoice data and a matching load can be found
         return (record.getInvoiceNumber() != null && !record.getInvoiceNumber().isEmpty() && 
                 !record.getInvoiceNumber().equals("PENDING") &&
-                findLoadForRecord(record) != null) ||
+                reconciliation.getLoad(record) != null) ||
                ("IMPORT".equals(record.getSource()) && record.isMatched());
     }
     
@@ -1391,31 +1410,6 @@ public class MyTriumphTab extends Tab implements WindowAware {
      * Find the load that corresponds to a triumph record
      */
     private Load findLoadForRecord(MyTriumphRecord record) {
-        // First try to find by invoice number (PO number)
-        if (record.getPo() != null && !record.getPo().isEmpty()) {
-            // Search through all loads for matching PO
-            List<Load> allLoads = loadDAO.getAll();
-            List<Load> loadsByPO = allLoads.stream()
-                .filter(l -> l.getPONumber() != null && l.getPONumber().equals(record.getPo()))
-                .collect(Collectors.toList());
-            if (!loadsByPO.isEmpty()) {
-                return loadsByPO.get(0);
-            }
-        }
-        
-        // Try to find by driver name and date
-        if (record.getDriverName() != null && record.getInvoiceDate() != null) {
-            List<Load> allLoads = loadDAO.getAll();
-            for (Load load : allLoads) {
-                if (load.getDriver() != null && 
-                    load.getDriver().getName().equals(record.getDriverName()) &&
-                    load.getDeliveryDate() != null &&
-                    load.getDeliveryDate().equals(record.getInvoiceDate())) {
-                    return load;
-                }
-            }
-        }
-        
-        return null;
+        return reconciler.match(List.of(record)).getLoad(record);
     }
 }
\ No newline at end of file
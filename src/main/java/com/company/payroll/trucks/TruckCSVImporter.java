@@ -2,8 +2,8 @@ package com.company.payroll.trucks;
 
 import com.company.payroll.employees.Employee;
 import com.company.payroll.employees.EmployeeDAO;
-import org.apache.poi.ss.usermodel.*;
-import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import com.company.payroll.util.StreamingXlsxReader;
+import com.company.payroll.util.StreamingXlsxReader.SheetRow;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -111,11 +111,7 @@ public class TruckCSVImporter {
     private static List<Truck> parseXLSX(Path filePath) throws IOException {
         List<Truck> trucks = new ArrayList<>();
         
-        try (FileInputStream fis = new FileInputStream(filePath.toFile());
-             Workbook workbook = new XSSFWorkbook(fis)) {
-            
-            Sheet sheet = workbook.getSheetAt(0);
-            Iterator<Row> rowIterator = sheet.iterator();
+        try (StreamingXlsxReader rowIterator = StreamingXlsxReader.open(filePath.toFile())) {
             
             if (!rowIterator.hasNext()) {
                 logger.warn("Empty XLSX file");
@@ -123,7 +119,7 @@ public class TruckCSVImporter {
             }
             
             // Parse header row
-            Row headerRow = rowIterator.next();
+            SheetRow headerRow = rowIterator.next();
             Map<String, Integer> columnIndices = getColumnIndicesFromRow(headerRow);
             logger.debug("XLSX column indices: {}", columnIndices);
             
@@ -138,7 +134,7 @@ public class TruckCSVImporter {
             
             while (rowIterator.hasNext()) {
                 rowNumber++;
-                Row row = rowIterator.next();
+                SheetRow row = rowIterator.next();
                 try {
                     // Check if row is empty
                     if (isRowEmpty(row)) {
@@ -170,19 +166,8 @@ public class TruckCSVImporter {
     /**
      * Check if a row is empty
      */
-    private static boolean isRowEmpty(Row row) {
-        if (row == null) return true;
-        
-        for (int i = 0; i < row.getLastCellNum(); i++) {
-            Cell cell = row.getCell(i, Row.MissingCellPolicy.CREATE_NULL_AS_BLANK);
-            if (cell != null && cell.getCellType() != CellType.BLANK) {
-                String value = getCellString(cell);
-                if (!value.trim().isEmpty()) {
-                    return false;
-                }
-            }
-        }
-        return true;
+    private static boolean isRowEmpty(SheetRow row) {
+        return row == null || row.isBlank();
     }
     
     /**
@@ -262,13 +247,12 @@ public class TruckCSVImporter {
     /**
      * Get column indices from XLSX header row with improved matching
      */
-    private static Map<String, Integer> getColumnIndicesFromRow(Row headerRow) {
+    private static Map<String, Integer> getColumnIndicesFromRow(SheetRow headerRow) {
         Map<String, Integer> indices = new HashMap<>();
         
-        for (int i = 0; i < headerRow.getLastCellNum(); i++) {
-            Cell cell = headerRow.getCell(i);
-            if (cell != null && cell.getCellType() == CellType.STRING) {
-                String header = cell.getStringCellValue().trim().toLowerCase();
+        for (int i = 0; i < headerRow.getCellCount(); i++) {
+            String header = headerRow.getString(i).toLowerCase();
+            if (!header.isEmpty()) {
                 
                 // More flexible matching for truck unit
                 if (header.contains("truck") && header.contains("unit")) {
@@ -411,7 +395,7 @@ public class TruckCSVImporter {
     /**
      * Parse an XLSX row into a Truck object with improved validation
      */
-    private static Truck parseXLSXRow(Row row, Map<String, Integer> columnIndices, int rowNumber) {
+    private static Truck parseXLSXRow(SheetRow row, Map<String, Integer> columnIndices, int rowNumber) {
         // Extract values with better error handling
         String truckUnit = getCellValue(row, columnIndices, "Truck/Unit");
         int year = parseInt(getCellValue(row, columnIndices, "Year"));
@@ -497,59 +481,14 @@ public class TruckCSVImporter {
     /**
      * Get value from XLSX row with improved error handling
      */
-    private static String getCellValue(Row row, Map<String, Integer> columnIndices, String fieldName) {
+    private static String getCellValue(SheetRow row, Map<String, Integer> columnIndices, String fieldName) {
         Integer index = columnIndices.get(fieldName);
         if (index != null && index >= 0) {
-            Cell cell = row.getCell(index, Row.MissingCellPolicy.CREATE_NULL_AS_BLANK);
-            return getCellString(cell);
+            return row.getString(index);
         }
         return "";
     }
     
-    /**
-     * Get string value from cell with improved error handling
-     */
-    private static String getCellString(Cell cell) {
-        if (cell == null) return "";
-        
-        try {
-            switch (cell.getCellType()) {
-                case STRING:
-                    return cell.getStringCellValue().trim();
-                case NUMERIC:
-                    if (DateUtil.isCellDateFormatted(cell)) {
-                        try {
-                            return cell.getLocalDateTimeCellValue().toLocalDate().format(DateTimeFormatter.ofPattern("MM/dd/yyyy"));
-                        } catch (Exception e) {
-                            return "";
-                        }
-                    }
-                    double value = cell.getNumericCellValue();
-                    if (Math.floor(value) == value) {
-                        return String.valueOf((long) value);
-                    }
-                    return String.valueOf(value);
-                case BOOLEAN:
-                    return String.valueOf(cell.getBooleanCellValue());
-                case FORMULA:
-                    try {
-                        return cell.getStringCellValue().trim();
-                    } catch (Exception e) {
-                        try {
-                            return String.valueOf(cell.getNumericCellValue());
-                        } catch (Exception e2) {
-                            return "";
-                        }
-                    }
-                default:
-                    return "";
-            }
-        } catch (Exception e) {
-            logger.debug("Error reading cell value: {}", e.getMessage());
-            return "";
-        }
-    }
-    
     /**
      * Parse integer value safely
      */
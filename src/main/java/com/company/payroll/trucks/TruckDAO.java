@@ -2,6 +2,11 @@ package com.company.payroll.trucks;
 
 import com.company.payroll.exception.DataAccessException;
 import com.company.payroll.database.DatabaseConfig;
+import com.company.payroll.events.DomainEventBus;
+import com.company.payroll.events.DomainEventBus.Change;
+import com.company.payroll.events.DomainEventBus.Entity;
+import com.company.payroll.cache.EnterpriseDataCacheManager;
+import com.company.payroll.cache.EnterpriseDataCacheManager.ReferenceData;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -62,10 +67,17 @@ public class TruckDAO {
     // -- CRUD ---------------------------------------------------------------
 
     public Truck save(Truck truck) {
-        if (truck.getId() > 0) {
-            return update(truck);
+        Change change = truck.getId() > 0 ? Change.UPDATE : Change.INSERT;
+        Truck saved;
+        try {
+            saved = DatabaseConfig.write(() -> change == Change.UPDATE ? update(truck) : insert(truck));
+        } catch (SQLException e) {
+            logger.error("Failed to save truck", e);
+            throw new DataAccessException("Failed to save truck", e);
         }
-        return insert(truck);
+        EnterpriseDataCacheManager.dataChanged(ReferenceData.TRUCKS);
+        DomainEventBus.publish(Entity.TRUCK, saved.getId(), change);
+        return saved;
     }
 
     private Truck insert(Truck truck) {
@@ -119,10 +131,18 @@ public class TruckDAO {
 
     public void delete(int id) {
         String sql = "DELETE FROM trucks WHERE id = ?";
-        try (Connection conn = DatabaseConfig.getConnection();
-             PreparedStatement ps = conn.prepareStatement(sql)) {
-            ps.setInt(1, id);
-            ps.executeUpdate();
+        try {
+            int deleted = DatabaseConfig.write(() -> {
+                try (Connection conn = DatabaseConfig.getConnection();
+                     PreparedStatement ps = conn.prepareStatement(sql)) {
+                    ps.setInt(1, id);
+                    return ps.executeUpdate();
+                }
+            });
+            if (deleted > 0) {
+                DomainEventBus.publish(Entity.TRUCK, id, Change.DELETE);
+            }
+            EnterpriseDataCacheManager.dataChanged(ReferenceData.TRUCKS);
         } catch (SQLException e) {
             logger.error("Failed to delete truck", e);
             throw new DataAccessException("Failed to delete truck", e);
@@ -133,7 +153,7 @@ public class TruckDAO {
 
     public List<Truck> findAll() {
         String sql = "SELECT * FROM trucks ORDER BY truck_number";
-        try (Connection conn = DatabaseConfig.getConnection();
+        try (Connection conn = DatabaseConfig.getReadConnection();
              Statement stmt = conn.createStatement();
              ResultSet rs = stmt.executeQuery(sql)) {
             List<Truck> list = new ArrayList<>();
@@ -155,11 +175,15 @@ public class TruckDAO {
     public List<Truck> addOrUpdateAll(List<Truck> trucks) {
         logger.info("Processing {} trucks for import", trucks.size());
         List<Truck> resultTrucks = new ArrayList<>();
+        List<Integer> insertedIds = new ArrayList<>();
+        List<Integer> updatedIds = new ArrayList<>();
         
-        try (Connection conn = DatabaseConfig.getConnection()) {
-            conn.setAutoCommit(false);
-            
-            try {
+        try {
+            // The whole import is one writer transaction
+            DatabaseConfig.write(() -> {
+                resultTrucks.clear();
+                insertedIds.clear();
+                updatedIds.clear();
                 int added = 0;
                 int updated = 0;
                 
@@ -172,41 +196,39 @@ public class TruckDAO {
                         mergeTruckData(existing, importedTruck);
                         update(existing);
                         resultTrucks.add(existing); // Use existing truck with proper ID
+                        updatedIds.add(existing.getId());
                         updated++;
                         logger.debug("Updated existing truck: {} (ID: {})", existing.getNumber(), existing.getId());
                     } else {
                         // Add new truck
                         Truck insertedTruck = insert(importedTruck);
                         resultTrucks.add(insertedTruck); // Use inserted truck with proper ID
+                        insertedIds.add(insertedTruck.getId());
                         added++;
                         logger.debug("Added new truck: {} (ID: {})", insertedTruck.getNumber(), insertedTruck.getId());
                     }
                 }
                 
-                conn.commit();
                 logger.info("Import completed - Added: {}, Updated: {}", added, updated);
-                
-                // Validate that all result trucks have proper IDs
-                for (Truck truck : resultTrucks) {
-                    if (truck.getId() <= 0) {
-                        logger.error("CRITICAL: Truck {} has invalid ID: {}", truck.getNumber(), truck.getId());
-                    } else {
-                        logger.debug("Truck {} has valid ID: {}", truck.getNumber(), truck.getId());
-                    }
+                return null;
+            });
+            
+            // Validate that all result trucks have proper IDs
+            for (Truck truck : resultTrucks) {
+                if (truck.getId() <= 0) {
+                    logger.error("CRITICAL: Truck {} has invalid ID: {}", truck.getNumber(), truck.getId());
+                } else {
+                    logger.debug("Truck {} has valid ID: {}", truck.getNumber(), truck.getId());
                 }
-                
-            } catch (Exception e) {
-                conn.rollback();
-                logger.error("Error during import, rolling back: {}", e.getMessage(), e);
-                throw new DataAccessException("Error during truck import", e);
-            } finally {
-                conn.setAutoCommit(true);
             }
-        } catch (SQLException e) {
-            logger.error("Database error during import: {}", e.getMessage(), e);
-            throw new DataAccessException("Database error during import", e);
+        } catch (SQLException | DataAccessException e) {
+            logger.error("Error during import, rolling back: {}", e.getMessage(), e);
+            throw new DataAccessException("Error during truck import", e);
         }
         
+        EnterpriseDataCacheManager.dataChanged(ReferenceData.TRUCKS);
+        DomainEventBus.publishAll(Entity.TRUCK, insertedIds, Change.INSERT);
+        DomainEventBus.publishAll(Entity.TRUCK, updatedIds, Change.UPDATE);
         return resultTrucks;
     }
     
@@ -262,7 +284,7 @@ public class TruckDAO {
         if (truckNumber == null || truckNumber.trim().isEmpty()) return null;
         
         String sql = "SELECT * FROM trucks WHERE LOWER(truck_number) = LOWER(?)";
-        try (Connection conn = DatabaseConfig.getConnection();
+        try (Connection conn = DatabaseConfig.getReadConnection();
              PreparedStatement ps = conn.prepareStatement(sql)) {
             ps.setString(1, truckNumber.trim());
             ResultSet rs = ps.executeQuery();
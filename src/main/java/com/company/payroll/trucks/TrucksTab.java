@@ -2,6 +2,8 @@ package com.company.payroll.trucks;
 
 import com.company.payroll.config.DOTComplianceConfig;
 import com.company.payroll.config.DOTComplianceConfigDialog;
+import com.company.payroll.database.DimensionLookup;
+import com.company.payroll.database.DimensionLookup.Dimension;
 import com.company.payroll.employees.Employee;
 import com.company.payroll.employees.EmployeeDAO;
 import javafx.beans.property.SimpleObjectProperty;
@@ -379,13 +381,8 @@ public class TrucksTab extends BorderPane implements WindowAware {
         TextField licenseField = new TextField();
         ComboBox<String> driverBox = new ComboBox<>();
         
-        // Populate driver list
-        List<Employee> employees = employeeDAO.getAll();
-        List<String> driverNames = employees.stream()
-            .map(Employee::getName)
-            .filter(name -> name != null && !name.trim().isEmpty())
-            .collect(java.util.stream.Collectors.toList());
-        driverBox.getItems().addAll(driverNames);
+        // Populate driver list; other employees can still be typed in
+        driverBox.getItems().addAll(DimensionLookup.labels(Dimension.DRIVERS));
         driverBox.setPromptText("Select driver");
         driverBox.setEditable(true);
         
@@ -0,0 +1,299 @@
+package com.company.payroll.util;
+
+import org.apache.poi.openxml4j.exceptions.OpenXML4JException;
+import org.apache.poi.openxml4j.opc.OPCPackage;
+import org.apache.poi.openxml4j.opc.PackageAccess;
+import org.apache.poi.ss.usermodel.DataFormatter;
+import org.apache.poi.ss.usermodel.DateUtil;
+import org.apache.poi.ss.util.CellReference;
+import org.apache.poi.util.XMLHelper;
+import org.apache.poi.xssf.eventusermodel.ReadOnlySharedStringsTable;
+import org.apache.poi.xssf.eventusermodel.XSSFReader;
+import org.apache.poi.xssf.eventusermodel.XSSFSheetXMLHandler;
+import org.apache.poi.xssf.model.StylesTable;
+import org.apache.poi.xssf.usermodel.XSSFComment;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.xml.sax.InputSource;
+import org.xml.sax.XMLReader;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Row iterator over the first sheet of an XLSX file that never builds the workbook in memory.
+ * <p>
+ * The sheet XML is parsed with POI's event API ({@link XSSFReader} and {@link XSSFSheetXMLHandler})
+ * on a background thread that hands rows over through a small bounded queue, so only a few rows
+ * are held at any time regardless of the sheet size. Cell values are returned as text:
+ * <ul>
+ *   <li>date formatted numbers become ISO dates ({@code 2024-03-10}),</li>
+ *   <li>whole numbers are written without a fraction ({@code 42}, not {@code 42.0}),</li>
+ *   <li>formulas yield their cached result.</li>
+ * </ul>
+ * Rows that are missing from the sheet XML are not returned, as with {@code Sheet.iterator()}.
+ * Always close the reader, also when stopping before the last row.
+ */
+public class StreamingXlsxReader implements Iterator<StreamingXlsxReader.SheetRow>, Closeable {
+    private static final Logger logger = LoggerFactory.getLogger(StreamingXlsxReader.class);
+    private static final int QUEUE_CAPACITY = 256; // Rows parsed ahead of the consumer
+    private static final Object END_OF_SHEET = new Object();
+
+    /**
+     * One physical row of the sheet
+     */
+    public static final class SheetRow {
+        private final int rowNum;
+        private final List<String> values;
+
+        SheetRow(int rowNum, List<String> values) {
+            this.rowNum = rowNum;
+            this.values = values;
+        }
+
+        /** Zero based row index within the sheet */
+        public int getRowNum() {
+            return rowNum;
+        }
+
+        /** One past the last column holding a cell, like {@code Row.getLastCellNum()} */
+        public int getCellCount() {
+            return values.size();
+        }
+
+        /** Trimmed text of the cell, or an empty string for a missing cell */
+        public String getString(int column) {
+            if (column < 0 || column >= values.size()) {
+                return "";
+            }
+            String value = values.get(column);
+            return value == null ? "" : value.trim();
+        }
+
+        public boolean isBlank() {
+            for (int i = 0; i < values.size(); i++) {
+                if (!getString(i).isEmpty()) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        public List<String> getValues() {
+            return Collections.unmodifiableList(values);
+        }
+    }
+
+    private final OPCPackage pkg;
+    private final BlockingQueue<Object> queue = new ArrayBlockingQueue<>(QUEUE_CAPACITY);
+    private final Thread parser;
+    private volatile boolean closed;
+    private Object next;
+
+    private StreamingXlsxReader(OPCPackage pkg, InputStream sheet, StylesTable styles,
+                                ReadOnlySharedStringsTable strings, String name) {
+        this.pkg = pkg;
+        this.parser = new Thread(() -> parse(sheet, styles, strings), "xlsx-reader-" + name);
+        this.parser.setDaemon(true);
+    }
+
+    /**
+     * Open the first sheet of an XLSX file for reading.
+     */
+    public static StreamingXlsxReader open(File file) throws IOException {
+        OPCPackage pkg;
+        try {
+            pkg = OPCPackage.open(file, PackageAccess.READ);
+        } catch (OpenXML4JException | RuntimeException e) {
+            throw new IOException("Not a valid XLSX file: " + file.getName(), e);
+        }
+        try {
+            XSSFReader reader = new XSSFReader(pkg);
+            StylesTable styles = reader.getStylesTable();
+            ReadOnlySharedStringsTable strings = new ReadOnlySharedStringsTable(pkg);
+            Iterator<InputStream> sheets = reader.getSheetsData();
+            if (!sheets.hasNext()) {
+                throw new IOException("Workbook has no sheets: " + file.getName());
+            }
+            StreamingXlsxReader rows = new StreamingXlsxReader(pkg, sheets.next(), styles, strings, file.getName());
+            rows.parser.start();
+            return rows;
+        } catch (IOException e) {
+            pkg.revert();
+            throw e;
+        } catch (Exception e) {
+            pkg.revert();
+            throw new IOException("Could not read XLSX file: " + file.getName(), e);
+        }
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (next == null) {
+            if (closed) {
+                return false;
+            }
+            try {
+                next = queue.take();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while reading XLSX rows", e);
+            }
+        }
+        if (next instanceof Throwable failure) {
+            next = END_OF_SHEET;
+            if (failure instanceof IOException io) {
+                throw new UncheckedIOException(io);
+            }
+            throw new IllegalStateException("Could not parse XLSX sheet: " + failure.getMessage(), failure);
+        }
+        return next != END_OF_SHEET;
+    }
+
+    @Override
+    public SheetRow next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        SheetRow row = (SheetRow) next;
+        next = null;
+        return row;
+    }
+
+    /**
+     * Stop the parser thread and release the file.
+     */
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        parser.interrupt();
+        queue.clear();
+        try {
+            parser.join(TimeUnit.SECONDS.toMillis(5));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        // Read-only packages are reverted, closing would try to save them
+        pkg.revert();
+    }
+
+    private void parse(InputStream sheet, StylesTable styles, ReadOnlySharedStringsTable strings) {
+        Object last = END_OF_SHEET;
+        try (InputStream in = sheet) {
+            XMLReader xml = XMLHelper.newXMLReader();
+            xml.setContentHandler(new XSSFSheetXMLHandler(styles, strings, new RowCollector(), new RawValueFormatter(), false));
+            xml.parse(new InputSource(in));
+        } catch (StopParsing e) {
+            return;
+        } catch (Exception e) {
+            if (closed) {
+                return;
+            }
+            logger.warn("XLSX parsing failed: {}", e.getMessage());
+            last = e;
+        }
+        try {
+            hand(last);
+        } catch (StopParsing e) {
+            // Closed before the end was picked up
+        }
+    }
+
+    private void hand(Object item) {
+        try {
+            while (!closed) {
+                if (queue.offer(item, 100, TimeUnit.MILLISECONDS)) {
+                    return;
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        throw new StopParsing();
+    }
+
+    /**
+     * Collects the cells of the current row and queues the row when it ends
+     */
+    private final class RowCollector implements XSSFSheetXMLHandler.SheetContentsHandler {
+        private List<String> cells = new ArrayList<>();
+
+        @Override
+        public void startRow(int rowNum) {
+            cells = new ArrayList<>(Math.max(8, cells.size()));
+        }
+
+        @Override
+        public void endRow(int rowNum) {
+            hand(new SheetRow(rowNum, cells));
+        }
+
+        @Override
+        public void cell(String cellReference, String formattedValue, XSSFComment comment) {
+            int column = cellReference != null ? columnOf(cellReference) : cells.size();
+            while (cells.size() < column) {
+                cells.add(null);
+            }
+            if (column < cells.size()) {
+                cells.set(column, formattedValue);
+            } else {
+                cells.add(formattedValue);
+            }
+        }
+    }
+
+    /**
+     * Column index of a reference like {@code AB12}; cheaper than a {@link CellReference} per cell
+     */
+    static int columnOf(String cellReference) {
+        int column = 0;
+        for (int i = 0; i < cellReference.length(); i++) {
+            char c = cellReference.charAt(i);
+            if (c >= 'A' && c <= 'Z') {
+                column = column * 26 + (c - 'A' + 1);
+            } else if (c != '$') {
+                break;
+            }
+        }
+        return column - 1;
+    }
+
+    /**
+     * Keeps the stored value of numeric cells instead of their display format
+     */
+    private static final class RawValueFormatter extends DataFormatter {
+        @Override
+        public String formatRawCellContents(double value, int formatIndex, String formatString, boolean use1904Windowing) {
+            if (DateUtil.isADateFormat(formatIndex, formatString) && DateUtil.isValidExcelDate(value)) {
+                return DateUtil.getLocalDateTime(value, use1904Windowing).toLocalDate().toString();
+            }
+            if (Math.floor(value) == value && !Double.isInfinite(value)) {
+                return String.valueOf((long) value);
+            }
+            return String.valueOf(value);
+        }
+    }
+
+    /**
+     * Unwinds the SAX parser once the reader has been closed
+     */
+    private static final class StopParsing extends RuntimeException {
+        StopParsing() {
+            super(null, null, false, false);
+        }
+    }
+}
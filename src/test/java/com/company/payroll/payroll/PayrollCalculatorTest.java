@@ -0,0 +1,303 @@
+package com.company.payroll.payroll;
+
+import com.company.payroll.database.CreateAllPaymentTables;
+import com.company.payroll.database.DatabaseConfig;
+import com.company.payroll.employees.Employee;
+import com.company.payroll.employees.EmployeeDAO;
+import com.company.payroll.employees.PaymentMethodHistory;
+import com.company.payroll.employees.PaymentMethodHistoryDAO;
+import com.company.payroll.employees.PaymentType;
+import com.company.payroll.fuel.FuelTransaction;
+import com.company.payroll.fuel.FuelTransactionDAO;
+import com.company.payroll.loads.Load;
+import com.company.payroll.loads.LoadDAO;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.function.Executable;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.math.BigDecimal;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * The loading and execution modes of a payroll run must produce the same rows, locking a
+ * week must not change the longer periods containing it, and a change to a payroll
+ * input must recalculate the cached periods it reaches and only those.
+ * <p>
+ * Runs against a small seeded database in a temporary directory; the class must be the first
+ * to open {@link DatabaseConfig} in its JVM.
+ */
+class PayrollCalculatorTest {
+    private static final LocalDate WEEK_START = LocalDate.of(2024, 3, 4);
+    private static final LocalDate WEEK_END = WEEK_START.plusDays(6);
+    /** Week without seeded inputs that the invalidation tests change */
+    private static final LocalDate LATER_WEEK = WEEK_START.plusWeeks(4);
+    private static final DateTimeFormatter FUEL_DATE = DateTimeFormatter.ofPattern("M/d/yyyy");
+    private static final Load.Status[] STATUSES = {
+        Load.Status.DELIVERED, Load.Status.PAID, Load.Status.IN_TRANSIT, Load.Status.BOOKED, Load.Status.CANCELLED
+    };
+
+    @TempDir
+    static Path directory;
+
+    private static LoadDAO loadDAO;
+    private static FuelTransactionDAO fuelDAO;
+    private static List<Employee> drivers;
+    private static PayrollCalculator calculator;
+
+    @BeforeAll
+    static void seed() {
+        System.setProperty(DatabaseConfig.URL_PROPERTY, "jdbc:sqlite:" + directory.resolve("payroll.db"));
+        Random random = new Random(7);
+        EmployeeDAO employeeDAO = new EmployeeDAO();
+        loadDAO = new LoadDAO();
+        fuelDAO = new FuelTransactionDAO();
+        // Only tables present when the calculator starts get change triggers
+        CreateAllPaymentTables.main(new String[0]);
+
+        drivers = new ArrayList<>();
+        for (int i = 1; i <= 8; i++) {
+            double driverPercent = 60 + random.nextInt(26);
+            Employee driver = new Employee(0, "Driver " + i, "T" + (1000 + i), "TR" + (1000 + i),
+                driverPercent, 100 - driverPercent, 5 + random.nextInt(6), LocalDate.of(1980, 1, 1),
+                "DL" + (100000 + i), Employee.DriverType.OWNER_OPERATOR, "", WEEK_START.plusYears(2),
+                WEEK_START.plusYears(1), Employee.Status.ACTIVE);
+            driver.setId(employeeDAO.add(driver));
+            drivers.add(driver);
+        }
+
+        List<FuelTransaction> fuel = new ArrayList<>();
+        for (int i = 1; i <= 200; i++) {
+            // The last driver has neither loads nor fuel
+            Employee driver = drivers.get(random.nextInt(drivers.size() - 1));
+            LocalDate pickUp = WEEK_START.minusDays(7).plusDays(random.nextInt(21));
+            LocalDate delivery = pickUp.plusDays(random.nextInt(4));
+            Load load = new Load(0, "L" + (1000 + i), "PO" + i, "Customer " + random.nextInt(5),
+                "100 Main St, Dallas, TX", "200 Market St, Austin, TX", driver, driver.getTruckUnit(),
+                STATUSES[random.nextInt(STATUSES.length)], 500 + random.nextInt(450000) / 100.0,
+                "", pickUp, LocalTime.of(8, 0), delivery, LocalTime.of(16, 0), "", false, false);
+            loadDAO.add(load);
+
+            double qty = 40 + random.nextInt(16000) / 100.0;
+            fuel.add(new FuelTransaction(0, "7083" + driver.getId(), pickUp.format(FUEL_DATE), "10:00", "INV" + i, driver.getTruckUnit(), driver.getName(), "100000", "Station", "City", "TX",
+                random.nextInt(4) == 0 ? 2.5 : 0, "ULSD", 3.5, 0, 3.5, qty, 0, "", Math.round(3.5 * qty * 100) / 100.0,
+                "N", "USD", driver.getId()));
+        }
+        fuelDAO.addBatch(fuel);
+
+        PayrollRecurring recurring = new PayrollRecurring();
+        PayrollOtherAdjustments adjustments = PayrollOtherAdjustments.getInstance();
+        PayrollEscrow escrow = PayrollEscrow.getInstance();
+        PayrollAdvances advances = PayrollAdvances.getInstance();
+        for (int i = 0; i < drivers.size(); i += 2) {
+            Employee driver = drivers.get(i);
+            recurring.saveDeductionsForDriverWeek(driver.getId(), WEEK_START, List.of(
+                new PayrollRecurring.RecurringDeduction(0, driver.getId(), "ELD", 45, "ELD", WEEK_START)));
+            adjustments.saveAdjustmentsForDriverWeek(driver.getId(), WEEK_START, List.of(
+                new PayrollOtherAdjustments.OtherAdjustment(0, driver.getId(), "Deduction", "Fuel", 60, "Fuel", WEEK_START),
+                new PayrollOtherAdjustments.OtherAdjustment(0, driver.getId(), "Reimbursement", "Tolls", 25, "Tolls", WEEK_START)));
+            escrow.setTargetAmount(driver, BigDecimal.valueOf(2000 + i * 250L));
+            escrow.addDeposit(driver, WEEK_START.minusDays(3), WEEK_START.minusWeeks(1), BigDecimal.valueOf(150), "Escrow");
+            PayrollAdvances.AdvanceEntry advance = advances.createAdvance(driver, WEEK_START.minusWeeks(1),
+                BigDecimal.valueOf(500), 4, "Advance", "test");
+            if (advance != null) {
+                advances.recordRepayment(driver, WEEK_START.plusDays(2), advance.getWeeklyRepaymentAmount(),
+                    advance.getAdvanceId(), PayrollAdvances.PaymentMethod.PAYROLL_DEDUCTION, "", "Deduction", "test");
+            }
+        }
+
+        calculator = new PayrollCalculator(employeeDAO, loadDAO, fuelDAO);
+    }
+
+    @AfterAll
+    static void shutDown() {
+        DatabaseConfig.shutdown();
+    }
+
+    @Test
+    void bulkAndPerDriverLoadingProduceIdenticalRows() {
+        calculator.clearCache();
+        List<PayrollCalculator.PayrollRow> bulk = calculator.calculatePayrollRows(drivers, WEEK_START, WEEK_END,
+            PayrollCalculator.LoadingMode.BULK, PayrollCalculator.ExecutionMode.SEQUENTIAL);
+        calculator.clearCache();
+        List<PayrollCalculator.PayrollRow> perDriver = calculator.calculatePayrollRows(drivers, WEEK_START, WEEK_END,
+            PayrollCalculator.LoadingMode.PER_DRIVER, PayrollCalculator.ExecutionMode.SEQUENTIAL);
+
+        assertFalse(bulk.stream().allMatch(row -> row.loadCount == 0), "the week has no loads to compare");
+        assertSameRows(bulk, perDriver);
+    }
+
+    @Test
+    void forkJoinAndSequentialExecutionProduceIdenticalRows() {
+        calculator.clearCache();
+        List<PayrollCalculator.PayrollRow> sequential = calculator.calculatePayrollRows(drivers, WEEK_START, WEEK_END,
+            PayrollCalculator.LoadingMode.BULK, PayrollCalculator.ExecutionMode.SEQUENTIAL);
+        calculator.setExecutionMode(PayrollCalculator.ExecutionMode.FORK_JOIN, 4);
+        for (PayrollCalculator.LoadingMode mode : PayrollCalculator.LoadingMode.values()) {
+            calculator.clearCache();
+            assertSameRows(sequential, calculator.calculatePayrollRows(drivers, WEEK_START, WEEK_END, mode,
+                PayrollCalculator.ExecutionMode.FORK_JOIN));
+        }
+    }
+
+    @Test
+    void lockingWeekKeepsLongerPeriodsCalculated() {
+        LocalDate first = WEEK_START.minusWeeks(1);
+        LocalDate last = WEEK_START.plusWeeks(1).plusDays(6);
+        calculator.clearCache();
+        List<PayrollCalculator.PayrollRow> unlocked = calculator.calculatePayrollRows(drivers, first, last,
+            PayrollCalculator.LoadingMode.BULK, PayrollCalculator.ExecutionMode.SEQUENTIAL);
+        List<PayrollCalculator.PayrollRow> week = calculator.calculatePayrollRows(drivers, WEEK_START, WEEK_END,
+            PayrollCalculator.LoadingMode.BULK, PayrollCalculator.ExecutionMode.SEQUENTIAL);
+
+        PayrollHistoryDAO history = new PayrollHistoryDAO();
+        history.savePayrollHistory(week, WEEK_START, true);
+        try {
+            calculator.clearCache();
+            assertSameRows(unlocked, calculator.calculatePayrollRows(drivers, first, last,
+                PayrollCalculator.LoadingMode.BULK, PayrollCalculator.ExecutionMode.SEQUENTIAL));
+            assertSameRows(week, calculator.calculatePayrollRows(drivers, WEEK_START, WEEK_END,
+                PayrollCalculator.LoadingMode.BULK, PayrollCalculator.ExecutionMode.SEQUENTIAL));
+        } finally {
+            history.deletePayrollHistory(WEEK_START);
+            calculator.clearCache();
+        }
+    }
+
+    @Test
+    void loadChangeRecalculatesItsWeek() throws Throwable {
+        Employee driver = drivers.get(1);
+        assertRecalculated(() -> loadDAO.add(new Load(0, "L9001", "PO9001", "Customer 1",
+                "100 Main St, Dallas, TX", "200 Market St, Austin, TX", driver, driver.getTruckUnit(),
+                Load.Status.DELIVERED, 1200, "", LATER_WEEK, LocalTime.of(8, 0), LATER_WEEK.plusDays(1),
+                LocalTime.of(16, 0), "", false, false)),
+            List.of(LATER_WEEK), List.of(WEEK_START));
+    }
+
+    @Test
+    void fuelChangeRecalculatesItsWeek() throws Throwable {
+        Employee driver = drivers.get(1);
+        assertRecalculated(() -> fuelDAO.add(new FuelTransaction(0, "7083" + driver.getId(),
+                LATER_WEEK.plusDays(2).format(FUEL_DATE), "10:00", "INV9001", driver.getTruckUnit(), driver.getName(),
+                "100000", "Station", "City", "TX", 0, "ULSD", 3.5, 0, 3.5, 100, 0, "", 350, "N", "USD",
+                driver.getId())),
+            List.of(LATER_WEEK), List.of(WEEK_START));
+    }
+
+    @Test
+    void adjustmentChangeRecalculatesItsWeek() throws Throwable {
+        Employee driver = drivers.get(1);
+        assertRecalculated(() -> PayrollOtherAdjustments.getInstance().saveAdjustmentsForDriverWeek(driver.getId(),
+                LATER_WEEK, List.of(new PayrollOtherAdjustments.OtherAdjustment(0, driver.getId(), "Deduction",
+                    "Repair", 80, "Repair", LATER_WEEK))),
+            List.of(LATER_WEEK), List.of(WEEK_START));
+    }
+
+    @Test
+    void recurringDeductionChangeRecalculatesItsWeek() throws Throwable {
+        Employee driver = drivers.get(1);
+        assertRecalculated(() -> new PayrollRecurring().saveDeductionsForDriverWeek(driver.getId(), LATER_WEEK,
+                List.of(new PayrollRecurring.RecurringDeduction(0, driver.getId(), "ELD", 45, "ELD", LATER_WEEK))),
+            List.of(LATER_WEEK), List.of(WEEK_START));
+    }
+
+    @Test
+    void advanceChangeRecalculatesItsWeekAndLaterWeeks() throws Throwable {
+        Employee driver = drivers.get(3);
+        assertRecalculated(() -> assertNotNull(PayrollAdvances.getInstance().createAdvance(driver,
+                LATER_WEEK.plusDays(1), BigDecimal.valueOf(300), 3, "Advance", "test")),
+            List.of(LATER_WEEK, LATER_WEEK.plusWeeks(1)), List.of(WEEK_START));
+    }
+
+    @Test
+    void escrowChangesRecalculateEveryWeek() throws Throwable {
+        // Deposits are sized from the current balance and target, which every week reads
+        Employee driver = drivers.get(5);
+        PayrollEscrow escrow = PayrollEscrow.getInstance();
+        assertRecalculated(() -> escrow.addDeposit(driver, LATER_WEEK.plusDays(1), LATER_WEEK,
+                BigDecimal.valueOf(100), "Escrow"),
+            List.of(WEEK_START, LATER_WEEK), List.of());
+        assertRecalculated(() -> escrow.setTargetAmount(driver, BigDecimal.valueOf(1500)),
+            List.of(WEEK_START, LATER_WEEK), List.of());
+    }
+
+    @Test
+    void paymentMethodChangeRecalculatesEveryWeek() throws Throwable {
+        Employee driver = drivers.get(7);
+        PaymentMethodHistoryDAO history = new PaymentMethodHistoryDAO(calculator.getConnection());
+        PaymentMethodHistory method = new PaymentMethodHistory(driver.getId(), PaymentType.FLAT_RATE,
+            WEEK_START.minusWeeks(1));
+        method.setFlatRateAmount(400);
+        assertTrue(history.createPaymentMethodHistory(method));
+        PaymentMethodHistory created = history.getHistoryForEmployee(driver.getId()).get(0);
+
+        // Only the history row changes, not the employee
+        created.setFlatRateAmount(450);
+        assertRecalculated(() -> assertTrue(history.updatePaymentMethodHistory(created)),
+            List.of(WEEK_START, LATER_WEEK), List.of());
+    }
+
+    /**
+     * Calculate some weeks, apply a change and calculate them again, expecting the first ones
+     * to be recalculated and the others to come from the cache.
+     */
+    private static void assertRecalculated(Executable change, List<LocalDate> recalculated, List<LocalDate> cached)
+            throws Throwable {
+        List<LocalDate> weeks = new ArrayList<>(recalculated);
+        weeks.addAll(cached);
+        calculator.clearCache();
+        weeks.forEach(PayrollCalculatorTest::calculateWeek);
+        PayrollCalculator.CacheStats before = calculator.getCacheStats();
+
+        change.execute();
+        weeks.forEach(PayrollCalculatorTest::calculateWeek);
+
+        PayrollCalculator.CacheStats after = calculator.getCacheStats();
+        assertEquals(recalculated.size(), after.misses() - before.misses(), "recalculated weeks");
+        assertEquals(cached.size(), after.hits() - before.hits(), "cached weeks");
+    }
+
+    private static void calculateWeek(LocalDate week) {
+        calculator.calculatePayrollRows(drivers, week, week.plusDays(6), PayrollCalculator.LoadingMode.BULK,
+            PayrollCalculator.ExecutionMode.SEQUENTIAL);
+    }
+
+    static void assertSameRows(List<PayrollCalculator.PayrollRow> expected, List<PayrollCalculator.PayrollRow> actual) {
+        assertEquals(expected.size(), actual.size());
+        for (int i = 0; i < expected.size(); i++) {
+            PayrollCalculator.PayrollRow e = expected.get(i);
+            PayrollCalculator.PayrollRow a = actual.get(i);
+            String driver = e.driverName;
+            assertEquals(e.driverId, a.driverId, driver);
+            assertEquals(e.driverName, a.driverName, driver);
+            assertEquals(e.loadCount, a.loadCount, driver);
+            assertEquals(e.loads.stream().map(Load::getId).toList(), a.loads.stream().map(Load::getId).toList(), driver);
+            assertEquals(e.fuels.stream().map(FuelTransaction::getInvoice).toList(),
+                a.fuels.stream().map(FuelTransaction::getInvoice).toList(), driver);
+            assertEquals(e.gross, a.gross, driver);
+            assertEquals(e.serviceFee, a.serviceFee, driver);
+            assertEquals(e.companyPay, a.companyPay, driver);
+            assertEquals(e.driverGrossShare, a.driverGrossShare, driver);
+            assertEquals(e.fuel, a.fuel, driver);
+            assertEquals(e.recurringFees, a.recurringFees, driver);
+            assertEquals(e.advancesGiven, a.advancesGiven, driver);
+            assertEquals(e.advanceRepayments, a.advanceRepayments, driver);
+            assertEquals(e.escrowDeposits, a.escrowDeposits, driver);
+            assertEquals(e.otherDeductions, a.otherDeductions, driver);
+            assertEquals(e.reimbursements, a.reimbursements, driver);
+            assertEquals(e.netPay, a.netPay, driver);
+        }
+    }
+}